@@ -0,0 +1,103 @@
+/*
+ * ContactBenchmark.java
+ *
+ * Box2D calls back into GameplayController for every contact that starts or ends.
+ * The callbacks only record the contact, and the controller classifies the bodies
+ * involved through their user data once the step is over.  This benchmark isolates
+ * that work by replaying the live contacts of a settled level through the callbacks
+ * and resolving them, without stepping the world.
+ */
+package com.mygdx.game.benchmark;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.GameplayController;
+import com.mygdx.game.InputController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures recording and resolving the live contacts of a level.
+ *
+ * Each contact is begun and then ended, and the events are resolved in the same
+ * invocation.  Resolving drains the contact buffer, so every invocation starts with
+ * an empty buffer and the buffer never grows.  The end events undo what the begin
+ * events added to the sensor sets, but a begin may still leave a side effect behind
+ * (like starting the landing animation of the player).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContactBenchmark {
+    /** The number of steps simulated so that bodies come to rest against each other */
+    private static final int SETTLE_STEPS = 120;
+
+    /** The level whose contacts are replayed */
+    @Param({"1", "15", "30"})
+    public int level;
+
+    /** The loaded level */
+    private GameplayController controller;
+    /** The live contacts of the settled level */
+    private Array<Contact> contacts;
+
+    /**
+     * Loads the level, lets it settle, and collects its live contacts
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        controller = HeadlessHarness.load(level);
+        InputController input = new InputController();
+        for (int ii = 0; ii < SETTLE_STEPS; ii++) {
+            input.replay(System.nanoTime());
+            controller.update(input, GameplayController.WORLD_STEP);
+            controller.postUpdate(GameplayController.WORLD_STEP);
+        }
+        // the world reuses these wrappers, which stay valid as long as it is not stepped
+        World world = controller.getLevelContainer().getWorld();
+        contacts = new Array<Contact>(world.getContactList());
+        if (contacts.size == 0) {
+            throw new IllegalStateException("Level " + level + " has no contacts after settling");
+        }
+    }
+
+    /**
+     * Disposes the level
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        controller.dispose();
+    }
+
+    /**
+     * Begins and ends every live contact, and resolves the recorded events
+     *
+     * @return the number of contacts processed
+     */
+    @Benchmark
+    public int beginEnd() {
+        for (Contact contact : contacts) {
+            controller.beginContact(contact);
+            controller.endContact(contact);
+        }
+        controller.resolveContacts();
+        return contacts.size;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * FrameAllocationCheck.java
+ *
+ * A frame of play should not allocate once a level is loaded: every object that is
+ * created per frame is garbage that the collector must eventually pause the game to
+ * reclaim.  The benchmarks measure time, so a stray allocation only shows up as noise.
+ * This program instead counts the bytes allocated while each production level is
+ * stepped and drawn, and fails if any level allocates at all once warmed up, e.g.
+ * ./gradlew :benchmarks:allocationCheck
+ */
+package com.mygdx.game.benchmark;
+
+import com.mygdx.game.GameplayController;
+import com.mygdx.game.InputController;
+import com.mygdx.game.LevelContainer;
+import com.mygdx.game.model.PlayerModel;
+import com.mygdx.game.simulation.RenderSnapshot;
+import com.mygdx.game.utility.util.Drawable;
+import com.mygdx.game.utility.util.TiledLayer;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Steps and draws every production level, and reports the bytes allocated per level.
+ *
+ * Each level is loaded, warmed up so that caches and pools reach their working size,
+ * and then run for a fixed number of frames with no input.  A frame is one fixed
+ * physics step followed by drawing every drawable, as GameMode does with the debug
+ * overlay off, to a {@link RecordingCanvas}.  The debug overlay builds its text every
+ * frame, so it is deliberately not part of the steady state.  The bytes are counted
+ * with the allocation counter of the current thread, so the program needs a JVM that
+ * supports it (HotSpot does).
+ *
+ * The only bytes that are not charged to the level are those of the counter itself
+ * (see {@link #counterOverhead}).  The exit status is 1 if any level allocates more
+ * than the budget, which is zero unless overridden, so the check can gate a build.
+ * The arguments, all optional, are the number of measured frames and the budget in
+ * bytes.
+ */
+public final class FrameAllocationCheck {
+    /** The default number of measured frames per level */
+    private static final int DEFAULT_FRAMES = 1000;
+    /** The number of frames run before measuring */
+    private static final int WARMUP_FRAMES = 300;
+    /** The default number of bytes a level may allocate over the measured frames */
+    private static final long DEFAULT_BUDGET = 0;
+    /** Half the width of the drawn view in physics units (matches the default GameMode display) */
+    private static final float VIEW_HALF_WIDTH = 16.0f;
+    /** Half the height of the drawn view in physics units (matches the default GameMode display) */
+    private static final float VIEW_HALF_HEIGHT = 9.0f;
+
+    /** The allocation counter of the JVM */
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * This class only has static methods
+     */
+    private FrameAllocationCheck() {
+    }
+
+    /**
+     * Runs the check on every production level
+     *
+     * @param args  The number of measured frames and the budget in bytes (both optional)
+     */
+    public static void main(String[] args) {
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FRAMES;
+        long budget = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_BUDGET;
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            System.err.println("This JVM cannot count allocated bytes");
+            System.exit(2);
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        long overhead = counterOverhead();
+
+        HeadlessHarness.start();
+        RecordingCanvas canvas = new RecordingCanvas();
+        RenderSnapshot snapshot = new RenderSnapshot();
+        InputController input = new InputController();
+
+        int failures = 0;
+        for (int level = 1; level <= HeadlessHarness.LEVEL_COUNT; level++) {
+            GameplayController controller = HeadlessHarness.load(level);
+            input.resetEvents();
+            for (int ii = 0; ii < WARMUP_FRAMES; ii++) {
+                frame(controller, input, snapshot, canvas);
+            }
+
+            long start = allocatedBytes();
+            for (int ii = 0; ii < frames; ii++) {
+                frame(controller, input, snapshot, canvas);
+            }
+            long bytes = allocatedBytes() - start - overhead;
+
+            boolean failed = bytes > budget;
+            if (failed) {
+                failures++;
+            }
+            System.out.println("level " + level + ": " + bytes + " bytes in " + frames + " frames"
+                    + (failed ? " (over the budget of " + budget + ")" : ""));
+            snapshot.clear();
+            controller.dispose();
+        }
+        System.out.println(failures == 0 ? "OK" : failures + " level(s) over budget");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far
+     *
+     * @return the number of bytes allocated by the current thread so far
+     */
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the bytes that reading the allocation counter allocates itself
+     *
+     * Before Java 14, the counter of a single thread is read through the counter of an
+     * array of threads, so each read allocates the id and result arrays.  Those arrays
+     * fall inside the measured window, and are the one allocation this check allows.
+     * Later JVMs read the current thread directly, so this is zero there.
+     *
+     * @return the bytes allocated between two back-to-back reads of the counter
+     */
+    private static long counterOverhead() {
+        long overhead = Long.MAX_VALUE;
+        for (int ii = 0; ii < 1000; ii++) {
+            long start = allocatedBytes();
+            overhead = Math.min(overhead, allocatedBytes() - start);
+        }
+        return overhead;
+    }
+
+    /**
+     * Steps the level once and draws it
+     *
+     * @param controller  The loaded level
+     * @param input       The input, with no events
+     * @param snapshot    The snapshot to draw from
+     * @param canvas      The canvas to draw to
+     */
+    private static void frame(GameplayController controller, InputController input,
+                              RenderSnapshot snapshot, RecordingCanvas canvas) {
+        input.replay(System.nanoTime());
+        controller.update(input, GameplayController.WORLD_STEP);
+        controller.postUpdate(GameplayController.WORLD_STEP);
+
+        LevelContainer level = controller.getLevelContainer();
+        snapshot.capture(level.getDrawables());
+        snapshot.attach(level.getUmbrella());
+        snapshot.attach(level.getShowGoal());
+        snapshot.apply();
+
+        PlayerModel avatar = controller.getPlayer();
+        float ax = avatar.getRenderX();
+        float ay = avatar.getRenderY();
+        canvas.reset();
+        for (int ii = 0; ii < snapshot.size(); ii++) {
+            Drawable drawable = snapshot.getDrawable(ii);
+            if (drawable instanceof TiledLayer) {
+                ((TiledLayer) drawable).draw(canvas, ax, ay, VIEW_HALF_WIDTH, VIEW_HALF_HEIGHT);
+            } else if (drawable instanceof PlayerModel) {
+                drawable.draw(canvas);
+                level.getUmbrella().draw(canvas);
+            } else {
+                drawable.draw(canvas);
+            }
+        }
+        avatar.drawIndicator(canvas);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * HeadlessHarness.java
+ *
+ * The benchmarks exercise the real game code, which expects a libGDX application,
+ * loaded assets and an OpenGL context.  This class boots a headless application once
+ * per JVM, installs an OpenGL stand-in that accepts every call, and loads the asset
+ * directory, so that benchmark states can parse levels and build game worlds exactly
+ * as the game does.  Nothing is drawn; textures and shaders only get fake handles.
+ */
+package com.mygdx.game.benchmark;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.mygdx.game.GameplayController;
+import com.mygdx.game.LevelParser;
+import com.mygdx.game.ParsedLevel;
+import com.mygdx.game.utility.assets.AssetDirectory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * Shared setup for the benchmarks.
+ *
+ * The benchmarks must run with the assets directory as the working directory (the
+ * jmh task in benchmarks/build.gradle does this).  The first call to {@link #start}
+ * boots the application and loads every asset; later calls return immediately.
+ */
+public final class HeadlessHarness {
+    /** The number of production levels */
+    public static final int LEVEL_COUNT = 30;
+    /** The gravity of a new game world (matches GameMode) */
+    private static final float DEFAULT_GRAVITY = -4.9f;
+
+    /** The headless application (kept so it is not collected) */
+    private static HeadlessApplication application;
+    /** The loaded assets */
+    private static AssetDirectory directory;
+
+    /**
+     * This class only has static methods
+     */
+    private HeadlessHarness() {
+    }
+
+    /**
+     * Boots the headless application and loads the assets, if not done already
+     *
+     * @return the loaded asset directory
+     */
+    public static synchronized AssetDirectory start() {
+        if (directory == null) {
+            HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+            // never call render; the benchmarks drive the game code themselves
+            config.updatesPerSecond = -1;
+            application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+            Gdx.gl = Gdx.gl20 = createGL();
+            ShaderProgram.pedantic = false;
+
+            directory = new AssetDirectory("assets.json");
+            directory.loadAssets();
+            directory.finishLoading();
+        }
+        return directory;
+    }
+
+    /**
+     * Returns the raw Tiled data of the given production level
+     *
+     * The parser modifies this data in place, so benchmarks that parse a level more
+     * than once should parse a fresh copy each time (see {@link #copy}).
+     *
+     * @param level  The level number (1 to {@link #LEVEL_COUNT})
+     *
+     * @return the raw Tiled data of the given level
+     */
+    public static JsonValue rawLevel(int level) {
+        return start().getEntry("tiled:level" + level, JsonValue.class);
+    }
+
+    /**
+     * Returns a deep copy of the given JSON
+     *
+     * @param json  The JSON to copy
+     *
+     * @return a deep copy of the given JSON
+     */
+    public static JsonValue copy(JsonValue json) {
+        return new JsonReader().parse(json.toJson(JsonWriter.OutputType.json));
+    }
+
+    /**
+     * Parses the given production level
+     *
+     * @param level  The level number (1 to {@link #LEVEL_COUNT})
+     *
+     * @return the parsed level
+     */
+    public static ParsedLevel parse(int level) {
+        return new LevelParser(start()).parseLevel(copy(rawLevel(level)));
+    }
+
+    /**
+     * Builds a game world for the given production level, as GameMode does
+     *
+     * The controller is reset, so its world is populated and ready to step.
+     *
+     * @param level  The level number (1 to {@link #LEVEL_COUNT})
+     *
+     * @return a gameplay controller with the level loaded
+     */
+    public static GameplayController load(int level) {
+        ParsedLevel parsed = parse(level);
+        Vector2 size = parsed.getWorldSize();
+        Rectangle bounds = new Rectangle(0, 0, size.x, size.y);
+        GameplayController controller = new GameplayController(bounds, new Vector2(0, DEFAULT_GRAVITY));
+        controller.gatherAssets(start());
+        controller.getLevelContainer().setLevel(parsed);
+        controller.setBounds(bounds);
+        controller.reset();
+        return controller;
+    }
+
+    /**
+     * Returns an OpenGL stand-in that accepts every call
+     *
+     * Calls that create objects return fresh handles, and shader status queries
+     * report success, so that textures, meshes and batches can be built.  Every
+     * other call does nothing and returns zero.
+     *
+     * @return an OpenGL stand-in that accepts every call
+     */
+    private static GL20 createGL() {
+        InvocationHandler handler = new InvocationHandler() {
+            /** The last handle returned */
+            private int handles = 0;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                String name = method.getName();
+                Class<?> type = method.getReturnType();
+                if ((name.equals("glGetShaderiv") || name.equals("glGetProgramiv"))
+                        && ((Integer)args[1] == GL20.GL_COMPILE_STATUS || (Integer)args[1] == GL20.GL_LINK_STATUS)) {
+                    ((IntBuffer)args[2]).put(0, 1);
+                    return null;
+                }
+                if (type == int.class) {
+                    return name.startsWith("glCreate") || name.startsWith("glGen") ? ++handles : 0;
+                } else if (type == boolean.class) {
+                    return false;
+                } else if (type == float.class) {
+                    return 0f;
+                } else if (type == long.class) {
+                    return 0L;
+                } else if (type == String.class) {
+                    return "";
+                }
+                return null;
+            }
+        };
+        return (GL20)Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class}, handler);
+    }
+}
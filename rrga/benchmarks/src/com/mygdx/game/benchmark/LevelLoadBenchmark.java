@@ -0,0 +1,105 @@
+/*
+ * LevelLoadBenchmark.java
+ *
+ * Loading a level is parsing its Tiled export and then building the game world from the
+ * parsed level.  This benchmark measures both halves on the largest production level,
+ * where the lookup tables of the parser and the object lists of the level container are
+ * the fullest.  Run it with the GC profiler to see the allocation of each half, e.g.
+ * ./gradlew :benchmarks:jmh -Pjmh="LevelLoad -prof gc"
+ */
+package com.mygdx.game.benchmark;
+
+import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.GameplayController;
+import com.mygdx.game.LevelParser;
+import com.mygdx.game.ParsedLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing and populating the largest production level.
+ *
+ * Level 30 has the most objects (paths, winds, platforms and stickers) of all production
+ * levels.  The parser modifies its input in place, so each parse gets a fresh copy of
+ * the raw JSON, made outside of the measured region.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LevelLoadBenchmark {
+    /** The level to load */
+    @Param({"30"})
+    public int level;
+
+    /** The parser (sharing the tileset data built from the assets) */
+    private LevelParser parser;
+    /** The pristine raw level data */
+    private JsonValue raw;
+    /** The copy of the raw data parsed by the next invocation */
+    private JsonValue input;
+    /** The loaded level, repopulated by every reset */
+    private GameplayController controller;
+
+    /**
+     * Loads the assets, the raw level data and the level
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = new LevelParser(HeadlessHarness.start());
+        raw = HeadlessHarness.copy(HeadlessHarness.rawLevel(level));
+        controller = HeadlessHarness.load(level);
+    }
+
+    /**
+     * Makes a fresh copy of the raw level data
+     */
+    @Setup(Level.Invocation)
+    public void copy() {
+        input = HeadlessHarness.copy(raw);
+    }
+
+    /**
+     * Disposes the level
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        controller.dispose();
+    }
+
+    /**
+     * Parses the level
+     *
+     * @return the parsed level
+     */
+    @Benchmark
+    public ParsedLevel parse() {
+        return parser.parseLevel(input);
+    }
+
+    /**
+     * Rebuilds the game world from the parsed level, as a restart does
+     *
+     * @return the number of objects in the rebuilt world
+     */
+    @Benchmark
+    public int populate() {
+        controller.reset();
+        return controller.getLevelContainer().getObjects().size();
+    }
+}
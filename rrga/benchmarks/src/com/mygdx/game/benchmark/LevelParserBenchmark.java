@@ -0,0 +1,80 @@
+/*
+ * LevelParserBenchmark.java
+ *
+ * Every level is parsed from its Tiled export before it can be played, either while
+ * the loading screen is up or on the first start of the level.  This benchmark
+ * measures LevelParser.parseLevel on each production level.
+ */
+package com.mygdx.game.benchmark;
+
+import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.LevelParser;
+import com.mygdx.game.ParsedLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing each production level from raw Tiled JSON.
+ *
+ * The parser modifies its input in place, so each invocation parses a fresh copy of
+ * the raw JSON.  The copy is made outside of the measured region.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LevelParserBenchmark {
+    /** The production level to parse */
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10",
+            "11", "12", "13", "14", "15", "16", "17", "18", "19", "20",
+            "21", "22", "23", "24", "25", "26", "27", "28", "29", "30"})
+    public int level;
+
+    /** The parser (sharing the tileset data built from the assets) */
+    private LevelParser parser;
+    /** The pristine raw level data */
+    private JsonValue raw;
+    /** The copy of the raw data parsed by the next invocation */
+    private JsonValue input;
+
+    /**
+     * Loads the assets and the raw level data
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = new LevelParser(HeadlessHarness.start());
+        raw = HeadlessHarness.copy(HeadlessHarness.rawLevel(level));
+    }
+
+    /**
+     * Makes a fresh copy of the raw level data
+     */
+    @Setup(Level.Invocation)
+    public void copy() {
+        input = HeadlessHarness.copy(raw);
+    }
+
+    /**
+     * Parses the level
+     *
+     * @return the parsed level
+     */
+    @Benchmark
+    public ParsedLevel parseLevel() {
+        return parser.parseLevel(input);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * PooledListBenchmark.java
+ *
+ * PooledList holds every obstacle of a level, and is iterated (and pruned) on every
+ * physics step.  These benchmarks measure its three hot operations at the sizes of a
+ * small and a large level.
+ */
+package com.mygdx.game.benchmark;
+
+import com.mygdx.game.utility.util.PooledList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks of PooledList add, iterate and in-place entry removal.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PooledListBenchmark {
+    /** The number of elements in the list */
+    @Param({"64", "512", "4096"})
+    public int size;
+
+    /** The elements to add (allocated once, so only the list allocates) */
+    private Object[] values;
+    /** A full list, for iteration */
+    private PooledList<Object> full;
+    /** A list that is refilled before each removal pass */
+    private PooledList<Object> pruned;
+    /** A list that is emptied before each add pass */
+    private PooledList<Object> empty;
+
+    /**
+     * Allocates the elements and fills the iteration list
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = new Object[size];
+        for (int ii = 0; ii < size; ii++) {
+            values[ii] = Integer.valueOf(ii);
+        }
+        full = new PooledList<Object>();
+        for (Object value : values) {
+            full.add(value);
+        }
+        pruned = new PooledList<Object>();
+        empty = new PooledList<Object>();
+    }
+
+    /**
+     * Refills the removal list and empties the add list
+     */
+    @Setup(Level.Invocation)
+    public void refill() {
+        pruned.clear();
+        for (Object value : values) {
+            pruned.add(value);
+        }
+        empty.clear();
+    }
+
+    /**
+     * Appends every element to an empty list (the array only grows on the first pass)
+     *
+     * @return the list, so the work is not discarded
+     */
+    @Benchmark
+    public PooledList<Object> add() {
+        for (Object value : values) {
+            empty.add(value);
+        }
+        return empty;
+    }
+
+    /**
+     * Iterates over every element, as the draw and update loops do
+     *
+     * @param hole  The blackhole consuming each element
+     */
+    @Benchmark
+    public void iterate(Blackhole hole) {
+        for (Object value : full) {
+            hole.consume(value);
+        }
+    }
+
+    /**
+     * Removes every other element through the entry iterator, as postUpdate does
+     *
+     * @return the size of the list afterwards
+     */
+    @Benchmark
+    public int entryRemove() {
+        Iterator<PooledList<Object>.Entry> iterator = pruned.entryIterator();
+        int ii = 0;
+        while (iterator.hasNext()) {
+            PooledList<Object>.Entry entry = iterator.next();
+            if ((ii++ & 1) == 0) {
+                entry.remove();
+            }
+        }
+        return pruned.size();
+    }
+}
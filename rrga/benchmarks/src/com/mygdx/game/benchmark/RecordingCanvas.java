@@ -0,0 +1,160 @@
+/*
+ * RecordingCanvas.java
+ *
+ * A canvas that records draw calls instead of batching them, so that drawing code can
+ * be measured without the cost (or the noise) of a GPU.  Every draw of a texture,
+ * region or polygon is recorded; the other calls behave as in GameCanvas.
+ */
+package com.mygdx.game.benchmark;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PolygonRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Affine2;
+import com.mygdx.game.GameCanvas;
+
+/**
+ * A no-op canvas that counts draws.
+ *
+ * The canvas keeps a running checksum of the draw positions, which the benchmarks
+ * return so that the JIT cannot discard the work of the code under test.  Requires
+ * the {@link HeadlessHarness} to have been started, as the superclass builds a batch.
+ */
+public class RecordingCanvas extends GameCanvas {
+    /** The number of draws since the last reset */
+    private int draws;
+    /** A checksum of the draw positions since the last reset */
+    private float checksum;
+
+    /**
+     * Creates a new recording canvas
+     */
+    public RecordingCanvas() {
+        super();
+    }
+
+    @Override
+    public void draw(Texture image, float x, float y) {
+        record(x, y, 0, 1, 1);
+    }
+
+    @Override
+    public void draw(Texture image, Color tint, float x, float y, float width, float height) {
+        record(x, y, 0, width, height);
+    }
+
+    @Override
+    public void draw(Texture image, Color tint, float ox, float oy, float x, float y, float width, float height) {
+        record(x, y, 0, width, height);
+    }
+
+    @Override
+    public void draw(Texture image, Color tint, float ox, float oy,
+                     float x, float y, float angle, float sx, float sy) {
+        record(x, y, angle, sx, sy);
+    }
+
+    @Override
+    public void draw(Texture image, Color tint, float ox, float oy, Affine2 transform) {
+        record(transform.m02, transform.m12, 0, transform.m00, transform.m11);
+    }
+
+    @Override
+    public void drawWrapped(TextureRegion image, float x, float y, float px, float py, float worldHeight,
+                            float zoomScl, float sclX, float sclY) {
+        record(x, y, 0, sclX, sclY);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y) {
+        record(x, y, 0, 1, 1);
+    }
+
+    @Override
+    public void draw(TextureRegion region, Color tint, float x, float y, float width, float height) {
+        record(x, y, 0, width, height);
+    }
+
+    @Override
+    public void draw(TextureRegion region, Color tint, float ox, float oy, float x, float y, float width, float height) {
+        record(x, y, 0, width, height);
+    }
+
+    @Override
+    public void draw(TextureRegion region, Color tint, float ox, float oy,
+                     float x, float y, float angle, float sx, float sy) {
+        record(x, y, angle, sx, sy);
+    }
+
+    @Override
+    public void draw(TextureRegion region, Color tint, float ox, float oy, Affine2 affine) {
+        record(affine.m02, affine.m12, 0, affine.m00, affine.m11);
+    }
+
+    @Override
+    public void draw(PolygonRegion region, float x, float y) {
+        record(x, y, 0, 1, 1);
+    }
+
+    @Override
+    public void draw(PolygonRegion region, Color tint, float x, float y, float width, float height) {
+        record(x, y, 0, width, height);
+    }
+
+    @Override
+    public void draw(PolygonRegion region, Color tint, float ox, float oy, float x, float y, float width, float height) {
+        record(x, y, 0, width, height);
+    }
+
+    @Override
+    public void draw(PolygonRegion region, Color tint, float ox, float oy,
+                     float x, float y, float angle, float sx, float sy) {
+        record(x, y, angle, sx, sy);
+    }
+
+    @Override
+    public void draw(PolygonRegion region, Color tint, float ox, float oy, Affine2 affine) {
+        record(affine.m02, affine.m12, 0, affine.m00, affine.m11);
+    }
+
+    /**
+     * Returns the number of draws since the last reset
+     *
+     * @return the number of draws since the last reset
+     */
+    public int getDraws() {
+        return draws;
+    }
+
+    /**
+     * Returns a checksum of the draw positions since the last reset
+     *
+     * @return a checksum of the draw positions since the last reset
+     */
+    public float getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Forgets every recorded draw
+     */
+    public void reset() {
+        draws = 0;
+        checksum = 0;
+    }
+
+    /**
+     * Records a draw
+     *
+     * @param x      The x-coordinate of the draw
+     * @param y      The y-coordinate of the draw
+     * @param angle  The rotation of the draw
+     * @param sx     The x-scale (or width) of the draw
+     * @param sy     The y-scale (or height) of the draw
+     */
+    private void record(float x, float y, float angle, float sx, float sy) {
+        draws++;
+        checksum += x + y + angle + sx + sy;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * StepBenchmark.java
+ *
+ * The end-to-end number: one fixed physics step of a loaded level, as GameMode runs
+ * it, with input replay, the gameplay update and the world step (including every
+ * contact callback and hazard update).  Nothing is drawn.
+ */
+package com.mygdx.game.benchmark;
+
+import com.mygdx.game.GameplayController;
+import com.mygdx.game.InputController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full headless simulation step of a loaded level.
+ *
+ * The level is reset before every iteration, so each iteration simulates the first
+ * seconds of play from the start position with no input.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepBenchmark {
+    /** The level to simulate */
+    @Param({"1", "15", "30"})
+    public int level;
+
+    /** The loaded level */
+    private GameplayController controller;
+    /** The input, with no events */
+    private InputController input;
+
+    /**
+     * Loads the level
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        controller = HeadlessHarness.load(level);
+        input = new InputController();
+    }
+
+    /**
+     * Restarts the level, so every iteration simulates the same stretch of play
+     */
+    @Setup(Level.Iteration)
+    public void restart() {
+        controller.reset();
+        input.resetEvents();
+    }
+
+    /**
+     * Disposes the level
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        controller.dispose();
+    }
+
+    /**
+     * Runs one fixed physics step
+     *
+     * @return the controller, so the work is not discarded
+     */
+    @Benchmark
+    public GameplayController step() {
+        input.replay(System.nanoTime());
+        controller.update(input, GameplayController.WORLD_STEP);
+        controller.postUpdate(GameplayController.WORLD_STEP);
+        return controller;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * TiledLayerBenchmark.java
+ *
+ * The tiled layers are the largest drawables of a level.  This benchmark measures
+ * drawing them against a canvas that only records the draws, so the numbers show
+ * the cost of the layer's own loop (and of culling) without any GPU work.
+ */
+package com.mygdx.game.benchmark;
+
+import com.badlogic.gdx.math.Vector2;
+import com.mygdx.game.ParsedLevel;
+import com.mygdx.game.utility.util.TiledLayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures drawing every tiled layer of a level, in full and culled to the view.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TiledLayerBenchmark {
+    /** Half the width of the unzoomed view in physics units (the world width in the global constants) */
+    private static final float VIEW_RADIUS_X = 8f;
+    /** Half the height of the unzoomed view in physics units (the world height in the global constants) */
+    private static final float VIEW_RADIUS_Y = 4.5f;
+    /** The draw scale of a 1024x576 window */
+    private static final float DRAW_SCALE = 64f;
+
+    /** The level whose layers are drawn */
+    @Param({"1", "15", "30"})
+    public int level;
+
+    /** The canvas recording the draws */
+    private RecordingCanvas canvas;
+    /** The layers of the level */
+    private ArrayList<TiledLayer> layers;
+    /** The center of the culled view (the player start) */
+    private Vector2 view;
+
+    /**
+     * Parses the level and creates the canvas
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessHarness.start();
+        ParsedLevel parsed = HeadlessHarness.parse(level);
+        layers = parsed.getLayers();
+        view = new Vector2(parsed.getPlayerPos());
+        Vector2 scale = new Vector2(DRAW_SCALE, DRAW_SCALE);
+        for (TiledLayer layer : layers) {
+            layer.setDrawScale(scale);
+        }
+        canvas = new RecordingCanvas();
+    }
+
+    /**
+     * Draws every tile of every layer
+     *
+     * @return the draw checksum
+     */
+    @Benchmark
+    public float drawFull() {
+        canvas.reset();
+        for (TiledLayer layer : layers) {
+            layer.draw(canvas);
+        }
+        return canvas.getChecksum();
+    }
+
+    /**
+     * Draws the tiles of every layer that are inside the view around the player start
+     *
+     * @return the draw checksum
+     */
+    @Benchmark
+    public float drawCulled() {
+        canvas.reset();
+        for (TiledLayer layer : layers) {
+            layer.draw(canvas, view.x, view.y, VIEW_RADIUS_X, VIEW_RADIUS_Y);
+        }
+        return canvas.getChecksum();
+    }
+}
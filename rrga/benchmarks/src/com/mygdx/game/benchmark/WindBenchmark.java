@@ -0,0 +1,78 @@
+/*
+ * WindBenchmark.java
+ *
+ * Every wind gust animates its own particles on every frame.  This benchmark measures
+ * NewWindModel.update for all of the gusts of the windiest production levels, with the
+ * particle counts that the level data actually produces.
+ */
+package com.mygdx.game.benchmark;
+
+import com.mygdx.game.GameplayController;
+import com.mygdx.game.model.NewWindModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one update of every wind gust in a level.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WindBenchmark {
+    /** The level whose winds are updated (the levels with the most wind) */
+    @Param({"15", "20", "26"})
+    public int level;
+
+    /** The loaded level */
+    private GameplayController controller;
+    /** The wind gusts of the level */
+    private NewWindModel[] winds;
+
+    /**
+     * Loads the level and collects its winds
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        controller = HeadlessHarness.load(level);
+        winds = controller.getLevelContainer().getWinds().toArray(NewWindModel.class);
+    }
+
+    /**
+     * Disposes the level
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        controller.dispose();
+    }
+
+    /**
+     * Updates every wind gust by one physics step
+     *
+     * @return the total number of particles updated
+     */
+    @Benchmark
+    public int update() {
+        int particles = 0;
+        for (NewWindModel wind : winds) {
+            wind.update(GameplayController.WORLD_STEP);
+            particles += wind.getNumParticles();
+        }
+        return particles;
+    }
+}
@@ -9,7 +9,16 @@ import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.mode.*;
 import com.mygdx.game.screen.LoseScreen;
 import com.mygdx.game.screen.VictoryScreen;
+import com.mygdx.game.utility.assets.AnimationLibrary;
 import com.mygdx.game.utility.assets.AssetDirectory;
+import com.mygdx.game.utility.assets.ResourceManager;
+import com.mygdx.game.utility.audio.AudioEngine;
+import com.mygdx.game.utility.audio.AudioThread;
+import com.mygdx.game.utility.audio.PooledAudioEngine;
+import com.mygdx.game.utility.audio.VoicePool;
+import com.mygdx.game.utility.obstacle.NativeTracker;
+import com.mygdx.game.utility.obstacle.PolygonGeometry;
+import com.mygdx.game.utility.util.CursorService;
 import com.mygdx.game.utility.util.ScreenListener;
 
 
@@ -80,10 +89,27 @@ public class GDXRoot extends Game implements ScreenListener {
      * the asynchronous loader for all other assets.
      */
     public void create() {
+        // cap how many voices each kind of sound effect may take
+        if (Gdx.audio instanceof PooledAudioEngine) {
+            VoicePool voices = ((PooledAudioEngine) Gdx.audio).getVoices();
+            voices.setLimit(GameplayController.SFX_AMBIENT, 1);
+            voices.setLimit(GameplayController.SFX_HAZARD, 4);
+            voices.setLimit(GameplayController.SFX_BIRDS, 3);
+        }
+        // sounds and music loaded from here on run on the audio thread
+        AudioThread.start(Gdx.audio);
+
+        // hardware cursors, sized to match the textures the screens used to draw
+        CursorService cursors = CursorService.getInstance();
+        cursors.create(CursorService.MENU, Gdx.files.internal("menu/cursor_menu.png"), 32, 0, 0);
+        cursors.create(CursorService.INGAME, Gdx.files.internal("game/cursor_ingame.png"), 32, 0.5f, 0.5f);
+
         canvas = new GameCanvas();
         loading = new LoadingMode("assets.json", canvas, 1);
         menu = new MenuMode(canvas);
         playing = new GameMode();
+        // simulate on a second core while drawing (off unless enabled in the settings)
+        playing.setThreadedSimulation(Gdx.app.getPreferences("settings").getBoolean("threadedSimulation", false));
         pausing = new PauseMode(canvas);
         victory = new VictoryScreen(canvas);
         defeat = new LoseScreen(canvas);
@@ -123,15 +149,61 @@ public class GDXRoot extends Game implements ScreenListener {
         cutscene.dispose();
         cutscene = null;
 
-        // Unload all of the resources
+        // Finish all pending audio before the sounds are disposed
+        AudioThread.shutdown();
+
+        // Unload all of the resources (the shared animations refer to the textures)
+        AnimationLibrary.dispose();
+        PolygonGeometry.clearCache();
+        NativeTracker.dispose();
         if (directory != null) {
             directory.unloadAssets();
             directory.dispose();
             directory = null;
         }
+        ResourceManager.dispose();
+        CursorService.getInstance().dispose();
         super.dispose();
     }
 
+    /**
+     * Called when the Application should render itself.
+     * <p>
+     * This delivers music completion events from the audio thread and streams
+     * in the theme of the next level before rendering the current screen.
+     */
+    public void render() {
+        AudioThread.update();
+        if (playing != null) {
+            playing.updatePrefetch();
+        }
+        super.render();
+    }
+
+    /**
+     * Called when the Application is paused (e.g. minimized).
+     * <p>
+     * The audio engine does not pause itself, so we do it here.
+     */
+    public void pause() {
+        if (Gdx.audio instanceof AudioEngine) {
+            ((AudioEngine) Gdx.audio).pause();
+        }
+        super.pause();
+    }
+
+    /**
+     * Called when the Application is resumed from a paused state.
+     * <p>
+     * This resumes only the sounds paused by {@link #pause()}.
+     */
+    public void resume() {
+        if (Gdx.audio instanceof AudioEngine) {
+            ((AudioEngine) Gdx.audio).resume();
+        }
+        super.resume();
+    }
+
     /**
      * Called when the Application is resized.
      * <p>
@@ -159,6 +231,9 @@ public class GDXRoot extends Game implements ScreenListener {
 			// finish loading assets, let all other controllers gather necessary assets
 			directory = loading.getAssets();
 			playing.gatherAssets(directory);
+			playing.setParsedLevels(loading.getParsedLevels());
+			// the start button plays the first level, so its theme streams in behind the menu
+			playing.prefetchLevel(1);
 			menu.gatherAssets(directory);
 			pausing.gatherAssets(directory);
 			victory.gatherAssets(directory);
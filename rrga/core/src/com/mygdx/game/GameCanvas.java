@@ -23,6 +23,7 @@ import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.graphics.glutils.*;
 import com.badlogic.gdx.physics.box2d.*;
+import com.mygdx.game.utility.obstacle.NativeTracker;
 
 /**
  * Primary view class for the game, abstracting the basic graphics calls.
@@ -95,6 +96,10 @@ public class GameCanvas {
 
     /** Cache for draw position */
     private Vector2 positionCache = new Vector2();
+    /** Cache for the canvas dimensions */
+    private Vector2 sizeCache = new Vector2();
+    /** Cache for text layout */
+    private GlyphLayout layout = new GlyphLayout();
 
     /**
      * Private method to process the wrap offset of an image.
@@ -131,8 +136,8 @@ public class GameCanvas {
      */
     public GameCanvas() {
         active = DrawPass.INACTIVE;
-        spriteBatch = new PolygonSpriteBatch();
-        debugRender = new ShapeRenderer();
+        spriteBatch = NativeTracker.get().track(this, new PolygonSpriteBatch());
+        debugRender = NativeTracker.get().track(this, new ShapeRenderer());
 
         // Set the projection matrix (for proper scaling)
         camera = new CameraController(getWidth(), getHeight());
@@ -154,8 +159,10 @@ public class GameCanvas {
             Gdx.app.error("GameCanvas", "Cannot dispose while drawing active", new IllegalStateException());
             return;
         }
-        spriteBatch.dispose();
+        // the batch and the debug renderer are both released through the tracker
+        NativeTracker.get().release(this);
         spriteBatch = null;
+        debugRender = null;
         local  = null;
         global = null;
         vertex = null;
@@ -227,10 +234,12 @@ public class GameCanvas {
     /**
      * Returns the dimensions of this canvas
      *
+     * NOTE: this is a reference to a cache that is overwritten by the next call. This is not an allocator.
+     *
      * @return the dimensions of this canvas
      */
     public Vector2 getSize() {
-        return new Vector2(Gdx.graphics.getWidth(),Gdx.graphics.getHeight());
+        return sizeCache.set(Gdx.graphics.getWidth(),Gdx.graphics.getHeight());
     }
 
     /**
@@ -972,7 +981,7 @@ public class GameCanvas {
             Gdx.app.error("GameCanvas", "Cannot draw without active begin()", new IllegalStateException());
             return;
         }
-        GlyphLayout layout = new GlyphLayout(font,text);
+        layout.setText(font,text);
         font.draw(spriteBatch, layout, x, y);
     }
 
@@ -989,7 +998,7 @@ public class GameCanvas {
             return;
         }
 
-        GlyphLayout layout = new GlyphLayout(font,text);
+        layout.setText(font,text);
         float x = (getWidth()  - layout.width) / 2.0f;
         float y = (getHeight() + layout.height) / 2.0f;
         font.draw(spriteBatch, layout, x, y+offset);
@@ -1165,6 +1174,45 @@ public class GameCanvas {
         debugRender.line(x0, y0, x1, y1);
     }
 
+    /**
+     * Draws the outline of the given polygon in the specified color
+     *
+     * This is the same as drawing a PolygonShape with these vertices, but does not
+     * need a native shape, so objects with no physics body can outline themselves.
+     *
+     * @param vertices The polygon vertices (x,y pairs)
+     * @param color The outline color
+     * @param x  The x-coordinate of the polygon position
+     * @param y  The y-coordinate of the polygon position
+     * @param angle  The polygon angle of rotation
+     * @param sx The amount to scale the x-axis
+     * @param sx The amount to scale the y-axis
+     */
+    public void drawPhysics(float[] vertices, Color color, float x, float y, float angle, float sx, float sy) {
+        if (active != DrawPass.DEBUG) {
+            Gdx.app.error("GameCanvas", "Cannot draw without active beginDebug()", new IllegalStateException());
+            return;
+        }
+
+        local.setToScaling(sx,sy);
+        local.translate(x,y);
+        local.rotateRad(angle);
+
+        int count = vertices.length/2;
+        float x0, y0, x1, y1;
+        debugRender.setColor(color);
+        for(int ii = 0; ii < count; ii++) {
+            int jj = (ii+1) % count;
+            vertex.set(vertices[2*ii],vertices[2*ii+1]);
+            local.applyTo(vertex);
+            x0 = vertex.x; y0 = vertex.y;
+            vertex.set(vertices[2*jj],vertices[2*jj+1]);
+            local.applyTo(vertex);
+            x1 = vertex.x; y1 = vertex.y;
+            debugRender.line(x0, y0, x1, y1);
+        }
+    }
+
     /**
      * Draws the outline of the given shape in the specified color
      *
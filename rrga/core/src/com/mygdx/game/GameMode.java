@@ -6,28 +6,37 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.config.GameConfig;
+import com.mygdx.game.config.WorldConfig;
 import com.mygdx.game.model.GoalDoor;
 import com.mygdx.game.model.MovingPlatformModel;
 import com.mygdx.game.model.PlayerModel;
-import com.mygdx.game.utility.obstacle.BoxObstacle;
+import com.mygdx.game.simulation.RenderSnapshot;
+import com.mygdx.game.simulation.SimulationThread;
+import com.mygdx.game.simulation.SnapshotBuffer;
+import com.mygdx.game.utility.obstacle.NativeTracker;
 import com.mygdx.game.utility.util.*;
 import com.mygdx.game.utility.assets.AssetDirectory;
+import com.mygdx.game.utility.assets.ResourceManager;
+import com.mygdx.game.utility.audio.MusicQueue;
 import com.mygdx.game.utility.obstacle.Obstacle;
 import com.mygdx.game.utility.util.ScreenListener;
 
-import java.util.HashMap;
-
 public class GameMode implements Screen {
 
-    /** map of all music for Game ["droplets" => Music(droplet)] */
-    private HashMap<String, Music> backgroundMusicCollection;
+    /** the level tracks, in the order of the sources of the soundtrack */
+    private static final String[] LEVEL_TRACKS = {
+            "a_world_of_clouds", "droplets", "the_storm", "over_the_cliffs", "exploring_the_forest"
+    };
+
+    /** the streamed queue of all level tracks (crossfades when the track changes while playing) */
+    private MusicQueue soundtrack;
 
     /** the background music used for the current game mode */
     private Music backgroundMusic;
@@ -45,19 +54,17 @@ public class GameMode implements Screen {
     /** Texture asset for SKY parallax layer B*/
     private TextureRegion skyLayerTextureB;
 
-    /** Texture asset for SKY parallax layer C*/
-    private TextureRegion skyLayerTextureC;
+    /** Texture asset for parallax layer C of the current theme (SKY or FOREST) */
+    private TextureRegion themeLayerTextureC;
 
-    /** Texture asset for FOREST parallax layer C*/
-    private TextureRegion forestLayerTextureC;
+    /** the asset group holding the theme textures of the current level (null if none is held) */
+    private String themeGroup;
+    /** the asset group of the theme being streamed in ahead of the next level (null if none is held) */
+    private String nextThemeGroup;
 
     /** Texture asset for skip prompt image */
     private TextureRegion skipPromptTexture;
 
-    /** Texture for cursor */
-    private TextureRegion cursorTexture;
-    private final static float cursorScl = .33f;
-
     //TODO: Want to move this to constant.json later
     /** Horizontal Parallax Constant A*/
     private float horizontalA = 0.5f;
@@ -115,6 +122,22 @@ public class GameMode implements Screen {
     private InputController inputController;
     /** Constructs the game models and handle basic gameplay (CONTROLLER CLASS) */
     private GameplayController gameplayController;
+    /** The most physics steps run in one frame, so a long stall does not snowball */
+    private static final int MAX_STEPS = 4;
+    /** Time budget (in milliseconds) for streaming the next theme each animation frame */
+    private static final int THEME_LOAD_BUDGET = 4;
+    /** The fraction of a step a frame may run ahead, to absorb vsync jitter */
+    private static final float STEP_SLOP = 0.25f;
+    /** The simulation time not yet covered by a physics step, in seconds */
+    private float accumulator;
+    /** The time at the end of the last physics step, in nanoseconds */
+    private long lastStepTime;
+    /** The render snapshots passed from the simulation to drawing */
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    /** The thread simulating while the last snapshot is drawn (null if the simulation runs serially) */
+    private SimulationThread simulation;
+    /** The frame time handed to the simulation thread */
+    private float simulationDelta;
     /** Listener that will update the player mode when we are done */
     private ScreenListener listener;
 
@@ -130,6 +153,9 @@ public class GameMode implements Screen {
 
     private LevelParser parser;
 
+    /** levels that have already been parsed, indexed by level number - 1 (null entries are parsed on demand) */
+    private ParsedLevel[] parsedLevels;
+
     private int currentLevel;
 
     private BitmapFont debugFont;
@@ -140,6 +166,9 @@ public class GameMode implements Screen {
     /** temporary vector cache */
     private Vector2 cache;
 
+    /** temporary vector cache for the simulation side (cache is used while drawing) */
+    private final Vector2 indicatorCache = new Vector2();
+
     /** level in development */
     private JsonValue sampleLevel;
 
@@ -206,12 +235,14 @@ public class GameMode implements Screen {
     /**
      * Sets whether debug mode is active.
      *
-     * If true, all objects will display their physics bodies.
+     * If true, all objects will display their physics bodies, and the native
+     * resource tracker logs its counts when a level is torn down.
      *
      * @param value whether debug mode is active.
      */
     public void setDebug(boolean value) {
         debug = value;
+        NativeTracker.get().setVerbose(value);
     }
 
     /**
@@ -309,6 +340,9 @@ public class GameMode implements Screen {
      * Dispose of all (non-static) resources allocated to this mode.
      */
     public void dispose() {
+        setThreadedSimulation(false);
+        snapshots.clear();
+
         // Dispose Controllers
         gameplayController.dispose();
         inputController = null;
@@ -318,6 +352,7 @@ public class GameMode implements Screen {
         scale  = null;
         canvas = null;
         parser = null;
+        parsedLevels = null;
         cache = null;
 
         // GameMode does not own the directory, so it does not unload assets
@@ -336,35 +371,27 @@ public class GameMode implements Screen {
     public void gatherAssets(AssetDirectory directory) {
         this.directory = directory;
 
-        JsonValue globalConstants = directory.getEntry("global:constants", JsonValue.class);
-        maxLevelCount = globalConstants.getInt("levelCount");
-        JsonValue worldData = globalConstants.get("world");
-        displayWidth = worldData.getFloat("width");
-        displayHeight = worldData.getFloat("height");
+        WorldConfig worldConfig = GameConfig.get(directory).world;
+        maxLevelCount = worldConfig.levelCount;
+        displayWidth = worldConfig.width;
+        displayHeight = worldConfig.height;
 
         gameplayController.gatherAssets(directory);
 
         backgroundTexture = new TextureRegion(directory.getEntry("game:background", Texture.class));
         skyLayerTextureA =  new TextureRegion(directory.getEntry("game:skylayerA", Texture.class));
         skyLayerTextureB =  new TextureRegion(directory.getEntry("game:skylayerB", Texture.class));
-        skyLayerTextureC =  new TextureRegion(directory.getEntry("game:skylayerC", Texture.class));
-        forestLayerTextureC =  new TextureRegion(directory.getEntry("game:forestLayerC", Texture.class));
 
-        cursorTexture = new TextureRegion(directory.getEntry("game:cursor_ingame", Texture.class));
 
         debugFont = directory.getEntry("shared:minecraft", BitmapFont.class);
 
-        // instantiate level parser for loading levels
+        // instantiate level parser for any level that was not parsed while loading
         parser = new LevelParser(directory);
-        // pass parser reference to level container to lessen the traffic on GameMode -> Gameplay -> Container.
-        gameplayController.getLevelContainer().setParser(parser);
+        if (parsedLevels == null || parsedLevels.length != maxLevelCount){
+            parsedLevels = new ParsedLevel[maxLevelCount];
+        }
 
-        backgroundMusicCollection = new HashMap<>();
-        backgroundMusicCollection.put("a_world_of_clouds", directory.getEntry("music:a_world_of_clouds", Music.class));
-        backgroundMusicCollection.put("droplets", directory.getEntry("music:droplets", Music.class));
-        backgroundMusicCollection.put("the_storm", directory.getEntry("music:the_storm", Music.class));
-        backgroundMusicCollection.put("over_the_cliffs", directory.getEntry("music:over_the_cliffs", Music.class));
-        backgroundMusicCollection.put("exploring_the_forest", directory.getEntry("music:exploring_the_forest", Music.class));
+        soundtrack = directory.getEntry("music:levels", MusicQueue.class);
 
         skipPromptTexture = new TextureRegion(directory.getEntry("game:skip_prompt", Texture.class));
     }
@@ -381,14 +408,23 @@ public class GameMode implements Screen {
 //            parser.parseLevel(sampleLevel);
 //        }
 //        else { parse the level }
-        parser.parseLevel(directory.getEntry("tiled:level"+currentLevel, JsonValue.class));
+        ParsedLevel level = parsedLevels[currentLevel - 1];
+        if (level == null){
+            level = parser.parseLevel(directory.getEntry("tiled:level"+currentLevel, JsonValue.class));
+            parsedLevels[currentLevel - 1] = level;
+        }
+        // pass parsed level to level container to lessen the traffic on GameMode -> Gameplay -> Container.
+        gameplayController.getLevelContainer().setLevel(level);
 
         // set music and parallax after parsing
-        backgroundMusic = backgroundMusicCollection.get(parser.getSelectedMusic());
-        selectedParallax = parser.getSelectedParallax().equals("sky") ? ParallaxType.SKY : ParallaxType.FOREST;
-
-        physicsWidth = parser.getWorldSize().x;
-        physicsHeight = parser.getWorldSize().y;
+        backgroundMusic = soundtrack;
+        selectedParallax = level.getSelectedParallax().equals("sky") ? ParallaxType.SKY : ParallaxType.FOREST;
+        loadTheme(selectedParallax);
+        // the level after this one is the likely next, so stream its theme in during play
+        prefetchLevel(currentLevel < maxLevelCount ? currentLevel + 1 : 1);
+
+        physicsWidth = level.getWorldSize().x;
+        physicsHeight = level.getWorldSize().y;
         this.bounds.set(0,0, physicsWidth, physicsHeight);
         gameplayController.setBounds(this.bounds);
         gameplayController.reset();
@@ -400,10 +436,97 @@ public class GameMode implements Screen {
 
         countdown = 0;
         showGoal = true;
-        backgroundMusic.play();
-        backgroundMusic.setVolume(backgroundMusicVolume);
-        backgroundMusic.setLooping(true);
+        playTrack(level.getSelectedMusic());
         stopSFX();
+
+        // the old snapshots refer to the previous level
+        snapshots.clear();
+        publishSnapshot();
+    }
+
+    /**
+     * Plays the given level track on the soundtrack.
+     *
+     * If the soundtrack is already playing another track, the two are crossfaded.
+     * Jumping to a track clears the (local) looping, so it is set again afterwards.
+     *
+     * @param track the name of the level track
+     */
+    private void playTrack(String track) {
+        int index = 0;
+        for (int ii = 0; ii < LEVEL_TRACKS.length; ii++) {
+            if (LEVEL_TRACKS[ii].equals(track)) {
+                index = ii;
+            }
+        }
+        if (!soundtrack.isPlaying() || soundtrack.getCurrent() != soundtrack.getSource(index)) {
+            soundtrack.jumpToSource(index);
+        }
+        soundtrack.setLooping(true);
+        soundtrack.setVolume(backgroundMusicVolume);
+        soundtrack.play();
+    }
+
+    /**
+     * Makes sure the asset group of the given parallax theme is loaded, releasing the previous theme.
+     * The theme is normally streamed in ahead of time by {@link #prefetchLevel}; this only blocks
+     * if it was not prefetched, or has not finished streaming when the level starts.
+     *
+     * @param parallax the parallax theme of the level to play
+     */
+    private void loadTheme(ParallaxType parallax){
+        String group = parallax == ParallaxType.SKY ? "theme:sky" : "theme:forest";
+        if (group.equals(themeGroup)){
+            return;
+        }
+        if (group.equals(nextThemeGroup)){
+            // already acquired by the prefetch
+            nextThemeGroup = null;
+        } else {
+            directory.acquireGroup(group);
+        }
+        if (!directory.isGroupLoaded(group)){
+            directory.finishLoadingGroup(group);
+        }
+        if (themeGroup != null){
+            directory.releaseGroup(themeGroup);
+        }
+        themeGroup = group;
+        String key = parallax == ParallaxType.SKY ? "game:skylayerC" : "game:forestLayerC";
+        themeLayerTextureC = new TextureRegion(directory.getEntry(key, Texture.class));
+    }
+
+    /**
+     * Starts streaming in the theme of the given level, so that starting it does not block.
+     * At most one theme is held ahead of the current one, so a new prefetch replaces an older one.
+     * Levels that are not parsed yet are skipped; their theme is loaded when they start.
+     *
+     * @param level the level that is likely to be played next
+     */
+    public void prefetchLevel(int level){
+        if (directory == null || parsedLevels == null || level < 1 || level > parsedLevels.length
+                || parsedLevels[level - 1] == null){
+            return;
+        }
+        String group = parsedLevels[level - 1].getSelectedParallax().equals("sky") ? "theme:sky" : "theme:forest";
+        if (group.equals(themeGroup) || group.equals(nextThemeGroup)){
+            return;
+        }
+        if (nextThemeGroup != null){
+            directory.releaseGroup(nextThemeGroup);
+        }
+        directory.acquireGroup(group);
+        nextThemeGroup = group;
+    }
+
+    /**
+     * Advances the prefetched theme within a small time budget.
+     * This is called every animation frame, whatever screen is showing.
+     */
+    public void updatePrefetch(){
+        if (directory != null && nextThemeGroup != null && !directory.isGroupLoaded(nextThemeGroup)){
+            directory.update(THEME_LOAD_BUDGET);
+        }
     }
 
     Preferences unlocked = Gdx.app.getPreferences("unlocked");
@@ -503,6 +626,16 @@ public class GameMode implements Screen {
      * @param dt    Number of seconds since last animation frame
      */
     public void update(float dt) {
+        updateZoom();
+        simulate(dt);
+    }
+
+    /**
+     * Eases the camera zoom towards the zoom requested by the player.
+     *
+     * This runs on the render thread, as it changes the camera.
+     */
+    private void updateZoom() {
         if (!showGoal && inputController.didZoom() && gameplayController.canAvatarZoom()){
             zoomAlpha += zoomAlphaDelta;
         }
@@ -510,7 +643,7 @@ public class GameMode implements Screen {
             zoomAlpha -= zoomAlphaDelta;
         }
 
-        if (gameplayController.getPlayer().getiFrames()>0) zoomAlpha = 0;
+        if (gameplayController.getPlayer().getRenderIFrames()>0) zoomAlpha = 0;
 
         // constraint zoomAlpha into [0,1] range
         if (zoomAlpha < 0){ zoomAlpha = 0; }
@@ -518,12 +651,111 @@ public class GameMode implements Screen {
 
         zoomScl = standardZoom * (1 - zoomAlpha) + (zoomAlpha) * (maximumZoom);
         canvas.getCamera().setZoom(zoomScl);
+    }
 
-        if (!showGoal){
-            gameplayController.update(inputController, dt);
+    /**
+     * Advances the simulation by the given frame time and publishes a render snapshot.
+     *
+     * This touches no rendering state, so it may run on the simulation thread.
+     *
+     * @param dt    Number of seconds since last animation frame
+     */
+    private void simulate(float dt) {
+        // Advance the simulation in fixed steps. The frame's time span is divided evenly
+        // among its steps, and each step replays only the input events that happened in it.
+        long now = System.nanoTime();
+        accumulator = Math.min(accumulator + dt, MAX_STEPS * GameplayController.WORLD_STEP);
+        int steps = (int)((accumulator + STEP_SLOP * GameplayController.WORLD_STEP) / GameplayController.WORLD_STEP);
+        for (int ii = 0; ii < steps; ii++) {
+            inputController.replay(lastStepTime + (now - lastStepTime) * (ii + 1) / steps);
+            if (!showGoal){
+                gameplayController.update(inputController, GameplayController.WORLD_STEP);
+            }
+            gameplayController.postUpdate(GameplayController.WORLD_STEP);
+            accumulator -= GameplayController.WORLD_STEP;
         }
-        gameplayController.postUpdate(dt);
-    };
+
+        //camera starts at the goal door then moves to the player until it finishes (showgoal => false)
+        if (gameplayController.getLevelContainer().getShowGoal().getPatrol() == MovingPlatformModel.MoveBehavior.REVERSE) {
+            showGoal = false;
+        }
+        if (steps > 0) {
+            lastStepTime = now;
+            publishSnapshot();
+        }
+    }
+
+    /**
+     * Captures the drawables of the level into a render snapshot and publishes it.
+     */
+    private void publishSnapshot() {
+        updateIndicator();
+        LevelContainer level = gameplayController.getLevelContainer();
+        RenderSnapshot snapshot = snapshots.getBack();
+        snapshot.capture(level.getDrawables());
+        // drawn with the player, and followed by the camera
+        snapshot.attach(level.getUmbrella());
+        snapshot.attach(level.getShowGoal());
+        snapshot.setShowingGoal(showGoal);
+        snapshots.publish();
+    }
+
+    /**
+     * Points the player's indicator at the goal, and makes it opaque if the goal is out of view.
+     *
+     * This runs with the simulation, so that the indicator is captured in the render
+     * snapshot like the rest of the player. The view is the one draw will use: centered
+     * on the player (or on the goal while it is shown) at the current zoom.
+     */
+    private void updateIndicator() {
+        LevelContainer level = gameplayController.getLevelContainer();
+        PlayerModel avatar = gameplayController.getPlayer();
+        GoalDoor scarf = level.getGoalDoor();
+
+        // find direction to scarf
+        indicatorCache.set(scarf.getX(), scarf.getY()).sub(avatar.getX(), avatar.getY());
+        float indicatorAngle = (float) Math.acos(indicatorCache.nor().dot(0,1));
+        if (scarf.getX() > avatar.getX()){
+            indicatorAngle *= -1;
+        }
+        avatar.setIndicatorDirection(indicatorAngle);
+
+        float ax = showGoal ? level.getShowGoal().getX() : avatar.getX();
+        float ay = showGoal ? level.getShowGoal().getY() : avatar.getY();
+        indicatorCache.set(scarf.getBoxCorner());
+        float bx = indicatorCache.x;
+        float by = indicatorCache.y;
+        indicatorCache.set(scarf.getDimensions());
+        float width = indicatorCache.x;
+        float height = indicatorCache.y;
+        // goal not in sight, draw indicator
+        avatar.showIndicator(bx > ax + zoomScl * displayWidth/2f || bx + width < ax - zoomScl * displayWidth/2f
+                || by < ay - zoomScl * displayHeight/2f || by - height > ay + zoomScl * displayHeight/2f);
+    }
+
+    /**
+     * Sets whether the simulation runs on its own thread.
+     *
+     * When it does, each frame simulates on the simulation thread while this thread
+     * draws the snapshot published by the previous frame, so the two overlap at the
+     * cost of a frame of latency. Debug frames still run serially, as the debug
+     * drawing reads the physics bodies.
+     *
+     * @param value whether the simulation runs on its own thread
+     */
+    public void setThreadedSimulation(boolean value) {
+        if (value && simulation == null) {
+            simulation = new SimulationThread(new Runnable() {
+                public void run() {
+                    simulate(simulationDelta);
+                }
+            });
+            simulation.start();
+        } else if (!value && simulation != null) {
+            simulation.shutdown();
+            simulation = null;
+        }
+    }
 
     /**
      * Draw the physics objects to the canvas
@@ -538,20 +770,20 @@ public class GameMode implements Screen {
 
         CameraController camera = canvas.getCamera();
 
-        // focus camera on player
-        float px = gameplayController.getPlayerScreenX();
-        float py = gameplayController.getPlayerScreenY();
-        float gx = gameplayController.getLevelContainer().getShowGoal().getX();
-        float gy = gameplayController.getLevelContainer().getShowGoal().getY();
+        // draw the state of the last published snapshot, never the (possibly stepping) bodies
+        RenderSnapshot snapshot = snapshots.acquire();
+        snapshot.apply();
 
-        Vector2 scl = gameplayController.getPlayer().getDrawScale();
+        PlayerModel avatar = gameplayController.getPlayer();
+        Vector2 scl = avatar.getDrawScale();
 
-        //camera starts at the goal door then moves to the player until it finishes (showgoal => false)
-        if (gameplayController.getLevelContainer().getShowGoal().getPatrol() == MovingPlatformModel.MoveBehavior.REVERSE) {
-            showGoal = false;
-        }
+        // focus camera on player
+        float px = avatar.getRenderX() * scl.x;
+        float py = avatar.getRenderY() * scl.y;
+        float gx = gameplayController.getLevelContainer().getShowGoal().getRenderX();
+        float gy = gameplayController.getLevelContainer().getShowGoal().getRenderY();
 
-        if (showGoal){
+        if (snapshot.isShowingGoal()){
             camPos.set(gx*scl.x, gy*scl.y);
         } else {
             camPos.set(px,py);
@@ -567,13 +799,7 @@ public class GameMode implements Screen {
         float worldHeight = physicsHeight * scale.y;
 
         // Parallax Drawing
-        TextureRegion layerC;
-        if (selectedParallax.equals(ParallaxType.SKY)){
-            layerC = skyLayerTextureC;
-        }
-        else {
-            layerC = forestLayerTextureC;
-        }
+        TextureRegion layerC = themeLayerTextureC;
         canvas.drawWrapped(skyLayerTextureA, -camPos.x * horizontalA, -camPos.y * verticalA, camPos.x, camPos.y, worldHeight, zoomScl, sclX, sclY);
         canvas.drawWrapped(skyLayerTextureB, -camPos.x * horizontalB, -camPos.y * verticalB, camPos.x, camPos.y, worldHeight, zoomScl, sclX, sclY);
         canvas.drawWrapped(layerC, -camPos.x * horizontalC, -camPos.y * verticalC, camPos.x, camPos.y, worldHeight, zoomScl, sclX, sclY);
@@ -581,24 +807,14 @@ public class GameMode implements Screen {
 //        canvas.drawWrapped(skyLayerTextureB, -px * horizontalB, -py * verticalB, px, py, worldHeight, zoomScl, sclX, sclY);
 //        canvas.drawWrapped(skyLayerTextureC, -px * horizontalC, -py * verticalC, px, py, worldHeight, zoomScl, sclX, sclY);
 
-        PlayerModel avatar = gameplayController.getPlayer();
-        avatar.showIndicator(false);
-        // find direction to scarf
-        BoxObstacle scarf = gameplayController.getLevelContainer().getGoalDoor();
-        cache.set(scarf.getPosition()).sub(avatar.getPosition());
-        float indicatorAngle = (float) Math.acos(cache.nor().dot(0,1));
-        if (scarf.getPosition().x > avatar.getPosition().x){
-            indicatorAngle *= -1;
-        }
-        avatar.setIndicatorDirection(indicatorAngle);
-
         // draw all game objects + stickers + tile layers, these objects are "dynamic"
         // a change in player's position should yield a different perspective.
         float ax = camPos.x/scl.x;
         float ay = camPos.y/scl.y;
         int objCount = 0;
         int tileCount = 0;
-        for(Drawable drawable : gameplayController.getDrawables()) {
+        for (int ii = 0; ii < snapshot.size(); ii++) {
+            Drawable drawable = snapshot.getDrawable(ii);
             if (drawable instanceof TiledLayer){
                 TiledLayer tiledLayer = (TiledLayer) drawable;
                 tiledLayer.draw(canvas, ax, ay, displayWidth/2 * zoomScl, displayHeight/2 * zoomScl);
@@ -610,18 +826,12 @@ public class GameMode implements Screen {
                 objCount++;
             }
             else {
-                cache.set(drawable.getBoxCorner());
-                float bx = cache.x;
-                float by = cache.y;
-                cache.set(drawable.getDimensions());
-                float width = cache.x;
-                float height = cache.y;
+                float bx = snapshot.getBoxX(ii);
+                float by = snapshot.getBoxY(ii);
+                float width = snapshot.getWidth(ii);
+                float height = snapshot.getHeight(ii);
                 if (bx > ax + zoomScl * displayWidth/2f || bx + width < ax - zoomScl * displayWidth/2f
                     || by < ay - zoomScl * displayHeight/2f || by - height > ay + zoomScl * displayHeight/2f ){
-                    if (drawable instanceof GoalDoor){
-                        // goal not in sight, draw indicator
-                        avatar.showIndicator(true);
-                    }
                     continue;
                 }
                 drawable.draw(canvas);
@@ -658,25 +868,13 @@ public class GameMode implements Screen {
         camera.setZoom(1.0f);
         avatar.drawInfo(canvas);
 
-        if (showGoal && currentLevel > 6) {
+        if (snapshot.isShowingGoal() && currentLevel > 6) {
             canvas.draw(skipPromptTexture, Color.WHITE, skipPromptTexture.getRegionWidth() / 2f, skipPromptTexture.getRegionHeight() / 2f,
                     (int)camera.getViewWidth()*0.8f, (int)camera.getViewHeight()*.07f, 0, 0.6f * displayScale, 0.6f * displayScale);
         }
 
-        // draw cursor
-        //draw mouse texture
-        int mx = Gdx.input.getX();
-        int my = Gdx.input.getY();
-        // retrieve the viewport coordinate to draw cursor
-        Vector2 pos = camera.unproject(mx, my);
-        if(pos.x <= camera.getViewWidth() && pos.x>= 0 && pos.y < camera.getViewHeight() && pos.y >0) {
-            canvas.draw(cursorTexture, Color.WHITE, cursorTexture.getRegionWidth() / 2f, cursorTexture.getRegionHeight() / 2f,
-                    pos.x, pos.y, 0, cursorScl, cursorScl);
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.None);
-        }
-        else {
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.Arrow);
-        }
+        // the hardware cursor follows the mouse, so only its shape is set here
+        CursorService.getInstance().use(CursorService.INGAME);
 
         // debug information on screen to track FPS, etc
         if (debug){
@@ -711,6 +909,10 @@ public class GameMode implements Screen {
                     debugFont, 0.1f*camera.getViewWidth(), 0.25f*camera.getViewHeight());
             canvas.drawText("Level: " + currentLevel, debugFont,
                     0.1f*camera.getViewWidth(), 0.2f*camera.getViewHeight());
+            canvas.drawText("Native: " + NativeTracker.get().describe(), debugFont,
+                    0.1f*camera.getViewWidth(), 0.15f*camera.getViewHeight());
+            canvas.drawText("Resources: " + ResourceManager.get().getStats(), debugFont,
+                    0.1f*camera.getViewWidth(), 0.1f*camera.getViewHeight());
 
         }
         canvas.end();
@@ -782,10 +984,23 @@ public class GameMode implements Screen {
      * @param delta Number of seconds since last animation frame
      */
     public void render(float delta) {
+        if (simulation != null && !debug) {
+            // simulate this frame while drawing the snapshot of the last one
+            if (preUpdate(delta)) {
+                updateZoom();
+                simulationDelta = delta;
+                simulation.begin();
+            }
+            draw(delta);
+            simulation.finish();
+        } else {
             if (preUpdate(delta)) {
                 update(delta); // This is the one that must be defined.
             }
             draw(delta);
+        }
+        // sounds started while drawing wait until the simulation is idle
+        gameplayController.getLevelContainer().getSpatialAudio().playDeferred();
     }
 
     /**
@@ -809,7 +1024,11 @@ public class GameMode implements Screen {
      * Called when this screen becomes the current screen for a Game.
      */
     public void show() {
-        // Useless if called in outside animation loop
+        // Record input as events, so that the simulation can replay them step by step
+        Gdx.input.setInputProcessor(inputController.getProcessor());
+        inputController.resetEvents();
+        accumulator = 0;
+        lastStepTime = System.nanoTime();
     }
 
     /**
@@ -817,6 +1036,10 @@ public class GameMode implements Screen {
      */
     public void hide() {
         gameplayController.pauseSFX();
+        if (Gdx.input.getInputProcessor() == inputController.getProcessor()) {
+            Gdx.input.setInputProcessor(null);
+        }
+        inputController.resetEvents();
     }
 
     /**
@@ -910,4 +1133,18 @@ public class GameMode implements Screen {
      */
     public void setSampleLevel(JsonValue sampleLevel){ this.sampleLevel = sampleLevel;}
 
+    /**
+     * Hands over levels parsed ahead of time (for example while the loading screen was up).
+     * Must be called after {@link #gatherAssets(AssetDirectory)}.
+     *
+     * @param levels parsed levels, indexed by level number - 1. Null entries are parsed when first played.
+     */
+    public void setParsedLevels(ParsedLevel[] levels){
+        for (int ii = 0; ii < levels.length && ii < parsedLevels.length; ii++){
+            if (levels[ii] != null){
+                parsedLevels[ii] = levels[ii];
+            }
+        }
+    }
+
 }
@@ -4,17 +4,20 @@ package com.mygdx.game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.physics.box2d.joints.*;
-import com.badlogic.gdx.utils.JsonValue;
-import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectSet;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.audio.*;
+import com.mygdx.game.config.GameConfig;
 import com.mygdx.game.model.*;
 import com.mygdx.game.model.hazard.*;
 import com.mygdx.game.utility.assets.AssetDirectory;
+import com.mygdx.game.utility.audio.PooledAudioEngine;
+import com.mygdx.game.utility.obstacle.BodyCache;
 import com.mygdx.game.utility.obstacle.BoxObstacle;
+import com.mygdx.game.utility.obstacle.NativeTracker;
 import com.mygdx.game.utility.obstacle.Obstacle;
+import com.mygdx.game.utility.util.ContactBuffer;
 import com.mygdx.game.utility.util.Drawable;
 import com.mygdx.game.utility.util.PooledList;
 
@@ -76,12 +79,19 @@ public class GameplayController implements ContactListener {
      */
     private boolean failed;
 
+    /** Voice category of looping ambient effects (strong wind) */
+    public static final String SFX_AMBIENT = "ambient";
+    /** Voice category of hazard effects (lightning, bird alerts) */
+    public static final String SFX_HAZARD = "hazard";
+    /** Voice category of bird wing flaps */
+    public static final String SFX_BIRDS = "birds";
+
     /**
      * Strong Wind Sound Effect
      */
     private Sound windStrongSFX;
     private Sound birdAlertSFX;
-    private Music birdFlapSFX;
+    private Sound birdFlapSFX;
     private Sound lightningSFX;
     private Music walkingSFX;
     private Music cloudWalkingSFX;
@@ -105,7 +115,7 @@ public class GameplayController implements ContactListener {
     /**
      * Physics constants for global
      */
-    private JsonValue globalConstants;
+    private GameConfig config;
 
     /**
      * Reference to the character avatar
@@ -167,9 +177,14 @@ public class GameplayController implements ContactListener {
     private boolean touchingMovingCloud;
 
     /**
-     * the cloud body that the avatar is touching (there may be several, take FIRST)
+     * the cloud that the avatar is touching (there may be several, take FIRST)
+     */
+    private MovingPlatformModel contactedCloud;
+
+    /**
+     * the contacts reported during the world step, handled once the step is over
      */
-    private Body contactedCloudBody;
+    private final ContactBuffer contacts = new ContactBuffer();
 
     /**
      * whether to destroy
@@ -250,6 +265,8 @@ public class GameplayController implements ContactListener {
 
         // Initialize level container
         levelContainer = new LevelContainer(world, this.bounds, this.scale);
+        levelContainer.getSpatialAudio().setMasterVolume(SFXVolume);
+        levelContainer.getBirdSystem().setAlertVolume(SFXVolume);
     }
 
     /**
@@ -261,22 +278,24 @@ public class GameplayController implements ContactListener {
      * @param directory Reference to global asset manager.
      */
     public void gatherAssets(AssetDirectory directory) {
-        // Setting up Constant/Asset Path for different levels
-        String constantPath = "global:constants";
-
-        globalConstants = directory.getEntry(constantPath, JsonValue.class);
+        // Constants shared by every level (parsed once, on first use)
+        config = GameConfig.get(directory);
 
         // Level container gather assets
         levelContainer.gatherAssets(directory);
         windStrongSFX = directory.getEntry("sound:wind_strong", Sound.class);
         birdAlertSFX = directory.getEntry("sound:bird_alert", Sound.class);
-        birdFlapSFX = directory.getEntry("music:bird_flap", Music.class);
+        birdFlapSFX = directory.getEntry("sound:bird_flap", Sound.class);
         lightningSFX = directory.getEntry("sound:lightning", Sound.class);
+        PooledAudioEngine.classify(windStrongSFX, SFX_AMBIENT, 3);
+        PooledAudioEngine.classify(birdAlertSFX, SFX_HAZARD, 3);
+        levelContainer.getBirdSystem().setAlertSound(birdAlertSFX);
+        levelContainer.getBirdSystem().setAlertVolume(SFXVolume);
         walkingSFX = directory.getEntry("music:walking", Music.class);
         cloudWalkingSFX = directory.getEntry("music:walking_clouds", Music.class);
 
-        dragScale.x = globalConstants.get("player").getFloat("drag_x", 1);
-        dragScale.y = globalConstants.get("player").getFloat("drag_y", 1);
+        dragScale.x = config.player.dragX;
+        dragScale.y = config.player.dragY;
     }
 
     /**
@@ -292,12 +311,14 @@ public class GameplayController implements ContactListener {
         avatarWeldJoint = null;
         touchingMovingCloud = false;
 
-        Vector2 gravity = new Vector2(world.getGravity());
-
         for (Obstacle obj : levelContainer.getObjects()) {
             obj.deactivatePhysics(world);
         }
+        // let go of the old ground, winds and hazards
+        resolveContacts();
+        contacts.clear();
 
+        Vector2 gravity = cache.set(world.getGravity());
         world.dispose();
         world = new World(gravity, false);
         world.setContactListener(this);
@@ -369,8 +390,7 @@ public class GameplayController implements ContactListener {
                         //TODO: apply some force to the player so the floatiness comes back
                     } else {
                         umbrella.useClosedTexture();
-                        Body body = avatar.getBody();
-                        body.setLinearVelocity(body.getLinearVelocity().x * umbrella.getClosedMomentumX(), body.getLinearVelocity().y * umbrella.getClosedMomentumY());
+                        avatar.setLinearVelocity(cache.set(avatar.getVX() * umbrella.getClosedMomentumX(), avatar.getVY() * umbrella.getClosedMomentumY()));
                     }
                 }
             } else {
@@ -381,9 +401,8 @@ public class GameplayController implements ContactListener {
                 } else {
                     umbrella.setOpen(false);
                     umbrella.useClosedTexture();
-                    Body body = avatar.getBody();
                     if (wasOpen)
-                        body.setLinearVelocity(body.getLinearVelocity().x * umbrella.getClosedMomentumX(), body.getLinearVelocity().y * umbrella.getClosedMomentumY());
+                        avatar.setLinearVelocity(cache.set(avatar.getVX() * umbrella.getClosedMomentumX(), avatar.getVY() * umbrella.getClosedMomentumY()));
                     wasOpen = false;
                 }
             }
@@ -456,7 +475,7 @@ public class GameplayController implements ContactListener {
         }
 
         if (count != 0) {
-            // TODO: We might want to make a separate update loop for sounds
+            // Sound calls only queue commands for the audio thread (see AudioThread)
             // Play Strong Wind SFX
             if (windStrongFrame < 0 && !prevInWind) {
                 windStrongSFX.stop();
@@ -545,7 +564,7 @@ public class GameplayController implements ContactListener {
                     // apply scaling to provide speed
                     // at bare minimum, our speed should not really decrease since we need to get player out of contact.
                     cache.scl(Math.max(h.getKnockBackScl(), avatarSpeed));
-                    avatar.getBody().setLinearVelocity(cache);
+                    avatar.setLinearVelocity(cache);
                 }
                 if (avatar.getHealth() - dam > 0) {
                     avatar.setHealth(avatar.getHealth() - dam);
@@ -559,107 +578,8 @@ public class GameplayController implements ContactListener {
             }
         }
 
-        //move moving platforms
-        for (MovingPlatformModel mp : levelContainer.getMovingPlats()) {
-            mp.move();
-        }
-
-        //Bird Updates
-        int birdRays = 5;
-        BirdRayCastCallback rccb = new BirdRayCastCallback();
-        // vector reference (alias to make code more readable)
-        Vector2 pos = cache;
-        Vector2 target = temp;
-
-        //loop through birds
-        for (BirdHazard bird : levelContainer.getBirds()) {
-            bird.setSfxVol(SFXVolume);
-            //If sees target, wait before attacking
-            if (bird.seesTarget) {
-                if (bird.attackWait == 0) {
-                    bird.setTargetDir(avatar.getX(), avatar.getY(), avatar.getVX(), avatar.getVY());
-                    bird.attackWait--;
-                    bird.warning = false;
-                } else if (bird.attackWait > 0) {
-                    bird.attackWait--;
-                    bird.setFaceRight(!(avatar.getX() - bird.getX() < 0));
-                }
-            }
-
-            //move the birds
-            bird.move();
-
-            if (bird.getAABBx() >= bounds.width + 20 || bird.getAABBy() < 0
-                    || bird.getAABBx() + bird.getWidth() <= -20
-                    || bird.getAABBy() - bird.getHeight() > bounds.height * bounds.height ) {
-                //(brown/green/red) mark removed so that it is garbage collected at end of update loop
-                // blue: set spawning again
-                if (bird.getColor().equals(BirdHazard.BirdColor.BLUE)){
-                    ((NestedBirdHazard) bird).setSpawning();
-                }
-                else {
-                    bird.markRemoved(true);
-                }
-                continue;
-            }
-
-            float bx = bird.getX();
-            float by = bird.getY();
-            float px = avatar.getX();
-            float py = avatar.getY();
-            temp.set(px, py);
-            temp.sub(bx, by);
-            temp.nor();
-
-            //adapted from https://stackoverflow.com/questions/6247153/angle-from-2d-unit-vector
-            if (temp.x == 0) {
-                angle = (temp.y > 0) ? (float) Math.PI / 2 : (temp.y == 0) ? 0 : 3 * (float) Math.PI / 2;
-            } else if (temp.y == 0) {
-                angle = (temp.x >= 0) ? 0 : (float) Math.PI;
-            } else {
-                angle = (float) Math.atan(temp.y / temp.x);
-                if (temp.x < 0 && temp.y < 0) // quadrant Ⅲ
-                    angle += Math.PI;
-                else if (temp.x < 0) // quadrant Ⅱ
-                    angle += Math.PI;
-                else if (temp.y < 0) // quadrant Ⅳ
-                    angle += 2 * Math.PI;
-            }
-
-            float dist = (float) Math.sqrt(Math.pow(px - bx, 2) + Math.pow(py - by, 2));
-            boolean check = dist < bird.getSensorRadius();
-            //send out rays and check for collisions with player
-            if (bird.getAttack() && check) {
-                // load position into cache
-                pos.set(bx, by);
-                for (int i = 0; i < birdRays; i++) {
-                    rccb.collisions.clear();
-                    float minDist = Integer.MAX_VALUE;
-                    // load ray target into temporary cache
-                    target.set(bx + bird.getSensorRadius(), by).rotateAroundRad(pos, angle - (float) (Math.PI / 16) + (float) (Math.PI / 8) * i / birdRays);
-                    //DEPRECIATED
-                    // target.set(bx, by + bird.getSensorRadius()).rotateAroundDeg(pos, 360f * i / birdRays);
-                    world.rayCast(rccb, pos, target);
-                    for (ObjectMap.Entry<Fixture, Float> e : rccb.collisions.entries()) {
-                        if (e.value < minDist) {
-                            minDist = e.value;
-                        }
-                    }
-                    for (ObjectMap.Entry<Fixture, Float> e : rccb.collisions.entries()) {
-                        if ((e.key).getBody().getUserData() == avatar) {
-                            if (Math.abs(e.value - minDist) < .001) {
-                                if (!bird.seesTarget) {
-                                    bird.seesTarget = true;
-                                    bird.setFaceRight(!(px - bx < 0));
-                                    birdAlertSFX.play(SFXVolume);
-                                    bird.warning = true;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
+        // move the platforms and run the bird AI, in the order the systems were declared
+        levelContainer.getSystems().preStep(dt);
 
         //criterion to disconnect player from moving platform when ANY of the following holds
         // - player can move (on platform) and tries to move
@@ -681,7 +601,7 @@ public class GameplayController implements ContactListener {
         // - no hit from hazard
         if (avatar.isGrounded() && touchingMovingCloud && !destroyWeldJoint && avatarWeldJoint == null) {
             avatar.setLinearVelocity(temp.set(0, 0));
-            weldJointDef.initialize(avatar.getBody(), contactedCloudBody,
+            weldJointDef.initialize(avatar.getBody(), contactedCloud.getBody(),
                     temp.set(avatar.getX(), avatar.getY() - avatar.getHeight() / 2)
             );
             weldJointDef.collideConnected = true;
@@ -713,36 +633,37 @@ public class GameplayController implements ContactListener {
 
         // Turn the physics engine crank.
         world.step(WORLD_STEP, WORLD_VELOC, WORLD_POSIT);
+        // Read every moving body once; obstacles serve their getters from this copy
+        BodyCache.get().sync();
+        // Handle the contacts of the step in one pass
+        resolveContacts();
         //make umbrella follow player position. since it is a static body, we update
         //its position after the world step so that it properly follows the player
         umbrella.setPosition(avatar.getX(), avatar.getY());
 
+        // Position the hazard sounds around the camera, which follows the avatar.
+        // Hazards out of earshot are culled here rather than taking a voice.
+        levelContainer.getSpatialAudio().update(avatar.getX(), avatar.getY(), dt);
+
         // Garbage collect the deleted objects.
-        // Note how we use the linked list nodes to delete O(1) in place.
-        // This is O(n) without copying.
+        // Note how we use the list entries to delete O(1) in place.
+        // This is O(n) without copying; the holes are compacted below.
         Iterator<PooledList<Obstacle>.Entry> iterator = levelContainer.getObjects().entryIterator();
         while (iterator.hasNext()) {
             PooledList<Obstacle>.Entry entry = iterator.next();
             Obstacle obj = entry.getValue();
             if (obj.isRemoved()) {
                 obj.deactivatePhysics(world);
+                NativeTracker.get().release(obj);
                 entry.remove();
-            } else {
-                // Note that update is called last!
-                if (obj instanceof AnimatedLightningHazard) ((AnimatedLightningHazard) obj).setSfxVol(SFXVolume);
-                obj.update(dt);
             }
         }
+        // destroying a body ends its contacts
+        resolveContacts();
 
-        // clean-up the list of active birds
-        Iterator<PooledList<BirdHazard>.Entry> birdIterator = levelContainer.getBirds().entryIterator();
-        while (iterator.hasNext()) {
-            PooledList<BirdHazard>.Entry entry = birdIterator.next();
-            BirdHazard bird = entry.getValue();
-            if (bird.isRemoved()) {
-                entry.remove();
-            }
-        }
+        // Note that update is called last! Each system only ticks the objects it owns,
+        // and drops the ones removed above.
+        levelContainer.getSystems().postStep(dt);
 
         // delete from drawables if some object has been deleted
         // INVARIANT: sorted list after removals is still sorted.
@@ -755,6 +676,10 @@ public class GameplayController implements ContactListener {
             }
         }
 
+        // squeeze out the holes left by this frame's removals in one pass each
+        levelContainer.getObjects().compact();
+        levelContainer.getDrawables().compact();
+
         // TODO: TEMPORARY SCROLL
         if (levelContainer.getShowGoal().getPosition().dst(avatar.getPosition()) > 0.0001)
             levelContainer.getShowGoal().move();
@@ -763,130 +688,191 @@ public class GameplayController implements ContactListener {
     /**
      * Callback method for the start of a collision
      * <p>
-     * This method is called when we first get a collision between two objects.  We use
-     * this method to test if it is the "right" kind of collision.  In particular, we
-     * use it to test if we made it to the win door.
+     * This method is called from inside the world step, so it only records the contact.
+     * The contact is handled by {@link #resolveContacts} once the step is over. Only
+     * contacts with a hazard need the contact normal, which is read here because the
+     * contact itself does not outlive the step.
      *
      * @param contact The two bodies that collided
      */
     public void beginContact(Contact contact) {
-        Fixture fix1 = contact.getFixtureA();
-        Fixture fix2 = contact.getFixtureB();
+        Object bd1 = contact.getFixtureA().getBody().getUserData();
+        Object bd2 = contact.getFixtureB().getBody().getUserData();
+        contacts.record(ContactBuffer.BEGIN, contact, bd1 instanceof HazardModel || bd2 instanceof HazardModel);
+    }
 
-        Body body1 = fix1.getBody();
-        Body body2 = fix2.getBody();
+    /**
+     * Callback method for the end of a collision
+     * <p>
+     * This method is called from inside the world step, or when a touching body is
+     * destroyed, so it only records the contact. The contact is handled by
+     * {@link #resolveContacts}.
+     *
+     * @param contact The two bodies that stopped touching
+     */
+    public void endContact(Contact contact) {
+        contacts.record(ContactBuffer.END, contact, false);
+    }
 
-        Object fd1 = fix1.getUserData();
-        Object fd2 = fix2.getUserData();
+    /**
+     * Unused ContactListener method
+     */
+    public void postSolve(Contact contact, ContactImpulse impulse) {
+    }
 
-        try {
-            Obstacle bd1 = (Obstacle) body1.getUserData();
-            Obstacle bd2 = (Obstacle) body2.getUserData();
+    /**
+     * Callback method before the solver handles a touching contact
+     * <p>
+     * Disabling a contact only works from this callback, so this is the one decision
+     * still made inside the step. It only compares user data, which lives in Java.
+     *
+     * @param contact The contact to solve
+     * @param oldManifold The manifold of the contact in the previous step
+     */
+    public void preSolve(Contact contact, Manifold oldManifold) {
+        Object bd1 = contact.getFixtureA().getBody().getUserData();
+        Object bd2 = contact.getFixtureB().getBody().getUserData();
 
-            // See if we have landed on the ground.
-            boolean isAvatarSensor = avatar.getSensorName().equals(fd2) || avatar.getSensorName().equals(fd1);
-            if ((isAvatarSensor && bd1.getName().contains("platform")) ||
-                    (isAvatarSensor && bd2.getName().contains("platform"))
-                    // ||(isAvatarSensor && bd1 instanceof RockHazard) || (isAvatarSensor && bd2 instanceof RockHazard)
-                ) {
-                boolean prev = avatar.isGrounded();
-                if(bd1.getName().contains("moving_platform") || bd2.getName().contains("moving_platform")) avatar.onCloud = true;
-                avatar.setGrounded(true);
-                if (avatar.isGrounded() != prev) {
-                    avatar.startLand();
-                }
-                sensorFixtures.add(avatar == bd1 ? fix2 : fix1); // Could have more than one ground
-
-                // TODO : cloud platforms are named "moving_platform" hence they have the "platform" part in their name.
-                //  it might be better to have platform class. Using debug name is not safe for all obstacles (sometimes
-                //  we might forget to assign object names and get unnecessary nullptr.
-                Body cloudBody = null;
-                MovingPlatformModel cloud = null;
-                if (bd1 instanceof MovingPlatformModel) {
-                    cloudBody = body1;
-                    cloud = (MovingPlatformModel) bd1;
-                } else if (bd2 instanceof MovingPlatformModel) {
-                    cloudBody = body2;
-                    cloud = (MovingPlatformModel) bd2;
-                }
-                // TODO (revisit this choice): the FIRST cloud touched is the one Gale sticks to.
-                //  (revisit again): second edit, updated to the LAST CLOUD touched
-                //  To optimize joint-create-destroy time, non-movable clouds of course don't need joints with avatar.
-                if (cloudBody != null && cloud.getMoveSpeed() > 0) {
-                    touchingMovingCloud = true;
-                    contactedCloudBody = cloudBody;
-                }
-            }
+        if (umbrella == bd2 || umbrella == bd1) {
+            contact.setEnabled(false);
+        }
 
-            // See if umbrella touches wind
-            if ((fd2 == "umbrellaSensor" && (bd1.getClass() == WindModel.class)) ||
-                    (fd1 == "umbrellaSensor" && (bd2.getClass() == WindModel.class))) {
-                Fixture windFix = (umbrella == bd2 ? fix1 : fix2);
-                contactWindFix.add(windFix);
+        if (((umbrella == bd2 || avatar == bd2) && (bd1 instanceof HazardModel && !(bd1 instanceof StaticHazard)) ||
+                ((umbrella == bd1 || avatar == bd1) && (bd2 instanceof HazardModel && !(bd2 instanceof StaticHazard))))) {
+            contact.setEnabled(false);
+        }
+    }
+
+    /**
+     * Handles every contact recorded since the last call, in the order they happened
+     * <p>
+     * This resolves the grounding of the avatar, the winds and hazards touching the
+     * player, and reaching the goal. The buffer is empty afterwards. This is called
+     * after every step; it is public so that contact handling can be measured on its own.
+     */
+    public void resolveContacts() {
+        while (contacts.hasNext()) {
+            int slot = contacts.next();
+            if (contacts.getType(slot) == ContactBuffer.BEGIN) {
+                resolveBegin(slot);
+            } else {
+                resolveEnd(slot);
             }
+        }
+    }
 
-            if ((fd2 == "umbrellaSensor" && (bd1.getClass() == NewWindModel.class)) ||
-                    (fd1 == "umbrellaSensor" && (bd2.getClass() == NewWindModel.class))) {
-                Fixture windFix = (umbrella == bd2 ? fix1 : fix2);
-                contactNewWindFix.add(windFix);
+    /**
+     * Handles a recorded start of a collision
+     * <p>
+     * We use this method to test if it is the "right" kind of collision.  In particular,
+     * we use it to test if we made it to the win door.
+     *
+     * @param slot The slot of the event in the contact buffer
+     */
+    private void resolveBegin(int slot) {
+        Fixture fix1 = contacts.getFixtureA(slot);
+        Fixture fix2 = contacts.getFixtureB(slot);
+
+        Object fd1 = contacts.getFixtureDataA(slot);
+        Object fd2 = contacts.getFixtureDataB(slot);
+
+        Obstacle bd1 = (Obstacle) contacts.getBodyDataA(slot);
+        Obstacle bd2 = (Obstacle) contacts.getBodyDataB(slot);
+
+        // See if we have landed on the ground.
+        boolean isAvatarSensor = avatar.getSensorName().equals(fd2) || avatar.getSensorName().equals(fd1);
+        if ((isAvatarSensor && isNamed(bd1, "platform")) ||
+                (isAvatarSensor && isNamed(bd2, "platform"))
+                // ||(isAvatarSensor && bd1 instanceof RockHazard) || (isAvatarSensor && bd2 instanceof RockHazard)
+            ) {
+            boolean prev = avatar.isGrounded();
+            if(isNamed(bd1, "moving_platform") || isNamed(bd2, "moving_platform")) avatar.onCloud = true;
+            avatar.setGrounded(true);
+            if (avatar.isGrounded() != prev) {
+                avatar.startLand();
+            }
+            sensorFixtures.add(avatar == bd1 ? fix2 : fix1); // Could have more than one ground
+
+            // TODO : cloud platforms are named "moving_platform" hence they have the "platform" part in their name.
+            //  it might be better to have platform class. Using debug name is not safe for all obstacles (sometimes
+            //  we might forget to assign object names and get unnecessary nullptr.
+            MovingPlatformModel cloud = null;
+            if (bd1 instanceof MovingPlatformModel) {
+                cloud = (MovingPlatformModel) bd1;
+            } else if (bd2 instanceof MovingPlatformModel) {
+                cloud = (MovingPlatformModel) bd2;
             }
+            // TODO (revisit this choice): the FIRST cloud touched is the one Gale sticks to.
+            //  (revisit again): second edit, updated to the LAST CLOUD touched
+            //  To optimize joint-create-destroy time, non-movable clouds of course don't need joints with avatar.
+            if (cloud != null && cloud.getMoveSpeed() > 0) {
+                touchingMovingCloud = true;
+                contactedCloud = cloud;
+            }
+        }
 
-            // Check for hazard collision
-            // Is there any way to add fixture data to all fixtures in a polygon obstacle without changing the
-            // implementation? If so, want to change to fd1 == "damage"
-            if (((fd2 == "umbrellaSensor" || avatar == bd2) && (bd1 instanceof HazardModel && fd1 == null) ||
-                    ((fd1 == "umbrellaSensor" || avatar == bd1) && (bd2 instanceof HazardModel && fd2 == null)))) {
-                HazardModel h = (HazardModel) (bd1 instanceof HazardModel ? bd1 : bd2);
-
-                //norm from a to b
-                WorldManifold wm = contact.getWorldManifold();
-                Vector2 norm = cache.set(wm.getNormal());
-                if (norm.len() != 0.0f) {
-                    norm.nor();
-                    float flip = (bd1 instanceof HazardModel ? 1 : -1);
-                    h.setKnockBackForce(norm.scl(flip));
-                    contactHazardFixtures.add(bd1 instanceof HazardModel ? fix1 : fix2);
-                }
-                else if (h.getDamage() == avatar.getMaxHealth()){
-                    // death zone
-                    contactHazardFixtures.add(bd1 instanceof HazardModel ? fix1 : fix2);
-                }
+        // See if umbrella touches wind
+        if ((fd2 == "umbrellaSensor" && (bd1.getClass() == WindModel.class)) ||
+                (fd1 == "umbrellaSensor" && (bd2.getClass() == WindModel.class))) {
+            Fixture windFix = (umbrella == bd2 ? fix1 : fix2);
+            contactWindFix.add(windFix);
+        }
 
-            }
+        if ((fd2 == "umbrellaSensor" && (bd1.getClass() == NewWindModel.class)) ||
+                (fd1 == "umbrellaSensor" && (bd2.getClass() == NewWindModel.class))) {
+            Fixture windFix = (umbrella == bd2 ? fix1 : fix2);
+            contactNewWindFix.add(windFix);
+        }
 
-            // Check for win condition
-            if ((bd1 == avatar && bd2 == goalDoor) ||
-                    (bd1 == goalDoor && bd2 == avatar)) {
-                // player wins
-                if (!failed && !completed) {
-                    setCompleted();
-                }
+        // Check for hazard collision
+        // Is there any way to add fixture data to all fixtures in a polygon obstacle without changing the
+        // implementation? If so, want to change to fd1 == "damage"
+        if (((fd2 == "umbrellaSensor" || avatar == bd2) && (bd1 instanceof HazardModel && fd1 == null) ||
+                ((fd1 == "umbrellaSensor" || avatar == bd1) && (bd2 instanceof HazardModel && fd2 == null)))) {
+            HazardModel h = (HazardModel) (bd1 instanceof HazardModel ? bd1 : bd2);
+
+            //norm from a to b
+            Vector2 norm = cache.set(contacts.getNormalX(slot), contacts.getNormalY(slot));
+            if (norm.len() != 0.0f) {
+                norm.nor();
+                float flip = (bd1 instanceof HazardModel ? 1 : -1);
+                h.setKnockBackForce(norm.scl(flip));
+                contactHazardFixtures.add(bd1 instanceof HazardModel ? fix1 : fix2);
+            }
+            else if (h.getDamage() == avatar.getMaxHealth()){
+                // death zone
+                contactHazardFixtures.add(bd1 instanceof HazardModel ? fix1 : fix2);
             }
-        } catch (Exception e) {
-            e.printStackTrace();
+
         }
 
+        // Check for win condition
+        if ((bd1 == avatar && bd2 == goalDoor) ||
+                (bd1 == goalDoor && bd2 == avatar)) {
+            // player wins
+            if (!failed && !completed) {
+                setCompleted();
+            }
+        }
     }
 
     /**
-     * Callback method for the start of a collision
+     * Handles a recorded end of a collision
      * <p>
-     * This method is called when two objects cease to touch.  The main use of this method
-     * is to determine when the characer is NOT on the ground.  This is how we prevent
-     * double jumping.
+     * The main use of this method is to determine when the characer is NOT on the
+     * ground.  This is how we prevent double jumping.
+     *
+     * @param slot The slot of the event in the contact buffer
      */
-    public void endContact(Contact contact) {
-        Fixture fix1 = contact.getFixtureA();
-        Fixture fix2 = contact.getFixtureB();
-
-        Body body1 = fix1.getBody();
-        Body body2 = fix2.getBody();
+    private void resolveEnd(int slot) {
+        Fixture fix1 = contacts.getFixtureA(slot);
+        Fixture fix2 = contacts.getFixtureB(slot);
 
-        Object fd1 = fix1.getUserData();
-        Object fd2 = fix2.getUserData();
+        Object fd1 = contacts.getFixtureDataA(slot);
+        Object fd2 = contacts.getFixtureDataB(slot);
 
-        Obstacle bd1 = (Obstacle) body1.getUserData();
-        Obstacle bd2 = (Obstacle) body2.getUserData();
+        Obstacle bd1 = (Obstacle) contacts.getBodyDataA(slot);
+        Obstacle bd2 = (Obstacle) contacts.getBodyDataB(slot);
 
         if ((avatar.getSensorName().equals(fd2) && avatar != bd1) ||
                 (avatar.getSensorName().equals(fd1) && avatar != bd2)) {
@@ -900,10 +886,10 @@ public class GameplayController implements ContactListener {
             }
             boolean isCloud1 = bd1 instanceof MovingPlatformModel;
             boolean isCloud2 = bd2 instanceof MovingPlatformModel;
-            Body cloudBody = isCloud1 ? body1 : isCloud2 ? body2 : null;
-            if (cloudBody == contactedCloudBody) {
+            Obstacle cloud = isCloud1 ? bd1 : isCloud2 ? bd2 : null;
+            if (cloud == contactedCloud) {
                 touchingMovingCloud = false;
-                contactedCloudBody = null;
+                contactedCloud = null;
                 destroyWeldJoint = true;
             }
         }
@@ -922,46 +908,20 @@ public class GameplayController implements ContactListener {
 
         if (((umbrella == bd2 || avatar == bd2) && (bd1 instanceof HazardModel && fd1 == null) ||
                 ((umbrella == bd1 || avatar == bd1) && (bd2 instanceof HazardModel && fd2 == null)))) {
-            HazardModel h = (HazardModel) (bd1 instanceof HazardModel ? bd1 : bd2);
 //            if (h instanceof BirdHazard) ((BirdHazard) h).setSetKB(true);
             contactHazardFixtures.remove(bd1 instanceof HazardModel ? fix1 : fix2);
         }
     }
 
     /**
-     * Unused ContactListener method
-     */
-    public void postSolve(Contact contact, ContactImpulse impulse) {
-    }
-
-    /**
-     * Unused ContactListener method
+     * Returns true if the given obstacle has a name containing the given text
+     *
+     * @param obj The obstacle to check
+     * @param text The text to look for
+     * @return true if the name of the obstacle contains the text
      */
-    public void preSolve(Contact contact, Manifold oldManifold) {
-        Fixture fix1 = contact.getFixtureA();
-        Fixture fix2 = contact.getFixtureB();
-
-        Body body1 = fix1.getBody();
-        Body body2 = fix2.getBody();
-
-        Object fd1 = fix1.getUserData();
-        Object fd2 = fix2.getUserData();
-
-        try {
-            Obstacle bd1 = (Obstacle) body1.getUserData();
-            Obstacle bd2 = (Obstacle) body2.getUserData();
-
-            if (umbrella == bd2 || umbrella == bd1) {
-                contact.setEnabled(false);
-            }
-
-            if (((umbrella == bd2 || avatar == bd2) && (bd1 instanceof HazardModel && !(bd1 instanceof StaticHazard)) ||
-                    ((umbrella == bd1 || avatar == bd1) && (bd2 instanceof HazardModel && !(bd2 instanceof StaticHazard))))) {
-                contact.setEnabled(false);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    private static boolean isNamed(Obstacle obj, String text) {
+        return obj.getName() != null && obj.getName().contains(text);
     }
 
     /**
@@ -979,6 +939,7 @@ public class GameplayController implements ContactListener {
     }
 
     public void stopSFX(){
+        levelContainer.getSpatialAudio().stop();
         windStrongSFX.stop();
         lightningSFX.stop();
         birdAlertSFX.stop();
@@ -1009,6 +970,7 @@ public class GameplayController implements ContactListener {
             obj.deactivatePhysics(world);
         }
         // empty out of level container and world
+        contacts.clear();
         levelContainer.dispose();
         world.dispose();
 
@@ -1121,6 +1083,10 @@ public class GameplayController implements ContactListener {
      */
     public void setSFXVolume(float sfxVolume) {
         this.SFXVolume = sfxVolume;
+        if (levelContainer != null) {
+            levelContainer.getSpatialAudio().setMasterVolume(sfxVolume);
+            levelContainer.getBirdSystem().setAlertVolume(sfxVolume);
+        }
     }
 
     /**
@@ -14,7 +14,6 @@
 package com.mygdx.game;
 
 import com.badlogic.gdx.*;
-import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.math.*;
 
 import com.mygdx.game.utility.util.*;
@@ -92,6 +91,17 @@ public class InputController {
     private Vector2 mousePos = new Vector2();
     public Vector2 getMousePos() { return mousePos;}
 
+    /** The timestamped key, button and mouse events not yet replayed to the simulation */
+    private final InputBuffer events = new InputBuffer();
+    /** Whether the move-left key is held as of the last replayed event */
+    private boolean leftHeld;
+    /** Whether the move-right key is held as of the last replayed event */
+    private boolean rightHeld;
+    /** Whether the left mouse button is held as of the last replayed event */
+    private boolean buttonHeld;
+    /** The sideways movement from the gamepad, polled once per frame */
+    private float padHorizontal;
+
     /**
      * Returns the amount of sideways movement.
      *
@@ -206,7 +216,92 @@ public class InputController {
         xbox = null;
         crosshair = new Vector2();
         crosscache = new Vector2();
-        Gdx.graphics.setSystemCursor(Cursor.SystemCursor.None);
+    }
+
+    /**
+     * Returns the input processor that records events for this controller.
+     *
+     * This processor must be installed (directly or through a multiplexer) while
+     * the game is running, or the simulation will not see any key or mouse events.
+     *
+     * @return the input processor that records events for this controller
+     */
+    public InputProcessor getProcessor() {
+        return events;
+    }
+
+    /**
+     * Discards all buffered events and resynchronizes the held keys with the devices.
+     *
+     * This should be called whenever the event processor is (re)installed, as any
+     * events in between were delivered to some other processor.
+     */
+    public void resetEvents() {
+        events.clear();
+        leftHeld = Gdx.input.isKeyPressed(Input.Keys.A);
+        rightHeld = Gdx.input.isKeyPressed(Input.Keys.D);
+        buttonHeld = Gdx.input.isButtonPressed(Input.Buttons.LEFT);
+        mousePos.set(Gdx.input.getX(), Gdx.input.getY());
+        togglePressed = false;
+        lighter = false;
+        toggleHeld = buttonHeld;
+        horizontal = padHorizontal + (rightHeld ? 1.0f : 0.0f) - (leftHeld ? 1.0f : 0.0f);
+    }
+
+    /**
+     * Replays the buffered events up to the given time to produce the input of one physics step.
+     *
+     * Edges (clicking to toggle the umbrella, W for the dash) are only reported for the
+     * step in which they occurred, and a press that is released within the same step is
+     * still reported.  Events after the given time stay buffered for later steps, so no
+     * click is lost when a frame does not advance the simulation.
+     *
+     * @param time the end of the physics step, in {@link System#nanoTime} nanoseconds
+     */
+    public void replay(long time) {
+        togglePressed = false;
+        lighter = false;
+        boolean clicked = false;
+        while (events.hasNext(time)) {
+            int slot = events.next();
+            int code = events.getCode(slot);
+            switch (events.getType(slot)) {
+                case InputBuffer.KEY_DOWN:
+                    if (code == Input.Keys.A) leftHeld = true;
+                    else if (code == Input.Keys.D) rightHeld = true;
+                    else if (code == Input.Keys.W) lighter = true;
+                    break;
+                case InputBuffer.KEY_UP:
+                    if (code == Input.Keys.A) leftHeld = false;
+                    else if (code == Input.Keys.D) rightHeld = false;
+                    break;
+                case InputBuffer.BUTTON_DOWN:
+                    mousePos.set(events.getX(slot), events.getY(slot));
+                    if (code == Input.Buttons.LEFT) {
+                        buttonHeld = true;
+                        clicked = true;
+                    }
+                    break;
+                case InputBuffer.BUTTON_UP:
+                    mousePos.set(events.getX(slot), events.getY(slot));
+                    if (code == Input.Buttons.LEFT) buttonHeld = false;
+                    break;
+                case InputBuffer.MOVED:
+                    mousePos.set(events.getX(slot), events.getY(slot));
+                    break;
+            }
+        }
+
+        // A/D for moving character
+        horizontal = padHorizontal + (rightHeld ? 1.0f : 0.0f) - (leftHeld ? 1.0f : 0.0f);
+
+        // Left mouse click for toggling umbrella open/closed
+        if (!secondaryControlMode){
+            togglePressed = clicked;
+        } else {
+            // a click shorter than a step still holds the umbrella for that step
+            toggleHeld = buttonHeld || clicked;
+        }
     }
 
     /**
@@ -216,6 +311,9 @@ public class InputController {
      * the drawing scale to convert screen coordinates to world coordinates.  The
      * bounds are for the crosshair.  They cannot go outside of this zone.
      *
+     * This only reads the input that applies to the whole frame (pausing, zooming and
+     * the debug keys).  The input for the simulation is produced by {@link #replay}.
+     *
      * @param bounds The input bounds for the crosshair.
      * @param scale  The drawing scale
      */
@@ -252,7 +350,7 @@ public class InputController {
         debugPressed  = xbox.getY();
 
         // Increase animation frame, but only if trying to move
-        horizontal = xbox.getLeftX();
+        padHorizontal = xbox.getLeftX();
         clampPosition(bounds);
     }
 
@@ -271,13 +369,8 @@ public class InputController {
         debugPressed = (secondary && debugPressed) || (Gdx.input.isKeyPressed(Input.Keys.B));
         nextLevelPressed = (secondary && nextLevelPressed) || (Gdx.input.isKeyPressed(Input.Keys.N));
 
-        // A/D for moving character
-        horizontal = (secondary ? horizontal : 0.0f);
-        if (Gdx.input.isKeyPressed(Input.Keys.D)) {
-            horizontal += 1.0f;
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.A)) {
-            horizontal -= 1.0f;
+        if (!secondary) {
+            padHorizontal = 0.0f;
         }
 
         // arrow keys for moving umbrella
@@ -288,27 +381,11 @@ public class InputController {
 //            mouseMovement = -1.0f;
 //        } else mouseMovement = 0;
 
-        mousePos.x = Gdx.input.getX();
-        mousePos.y = Gdx.input.getY();
-
-        // Left mouse click for toggling umbrella open/closed
-        if (!secondaryControlMode){
-            if (Gdx.input.isButtonJustPressed(Input.Buttons.LEFT)) togglePressed = true;
-            else togglePressed = false;
-        } else {
-            if (Gdx.input.isButtonPressed(Input.Buttons.LEFT)) toggleHeld = true;
-            else toggleHeld = false;
-        }
-
-        // Escape for pausing game
-
-        pauseToggled = Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE);
+        // Escape for pausing game (checked before any step runs, so not consumed here)
+        pauseToggled = events.contains(InputBuffer.KEY_DOWN, Input.Keys.ESCAPE);
 
         // Space for zooming
         zoomPressed = Gdx.input.isKeyPressed(Input.Keys.SPACE);
-
-        // W for using the dash
-        lighter = Gdx.input.isKeyJustPressed(Input.Keys.W);
     }
 
     /**
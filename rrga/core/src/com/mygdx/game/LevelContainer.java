@@ -1,6 +1,5 @@
 package com.mygdx.game;
 
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -10,12 +9,20 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.ObjectSet;
+import com.mygdx.game.config.GameConfig;
+import com.mygdx.game.config.HazardConfig;
+import com.mygdx.game.config.WorldConfig;
 import com.mygdx.game.model.*;
 import com.mygdx.game.model.hazard.*;
+import com.mygdx.game.spec.*;
+import com.mygdx.game.system.*;
 import com.mygdx.game.utility.assets.AssetDirectory;
-import com.mygdx.game.utility.obstacle.BoxObstacle;
+import com.mygdx.game.utility.audio.PooledAudioEngine;
+import com.mygdx.game.utility.audio.SpatialAudio;
+import com.mygdx.game.utility.obstacle.NativeTracker;
 import com.mygdx.game.utility.obstacle.Obstacle;
 import com.mygdx.game.utility.obstacle.PolygonObstacle;
 import com.mygdx.game.utility.util.Drawable;
@@ -62,25 +69,39 @@ public class LevelContainer{
     protected ObjectSet<Fixture> sensorFixtures;
 
     /**
-     * The set of all birds currently in the level
+     * The distance (in physics units) beyond which hazards cannot be heard, about one screen width
      */
-    private PooledList<BirdHazard> birds;
+    private static final float AUDIBLE_RADIUS = 16f;
 
     /**
-     * The set of all winds currently in the level
+     * The positional sound effects of the hazards in the level
      */
-    private ObjectSet<NewWindModel> winds;
-
+    private final SpatialAudio spatialAudio = new SpatialAudio(AUDIBLE_RADIUS);
 
     /**
-     * The set of all moving platforms currently in the level
+     * The per-step systems of the level, in the order they run
      */
-    private final ObjectSet<MovingPlatformModel> movingPlats;
+    private final SystemScheduler systems;
+
+    /** Moves the cloud platforms */
+    private final PlatformSystem platformSystem;
+
+    /** Runs the bird AI and keeps the list of active birds */
+    private final BirdSystem birdSystem;
+
+    /** Advances the lightning strike timers */
+    private final LightningSystem lightningSystem;
+
+    /** Moves the wind particles */
+    private final WindSystem windSystem;
+
+    /** Ticks the counters of the avatar and the umbrella */
+    private final ClockSystem clockSystem;
 
     /**
-     * The set of all nests currently in the level
+     * The list of all nests currently in the level
      */
-    private ObjectSet<NestHazard> nests;
+    private Array<NestHazard> nests;
 
 
     /**
@@ -98,7 +119,10 @@ public class LevelContainer{
      */
     private Texture[] animatedLightningTextures;
 
-    private HashMap<String, TextureRegion> logTextures;
+    /**
+     * The textures for branches/logs, in the order of the world config tree logs
+     */
+    private TextureRegion[] logTextures;
 
     /**
      * Texture asset for character front avatar
@@ -278,7 +302,7 @@ public class LevelContainer{
 
 
     /** Global Physics constants */
-    private JsonValue globalConstants;
+    private GameConfig config;
 
     /**
      * Reference to the character avatar
@@ -293,8 +317,8 @@ public class LevelContainer{
      */
     private GoalDoor goalDoor;
 
-    /** reference to the JSON parser */
-    private LevelParser parser;
+    /** the parsed data of the level to populate */
+    private ParsedLevel level;
 
 
     /**
@@ -308,10 +332,21 @@ public class LevelContainer{
         this.scale = scale;
 
         sensorFixtures = new ObjectSet<Fixture>();
-        birds = new PooledList<>();
-        winds = new ObjectSet<>();
-        movingPlats = new ObjectSet<>();
-        nests = new ObjectSet<>();
+        nests = new Array<>();
+
+        // platforms move before the birds look for the player, as they did in the original update loop
+        platformSystem = new PlatformSystem();
+        birdSystem = new BirdSystem(bounds);
+        birdSystem.setWorld(world);
+        lightningSystem = new LightningSystem();
+        windSystem = new WindSystem();
+        clockSystem = new ClockSystem();
+        systems = new SystemScheduler();
+        systems.add(platformSystem);
+        systems.add(birdSystem);
+        systems.add(lightningSystem);
+        systems.add(windSystem);
+        systems.add(clockSystem);
 
         objects = new PooledList<Obstacle>();
         drawables = new PooledList<Drawable>();
@@ -338,7 +373,7 @@ public class LevelContainer{
     }
 
     private Sound lightningSFX;
-    private Music birdFlapSFX;
+    private Sound birdFlapSFX;
     /**
      * Gather the assets for this controller.
      * <p>
@@ -348,7 +383,7 @@ public class LevelContainer{
      * @param directory Reference to global asset manager.
      */
     public void gatherAssets(AssetDirectory directory) {
-        globalConstants = directory.getEntry( "global:constants", JsonValue.class);
+        config = GameConfig.get(directory);
 
         // Player Component Textures
         platformTile = new TextureRegion(directory.getEntry("game:newplatform", Texture.class));
@@ -432,25 +467,32 @@ public class LevelContainer{
         };
 
         // load all branch/log textures by name (this is better approach than hard coding all textures)
-        logTextures = new HashMap<>();
-        for (String fileName : globalConstants.get("textures").get("tree_logs").asStringArray()){
-            logTextures.put(fileName, new TextureRegion(directory.getEntry("game:" + fileName, Texture.class)));
+        String[] treeLogs = config.world.getTreeLogs();
+        logTextures = new TextureRegion[treeLogs.length];
+        for (int ii = 0; ii < treeLogs.length; ii++){
+            logTextures[ii] = new TextureRegion(directory.getEntry("game:" + treeLogs[ii], Texture.class));
         }
 
         lightningSFX = directory.getEntry("sound:lightning", Sound.class);
-        birdFlapSFX = directory.getEntry("music:bird_flap", Music.class);
+        birdFlapSFX = directory.getEntry("sound:bird_flap", Sound.class);
+        PooledAudioEngine.classify(lightningSFX, GameplayController.SFX_HAZARD, 2);
+        PooledAudioEngine.classify(birdFlapSFX, GameplayController.SFX_BIRDS, 1);
     }
     /**
      * Resets the level container (emptying the container)
+     *
+     * The native resources of the old objects are disposed, so the physics bodies
+     * must be deactivated before this is called.
      */
     public void reset() {
         objects.clear();
         addQueue.clear();
-        birds.clear();
-        movingPlats.clear();
+        systems.clear();
         nests.clear();
         drawables.clear();
-        winds.clear();
+        spatialAudio.clear();
+        // the shapes of the old objects (their bodies are already gone)
+        NativeTracker.get().close(this);
     }
 
     private MovingPlatformModel showGoal;
@@ -460,13 +502,14 @@ public class LevelContainer{
      * Lays out the game geography.
      */
     public void populateLevel() {
+        // every native resource allocated until the next reset belongs to this level
+        NativeTracker.get().open(this);
+
         // Add level goal
-        JsonValue goalconst = globalConstants.get("goal");
+        WorldConfig defaults = config.world;
 
-        Vector2 goalPos = parser.getGoalPos();
-        float dwidth = goalconst.getFloat("width");
-        float dheight = goalconst.getFloat("height");
-        goalDoor = new GoalDoor(goalconst, goalPos.x, goalPos.y,dwidth, dheight, parser.getGoalDrawDepth());
+        Vector2 goalPos = level.getGoalPos();
+        goalDoor = new GoalDoor(defaults, goalPos.x, goalPos.y, level.getGoalDrawDepth());
         goalDoor.setDrawScale(scale);
         goalDoor.setTexture(goalTexture);
         goalDoor.setAnimation(goalAnimationTexture);
@@ -474,56 +517,52 @@ public class LevelContainer{
         drawables.add(goalDoor);
 
         // Setting Gravity on World
-        JsonValue defaults = globalConstants.get("defaults");
-        world.setGravity(new Vector2(0, defaults.getFloat("gravity", DEFAULT_GRAVITY)));
+        world.setGravity(new Vector2(0, defaults.gravity));
 
-        JsonValue[] plats = parser.getPlatformData();
+        PlatformSpec[] plats = level.getPlatformData();
         for (int ii = 0; ii < plats.length; ii++) {
-            JsonValue cur = plats[ii];
+            PlatformSpec cur = plats[ii];
             PlatformModel obj;
-            if (cur.getBoolean("textured")){
+            if (cur.isTextured()){
                 // this platform has an asset (branch, log, etc)
-                obj = new PlatformModel(cur, logTextures.get(cur.getString("texture")), cur.getInt("depth"));
+                obj = new PlatformModel(cur, logTextures[cur.getTexture()], cur.getDepth());
             }
             else {
                 // this platform is an invisible object
-                obj = new PlatformModel(cur.getFloat("x"), cur.getFloat("y"), cur.get("points").asFloatArray(),
-                        cur.getInt("depth"));
+                obj = new PlatformModel(cur.getX(), cur.getY(), cur.getPoints(), cur.getDepth());
             }
             obj.setBodyType(BodyDef.BodyType.StaticBody);
-            obj.setDensity(defaults.getFloat("density", 0.0f));
-            obj.setFriction(defaults.getFloat("friction", 0.0f));
-            obj.setRestitution(defaults.getFloat("restitution", 0.0f));
+            obj.setDensity(defaults.density);
+            obj.setFriction(defaults.friction);
+            obj.setRestitution(defaults.restitution);
             obj.setDrawScale(scale);
             obj.setName("platform" + ii);
             addObject(obj);
             drawables.add(obj);
         }
 
-        JsonValue[] mPlats = parser.getMovingPlatformData();
+        MovingPlatformSpec[] mPlats = level.getMovingPlatformData();
         for (int ii = 0; ii < mPlats.length; ii++) {
-            JsonValue cur = mPlats[ii];
-            MovingPlatformModel obj = new MovingPlatformModel( cur, cur.get("points").asFloatArray(),
-                    cur.getFloat("x"), cur.getFloat("y")
-            );
+            MovingPlatformSpec cur = mPlats[ii];
+            MovingPlatformModel obj = new MovingPlatformModel(cur, cur.getPoints(), cur.getX(), cur.getY());
             obj.setBodyType(BodyDef.BodyType.KinematicBody);
-            obj.setDensity(defaults.getFloat("density", 0.0f));
-            obj.setFriction(defaults.getFloat("friction", 0.0f));
-            obj.setRestitution(defaults.getFloat("restitution", 0.0f));
+            obj.setDensity(defaults.density);
+            obj.setFriction(defaults.friction);
+            obj.setRestitution(defaults.restitution);
             obj.setDrawScale(scale);
-            obj.setTexture(cloudPlatformTextures[cur.getInt("tileIndex")]);
+            obj.setTexture(cloudPlatformTextures[cur.getTileIndex()]);
             obj.setName("moving_platform" + ii);
             addObject(obj);
             drawables.add(obj);
-            movingPlats.add(obj);
+            platformSystem.add(obj);
         }
 
         // Create wind gusts
         String windName = "wind";
-        JsonValue[] windjv = parser.getWindData();
-        for (int ii = 0; ii < windjv.length; ii++) {
+        WindSpec[] windData = level.getWindData();
+        for (int ii = 0; ii < windData.length; ii++) {
             NewWindModel obj;
-            obj = new NewWindModel(windjv[ii], scale);
+            obj = new NewWindModel(windData[ii], scale);
             obj.setDrawScale(scale);
             obj.setTexture(windTexture);
             obj.setAnimation(windAnimation);
@@ -539,17 +578,17 @@ public class LevelContainer{
             obj.setName(windName + ii);
             addObject(obj);
             drawables.add(obj);
-            winds.add(obj);
+            windSystem.add(obj);
         }
 
 
 
-        JsonValue hazardsjv = globalConstants.get("hazards");
+        HazardConfig hazards = config.hazards;
 
         //create invisible/bramble/rock hazards
-        JsonValue[] hazardData = parser.getStaticHazardData();
-        int staticDmg = hazardsjv.getInt("staticHazardDamage");
-        float staticKnockBack = hazardsjv.getFloat("staticHazardKnockBack");
+        JsonValue[] hazardData = level.getStaticHazardData();
+        int staticDmg = hazards.staticDamage;
+        float staticKnockBack = hazards.staticKnockBack;
         for(int ii = 0; ii < hazardData.length; ii++){
             PolygonObstacle obj;
             JsonValue jv = hazardData[ii];
@@ -571,10 +610,10 @@ public class LevelContainer{
         }
 
         // create death zone (using static hazard with 0 knockback)
-        JsonValue[] deathZones = parser.getDeathZoneData();
+        JsonValue[] deathZones = level.getDeathZoneData();
         for(int ii = 0; ii < deathZones.length; ii++){
             JsonValue jv = deathZones[ii];
-            StaticHazard obj = new StaticHazard(jv, globalConstants.get("player").getInt("maxhealth"), 0);
+            StaticHazard obj = new StaticHazard(jv, config.player.maxHealth, 0);
             obj.setName("death_zone"+ii);
             obj.setDrawScale(scale);
             obj.setSensor(true);
@@ -582,44 +621,43 @@ public class LevelContainer{
         }
 
         //create birds
-        JsonValue[] birdData = parser.getBirdData();
-        int birdDamage = hazardsjv.getInt("birdDamage");
-        int birdSensorRadius = hazardsjv.getInt("birdSensorRadius");
-        float birdKnockBack = hazardsjv.getInt("birdKnockBack");
-        // indices for each bird type indicating the preferred still frame.
-        int[] indices = hazardsjv.get("birdStillFrames").asIntArray();
+        BirdSpec[] birdData = level.getBirdData();
+        int birdDamage = hazards.birdDamage;
+        int birdSensorRadius = hazards.birdSensorRadius;
+        float birdKnockBack = hazards.birdKnockBack;
         int birdCount = 0;
         for (int ii = 0; ii < birdData.length; ii++) {
             BirdHazard obj;
-            JsonValue jv = birdData[ii];
-            obj = new BirdHazard(jv, birdDamage, birdSensorRadius, birdKnockBack, birdFlapSFX);
+            obj = new BirdHazard(birdData[ii], birdDamage, birdSensorRadius, birdKnockBack, birdFlapSFX);
             obj.setDrawScale(scale);
-            obj.setFlapAnimation(getFlapAnimationTexture(obj.getColor()), indices[obj.getColor().ordinal()]);
+            obj.setFlapAnimation(getFlapAnimationTexture(obj.getColor()), hazards.getBirdStillFrame(obj.getColor().ordinal()));
             obj.setWarningAnimation(warningTexture);
+            obj.setAudio(spatialAudio);
             obj.setName("bird" + ii);
             addObject(obj);
-            birds.add(obj);
+            birdSystem.add(obj);
             drawables.add(obj);
             birdCount++;
         }
 
         //create nests and their bird
         String nestName = "nest";
-        JsonValue[] nestData = parser.getNestData();
+        NestSpec[] nestData = level.getNestData();
         for(int ii = 0; ii<nestData.length; ii++){
-            NestHazard nest = new NestHazard(nestData[ii], parser.getBlueBirdData());
+            NestHazard nest = new NestHazard(nestData[ii], level.getBlueBirdData());
             nest.setDrawScale(scale);
             nest.setTexture(nestTexture);
             nest.setName("nest" + ii);
             addObject(nest);
             NestedBirdHazard bird = new NestedBirdHazard(nest, birdDamage, birdSensorRadius, birdKnockBack, birdFlapSFX);
             bird.setDrawScale(scale);
-            bird.setFlapAnimation(blueBirdAnimationTexture, indices[BirdHazard.BirdColor.BLUE.ordinal()]);
+            bird.setFlapAnimation(blueBirdAnimationTexture, hazards.getBirdStillFrame(BirdHazard.BirdColor.BLUE.ordinal()));
             bird.setSpawnAnimation(bluebirdSpawnAnimation, 2, 7);
+            bird.setAudio(spatialAudio);
             bird.setName("bird" + (birdCount + ii));
             addObject(bird);
             bird.setSpawning();
-            birds.add(bird);
+            birdSystem.add(bird);
             // nests.add(obj);
             drawables.add(nest);
             drawables.add(bird);
@@ -627,20 +665,24 @@ public class LevelContainer{
 
         //create lightning (animated lightning bolts and still-frame lightning bolts)
         String lightningName = "lightning";
-        JsonValue[] lightningData = parser.getLightningData();
-        int lightningDmg = hazardsjv.getInt("lightningDamage");
-        float lightningKnockBackScl = hazardsjv.getFloat("lightningKnockBack");
+        LightningSpec[] lightningData = level.getLightningData();
+        int lightningDmg = hazards.lightningDamage;
+        float lightningKnockBackScl = hazards.lightningKnockBack;
         for (int ii = 0; ii < lightningData.length; ii++) {
             Obstacle obj;
-            JsonValue data = lightningData[ii];
-            if (data.getBoolean("fill_texture")){
+            LightningSpec data = lightningData[ii];
+            if (data.isFilled()){
                 LightningHazard lightning = new LightningHazard(data, lightningDmg, lightningKnockBackScl);
                 lightning.setTexture(fillLightningTexture);
+                lightningSystem.add(lightning);
                 obj = lightning;
             }
             else {
-                obj = new AnimatedLightningHazard(data, animatedLightningTextures[data.getInt("tileIndex")],
-                        lightningDmg, lightningKnockBackScl, lightningSFX);
+                AnimatedLightningHazard lightning = new AnimatedLightningHazard(data,
+                        animatedLightningTextures[data.getTileIndex()], lightningDmg, lightningKnockBackScl, lightningSFX);
+                lightning.setAudio(spatialAudio);
+                lightningSystem.add(lightning);
+                obj = lightning;
             }
             obj.setDrawScale(scale);
             obj.setName(lightningName + ii);
@@ -649,15 +691,12 @@ public class LevelContainer{
         }
 
         // Create invisible |_| shaped world boundaries so player is within bounds.
-        dwidth = bounds.width;
-        dheight = bounds.height;
+        float dwidth = bounds.width;
+        float dheight = bounds.height;
         String wallName = "barrier";
 
         // Create player
-        dwidth = globalConstants.get("player").get("size").getFloat(0);
-        dheight = globalConstants.get("player").get("size").getFloat(1);
-        avatar = new PlayerModel(globalConstants.get("player"), parser.getPlayerPos(),
-                dwidth, dheight, globalConstants.get("player").getInt("maxhealth"), parser.getPlayerDrawDepth());
+        avatar = new PlayerModel(config.player, level.getPlayerPos(), level.getPlayerDrawDepth());
         avatar.setDrawScale(scale);
         avatar.setFrontTexture(avatarFrontTexture);
         avatar.setSideTexture(avatarSideTexture);
@@ -675,54 +714,40 @@ public class LevelContainer{
 
         avatar.healthFont = avatarHealthFont;
         addObject(avatar);
+        clockSystem.add(avatar);
+        birdSystem.setTarget(avatar);
         drawables.add(avatar);
 
         //initialize the invisible object the camera follows to move from goal
         //to player when first entering level
-        JsonValue showGoalData = new JsonValue(JsonValue.ValueType.object);
-        showGoalData.addChild("movespeed", new JsonValue(5f));
-        showGoalData.addChild("flipped", new JsonValue(false));
-        showGoalData.addChild("depth", new JsonValue(0));
-        showGoalData.addChild("path", new JsonValue(JsonValue.ValueType.array));
-        showGoalData.get("path").addChild(new JsonValue(goalDoor.getX()));
-        showGoalData.get("path").addChild(new JsonValue(goalDoor.getY()));
-        showGoalData.get("path").addChild(new JsonValue(avatar.getX()));
-        showGoalData.get("path").addChild(new JsonValue(avatar.getY()));
-        showGoalData.addChild("AABB", new JsonValue(JsonValue.ValueType.array));
-        showGoalData.get("AABB").addChild(new JsonValue(-0.1f));
-        showGoalData.get("AABB").addChild(new JsonValue(0.1f));
-        showGoalData.get("AABB").addChild(new JsonValue(0.2f));
-        showGoalData.get("AABB").addChild(new JsonValue(0.2f));
         float[] p = {-0.1f,-0.1f,0.1f,-0.1f,-0.1f,0.1f,0.1f,0.1f};
+        float[] showGoalPath = {goalDoor.getX(), goalDoor.getY(), avatar.getX(), avatar.getY()};
+        MovingPlatformSpec showGoalData = new MovingPlatformSpec(goalDoor.getX(), goalDoor.getY(), 0,
+                new float[]{-0.1f, 0.1f, 0.2f, 0.2f}, p, showGoalPath, -1, 5f, 0, false);
         showGoal = new MovingPlatformModel(showGoalData, p, goalDoor.getX(), goalDoor.getY());
         showGoal.setSensor(true);
         showGoal.setName("show goal");
         addObject(showGoal);
 
         // Create the umbrella
-        dwidth = globalConstants.get("umbrella").get("size").getFloat(0);
-        dheight = globalConstants.get("umbrella").get("size").getFloat(1);
-        umbrella = new UmbrellaModel(
-                globalConstants.get("umbrella"),
-                new Vector2(parser.getPlayerPos().x, parser.getPlayerPos().y), dwidth, dheight
-        );
+        umbrella = new UmbrellaModel(config.umbrella,
+                new Vector2(level.getPlayerPos().x, level.getPlayerPos().y));
         umbrella.setDrawScale(scale);
         umbrella.setOpenTexture(umbrellaOpenTexture);
         umbrella.setClosedTexture(umbrellaClosedTexture);
         umbrella.useClosedTexture();
         umbrella.setOpenAnimation(umbrellaOpenAnimationTexture, umbrellaOpenEmptyAnimationTexture);
         umbrella.setBoostAnimation(umbrellaBoostAnimationTexture);
-        umbrella.setClosedMomentumX(globalConstants.get("umbrella").getFloat("closedmomentumX"));
-        umbrella.setClosedMomentumY(globalConstants.get("umbrella").getFloat("closedmomentumY"));
         addObject(umbrella);
+        clockSystem.add(umbrella);
         // drawables.add(umbrella); unnecessary because player+umbrella always drawn together.
 
         // Include Stickers + Tiled Layers and Sort all drawables
-        for (Sticker s : parser.getStickers()){
+        for (Sticker s : level.getStickers()){
             s.setDrawScale(scale);
             drawables.add(s);
         }
-        for (TiledLayer t : parser.getLayers()){
+        for (TiledLayer t : level.getLayers()){
             t.setDrawScale(scale);
             drawables.add(t);
         }
@@ -780,15 +805,16 @@ public class LevelContainer{
     public void dispose() {
         objects.clear();
         addQueue.clear();
-        birds.clear();
+        systems.clear();
         nests.clear();
+        spatialAudio.clear();
+        NativeTracker.get().close(this);
 
         objects = null;
         addQueue = null;
         bounds = null;
         scale = null;
         world = null;
-        birds = null;
         nests = null;
     }
     /**
@@ -816,7 +842,7 @@ public class LevelContainer{
      * Get goalDoor object
      * @return goalDoor
      */
-    public BoxObstacle getGoalDoor() {
+    public GoalDoor getGoalDoor() {
         return goalDoor;
     }
     /**
@@ -828,31 +854,58 @@ public class LevelContainer{
     }
     /**
      * Get birds
+     * NOTE: this is a reference to the level's list. This is not an allocator.
      * @return birds
      */
     public PooledList<BirdHazard> getBirds() {
-        return birds;
+        return birdSystem.getBirds();
+    }
+
+    /**
+     * Get the per-step systems of the level
+     * @return the system scheduler
+     */
+    public SystemScheduler getSystems() {
+        return systems;
+    }
+
+    /**
+     * Get the bird system, to hand it the alert sound and volume
+     * @return the bird system
+     */
+    public BirdSystem getBirdSystem() {
+        return birdSystem;
+    }
+    /**
+     * Get the positional sound effects of the hazards
+     * @return spatial audio layer
+     */
+    public SpatialAudio getSpatialAudio() {
+        return spatialAudio;
     }
     /**
      * Get winds
+     * NOTE: this is a reference to the level's list. This is not an allocator.
      * @return winds
      */
-    public ObjectSet<NewWindModel> getWinds() {
-        return winds;
+    public Array<NewWindModel> getWinds() {
+        return windSystem.getWinds();
     }
 
     /**
      * Get nests
+     * NOTE: this is a reference to the level's list. This is not an allocator.
      * @return nests
      */
-    public ObjectSet<NestHazard> getNests() {
+    public Array<NestHazard> getNests() {
         return nests;
     }
     /**
      * Get moving platforms
+     * NOTE: this is a reference to the level's list. This is not an allocator.
      * @return movingPlats
      */
-    public ObjectSet<MovingPlatformModel> getMovingPlats(){return movingPlats;}
+    public Array<MovingPlatformModel> getMovingPlats(){return platformSystem.getPlatforms();}
 
 
     /**
@@ -861,12 +914,19 @@ public class LevelContainer{
     public PooledList<Drawable> getDrawables() { return drawables;}
 
 
-    public void setParser(LevelParser parser) { this.parser = parser; }
+    /**
+     * sets the parsed level used by the next call to {@link #populateLevel()}
+     * @param level the parsed level data
+     */
+    public void setLevel(ParsedLevel level) { this.level = level; }
 
     /**
      * Set world
      */
-    public void setWorld(World worldObj) { world = worldObj; }
+    public void setWorld(World worldObj) {
+        world = worldObj;
+        birdSystem.setWorld(worldObj);
+    }
     /**
      * Set player object
      */
@@ -885,11 +945,5 @@ public class LevelContainer{
     public void setObjects(PooledList<Obstacle> allObjects) {
         objects = allObjects;
     }
-    /**
-     * Set birds
-     */
-    public void setBirds(PooledList<BirdHazard> birdsObj) {
-        birds = birdsObj;
-    }
 
 }
@@ -4,53 +4,45 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.*;
+import com.mygdx.game.config.GameConfig;
+import com.mygdx.game.config.WorldConfig;
+import com.mygdx.game.spec.*;
 import com.mygdx.game.utility.assets.AssetDirectory;
 import com.mygdx.game.utility.util.*;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
+/**
+ * Converts raw Tiled level JSON into the data consumed by the level container.
+ * <p>
+ * The templates, tilesets and sticker atlases are read once on construction and are never written afterwards.
+ * Every call to {@link #parseLevel} works on a private copy of the scratch containers, so different levels may be
+ * parsed concurrently from worker threads.
+ */
 public class LevelParser {
 
-    /** the Tiled-JSON raw value that was previously parsed.
-     * This saves parsing time when a level is played immediately again.
-     */
-    private JsonValue prevParsed;
+    /** list of bird descriptors */
+    private BirdSpec[] birdData;
 
-    /** list of bird json data.
-     * Invariant: JSON is in the format used by level-container
-     */
-    private JsonValue[] birdData;
+    /** list of lightning descriptors */
+    private LightningSpec[] lightningData;
 
-    /** list of lightning json data
-     * Invariant: JSON is in the format used by level-container
-     */
-    private JsonValue[] lightningData;
-
-    /** list of platform json data
-     * Invariant: JSON is in the format used by level-container
-     */
-    private JsonValue[] platformData;
+    /** list of platform descriptors */
+    private PlatformSpec[] platformData;
 
     /** list of static hazard json data
      * Invariant: JSON is in the format used by level-container
      */
     private JsonValue[] staticHazardData;
 
-    /** list of wind json data
-     * Invariant: JSON is in the format used by level-container
-     */
-    private JsonValue[] windData;
+    /** list of wind descriptors */
+    private WindSpec[] windData;
 
-    /** list of moving platform json data
-     * Invariant: JSON is in the format used by level-container
-     */
-    private JsonValue[] movingPlatformData;
+    /** list of moving platform descriptors */
+    private MovingPlatformSpec[] movingPlatformData;
 
-    /** list of nest json data
-     * Invariant: JSON is in the format used by level-container
-     */
-    private JsonValue[] nestData;
+    /** list of nest descriptors */
+    private NestSpec[] nestData;
 
     /** the texture data of the tile layers
      * Invariant: front layers are stored last in list
@@ -77,6 +69,9 @@ public class LevelParser {
     /** vector cache specifically for holding temporary scale factors */
     private final Vector2 scalars = new Vector2();
 
+    /** cache for the path being built (path points are appended as x, y pairs) */
+    private final FloatArray pathCache = new FloatArray();
+
     /** template object with defaults for red birds*/
     private final JsonValue redBirdDefaultObj;
 
@@ -90,7 +85,7 @@ public class LevelParser {
     private final JsonValue brownBirdDefaultObj;
 
     /** blue bird template data that is parsed */
-    private JsonValue blueBirdData;
+    private BirdSpec blueBirdData;
 
     /** the default JSON properties of path point. */
     private final JsonValue pointDefault;
@@ -129,16 +124,19 @@ public class LevelParser {
     private final JsonValue[] lightningDefaultObjects;
 
     /** the default JSONs of branches/logs platforms*/
-    private final HashMap<String, JsonValue> logDefaultObjects;
+    private final ObjectMap<String, JsonValue> logDefaultObjects;
+
+    /** (texture name -> index) map of branches/logs textures, in the order of the world config tree logs */
+    private final ObjectIntMap<String> logTextureIndices;
 
     /** the default direction of a wind object */
     private static final float windDirDefault = 0;
 
     /** maps from tileset name (bushes, cliffs, .etc) to its undivided texture */
-    private final HashMap<String, Texture> tileSetTextureMap;
+    private final ObjectMap<String, Texture> tileSetTextureMap;
 
     /** maps from tileset name (bushes, cliffs, .etc) to its JSON data */
-    private final HashMap<String, JsonValue> tileSetJsonMap;
+    private final ObjectMap<String, JsonValue> tileSetJsonMap;
 
     /** all objects in game that needs asset information can be found in an objects.json */
     private final JsonValue gameObjectTiles;
@@ -152,11 +150,8 @@ public class LevelParser {
     /** The max id in a sticker set is not necessarily size() - 1 due to deletions.*/
     private int maxStickerSetId;
 
-    /** (name -> texture data) map of all stickers as specified by sticker.json in levels/tilesets/ */
-    private final HashMap<String, TextureInfo> stickerTextureInfoMap;
-
-    /** (id -> name) map of all stickers as specified by sticker.json in levels/tilesets/ */
-    private final IntMap<String> stickerNameMap;
+    /** (id -> texture data) of all stickers as specified by sticker.json in levels/tilesets/ (null for deleted ids) */
+    private final TextureInfo[] stickerTextureInfos;
 
     private static final int LOWER28BITMASK = 0xFFFFFFF;
 
@@ -179,113 +174,20 @@ public class LevelParser {
     /** level parallax */
     private String parallax;
 
-    /**
-     * the music assigned to be used as background music for the level
-     * @return one of {"a_world_of_clouds"; "exploring_the_forest", "droplets"; "over_the_cliffs", "the_storm"}
-     */
-    public String getSelectedMusic() {
-        return music;
-    }
-
-    /**
-     * the parallax assigned to be used on the level
-     * @return one of {"forest"; "sky"}
-     */
-    public String getSelectedParallax() {
-        return parallax;
-    }
-
-    /**
-     * @return tile texture layers
-     */
-    public ArrayList<TiledLayer> getLayers() {
-        return layers;
-    }
-
-    /**
-     * @return processed bird data that is ready for consumption
-     */
-    public JsonValue[] getBirdData() {
-        return birdData;
-    }
-
-    public JsonValue getBlueBirdData(){
-        return blueBirdData;
-    }
-
-    /**
-     * @return processed nest data that is ready for consumption
-     */
-    public JsonValue[] getNestData(){
-        return nestData;
-    }
-
-    /**
-     * @return processed lightning data that is ready for consumption
-     */
-    public JsonValue[] getLightningData() {
-        return lightningData;
-    }
-
-    /**
-     * @return processed platform data that is ready for consumption
-     */
-    public JsonValue[] getPlatformData() {
-        return platformData;
-    }
-
-    /**
-     * @return processed moving platform data that is ready for consumption
-     */
-    public JsonValue[] getMovingPlatformData() {
-        return movingPlatformData;
-    }
-
-    /**
-     * @return processed static hazard data that is ready for consumption
-     */
-    public JsonValue[] getStaticHazardData() {
-        return staticHazardData;
-    }
-
-    /**
-     * @return processed wind data that is ready for consumption
-     */
-    public JsonValue[] getWindData(){
-        return windData;
-    }
-
-    public JsonValue[] getDeathZoneData() { return deathZoneData; }
-
-    public Vector2 getGoalPos() {
-        return goalPos;
-    }
-    public Vector2 getPlayerPos() {
-        return playerPos;
-    }
-
-    public Vector2 getWorldSize(){ return worldSize; }
-
-    public ArrayList<Sticker> getStickers(){ return stickers; }
-
-    public int getPlayerDrawDepth(){ return playerDepth; }
-
-    public int getGoalDrawDepth(){ return goalDepth; }
-
     // containers for unprocessed JSON data
-    HashMap<Integer, JsonValue> trajectory = new HashMap<>();
-    ArrayList<JsonValue> birdRawData = new ArrayList<>();
-    ArrayList<JsonValue> platformRawData = new ArrayList<>();
-    ArrayList<JsonValue> lightningRawData = new ArrayList<>();
-    ArrayList<JsonValue> windRawData = new ArrayList<>();
-    HashMap<Integer, JsonValue> windDirs = new HashMap<>();
-    ArrayList<JsonValue> staticHazardRawData = new ArrayList<>();
-    ArrayList<JsonValue> movingPlatRawData = new ArrayList<>();
-    ArrayList<JsonValue> nestRawData = new ArrayList<>();
-    ArrayList<JsonValue> deathZoneRawData = new ArrayList<>();
+    IntMap<JsonValue> trajectory = new IntMap<>();
+    Array<JsonValue> birdRawData = new Array<>();
+    Array<JsonValue> platformRawData = new Array<>();
+    Array<JsonValue> lightningRawData = new Array<>();
+    Array<JsonValue> windRawData = new Array<>();
+    IntMap<JsonValue> windDirs = new IntMap<>();
+    Array<JsonValue> staticHazardRawData = new Array<>();
+    Array<JsonValue> movingPlatRawData = new Array<>();
+    Array<JsonValue> nestRawData = new Array<>();
+    Array<JsonValue> deathZoneRawData = new Array<>();
 
     public LevelParser(AssetDirectory directory){
-        JsonValue globalConstants = directory.getEntry("global:constants", JsonValue.class);
+        WorldConfig worldConfig = GameConfig.get(directory).world;
 
         JsonValue redBirdTemplate = directory.getEntry("red_bird:template", JsonValue.class);
         JsonValue blueBirdTemplate = directory.getEntry("blue_bird:template", JsonValue.class);
@@ -344,19 +246,25 @@ public class LevelParser {
                 lightning4Template.get("object")
         };
 
-        // map from branch_log#.json -> json data
-        logDefaultObjects = new HashMap<>();
-        for (String fileName : globalConstants.get("textures").get("tree_logs").asStringArray()){
-            logDefaultObjects.put(fileName + ".json",
-                    directory.getEntry("template:" + fileName, JsonValue.class).get("object"));
+        // map from branch_log#.json -> json data, and branch_log# -> texture index
+        logDefaultObjects = new ObjectMap<>();
+        logTextureIndices = new ObjectIntMap<>();
+        String[] treeLogs = worldConfig.getTreeLogs();
+        for (int ii = 0; ii < treeLogs.length; ii++){
+            logDefaultObjects.put(treeLogs[ii] + ".json",
+                    directory.getEntry("template:" + treeLogs[ii], JsonValue.class).get("object"));
+            logTextureIndices.put(treeLogs[ii], ii);
         }
 
         // save tileset textures and tileset JSON data
-        tileSetTextureMap = new HashMap<>();
-        tileSetJsonMap = new HashMap<>();
-        String[] tileSetFileNames = globalConstants.get("textures").get("tilesets").asStringArray();
+        tileSetTextureMap = new ObjectMap<>();
+        tileSetJsonMap = new ObjectMap<>();
+        String[] tileSetFileNames = worldConfig.getTilesets();
         for (String tileSetName : tileSetFileNames){
-            tileSetTextureMap.put(tileSetName, directory.getEntry( "tileset:" + tileSetName, Texture.class));
+            Texture texture = directory.getEntry( "tileset:" + tileSetName, Texture.class);
+            // removes flickering on square tiles (GL call, so this must happen here and not while parsing)
+            texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+            tileSetTextureMap.put(tileSetName, texture);
             tileSetJsonMap.put(tileSetName, directory.getEntry("data:"+tileSetName, JsonValue.class));
         }
 
@@ -364,7 +272,7 @@ public class LevelParser {
         gameObjectTiles = directory.getEntry("data:objects", JsonValue.class).get("tiles");
 
         // load all sticker textures (according to atlas file)
-        stickerTextureInfoMap = new HashMap<>();
+        ObjectMap<String, TextureInfo> stickerTextureInfoMap = new ObjectMap<>();
         JsonValue stickerData = directory.getEntry("data:stickers_atlas", JsonValue.class);
         for (JsonValue textureData : stickerData){
             String textureName = textureData.name;
@@ -391,31 +299,70 @@ public class LevelParser {
                 }
             }
         }
-        stickerNameMap = new IntMap<String>();
-        JsonValue stickerJson = directory.getEntry("data:stickers", JsonValue.class);
+        JsonValue stickerTiles = directory.getEntry("data:stickers", JsonValue.class).get("tiles");
         maxStickerSetId = 0;
-        for (JsonValue stickerTile : stickerJson.get("tiles")){
-            int id = stickerTile.getInt("id");
-            maxStickerSetId = Math.max(maxStickerSetId, id);
+        for (JsonValue stickerTile : stickerTiles){
+            maxStickerSetId = Math.max(maxStickerSetId, stickerTile.getInt("id"));
+        }
+        // resolve names once, so that a sticker lookup while parsing is a single array index
+        stickerTextureInfos = new TextureInfo[maxStickerSetId + 1];
+        for (JsonValue stickerTile : stickerTiles){
             String[] sourcePath = stickerTile.getString("image").split("/");
             String sourceImageName = sourcePath[sourcePath.length - 1];
-            // save (id, name) without extensions
-            stickerNameMap.put(id, sourceImageName.split("\\.")[0]);
+            // look up (id, name) without extensions
+            stickerTextureInfos[stickerTile.getInt("id")] = stickerTextureInfoMap.get(sourceImageName.split("\\.")[0]);
         }
     }
 
     /**
-     * parses raw level data into user-friendly JSON data.
+     * Creates a parser for a single level that shares the (read-only) template data of the given parser.
+     * All scratch containers and outputs are fresh, so the copy can run on any thread.
+     * @param templates the parser that loaded the templates
+     */
+    private LevelParser(LevelParser templates){
+        redBirdDefaultObj = templates.redBirdDefaultObj;
+        blueBirdDefaultObj = templates.blueBirdDefaultObj;
+        greenBirdDefaultObj = templates.greenBirdDefaultObj;
+        brownBirdDefaultObj = templates.brownBirdDefaultObj;
+        pointDefault = templates.pointDefault;
+        lightningDefault = templates.lightningDefault;
+        lightningDefaultPoly = templates.lightningDefaultPoly;
+        platformDefaultPoly = templates.platformDefaultPoly;
+        staticHazardDefault = templates.staticHazardDefault;
+        staticHazardPoly = templates.staticHazardPoly;
+        rockDefaultObj = templates.rockDefaultObj;
+        windDefault = templates.windDefault;
+        windDefaultPoly = templates.windDefaultPoly;
+        cloudDefaultObjects = templates.cloudDefaultObjects;
+        nestDefault = templates.nestDefault;
+        lightningDefaultObjects = templates.lightningDefaultObjects;
+        logDefaultObjects = templates.logDefaultObjects;
+        logTextureIndices = templates.logTextureIndices;
+        tileSetTextureMap = templates.tileSetTextureMap;
+        tileSetJsonMap = templates.tileSetJsonMap;
+        gameObjectTiles = templates.gameObjectTiles;
+        stickerTextureInfos = templates.stickerTextureInfos;
+        maxStickerSetId = templates.maxStickerSetId;
+    }
+
+    /**
+     * parses raw level data into user-friendly JSON data.<br>
+     * This method is reentrant: concurrent calls on different levels are safe. The given raw JSON is modified
+     * in place, so the same level should not be parsed by two threads at once.
      * @param levelData raw Tiled-formatted JSON
+     * @return the parsed level
      */
-    public void parseLevel(JsonValue levelData){
-        // TODO (consideration): depending on how much memory we can use, it's probably possible to keep all parsed data in
-        //  memory rather than keeping only one copy at any moment (assume Garbage-collected).
+    public ParsedLevel parseLevel(JsonValue levelData){
         assert levelData != null;
-        // no parsing needed if data in memory
-        if (prevParsed == levelData){ return; }
-        prevParsed = levelData;
+        return new LevelParser(this).parse(levelData);
+    }
 
+    /**
+     * parses raw level data using the scratch containers of this instance.
+     * @param levelData raw Tiled-formatted JSON
+     * @return the parsed level
+     */
+    private ParsedLevel parse(JsonValue levelData){
         // set world size and size of each tile in TILED for conversion of coordinates into game coordinates.
         worldSize.x = levelData.getInt("width", 32);
         worldSize.y = levelData.getInt("height", 18);
@@ -450,7 +397,7 @@ public class LevelParser {
             String[] pathNames = source.split("/");
             String tileSetName = pathNames[pathNames.length - 1].split("\\.")[0];
             if (tileSetName.equals("stickers")){
-                stickerMaker = new CollectionTileSetMaker(stickerTextureInfoMap, stickerNameMap, ts.getInt("firstgid"));
+                stickerMaker = new CollectionTileSetMaker(stickerTextureInfos, ts.getInt("firstgid"));
                 continue;
             }
             JsonValue j = tileSetJsonMap.get(tileSetName);
@@ -508,6 +455,27 @@ public class LevelParser {
         processMovingPlats(movingPlatRawData, trajectory);
         processNests(nestRawData, trajectory);
         processDeathZone(deathZoneRawData);
+
+        ParsedLevel level = new ParsedLevel();
+        level.birdData = birdData;
+        level.blueBirdData = blueBirdData;
+        level.lightningData = lightningData;
+        level.platformData = platformData;
+        level.staticHazardData = staticHazardData;
+        level.windData = windData;
+        level.movingPlatformData = movingPlatformData;
+        level.nestData = nestData;
+        level.deathZoneData = deathZoneData;
+        level.layers = layers;
+        level.stickers = stickers;
+        level.playerPos = playerPos;
+        level.goalPos = goalPos;
+        level.worldSize = worldSize;
+        level.playerDepth = playerDepth;
+        level.goalDepth = goalDepth;
+        level.music = music;
+        level.parallax = parallax;
+        return level;
     }
 
     /**
@@ -573,7 +541,7 @@ public class LevelParser {
         Tile tile = getTileFromImages(gid);
         if (tile != null){
             TextureRegion tileRegion = tile.getRegionCopy();
-            JsonValue AABB = processTileObjectAABB(obj, null, tileRegion.getRegionWidth(), tileRegion.getRegionHeight());
+            float[] AABB = processTileObjectAABB(obj, null, tileRegion.getRegionWidth(), tileRegion.getRegionHeight());
             tileRegion.flip(tile.isFlipX(), tile.isFlipY());
             stickers.add(new Sticker(x, y, angle, depth, AABB, tileRegion));
             return;
@@ -587,7 +555,7 @@ public class LevelParser {
             TextureInfo textureInfo = stickerMaker.getTextureDataFromId(id);
             boolean flipX = (gid & (1L << 31)) != 0;
             boolean flipY = (gid & (1L << 30)) != 0;
-            JsonValue AABB = processTileObjectAABB(obj, null, textureInfo.getRegionWidth(), textureInfo.getRegionHeight());
+            float[] AABB = processTileObjectAABB(obj, null, textureInfo.getRegionWidth(), textureInfo.getRegionHeight());
             if (textureInfo.isAnimated()){
                 // make animated sticker
                 stickers.add(new AnimatedSticker(x, y, angle, depth, AABB, textureInfo, flipX, flipY));
@@ -603,17 +571,17 @@ public class LevelParser {
 
     /**
      * processes the trajectory starting from the given node represented by the next point ID.
-     * Note: this modifies the given path JSON in place.
+     * Note: this modifies the given path in place.
      *
-     * @param pathJson the json array to store list of {x:value, y:value}. There should be a point (x,y) in this json
-     *                 already because every object's first point on their path is their initial position.
+     * @param path the path to append (x,y) pairs to. There should be a point (x,y) in this path already because
+     *             every object's first point on their path is their initial position.
      * @param trajectory the map of all path points
      * @param next the next point on the bird's path (the first point following the bird's position).
      * @param id the unique ID of the object
      * @return an index denoting which node the last point loops to. This index will be invalid if there is no loop on path.
      */
-    private int processPath(JsonValue pathJson, HashMap<Integer,JsonValue> trajectory, int next, int id){
-        // pathJson is already [{x:, y:}]. Hence next point to be added is index 1 on the path of points.
+    private int processPath(FloatArray path, IntMap<JsonValue> trajectory, int next, int id){
+        // path is already [x, y]. Hence next point to be added is index 1 on the path of points.
         int idx = 1;
         seen.clear();
         seen.put(id, 0);
@@ -627,8 +595,7 @@ public class LevelParser {
             // put path point (x,y) into vector cache and perform conversion
             readPositionAndConvert(nodeData, temp);
             // add this node to bird's path
-            pathJson.addChild(new JsonValue(temp.x));
-            pathJson.addChild(new JsonValue(temp.y));
+            path.add(temp.x, temp.y);
             // get next
             nodeData = nodeData.get("properties");
             next = getFromProperties(nodeData, "next_trajectory", pointDefault).asInt();
@@ -644,10 +611,10 @@ public class LevelParser {
      * @param defaultObj the entity's default object json (this should come from templates)
      * @param assetWidth the entity's corresponding tile asset width (original unscaled)
      * @param assetHeight the entity's corresponding tile asset height (original unscaled)
-     * @return an AABB json consisting of {top corner x (relative), top corner y (relative), width, height}
+     * @return an AABB array consisting of {top corner x (relative), top corner y (relative), width, height}
      */
-    private JsonValue processTileObjectAABB(JsonValue rawData, JsonValue defaultObj,
-                                            int assetWidth, int assetHeight){
+    private float[] processTileObjectAABB(JsonValue rawData, JsonValue defaultObj,
+                                          int assetWidth, int assetHeight){
         // load the AABB top left corner position and then convert it to have origin centered on entity's position
         // CHOICE: the AABB top left corner will NOW be the asset's origin.
         // the asset's origin is the asset's top corner which is exactly half of the texture to the left and up.
@@ -660,12 +627,7 @@ public class LevelParser {
 
         // the AABB is specified entirely in game coordinates relative to the object's position
         // AABB[0 ... 3] = {corner x, corner y, AABB physics width, AABB physics height}
-        JsonValue AABB = new JsonValue(JsonValue.ValueType.array);
-        AABB.addChild(new JsonValue(temp.x * scalars.x));
-        AABB.addChild(new JsonValue(temp.y * scalars.y));
-        AABB.addChild(new JsonValue(assetWidth * scalars.x));
-        AABB.addChild(new JsonValue(assetHeight * scalars.y));
-        return AABB;
+        return new float[]{temp.x * scalars.x, temp.y * scalars.y, assetWidth * scalars.x, assetHeight * scalars.y};
     }
 
     /**
@@ -680,12 +642,12 @@ public class LevelParser {
      * @param flipY whether the hit-box should be flipped vertically about the texture origin.
      * @param assetWidth the width of the source asset
      * @param assetHeight the height of the source asset
-     * @return a JSON array consisting of the points of the hit-box polygon relative to the center of the entity.
+     * @return an array consisting of the points of the hit-box polygon relative to the center of the entity.
      * The center is defined to be the location where the texture (default) origin is drawn.
      */
-    private JsonValue processAssetHitBox(JsonValue vertices, Vector2 origin, Vector2 scalars,
-                                         boolean flipX, boolean flipY, int assetWidth, int assetHeight){
-        JsonValue shape = new JsonValue(JsonValue.ValueType.array);
+    private float[] processAssetHitBox(JsonValue vertices, Vector2 origin, Vector2 scalars,
+                                       boolean flipX, boolean flipY, int assetWidth, int assetHeight){
+        float[] shape = new float[2 * vertices.size];
         float ox = origin.x;
         float oy = origin.y;
         float sx = scalars.x * (flipX? -1 : 1);
@@ -698,8 +660,8 @@ public class LevelParser {
             // now change to cartesian coordinates centered on bird
             changeOrigins(temp,-0.5f * assetWidth, 0.5f * assetHeight);
             temp.scl(sx, sy);
-            shape.addChild(new JsonValue(temp.x));
-            shape.addChild(new JsonValue(temp.y));
+            shape[2 * idx] = temp.x;
+            shape[2 * idx + 1] = temp.y;
         }
         return shape;
     }
@@ -749,59 +711,48 @@ public class LevelParser {
     }
 
     /**
-     * Convert all raw bird JSON into game-expected JSON format.
+     * Convert all raw bird JSON into bird descriptors.
      * @param rawData the unprocessed list of bird object data
      * @param trajectory map of path node Ids to raw JSON
      */
-    private void processBirds(ArrayList<JsonValue> rawData, HashMap<Integer, JsonValue> trajectory) {
-        birdData = new JsonValue[rawData.size()];
+    private void processBirds(Array<JsonValue> rawData, IntMap<JsonValue> trajectory) {
+        birdData = new BirdSpec[rawData.size];
         for (int ii = 0; ii < birdData.length; ii++) {
-            JsonValue data = processBird(rawData.get(ii), trajectory);
-            birdData[ii] = data;
+            birdData[ii] = processBird(rawData.get(ii), trajectory);
         }
     }
 
     /**
-     * Convert a single raw bird JSON into game-expected JSON object
+     * Convert a single raw bird JSON into a bird descriptor
      * @param b the unprocessed bird object data
      * @param trajectory map of path node Ids to raw JSON
-     * @return game-formatted bird JSON
+     * @return the bird descriptor
      */
-    private JsonValue processBird(JsonValue b, HashMap<Integer, JsonValue> trajectory){
-        // data = the bird JSON that game will read
-        JsonValue data = new JsonValue(JsonValue.ValueType.object);
+    private BirdSpec processBird(JsonValue b, IntMap<JsonValue> trajectory){
         String color = computeColor(b.getString("template", "blue_bird.json"));
         JsonValue properties = b.get("properties");
         JsonValue defaultObj = getBirdDefaultObj(color);
         JsonValue defaults = defaultObj.get("properties");
-        // set deterministic trivial properties
-        data.addChild("depth", new JsonValue(b.getInt("__DEPTH__", -1)));
-        data.addChild("color", new JsonValue(color));
-        data.addChild("attack", new JsonValue(doesBirdAttack(color)));
         // add whether facing right
         boolean horizontalFlipped = isObjectHorizontallyFlipped(b);
         // XOR(flip, ?facingRight) => if flip then !(?facingRight) else (?facingRight)
         boolean facingRight = horizontalFlipped ^ isBirdInitiallyFacingRight(color);
-        data.addChild("facing_right", new JsonValue(facingRight));
 
         // The following is procedure to: set position, hit-box, AABB data
         readPositionAndConvert(b, temp);
-        addPosition(data, temp);
-        JsonValue pathJson = new JsonValue(JsonValue.ValueType.array);
+        float x = temp.x;
+        float y = temp.y;
         // implicitly, the bird's location is the FIRST point on their path.
-        pathJson.addChild(new JsonValue(temp.x));
-        pathJson.addChild(new JsonValue(temp.y));
+        pathCache.clear();
+        pathCache.add(x, y);
 
         // get dimension of a single filmstrip of the original animated asset (pixel coordinates)
         // using the first tile in the set is sufficient for birds, unless we want multi-hitbox.
         JsonValue tileJson = gameObjectTiles.get(getProcessedGid(defaultObj) - 1);
         int assetWidth = tileJson.getInt("imagewidth");
         int assetHeight = tileJson.getInt("imageheight");
-        data.addChild("filmStripWidth", new JsonValue(assetWidth));
-        data.addChild("filmStripHeight", new JsonValue(assetHeight));
 
-        // add AABB
-        data.addChild("AABB", processTileObjectAABB(b, defaultObj, assetWidth, assetHeight));
+        float[] aabb = processTileObjectAABB(b, defaultObj, assetWidth, assetHeight);
 
         // the hitbox information for birds is stored in one tile (the one animated), in its objectgroup, which we then
         // look at the first of its objects list.
@@ -809,14 +760,13 @@ public class LevelParser {
         JsonValue hitBoxPoints = tileJson.get("objectgroup").get("objects").get(0);
         float ox = hitBoxPoints.getFloat("x");
         float oy = hitBoxPoints.getFloat("y");
-        JsonValue shape = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
+        float[] shape = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
                 horizontalFlipped, false, assetWidth, assetHeight);
-        data.addChild("points", shape);
 
         // Remaining: set bird properties and complete their path
-        // the resulting path should be stored as a list of floats which is Json array of Json floats.
         float moveSpeed = 0;
         float atkSpeed = 0;
+        int loopTo = -1;
         // path birds are red and brown
         if (color.equals("red") || color.equals("brown")){
             // update properties
@@ -824,20 +774,17 @@ public class LevelParser {
             // using custom properties to find rest of path
             // this takes either the bird's next point along its path or take from default (which should be 0)
             int next = getFromProperties(properties, "path", defaults).asInt();
-            int loopTo = processPath(pathJson, trajectory, next, b.getInt("id"));
-            data.addChild("loopTo", new JsonValue(loopTo));
+            loopTo = processPath(pathCache, trajectory, next, b.getInt("id"));
         }
         if (doesBirdAttack(color)){
             atkSpeed = getFromProperties(properties, "atk_speed", defaults).asFloat();
         }
-        data.addChild("path", pathJson);
-        data.addChild("movespeed", new JsonValue(moveSpeed));
-        data.addChild("atkspeed", new JsonValue(atkSpeed));
-        return data;
+        return new BirdSpec(x, y, b.getInt("__DEPTH__", -1), aabb, color, doesBirdAttack(color), facingRight,
+                assetWidth, assetHeight, shape, pathCache.toArray(), loopTo, moveSpeed, atkSpeed);
     }
 
-    private void processLightning(ArrayList<JsonValue> rawData){
-        lightningData = new JsonValue[rawData.size()];
+    private void processLightning(Array<JsonValue> rawData){
+        lightningData = new LightningSpec[rawData.size];
         for (int ii = 0; ii < lightningData.length; ii++) {
             JsonValue rawLightning = rawData.get(ii);
             String lightningTemplateName = rawLightning.getString("template", "lightning.json");
@@ -852,128 +799,105 @@ public class LevelParser {
     }
 
     /**
-     * processes a single animated lightning object into JSON data
+     * processes a single animated lightning object into a lightning descriptor
      * @param rawData unprocessed lightning
      */
-    private JsonValue processAnimatedLightning(JsonValue rawData){
-        JsonValue data = new JsonValue(JsonValue.ValueType.object);
+    private LightningSpec processAnimatedLightning(JsonValue rawData){
         readPositionAndConvert(rawData, temp);
-        addPosition(data, temp);
-        data.addChild("depth", new JsonValue(rawData.getInt("__DEPTH__", -1)));
+        float x = temp.x;
+        float y = temp.y;
         int tileIndex = getLightningTileIndex(rawData.getString("template"));
-        data.addChild("tileIndex", new JsonValue(tileIndex));
         JsonValue props = rawData.get("properties");
         JsonValue lightningDefaultObj = lightningDefaultObjects[tileIndex];
         JsonValue lightningProps = lightningDefaultObj.get("properties");
-        data.addChild("strike_timer", new JsonValue(getFromProperties(props, "strike_timer", lightningProps).asInt()));
-        data.addChild("strike_duration", new JsonValue(getFromProperties(props, "strike_duration", lightningProps).asInt()));
-        data.addChild("initial_timer_offset",
-                new JsonValue(getFromProperties(props, "initial_timer_offset", lightningProps).asInt()));
+        int strikeTimer = getFromProperties(props, "strike_timer", lightningProps).asInt();
+        int strikeDuration = getFromProperties(props, "strike_duration", lightningProps).asInt();
+        int initialTimerOffset = getFromProperties(props, "initial_timer_offset", lightningProps).asInt();
         // get unscaled-size data from lightning.json file (collection of all ligntning bolts)
         // get the AABB for the given lightning
         int gid = getProcessedGid(lightningDefaultObj);
         JsonValue tileJson = gameObjectTiles.get(gid - 1);
         int assetWidth = tileJson.getInt("imagewidth");
         int assetHeight = tileJson.getInt("imageheight");
-        data.addChild("filmStripWidth", new JsonValue(assetWidth));
-        data.addChild("filmStripHeight", new JsonValue(assetHeight));
-        data.addChild("AABB", processTileObjectAABB(rawData, lightningDefaultObj, assetWidth, assetHeight));
+        float[] aabb = processTileObjectAABB(rawData, lightningDefaultObj, assetWidth, assetHeight);
 
         // add all the hit-boxes (loop over number of frames)
         // INVARIANT: the selected tile is the last tile of the animation, so iterate ids: gid-length through gid-1
         int frameCount = getFrameCount(tileJson);
         boolean horizontalFlipped = isObjectHorizontallyFlipped(rawData);
-        data.addChild("flipped", new JsonValue(horizontalFlipped));
-        JsonValue hitboxes = new JsonValue(JsonValue.ValueType.array);
-        for (int ii = gid - frameCount; ii < gid; ii++){
-            JsonValue hitBoxPoints = gameObjectTiles.get(ii).get("objectgroup").get("objects").get(0);
+        float[][] hitboxes = new float[frameCount][];
+        for (int ii = 0; ii < frameCount; ii++){
+            JsonValue hitBoxPoints = gameObjectTiles.get(gid - frameCount + ii).get("objectgroup").get("objects").get(0);
             float ox = hitBoxPoints.getFloat("x");
             float oy = hitBoxPoints.getFloat("y");
-            JsonValue shape = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
+            hitboxes[ii] = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
                     horizontalFlipped, false, assetWidth, assetHeight);
-            hitboxes.addChild(shape);
         }
-        data.addChild("hitboxes", hitboxes);
-        data.addChild("fill_texture", new JsonValue(false));
-        return data;
+        return new LightningSpec(x, y, rawData.getInt("__DEPTH__", -1), aabb, hitboxes, tileIndex,
+                assetWidth, assetHeight, horizontalFlipped, strikeTimer, strikeDuration, initialTimerOffset);
     }
 
     /**
-     * processes a single still lightning object into JSON data
+     * processes a single still lightning object into a lightning descriptor
      * @param l unprocessed lightning data
      */
-    private JsonValue processStillLightning(JsonValue l){
-        // processed data
-        JsonValue data = new JsonValue(JsonValue.ValueType.object);
-        // set position
+    private LightningSpec processStillLightning(JsonValue l){
         readPositionAndConvert(l, temp);
-        addPosition(data, temp);
+        float x = temp.x;
+        float y = temp.y;
         JsonValue props = l.get("properties");
-        data.addChild("points", polyPoints(l.get("polygon"), lightningDefaultPoly));
-        data.addChild("strike_timer", new JsonValue(getFromProperties(props, "strike_timer", lightningDefault).asInt()));
-        data.addChild("strike_duration", new JsonValue(getFromProperties(props, "strike_duration", lightningDefault).asInt()));
-        data.addChild("initial_timer_offset",
-                new JsonValue(getFromProperties(props, "initial_timer_offset", lightningDefault).asInt()));
-        data.addChild("depth", new JsonValue(l.getInt("__DEPTH__", -1)));
-        data.addChild("fill_texture", new JsonValue(true));
-        return data;
+        float[] points = polyPoints(l.get("polygon"), lightningDefaultPoly);
+        return new LightningSpec(x, y, l.getInt("__DEPTH__", -1), points,
+                getFromProperties(props, "strike_timer", lightningDefault).asInt(),
+                getFromProperties(props, "strike_duration", lightningDefault).asInt(),
+                getFromProperties(props, "initial_timer_offset", lightningDefault).asInt());
     }
 
-    private void processPlatforms(ArrayList<JsonValue> rawData){
-        platformData = new JsonValue[rawData.size()];
+    private void processPlatforms(Array<JsonValue> rawData){
+        platformData = new PlatformSpec[rawData.size];
         for (int ii = 0; ii < platformData.length; ii++) {
             //platform raw data
             JsonValue p = rawData.get(ii);
             String templateName = p.getString("template");
-            JsonValue data;
             if (logDefaultObjects.containsKey(templateName)){
-                data = processLog(p, logDefaultObjects.get(templateName));
-                data.addChild("textured", new JsonValue(true));
+                platformData[ii] = processLog(p, logDefaultObjects.get(templateName));
             }
             else {
-                //data we pass in to platform constructor
-                data = new JsonValue(JsonValue.ValueType.object);
-                // set position data
                 readPositionAndConvert(p, temp);
-                addPosition(data, temp);
-                data.addChild("points", polyPoints(p.get("polygon"), platformDefaultPoly));
-                data.addChild("depth", new JsonValue(p.getInt("__DEPTH__", -1)));
-                data.addChild("textured", new JsonValue(false));
+                float x = temp.x;
+                float y = temp.y;
+                platformData[ii] = new PlatformSpec(x, y, p.getInt("__DEPTH__", -1),
+                        polyPoints(p.get("polygon"), platformDefaultPoly));
             }
-            platformData[ii] = data;
         }
     }
 
-    private JsonValue processLog(JsonValue log, JsonValue logDefaultObj){
-        JsonValue data = new JsonValue(JsonValue.ValueType.object);
+    private PlatformSpec processLog(JsonValue log, JsonValue logDefaultObj){
         readPositionAndConvert(log, temp);
-        addPosition(data, temp);
-        data.addChild("depth", new JsonValue(log.getInt("__DEPTH__", -1)));
+        float x = temp.x;
+        float y = temp.y;
         JsonValue tileJson = gameObjectTiles.get(getProcessedGid(logDefaultObj) - 1);
         int assetWidth = tileJson.getInt("imagewidth");
         int assetHeight = tileJson.getInt("imageheight");
-        data.addChild("AABB", processTileObjectAABB(log, logDefaultObj, assetWidth, assetHeight));
+        float[] aabb = processTileObjectAABB(log, logDefaultObj, assetWidth, assetHeight);
         // add hit-box
         JsonValue hitBoxPoints = tileJson.get("objectgroup").get("objects").get(0);
         float ox = hitBoxPoints.getFloat("x");
         float oy = hitBoxPoints.getFloat("y");
         boolean flipX = isObjectHorizontallyFlipped(log);
         boolean flipY = isObjectVerticallyFlipped(log);
-        JsonValue shape = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
+        float[] shape = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
                 flipX, flipY, assetWidth, assetHeight);
-        data.addChild("points", shape);
-        data.addChild("flipX", new JsonValue(flipX));
-        data.addChild("flipY", new JsonValue(flipY));
-        data.addChild("angle", new JsonValue(convertAngle(log.getFloat("rotation",0))));
         // save asset name to allow quick retrieval of textures (ie: log.png -> texture(log))
         String[] sourcePath = tileJson.getString("image").split("/");
         String sourceImageName = sourcePath[sourcePath.length - 1];
-        data.addChild("texture", new JsonValue(sourceImageName.split("\\.")[0]));
-        return data;
+        int texture = logTextureIndices.get(sourceImageName.split("\\.")[0], -1);
+        return new PlatformSpec(x, y, log.getInt("__DEPTH__", -1), aabb, shape, texture,
+                flipX, flipY, convertAngle(log.getFloat("rotation",0)));
     }
 
-    private void processStaticHazards(ArrayList<JsonValue> rawData){
-        staticHazardData = new JsonValue[rawData.size()];
+    private void processStaticHazards(Array<JsonValue> rawData){
+        staticHazardData = new JsonValue[rawData.size];
         for (int ii = 0; ii < staticHazardData.length; ii++) {
             JsonValue rawHazard = rawData.get(ii);
             if (rawHazard.getString("hazard").equals("unspecified")){
@@ -991,7 +915,7 @@ public class LevelParser {
         addPosition(data, temp);
         boolean fill = getFromProperties(polyHazard.get("properties"), "fill_texture", staticHazardDefault).asBoolean();
         data.addChild("type", new JsonValue(fill ? "fill" : "no_fill"));
-        data.addChild("points", polyPoints(polyHazard.get("polygon"), staticHazardPoly));
+        data.addChild("points", toJson(polyPoints(polyHazard.get("polygon"), staticHazardPoly)));
         data.addChild("depth", new JsonValue(polyHazard.getInt("__DEPTH__", -1)));
         return data;
     }
@@ -1006,79 +930,68 @@ public class LevelParser {
         JsonValue tileJson = gameObjectTiles.get(getProcessedGid(rockDefaultObj) - 1);
         int assetWidth = tileJson.getInt("imagewidth");
         int assetHeight = tileJson.getInt("imageheight");
-        data.addChild("AABB", processTileObjectAABB(rock, rockDefaultObj, assetWidth, assetHeight));
+        data.addChild("AABB", toJson(processTileObjectAABB(rock, rockDefaultObj, assetWidth, assetHeight)));
         // add hit-box
         JsonValue hitBoxPoints = tileJson.get("objectgroup").get("objects").get(0);
         float ox = hitBoxPoints.getFloat("x");
         float oy = hitBoxPoints.getFloat("y");
         boolean flipX = isObjectHorizontallyFlipped(rock);
         boolean flipY = isObjectVerticallyFlipped(rock);
-        JsonValue shape = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
+        float[] shape = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
                 flipX, flipY, assetWidth, assetHeight);
-        data.addChild("points", shape);
+        data.addChild("points", toJson(shape));
         data.addChild("flipX", new JsonValue(flipX));
         data.addChild("flipY", new JsonValue(flipY));
         data.addChild("angle", new JsonValue(convertAngle(rock.getFloat("rotation",0))));
         return data;
     }
 
-    private void processDeathZone(ArrayList<JsonValue> deathZoneRawData) {
-        deathZoneData = new JsonValue[deathZoneRawData.size()];
+    private void processDeathZone(Array<JsonValue> deathZoneRawData) {
+        deathZoneData = new JsonValue[deathZoneRawData.size];
         for (int ii = 0; ii < deathZoneData.length; ii++) {
             JsonValue data = new JsonValue(JsonValue.ValueType.object);
             JsonValue rawData = deathZoneRawData.get(ii);
             readPositionAndConvert(rawData, temp);
             addPosition(data, temp);
-            data.addChild("points", polyPoints(rawData.get("polygon")));
+            data.addChild("points", toJson(polyPoints(rawData.get("polygon"))));
             data.addChild("depth", new JsonValue(rawData.getInt("__DEPTH__", -1)));
             deathZoneData[ii] =  data;
         }
 
     }
 
-    private void processWind(ArrayList<JsonValue> rawData, HashMap<Integer, JsonValue> windDirs){
-        windData = new JsonValue[rawData.size()];
-        for (int ii = 0; ii < rawData.size(); ii++){
-            //data of this wind
-            JsonValue data = new JsonValue(JsonValue.ValueType.object);
+    private void processWind(Array<JsonValue> rawData, IntMap<JsonValue> windDirs){
+        windData = new WindSpec[rawData.size];
+        for (int ii = 0; ii < rawData.size; ii++){
             //wind raw data
             JsonValue w = rawData.get(ii);
             //position
             readPositionAndConvert(w, temp);
-            JsonValue pos = new JsonValue(JsonValue.ValueType.array);
-            pos.addChild(new JsonValue(temp.x));
-            pos.addChild(new JsonValue(temp.y));
-            data.addChild("pos", pos);
-            data.addChild("dimensions", polyPoints(w.get("polygon"), windDefaultPoly));
+            float x = temp.x;
+            float y = temp.y;
             //magnitude and direction
             JsonValue props = w.get("properties");
-            data.addChild("magnitude", new JsonValue(getFromProperties(props, "magnitude", windDefault).asFloat()));
-            data.addChild("direction", computeWindDirection(props, windDirs));
-            data.addChild("depth", new JsonValue(w.getInt("__DEPTH__", -1)));
-            data.addChild("particle", new JsonValue(getFromProperties(props, "particle", windDefault).asString()));
-            windData[ii] = data;
+            windData[ii] = new WindSpec(x, y, w.getInt("__DEPTH__", -1),
+                    polyPoints(w.get("polygon"), windDefaultPoly),
+                    getFromProperties(props, "magnitude", windDefault).asFloat(),
+                    computeWindDirection(props, windDirs),
+                    getFromProperties(props, "particle", windDefault).asString());
         }
     }
 
-    private void processMovingPlats(ArrayList<JsonValue> rawData, HashMap<Integer, JsonValue> trajectory){
-        movingPlatformData = new JsonValue[rawData.size()];
-        IntIntMap seen = new IntIntMap(16);
+    private void processMovingPlats(Array<JsonValue> rawData, IntMap<JsonValue> trajectory){
+        movingPlatformData = new MovingPlatformSpec[rawData.size];
         for (int ii = 0; ii < movingPlatformData.length; ii++) {
-            seen.clear();
-            //data we pass in to platform constructor
-            JsonValue data = new JsonValue(JsonValue.ValueType.object);
             //moving platform raw data
             JsonValue mp = rawData.get(ii);
-            data.addChild("depth", new JsonValue(mp.getInt("__DEPTH__", -1)));
             //set position and load position into path.
             readPositionAndConvert(mp, temp);
-            addPosition(data, temp);
-            JsonValue pathJson = new JsonValue(JsonValue.ValueType.array);
-            pathJson.addChild(new JsonValue(temp.x));
-            pathJson.addChild(new JsonValue(temp.y));
+            float x = temp.x;
+            float y = temp.y;
+            pathCache.clear();
+            pathCache.add(x, y);
             JsonValue props = mp.get("properties");
             int tileIndex = getCloudTileIndex(mp.getString("template"));
-            data.addChild("tileIndex", new JsonValue(tileIndex));
             JsonValue cloudDefaultObj = cloudDefaultObjects[tileIndex];
             JsonValue cloudDefaultProps = cloudDefaultObj.get("properties");
 
@@ -1086,73 +999,60 @@ public class LevelParser {
             float moveSpeed = getFromProperties(props, "move_speed", cloudDefaultProps).asFloat();
             // using custom properties to find rest of path
             int nextPointID = getFromProperties(props, "path", cloudDefaultProps).asInt();
-            int loopTo = processPath(pathJson, trajectory, nextPointID, mp.getInt("id"));
-            data.addChild("path", pathJson);
-            data.addChild("loopTo", new JsonValue(loopTo));
-            data.addChild("movespeed", new JsonValue(moveSpeed));
+            int loopTo = processPath(pathCache, trajectory, nextPointID, mp.getInt("id"));
 
             // find this cloud's corresponding tile and get the AABB for the given cloud
             int idx = getProcessedGid(cloudDefaultObj);
             JsonValue tileJson = gameObjectTiles.get(idx-1);
             int assetWidth = tileJson.getInt("imagewidth");
             int assetHeight = tileJson.getInt("imageheight");
-            data.addChild("AABB", processTileObjectAABB(mp, cloudDefaultObj, assetWidth, assetHeight));
+            float[] aabb = processTileObjectAABB(mp, cloudDefaultObj, assetWidth, assetHeight);
             // add hit-box
             JsonValue hitBoxPoints = tileJson.get("objectgroup").get("objects").get(0);
             float ox = hitBoxPoints.getFloat("x");
             float oy = hitBoxPoints.getFloat("y");
             boolean horizontalFlipped = isObjectHorizontallyFlipped(mp);
-            JsonValue shape = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
+            float[] shape = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
                     horizontalFlipped, false, assetWidth, assetHeight);
-            data.addChild("points", shape);
-            data.addChild("flipped", new JsonValue(horizontalFlipped));
-            movingPlatformData[ii] = data;
+            movingPlatformData[ii] = new MovingPlatformSpec(x, y, mp.getInt("__DEPTH__", -1), aabb, shape,
+                    pathCache.toArray(), loopTo, moveSpeed, tileIndex, horizontalFlipped);
         }
     }
 
-    private void processNests(ArrayList<JsonValue> rawData, HashMap<Integer, JsonValue> trajectory){
-        nestData = new JsonValue[rawData.size()];
+    private void processNests(Array<JsonValue> rawData, IntMap<JsonValue> trajectory){
+        nestData = new NestSpec[rawData.size];
         for (int ii = 0; ii < nestData.length; ii++) {
-            //data we pass in to nest constructor
-            JsonValue data = new JsonValue(JsonValue.ValueType.object);
             //nest raw data
             JsonValue n = rawData.get(ii);
             JsonValue props = n.get("properties");
             // set position data
             readPositionAndConvert(n, temp);
-            addPosition(data, temp);
-            // the resulting path should be stored as a list of floats which is Json array of Json floats.
-            JsonValue pathJson = new JsonValue(JsonValue.ValueType.array);
-            pathJson.addChild(new JsonValue(temp.x));
-            pathJson.addChild(new JsonValue(temp.y));
+            float x = temp.x;
+            float y = temp.y;
+            pathCache.clear();
+            pathCache.add(x, y);
             JsonValue defaultProps = nestDefault.get("properties");
             int nextPointID = getFromProperties(props, "path", defaultProps).asInt();
-            processPath(pathJson, trajectory, nextPointID, n.getInt("id") );
-            data.addChild("path", pathJson);
-            data.addChild("visible", new JsonValue(getFromProperties(props, "visible", defaultProps).asBoolean()));
-            data.addChild("bird_speed", new JsonValue(getFromProperties(props, "bird_speed", defaultProps).asFloat()));
-            data.addChild("spawn_delay", new JsonValue(getFromProperties(props, "spawn_delay", defaultProps).asFloat()));
+            processPath(pathCache, trajectory, nextPointID, n.getInt("id") );
 
             boolean horizontalFlipped = isObjectHorizontallyFlipped(n);
             boolean verticalFlipped = isObjectVerticallyFlipped(n);
-            data.addChild("flipX", new JsonValue(horizontalFlipped));
-            // data.addChild("flipY", new JsonValue(verticalFlipped));
 
             // add AABB and hitbox
             JsonValue tileJson = gameObjectTiles.get(getProcessedGid(nestDefault) - 1);
             int assetWidth = tileJson.getInt("imagewidth");
             int assetHeight = tileJson.getInt("imageheight");
-            data.addChild("filmStripWidth", new JsonValue(assetWidth));
-            data.addChild("filmStripHeight", new JsonValue(assetHeight));
-            data.addChild("AABB", processTileObjectAABB(nestDefault, nestDefault, assetWidth, assetHeight));
+            float[] aabb = processTileObjectAABB(nestDefault, nestDefault, assetWidth, assetHeight);
             JsonValue hitBoxPoints = tileJson.get("objectgroup").get("objects").get(0);
             float ox = hitBoxPoints.getFloat("x");
             float oy = hitBoxPoints.getFloat("y");
-            JsonValue shape = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
+            float[] shape = processAssetHitBox( hitBoxPoints.get("polygon"), temp.set(ox,oy), scalars,
                     horizontalFlipped, verticalFlipped, assetWidth, assetHeight);
-            data.addChild("points", shape);
-            data.addChild("depth", new JsonValue(n.getInt("__DEPTH__", -1)));
-            nestData[ii] = data;
+            nestData[ii] = new NestSpec(x, y, n.getInt("__DEPTH__", -1), aabb, shape, pathCache.toArray(),
+                    getFromProperties(props, "visible", defaultProps).asBoolean(),
+                    getFromProperties(props, "bird_speed", defaultProps).asFloat(),
+                    (int) getFromProperties(props, "spawn_delay", defaultProps).asFloat(),
+                    horizontalFlipped);
         }
     }
 
@@ -1267,14 +1167,14 @@ public class LevelParser {
     }
 
     /**
-     * returns a JsonValue containing the list of points (in game coordinates) that make up a polygon
+     * returns the list of points (in game coordinates) that make up a polygon
      * @param polygon the polygon to get points for
      * @param defaultPoly the default polygon for this object
-     * @return a JsonValue of type array containing the list of points that make up this polygon
+     * @return an array containing the list of points that make up this polygon
      *         (in the format used in PolygonObstacle, etc.)
      */
-    private JsonValue polyPoints(JsonValue polygon, JsonValue defaultPoly){
-        JsonValue points = null;
+    private float[] polyPoints(JsonValue polygon, JsonValue defaultPoly){
+        float[] points = null;
         if (polygon != null){
             points = polyPoints(polygon);
         }
@@ -1285,29 +1185,41 @@ public class LevelParser {
     }
 
     /**
-     * returns a JsonValue containing the list of points (in game coordinates) that make up a polygon
+     * returns the list of points (in game coordinates) that make up a polygon
      * @param polygon the polygon to get points for
-     * @return a JsonValue of type array containing the list of points that make up this polygon
+     * @return an array containing the list of points that make up this polygon
      *         (in the format used in SimpleObstacle, etc.)
      */
-    private JsonValue polyPoints(JsonValue polygon){
-        JsonValue points = new JsonValue(JsonValue.ValueType.array);
+    private float[] polyPoints(JsonValue polygon){
+        float[] points = new float[2 * polygon.size];
+        int idx = 0;
         for (JsonValue j : polygon){
-            temp.x = j.getFloat("x", 0)/tileScale.x;
-            temp.y = -j.getFloat("y", 0)/tileScale.y;
-            points.addChild(new JsonValue(temp.x));
-            points.addChild(new JsonValue(temp.y));
+            points[idx++] = j.getFloat("x", 0)/tileScale.x;
+            points[idx++] = -j.getFloat("y", 0)/tileScale.y;
         }
         return points;
     }
 
     /**
-     * returns a JsonValue containing the direction that the given wind blows in
+     * wraps the given floats in a JSON array, for the objects that are still read as JSON (static hazards)
+     * @param values the values to wrap
+     * @return a JsonValue of type array containing the given values
+     */
+    private JsonValue toJson(float[] values){
+        JsonValue array = new JsonValue(JsonValue.ValueType.array);
+        for (float value : values){
+            array.addChild(new JsonValue(value));
+        }
+        return array;
+    }
+
+    /**
+     * returns the direction that the given wind blows in
      * @param wind the wind to find the angle of
      * @param windDirs the set of wind direction objects (so we can find the one the wind points to)
-     * @return a JsonValue of type doubleValue containing this wind's direction
+     * @return this wind's direction in radians
      */
-    private JsonValue computeWindDirection(JsonValue wind, HashMap<Integer, JsonValue> windDirs){
+    private float computeWindDirection(JsonValue wind, IntMap<JsonValue> windDirs){
         int key = getFromProperties(wind, "dir", windDefault).asInt();
         int defKey = getFromProperties(windDefault, "dir").asInt();
         float ang = windDirDefault;
@@ -1321,7 +1233,7 @@ public class LevelParser {
         //convert to being in rads from right instead of rads from top
         ang += (float) (Math.PI/2);
         if (ang >= Math.PI*2) ang -= Math.PI*2;
-        return new JsonValue(ang);
+        return ang;
     }
 
     /**
@@ -1418,8 +1330,6 @@ public class LevelParser {
             String name = tileSetJson.getString("name");
             //this.tileSetName = name;
             Texture texture = tileSetTextureMap.get(name);
-            // removes flickering on square tiles
-            texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
             //width = tileSetJson.getInt("tilewidth");
             //height = tileSetJson.getInt("tileheight");
             int columns = tileSetJson.getInt("columns");
@@ -1478,13 +1388,11 @@ public class LevelParser {
      */
     private class CollectionTileSetMaker extends TileSetMaker{
 
-        private final HashMap<String, TextureInfo> collection;
-        private final IntMap<String> idNameMap;
-        CollectionTileSetMaker(HashMap<String, TextureInfo> collection, IntMap<String> idNameMap, int firstGid){
+        private final TextureInfo[] collection;
+        CollectionTileSetMaker(TextureInfo[] collection, int firstGid){
             minId = firstGid;
             maxId = firstGid + maxStickerSetId;
             this.collection = collection;
-            this.idNameMap = idNameMap;
         }
 
         /**
@@ -1492,7 +1400,7 @@ public class LevelParser {
          * @return texture data from the collection set corresponding to the given id
          */
         public TextureInfo getTextureDataFromId(int id) {
-            return collection.get(idNameMap.get(id - minId));
+            return collection[id - minId];
         }
     }
 
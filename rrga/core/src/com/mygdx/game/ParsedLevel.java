@@ -0,0 +1,180 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.spec.BirdSpec;
+import com.mygdx.game.spec.LightningSpec;
+import com.mygdx.game.spec.MovingPlatformSpec;
+import com.mygdx.game.spec.NestSpec;
+import com.mygdx.game.spec.PlatformSpec;
+import com.mygdx.game.spec.WindSpec;
+import com.mygdx.game.utility.util.Sticker;
+import com.mygdx.game.utility.util.TiledLayer;
+
+import java.util.ArrayList;
+
+/**
+ * The result of parsing a single Tiled level with {@link LevelParser}.
+ * <p>
+ * A parsed level is produced once and then only read by the level container, so it may be parsed on a worker
+ * thread and kept in memory for the rest of the session.
+ */
+public class ParsedLevel {
+
+    /** list of bird descriptors */
+    BirdSpec[] birdData;
+
+    /** blue bird template descriptor, placed by each nest */
+    BirdSpec blueBirdData;
+
+    /** list of lightning descriptors */
+    LightningSpec[] lightningData;
+
+    /** list of platform descriptors */
+    PlatformSpec[] platformData;
+
+    /** list of static hazard json data
+     * Invariant: JSON is in the format used by level-container
+     */
+    JsonValue[] staticHazardData;
+
+    /** list of wind descriptors */
+    WindSpec[] windData;
+
+    /** list of moving platform descriptors */
+    MovingPlatformSpec[] movingPlatformData;
+
+    /** list of nest descriptors */
+    NestSpec[] nestData;
+
+    /** list of death zone json data */
+    JsonValue[] deathZoneData;
+
+    /** the texture data of the tile layers
+     * Invariant: front layers are stored last in list
+     */
+    ArrayList<TiledLayer> layers;
+
+    /** the list of Sticker objects */
+    ArrayList<Sticker> stickers;
+
+    /** position of player */
+    Vector2 playerPos;
+
+    /** position of goal */
+    Vector2 goalPos;
+
+    /** world size (width, height) */
+    Vector2 worldSize;
+
+    /** drawing depth of Gale */
+    int playerDepth;
+
+    /** drawing depth of scarf */
+    int goalDepth;
+
+    /** level background music */
+    String music;
+
+    /** level parallax */
+    String parallax;
+
+    /** Creates an empty level. Only the level parser fills in the data. */
+    ParsedLevel() {}
+
+    /**
+     * the music assigned to be used as background music for the level
+     * @return one of {"a_world_of_clouds"; "exploring_the_forest", "droplets"; "over_the_cliffs", "the_storm"}
+     */
+    public String getSelectedMusic() {
+        return music;
+    }
+
+    /**
+     * the parallax assigned to be used on the level
+     * @return one of {"forest"; "sky"}
+     */
+    public String getSelectedParallax() {
+        return parallax;
+    }
+
+    /**
+     * @return tile texture layers
+     */
+    public ArrayList<TiledLayer> getLayers() {
+        return layers;
+    }
+
+    /**
+     * @return processed bird data that is ready for consumption
+     */
+    public BirdSpec[] getBirdData() {
+        return birdData;
+    }
+
+    /**
+     * @return the blue bird template, which nests place on their paths
+     */
+    public BirdSpec getBlueBirdData(){
+        return blueBirdData;
+    }
+
+    /**
+     * @return processed nest data that is ready for consumption
+     */
+    public NestSpec[] getNestData(){
+        return nestData;
+    }
+
+    /**
+     * @return processed lightning data that is ready for consumption
+     */
+    public LightningSpec[] getLightningData() {
+        return lightningData;
+    }
+
+    /**
+     * @return processed platform data that is ready for consumption
+     */
+    public PlatformSpec[] getPlatformData() {
+        return platformData;
+    }
+
+    /**
+     * @return processed moving platform data that is ready for consumption
+     */
+    public MovingPlatformSpec[] getMovingPlatformData() {
+        return movingPlatformData;
+    }
+
+    /**
+     * @return processed static hazard data that is ready for consumption
+     */
+    public JsonValue[] getStaticHazardData() {
+        return staticHazardData;
+    }
+
+    /**
+     * @return processed wind data that is ready for consumption
+     */
+    public WindSpec[] getWindData(){
+        return windData;
+    }
+
+    public JsonValue[] getDeathZoneData() { return deathZoneData; }
+
+    public Vector2 getGoalPos() {
+        return goalPos;
+    }
+    public Vector2 getPlayerPos() {
+        return playerPos;
+    }
+
+    public Vector2 getWorldSize(){ return worldSize; }
+
+    public ArrayList<Sticker> getStickers(){ return stickers; }
+
+    public int getPlayerDrawDepth(){ return playerDepth; }
+
+    public int getGoalDrawDepth(){ return goalDepth; }
+}
@@ -0,0 +1,213 @@
+package com.mygdx.game.config;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.utility.assets.AssetDirectory;
+
+/**
+ * The typed contents of globalconstants.json.
+ * <p>
+ * The constants are parsed and validated once, when the assets are first gathered, and are then handed to the
+ * controllers and models as immutable config objects. Nothing that runs on a level reset looks up a constant by
+ * name, and a missing or malformed constant is reported at load time instead of in the middle of a level.
+ */
+public class GameConfig {
+    /** The asset key of the global constants */
+    public static final String ASSET_KEY = "global:constants";
+
+    /** The config parsed most recently (reused while the asset is unchanged) */
+    private static GameConfig cached;
+    /** The JSON that {@link #cached} was parsed from */
+    private static JsonValue cachedSource;
+
+    /** World, physics default and goal constants */
+    public final WorldConfig world;
+    /** Player constants */
+    public final PlayerConfig player;
+    /** Umbrella constants */
+    public final UmbrellaConfig umbrella;
+    /** Hazard constants */
+    public final HazardConfig hazards;
+
+    /**
+     * Returns the config for the global constants in the given directory
+     * <p>
+     * The constants are parsed the first time, and the same config is returned until the directory holds a
+     * different constants file.
+     *
+     * @param directory the loaded asset directory
+     * @return the config for the global constants in the given directory
+     */
+    public static synchronized GameConfig get(AssetDirectory directory) {
+        JsonValue json = directory.getEntry(ASSET_KEY, JsonValue.class);
+        if (cached == null || cachedSource != json) {
+            cached = new GameConfig(json);
+            cachedSource = json;
+        }
+        return cached;
+    }
+
+    /**
+     * Creates the config for the given global constants
+     *
+     * @param json the contents of globalconstants.json
+     * @throws GdxRuntimeException if a constant is missing or invalid
+     */
+    public GameConfig(JsonValue json) {
+        world = new WorldConfig(json);
+        player = new PlayerConfig(section(json, "player"));
+        umbrella = new UmbrellaConfig(section(json, "umbrella"));
+        hazards = new HazardConfig(section(json, "hazards"));
+    }
+
+    /**
+     * Returns the named child object, which must exist
+     *
+     * @param json the parent object
+     * @param name the name of the child
+     * @return the named child object
+     */
+    static JsonValue section(JsonValue json, String name) {
+        JsonValue child = json.get(name);
+        if (child == null || !child.isObject()) {
+            throw new GdxRuntimeException("global constants: missing section \"" + name + "\" in " + path(json));
+        }
+        return child;
+    }
+
+    /**
+     * Returns the named number, which must exist
+     *
+     * @param json the parent object
+     * @param name the name of the number
+     * @return the named number
+     */
+    static float number(JsonValue json, String name) {
+        JsonValue child = json.get(name);
+        if (child == null || !child.isNumber()) {
+            throw new GdxRuntimeException("global constants: missing number \"" + name + "\" in " + path(json));
+        }
+        return child.asFloat();
+    }
+
+    /**
+     * Returns the named number, or the default if it is absent
+     *
+     * @param json     the parent object
+     * @param name     the name of the number
+     * @param fallback the value if the number is absent
+     * @return the named number, or the default if it is absent
+     */
+    static float number(JsonValue json, String name, float fallback) {
+        return json.has(name) ? number(json, name) : fallback;
+    }
+
+    /**
+     * Returns the named number, which must be positive
+     *
+     * @param json the parent object
+     * @param name the name of the number
+     * @return the named number
+     */
+    static float positive(JsonValue json, String name) {
+        float value = number(json, name);
+        if (value <= 0) {
+            throw new GdxRuntimeException("global constants: \"" + name + "\" in " + path(json)
+                    + " must be positive, not " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the named number, which must not be negative
+     *
+     * @param json the parent object
+     * @param name the name of the number
+     * @return the named number
+     */
+    static float nonNegative(JsonValue json, String name) {
+        float value = number(json, name);
+        if (value < 0) {
+            throw new GdxRuntimeException("global constants: \"" + name + "\" in " + path(json)
+                    + " must not be negative, not " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the named integer, which must not be negative
+     *
+     * @param json the parent object
+     * @param name the name of the integer
+     * @return the named integer
+     */
+    static int count(JsonValue json, String name) {
+        float value = nonNegative(json, name);
+        if (value != (int) value) {
+            throw new GdxRuntimeException("global constants: \"" + name + "\" in " + path(json)
+                    + " must be a whole number, not " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Returns the named array of numbers, which must have the given length
+     *
+     * @param json   the parent object
+     * @param name   the name of the array
+     * @param length the required length
+     * @return the named array of numbers
+     */
+    static float[] numbers(JsonValue json, String name, int length) {
+        JsonValue child = json.get(name);
+        if (child == null || !child.isArray() || child.size != length) {
+            throw new GdxRuntimeException("global constants: \"" + name + "\" in " + path(json)
+                    + " must be an array of " + length + " numbers");
+        }
+        return child.asFloatArray();
+    }
+
+    /**
+     * Returns the named array of positive numbers, which must have the given length
+     *
+     * @param json   the parent object
+     * @param name   the name of the array
+     * @param length the required length
+     * @return the named array of positive numbers
+     */
+    static float[] positives(JsonValue json, String name, int length) {
+        float[] values = numbers(json, name, length);
+        for (float value : values) {
+            if (value <= 0) {
+                throw new GdxRuntimeException("global constants: \"" + name + "\" in " + path(json)
+                        + " must only hold positive numbers");
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the named array of strings, which must exist
+     *
+     * @param json the parent object
+     * @param name the name of the array
+     * @return the named array of strings
+     */
+    static String[] strings(JsonValue json, String name) {
+        JsonValue child = json.get(name);
+        if (child == null || !child.isArray()) {
+            throw new GdxRuntimeException("global constants: missing array \"" + name + "\" in " + path(json));
+        }
+        return child.asStringArray();
+    }
+
+    /**
+     * Returns a readable name for the given object, for error messages
+     *
+     * @param json the object
+     * @return a readable name for the given object
+     */
+    private static String path(JsonValue json) {
+        return json.name == null ? "the root" : "\"" + json.name + "\"";
+    }
+}
@@ -0,0 +1,64 @@
+package com.mygdx.game.config;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * Damage and knock-back constants of the hazards, from the "hazards" section of the global constants.
+ */
+public class HazardConfig {
+    /** The number of bird colors (see BirdHazard.BirdColor) */
+    private static final int BIRD_COLORS = 4;
+
+    /** The damage of a bird */
+    public final int birdDamage;
+    /** The radius within which a bird notices the player */
+    public final int birdSensorRadius;
+    /** The knock-back of a bird */
+    public final float birdKnockBack;
+    /** The damage of lightning */
+    public final int lightningDamage;
+    /** The knock-back of lightning */
+    public final float lightningKnockBack;
+    /** The damage of brambles and rocks */
+    public final int staticDamage;
+    /** The knock-back of brambles and rocks */
+    public final float staticKnockBack;
+
+    /** The preferred still frame of each bird color, by ordinal */
+    private final int[] birdStillFrames;
+
+    /**
+     * Creates the hazard config from its section of the global constants
+     *
+     * @param json the "hazards" section
+     */
+    HazardConfig(JsonValue json) {
+        birdDamage = GameConfig.count(json, "birdDamage");
+        birdSensorRadius = GameConfig.count(json, "birdSensorRadius");
+        birdKnockBack = GameConfig.nonNegative(json, "birdKnockBack");
+        lightningDamage = GameConfig.count(json, "lightningDamage");
+        lightningKnockBack = GameConfig.nonNegative(json, "lightningKnockBack");
+        staticDamage = GameConfig.count(json, "staticHazardDamage");
+        staticKnockBack = GameConfig.nonNegative(json, "staticHazardKnockBack");
+
+        float[] frames = GameConfig.numbers(json, "birdStillFrames", BIRD_COLORS);
+        birdStillFrames = new int[BIRD_COLORS];
+        for (int ii = 0; ii < BIRD_COLORS; ii++) {
+            if (frames[ii] < 0 || frames[ii] != (int) frames[ii]) {
+                throw new GdxRuntimeException("global constants: \"birdStillFrames\" must hold frame indices");
+            }
+            birdStillFrames[ii] = (int) frames[ii];
+        }
+    }
+
+    /**
+     * Returns the preferred still frame of the given bird color
+     *
+     * @param color the ordinal of the bird color
+     * @return the preferred still frame of the given bird color
+     */
+    public int getBirdStillFrame(int color) {
+        return birdStillFrames[color];
+    }
+}
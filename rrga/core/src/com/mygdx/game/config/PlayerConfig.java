@@ -0,0 +1,96 @@
+package com.mygdx.game.config;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * Physics and gameplay constants of the player, from the "player" section of the global constants.
+ */
+public class PlayerConfig {
+    /** The width of the player image in physics units */
+    public final float width;
+    /** The height of the player image in physics units */
+    public final float height;
+    /** The horizontal factor fitting the hitbox to the image */
+    public final float shrinkX;
+    /** The vertical factor fitting the hitbox to the image */
+    public final float shrinkY;
+
+    /** The walking force */
+    public final float force;
+    /** The damping applied when the player stops walking */
+    public final float damping;
+    /** The density of the ground sensor */
+    public final float density;
+    /** The friction of the body */
+    public final float friction;
+
+    /** The horizontal speed limit on the ground */
+    public final float maxSpeedXGround;
+    /** The horizontal speed limit in the air, when pushed by wind */
+    public final float maxSpeedXAirWind;
+    /** The horizontal speed limit in the air, when drifting */
+    public final float maxSpeedXAirDrag;
+    /** The upward speed limit */
+    public final float maxSpeedUp;
+    /** The downward speed limit with the umbrella open (negative) */
+    public final float maxSpeedDownOpen;
+    /** The downward speed limit with the umbrella closed (negative) */
+    public final float maxSpeedDownClosed;
+
+    /** The ground sensor width, as a fraction of the body width */
+    public final float sensorShrink;
+    /** The ground sensor half height in physics units */
+    public final float sensorHeight;
+
+    /** The starting health */
+    public final int maxHealth;
+    /** The horizontal air drag scale */
+    public final float dragX;
+    /** The vertical air drag scale */
+    public final float dragY;
+
+    /** The lighter boost force */
+    public final float lighterForce;
+    /** The lighter fuel capacity */
+    public final float lighterFuel;
+    /** The lighter fuel use and refill rate */
+    public final float lighterChangeRate;
+
+    /**
+     * Creates the player config from its section of the global constants
+     *
+     * @param json the "player" section
+     */
+    PlayerConfig(JsonValue json) {
+        float[] size = GameConfig.positives(json, "size", 2);
+        width = size[0];
+        height = size[1];
+        float[] shrink = GameConfig.positives(json, "shrink", 2);
+        shrinkX = shrink[0];
+        shrinkY = shrink[1];
+
+        force = GameConfig.number(json, "force", 0);
+        damping = GameConfig.number(json, "damping", 0);
+        density = GameConfig.number(json, "density", 0);
+        friction = GameConfig.number(json, "friction", 0);
+
+        maxSpeedXGround = GameConfig.number(json, "maxspeed_x_ground", 0);
+        maxSpeedXAirWind = GameConfig.number(json, "maxspeed_x_air_wind", 0);
+        maxSpeedXAirDrag = GameConfig.number(json, "maxspeed_x_air_drag", 0);
+        maxSpeedUp = GameConfig.number(json, "maxspeed_up", 0);
+        maxSpeedDownOpen = GameConfig.number(json, "maxspeed_down_open", 0);
+        maxSpeedDownClosed = GameConfig.number(json, "maxspeed_down_closed", 0);
+
+        JsonValue sensor = GameConfig.section(json, "sensor");
+        sensorShrink = GameConfig.number(sensor, "shrink", 0);
+        sensorHeight = GameConfig.number(sensor, "height", 0);
+
+        maxHealth = GameConfig.count(json, "maxhealth");
+        dragX = GameConfig.number(json, "drag_x", 1);
+        dragY = GameConfig.number(json, "drag_y", 1);
+
+        lighterForce = GameConfig.number(json, "lighter_force");
+        lighterFuel = GameConfig.nonNegative(json, "lighter_fuel");
+        lighterChangeRate = GameConfig.nonNegative(json, "lighter_change_rate");
+    }
+}
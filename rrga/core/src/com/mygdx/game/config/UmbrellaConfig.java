@@ -0,0 +1,50 @@
+package com.mygdx.game.config;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * Physics constants of the umbrella, from the "umbrella" section of the global constants.
+ */
+public class UmbrellaConfig {
+    /** The width of the umbrella image in physics units */
+    public final float width;
+    /** The height of the umbrella image in physics units */
+    public final float height;
+    /** The horizontal factor fitting the hitbox to the image */
+    public final float shrinkX;
+    /** The vertical factor fitting the hitbox to the image */
+    public final float shrinkY;
+
+    /** The factor to multiply the rotation input by */
+    public final float force;
+    /** The density of the body */
+    public final float density;
+    /** The friction of the body */
+    public final float friction;
+
+    /** The fraction of horizontal momentum kept when the umbrella closes */
+    public final float closedMomentumX;
+    /** The fraction of vertical momentum kept when the umbrella closes */
+    public final float closedMomentumY;
+
+    /**
+     * Creates the umbrella config from its section of the global constants
+     *
+     * @param json the "umbrella" section
+     */
+    UmbrellaConfig(JsonValue json) {
+        float[] size = GameConfig.positives(json, "size", 2);
+        width = size[0];
+        height = size[1];
+        float[] shrink = GameConfig.positives(json, "shrink", 2);
+        shrinkX = shrink[0];
+        shrinkY = shrink[1];
+
+        force = GameConfig.number(json, "force", 0);
+        density = GameConfig.number(json, "density", 0);
+        friction = GameConfig.number(json, "friction", 0);
+
+        closedMomentumX = GameConfig.nonNegative(json, "closedmomentumX");
+        closedMomentumY = GameConfig.nonNegative(json, "closedmomentumY");
+    }
+}
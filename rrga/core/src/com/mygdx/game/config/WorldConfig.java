@@ -0,0 +1,93 @@
+package com.mygdx.game.config;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * Constants that apply to every level: the view size, the physics defaults, the goal door and the texture lists.
+ * <p>
+ * Built from the "world", "defaults", "goal" and "textures" sections of the global constants.
+ */
+public class WorldConfig {
+    /** The number of levels in the game */
+    public final int levelCount;
+    /** The width of the view in physics units */
+    public final float width;
+    /** The height of the view in physics units */
+    public final float height;
+
+    /** The vertical gravity of a level */
+    public final float gravity;
+    /** The default friction of level geometry */
+    public final float friction;
+    /** The default density of level geometry */
+    public final float density;
+    /** The default restitution of level geometry */
+    public final float restitution;
+    /** The default volume */
+    public final float volume;
+
+    /** The width of the goal door in physics units */
+    public final float goalWidth;
+    /** The height of the goal door in physics units */
+    public final float goalHeight;
+    /** The density of the goal door */
+    public final float goalDensity;
+    /** The friction of the goal door */
+    public final float goalFriction;
+    /** The restitution of the goal door */
+    public final float goalRestitution;
+
+    /** The names of the tileset textures */
+    private final String[] tilesets;
+    /** The names of the branch and log textures */
+    private final String[] treeLogs;
+
+    /**
+     * Creates the world config from the global constants
+     *
+     * @param json the contents of globalconstants.json
+     */
+    WorldConfig(JsonValue json) {
+        levelCount = GameConfig.count(json, "levelCount");
+
+        JsonValue world = GameConfig.section(json, "world");
+        width = GameConfig.positive(world, "width");
+        height = GameConfig.positive(world, "height");
+
+        JsonValue defaults = GameConfig.section(json, "defaults");
+        gravity = GameConfig.number(defaults, "gravity");
+        friction = GameConfig.nonNegative(defaults, "friction");
+        density = GameConfig.nonNegative(defaults, "density");
+        restitution = GameConfig.nonNegative(defaults, "restitution");
+        volume = GameConfig.nonNegative(defaults, "volume");
+
+        JsonValue goal = GameConfig.section(json, "goal");
+        goalWidth = GameConfig.positive(goal, "width");
+        goalHeight = GameConfig.positive(goal, "height");
+        goalDensity = GameConfig.nonNegative(goal, "density");
+        goalFriction = GameConfig.nonNegative(goal, "friction");
+        goalRestitution = GameConfig.nonNegative(goal, "restitution");
+
+        JsonValue textures = GameConfig.section(json, "textures");
+        tilesets = GameConfig.strings(textures, "tilesets");
+        treeLogs = GameConfig.strings(textures, "tree_logs");
+    }
+
+    /**
+     * Returns the names of the tileset textures
+     *
+     * @return a copy of the names of the tileset textures
+     */
+    public String[] getTilesets() {
+        return tilesets.clone();
+    }
+
+    /**
+     * Returns the names of the branch and log textures
+     *
+     * @return a copy of the names of the branch and log textures
+     */
+    public String[] getTreeLogs() {
+        return treeLogs.clone();
+    }
+}
@@ -2,12 +2,12 @@ package com.mygdx.game.mode;
 
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.math.Vector2;
 import com.mygdx.game.CameraController;
 import com.mygdx.game.GameCanvas;
 import com.mygdx.game.screen.MenuScreen;
 import com.mygdx.game.utility.assets.AssetDirectory;
+import com.mygdx.game.utility.util.CursorService;
 import com.mygdx.game.utility.util.ScreenListener;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
@@ -81,7 +81,6 @@ public class ConfirmationMode extends MenuScreen {
 
     private Music music;
     private float volume;
-    private TextureRegion cursorTexture;
 
     public void setMusic(Music music){this.music=music;}
     public void setVolume(float vol){volume=vol;}
@@ -124,7 +123,6 @@ public class ConfirmationMode extends MenuScreen {
      */
     public void gatherAssets(AssetDirectory directory) {
         foregroundTexture = new TextureRegion(directory.getEntry("game:platform", Texture.class));
-        cursorTexture = new TextureRegion(directory.getEntry( "menu:cursor_menu", Texture.class ));
         confirmationTag = new TextureRegion(directory.getEntry("menu:confirm_text", Texture.class));
         popup = new TextureRegion(directory.getEntry("menu:popup", Texture.class));
 
@@ -242,19 +240,8 @@ public class ConfirmationMode extends MenuScreen {
         yesButton.draw(canvas, yesPressState, BUTTON_SCALE, Color.WHITE);
         noButton.draw(canvas, noPressState, 1.3f, Color.WHITE);
 
-        // draw mouse texture
-        int mx = Gdx.input.getX();
-        int my = Gdx.input.getY();
-        // retrieve the viewport coordinate to draw cursor
-        Vector2 pos = camera.unproject(mx, my);
-        if(pos.x <= camera.getViewWidth() && pos.x>= 0 && pos.y < camera.getViewHeight() && pos.y >0) {
-            canvas.draw(cursorTexture, Color.WHITE, 0, cursorTexture.getRegionHeight(),
-                    pos.x, pos.y, 0, .4f, .4f);
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.None);
-        }
-        else {
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.Arrow);
-        }
+        // the hardware cursor follows the mouse, so only its shape is set here
+        CursorService.getInstance().use(CursorService.MENU);
 
         canvas.end();
     }
@@ -3,18 +3,17 @@ package com.mygdx.game.mode;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.mygdx.game.CameraController;
 import com.mygdx.game.GameCanvas;
 import com.mygdx.game.GameMode;
 import com.mygdx.game.screen.MenuScreen;
 import com.mygdx.game.utility.assets.AssetDirectory;
+import com.mygdx.game.utility.util.CursorService;
 import com.mygdx.game.utility.util.ScreenListener;
 
 /**
@@ -55,8 +54,6 @@ public class CutSceneMode extends MenuScreen {
     private static float SKIP_Y_RATIO = .07f;
     private int skipTagX;
     private int skipTagY;
-    /** Texture for the cursor */
-    private TextureRegion cursorTexture;
 
     /** Current level in game*/
     public int currentLevel;
@@ -72,7 +69,19 @@ public class CutSceneMode extends MenuScreen {
     /** Cutscene animation */
     private Animation<TextureRegion> sceneAnimation;
 
+    /** Frames of each cutscene (null entries are not loaded) */
     private Array<TextureRegion[]> textureList = new Array<>(12);
+
+    /** Time budget (in milliseconds) for streaming cutscene frames each animation frame */
+    private static final int LOAD_BUDGET = 10;
+    /** Reference to the asset directory that holds the cutscene groups */
+    private AssetDirectory directory;
+    /** First scene whose asset group is held by this mode */
+    private int acquiredScene;
+    /** Number of consecutive scenes whose asset groups are held */
+    private int acquiredCount;
+    /** Whether the asset directory still has queued cutscene frames */
+    private boolean streaming;
     public CutSceneMode(GameCanvas canvas) {
         this.canvas = canvas;
         currentExitCode = Integer.MIN_VALUE;
@@ -99,22 +108,13 @@ public class CutSceneMode extends MenuScreen {
     public void gatherAssets(AssetDirectory directory) {
         //TODO: texture is unnecessary, use shapes (see prof White's lectures on drawing shapes without textures)
         skipTag= new TextureRegion(directory.getEntry("cutscene:skip", Texture.class));
+        this.directory = directory;
 
-        // List of cutscene textures
+        // Cutscene frames are in on-demand asset groups, populated when a scene is played
         for (int i = 0; i < cutsceneFrameCount.length; i++) {
-            textureList.add(new TextureRegion[cutsceneFrameCount[i]]);
+            textureList.add(null);
         }
 
-        // Populating cutscenes
-        for (int i = 1; i <= cutsceneFrameCount.length; i++) {
-            TextureRegion[] tempFrame = new TextureRegion[cutsceneFrameCount[i-1]];
-            for (int j = 1; j <= cutsceneFrameCount[i-1]; j++) {
-                tempFrame[j-1] = new TextureRegion(directory.getEntry("cutscene:scene"+i+"_frame"+j, Texture.class));
-            }
-            textureList.set(i-1, tempFrame);
-        }
-
-        cursorTexture = new TextureRegion(directory.getEntry("menu:cursor_menu", Texture.class));
 
     }
 
@@ -133,38 +133,37 @@ public class CutSceneMode extends MenuScreen {
      * @param delta The time in seconds since the last render
      */
     private void draw(float delta){
+        // stream in the frames of this and the following scenes
+        if (streaming) {
+            streaming = !directory.update(LOAD_BUDGET);
+        }
+        if (sceneAnimation == null && isSceneLoaded(currentSceneNumber)) {
+            setAnimation();
+        }
+
         canvas.begin();
         CameraController camera = canvas.getCamera();
 
-        setAnimation();
-        sceneElapsedTime += Gdx.graphics.getDeltaTime();
-        TextureRegion t;
+        // the screen stays blank until the frames of the current scene are loaded
+        if (sceneAnimation != null) {
+            sceneElapsedTime += Gdx.graphics.getDeltaTime();
+            TextureRegion t;
 
-        if (currentSceneNumber == 2 || currentSceneNumber == 8 || currentSceneNumber == 11) {
-            t = sceneAnimation.getKeyFrame(sceneElapsedTime, false);
-        } else {
-            t = sceneAnimation.getKeyFrame(sceneElapsedTime, true);
-        }
-        canvas.draw(t, Color.WHITE, 0, 0, camera.getViewWidth(), camera.getViewHeight());
+            if (currentSceneNumber == 2 || currentSceneNumber == 8 || currentSceneNumber == 11) {
+                t = sceneAnimation.getKeyFrame(sceneElapsedTime, false);
+            } else {
+                t = sceneAnimation.getKeyFrame(sceneElapsedTime, true);
+            }
+            canvas.draw(t, Color.WHITE, 0, 0, camera.getViewWidth(), camera.getViewHeight());
 
-        if (sceneElapsedTime > 2) {
-            canvas.draw(skipTag, Color.WHITE, skipTag.getRegionWidth() / 2f, skipTag.getRegionHeight() / 2f,
-                    skipTagX, skipTagY, 0, TAG_SCL * scale, TAG_SCL * scale);
+            if (sceneElapsedTime > 2) {
+                canvas.draw(skipTag, Color.WHITE, skipTag.getRegionWidth() / 2f, skipTag.getRegionHeight() / 2f,
+                        skipTagX, skipTagY, 0, TAG_SCL * scale, TAG_SCL * scale);
+            }
         }
 
-        //draw mouse texture
-        int mx = Gdx.input.getX();
-        int my = Gdx.input.getY();
-        // retrieve the viewport coordinate to draw cursor
-        Vector2 pos = camera.unproject(mx, my);
-        if(pos.x <= camera.getViewWidth() && pos.x>= 0 && pos.y < camera.getViewHeight() && pos.y >0) {
-            canvas.draw(cursorTexture, Color.WHITE, 0, cursorTexture.getRegionHeight(),
-                    pos.x, pos.y, 0, .4f, .4f);
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.None);
-        }
-        else {
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.Arrow);
-        }
+        // the hardware cursor follows the mouse, so only its shape is set here
+        CursorService.getInstance().use(CursorService.MENU);
 
         canvas.end();
     }
@@ -174,8 +173,10 @@ public class CutSceneMode extends MenuScreen {
     }
 
     public void dispose() {
+        releaseScenes();
         listener = null;
         canvas = null;
+        directory = null;
     }
 
     @Override
@@ -193,7 +194,7 @@ public class CutSceneMode extends MenuScreen {
                     sceneElapsedTime = 0;
                     numScenes -= 1;
                     currentSceneNumber += 1;
-                    setAnimation();
+                    sceneAnimation = null;
                 }
             }
         }
@@ -202,6 +203,7 @@ public class CutSceneMode extends MenuScreen {
     @Override
     public boolean keyUp(int keycode) {
         if (currentExitCode > 0) {
+            releaseScenes();
             listener.exitScreen(this, currentExitCode);
             currentExitCode = Integer.MIN_VALUE;
             sceneElapsedTime = 0;
@@ -230,10 +232,69 @@ public class CutSceneMode extends MenuScreen {
         } else {
             numScenes = 1;
         }
+        acquireScenes(sceneNumber, numScenes);
+    }
+
+    /**
+     * Acquires the asset groups of the given scenes so that they load in the background.
+     * Any scenes held from a previous cutscene are released first.
+     *
+     * @param first the first scene to play
+     * @param count the number of consecutive scenes to play
+     */
+    private void acquireScenes(int first, int count) {
+        releaseScenes();
+        for (int i = first; i < first + count; i++) {
+            if (directory.hasGroup(getSceneGroup(i))) {
+                directory.acquireGroup(getSceneGroup(i));
+            }
+        }
+        acquiredScene = first;
+        acquiredCount = count;
+        streaming = true;
+        sceneAnimation = null;
+    }
+
+    /**
+     * Releases the asset groups of the scenes held by this mode, unloading their frames.
+     */
+    private void releaseScenes() {
+        for (int i = acquiredScene; i < acquiredScene + acquiredCount; i++) {
+            if (directory.hasGroup(getSceneGroup(i))) {
+                directory.releaseGroup(getSceneGroup(i));
+            }
+            textureList.set(i-1, null);
+        }
+        acquiredCount = 0;
+        sceneAnimation = null;
+    }
+
+    /**
+     * @param sceneNumber the scene number (starting at 1)
+     * @return whether every frame of the given scene is loaded
+     */
+    private boolean isSceneLoaded(int sceneNumber) {
+        String group = getSceneGroup(sceneNumber);
+        return !directory.hasGroup(group) || directory.isGroupLoaded(group);
+    }
+
+    /**
+     * @param sceneNumber the scene number (starting at 1)
+     * @return the name of the asset group that holds the frames of the scene
+     */
+    private static String getSceneGroup(int sceneNumber) {
+        return "cutscene:scene" + sceneNumber;
     }
 
     public void setAnimation() {
         TextureRegion[] frames = textureList.get(currentSceneNumber-1);
+        if (frames == null) {
+            frames = new TextureRegion[cutsceneFrameCount[currentSceneNumber-1]];
+            for (int j = 1; j <= frames.length; j++) {
+                frames[j-1] = new TextureRegion(directory.getEntry("cutscene:scene"+currentSceneNumber+"_frame"+j, Texture.class));
+            }
+            textureList.set(currentSceneNumber-1, frames);
+        }
 
         // Adjust idle animation speed here
         if(currentSceneNumber == 1 || currentSceneNumber == 2) {
@@ -29,14 +29,19 @@ import com.badlogic.gdx.controllers.Controller;
 import com.badlogic.gdx.controllers.ControllerListener;
 import com.badlogic.gdx.controllers.ControllerMapping;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.CameraController;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.LevelParser;
+import com.mygdx.game.ParsedLevel;
+import com.mygdx.game.config.GameConfig;
 import com.mygdx.game.screen.MenuScreen;
 import com.mygdx.game.utility.assets.*;
 import com.mygdx.game.utility.util.*;
@@ -45,6 +50,10 @@ import com.mygdx.game.utility.util.Controllers;
 import com.mygdx.game.utility.util.ScreenListener;
 import com.mygdx.game.utility.util.XBoxController;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
 /**
  * Class that provides a loading screen for the state of the game.
  */
@@ -77,8 +86,6 @@ public class LoadingMode extends MenuScreen {
 	private final TextureRegion statusFrgMiddle;
 	/** Right cap to the status forground (colored region) */
 	private final TextureRegion statusFrgRight;
-	/** Texture for cursor */
-	private final TextureRegion cursorTexture;
 
 	/** Default budget for asset loader (do nothing but load 60 fps) */
 	private static final int DEFAULT_BUDGET = 15;
@@ -92,7 +99,13 @@ public class LoadingMode extends MenuScreen {
 	private static final float BAR_HEIGHT_RATIO = 0.25f;
 
 	private static final float BUTTON_SCALE  = 1.2f;
-	
+	/** Portion of the progress bar for loading assets (the remainder is for parsing levels) */
+	private static final float ASSET_PROGRESS_SHARE = 0.9f;
+	/** Number of assets listed in the load profile report */
+	private static final int PROFILE_REPORT_ROWS = 20;
+	/** System property naming a local file to dump the full load profile to (e.g. -Dgale.loadProfile=load.json) */
+	private static final String PROFILE_DUMP_PROPERTY = "gale.loadProfile";
+
 	/** Reference to GameCanvas created by the root */
 	private final GameCanvas canvas;
 	/** Listener that will update the player mode when we are done */
@@ -119,6 +132,13 @@ public class LoadingMode extends MenuScreen {
 	/** Whether or not this player mode is still active */
 	private boolean active;
 
+	/** Worker pool that parses the levels once their JSON is loaded */
+	private ForkJoinPool parsePool;
+	/** Pending level parses, indexed by level number - 1 (null until assets are loaded) */
+	private Array<ForkJoinTask<ParsedLevel>> parseTasks;
+	/** The parsed levels, indexed by level number - 1 (null until parsing is done) */
+	private ParsedLevel[] parsedLevels;
+
 	/**
 	 * Returns the budget for the asset loader.
 	 *
@@ -169,6 +189,18 @@ public class LoadingMode extends MenuScreen {
 		return assets;
 	}
 
+	/**
+	 * Returns the levels parsed by this loading screen
+	 *
+	 * All levels are parsed on a worker pool after the assets are loaded, so
+	 * that no level needs to be parsed during play.
+	 *
+	 * @return the parsed levels, indexed by level number - 1
+	 */
+	public ParsedLevel[] getParsedLevels() {
+		return parsedLevels;
+	}
+
 	/**
 	 * Creates a LoadingMode with the default budget, size and position.
 	 *
@@ -224,8 +256,6 @@ public class LoadingMode extends MenuScreen {
 		progress = 0;
 		pressState = 0;
 
-		//get cursor texture
-		cursorTexture = new TextureRegion(internal.getEntry("cursor", Texture.class));
 
 		Gdx.input.setInputProcessor( this );
 
@@ -236,6 +266,8 @@ public class LoadingMode extends MenuScreen {
 
 		// Start loading the real assets
 		assets = new AssetDirectory( file );
+		// leave one core for the loader thread
+		assets.setDecodeThreads( Math.max( 1, Runtime.getRuntime().availableProcessors()-1 ) );
 		assets.loadAssets();
 		active = true;
 
@@ -255,6 +287,10 @@ public class LoadingMode extends MenuScreen {
 	 * Called when this screen should release all resources.
 	 */
 	public void dispose() {
+		if (parsePool != null) {
+			parsePool.shutdownNow();
+			parsePool = null;
+		}
 		internal.unloadAssets();
 		internal.dispose();
 	}
@@ -270,11 +306,26 @@ public class LoadingMode extends MenuScreen {
 	 */
 	private void update(float delta) {
 		if (playButton == null) {
-			assets.update(budget);
-			this.progress = assets.getProgress();
-			if (progress >= 1.0f) {
-				this.progress = 1.0f;
-				playButton = new TextureRegion(internal.getEntry("play",Texture.class));
+			if (parseTasks == null) {
+				assets.update(budget);
+				this.progress = ASSET_PROGRESS_SHARE*assets.getProgress();
+				if (assets.getProgress() >= 1.0f) {
+					startParsing();
+				}
+			} else {
+				int done = 0;
+				for (ForkJoinTask<ParsedLevel> task : parseTasks) {
+					if (task.isDone()) {
+						done++;
+					}
+				}
+				this.progress = ASSET_PROGRESS_SHARE + (1-ASSET_PROGRESS_SHARE)*done/parseTasks.size;
+				if (done == parseTasks.size) {
+					finishParsing();
+					reportLoadProfile();
+					this.progress = 1.0f;
+					playButton = new TextureRegion(internal.getEntry("play",Texture.class));
+				}
 			}
 		}
 		//contain cursor
@@ -287,6 +338,57 @@ public class LoadingMode extends MenuScreen {
 		Gdx.input.setCursorPosition(x,y);*/
 	}
 
+	/**
+	 * Submits every level in the asset directory to the parse pool.
+	 *
+	 * The parser is created here (on the GL thread) because it configures the tileset
+	 * textures. The parses themselves touch no GL state and run on the worker threads
+	 * while this screen keeps animating.
+	 */
+	private void startParsing() {
+		final LevelParser parser = new LevelParser(assets);
+		int levelCount = GameConfig.get(assets).world.levelCount;
+		parsePool = new ForkJoinPool();
+		parseTasks = new Array<>(levelCount);
+		for (int ii = 1; ii <= levelCount; ii++) {
+			final JsonValue levelData = assets.getEntry("tiled:level"+ii, JsonValue.class);
+			parseTasks.add(parsePool.submit(new Callable<ParsedLevel>() {
+				@Override
+				public ParsedLevel call() {
+					return parser.parseLevel(levelData);
+				}
+			}));
+		}
+	}
+
+	/**
+	 * Collects the parsed levels once every parse task is done and releases the pool.
+	 */
+	private void finishParsing() {
+		parsedLevels = new ParsedLevel[parseTasks.size];
+		for (int ii = 0; ii < parseTasks.size; ii++) {
+			ForkJoinTask<ParsedLevel> task = parseTasks.get(ii);
+			if (task.isCompletedAbnormally()) {
+				throw new GdxRuntimeException("Could not parse level "+(ii+1), task.getException());
+			}
+			parsedLevels[ii] = task.join();
+		}
+		parsePool.shutdown();
+		parsePool = null;
+	}
+
+	/**
+	 * Prints the assets that dominated loading, and dumps the full profile if requested.
+	 */
+	private void reportLoadProfile() {
+		LoadProfile profile = assets.getLoadProfile();
+		System.out.print(profile.getReport(LoadProfile.BY_TOTAL_TIME, PROFILE_REPORT_ROWS));
+		String dump = System.getProperty(PROFILE_DUMP_PROPERTY);
+		if (dump != null && !dump.isEmpty()) {
+			profile.writeJson(Gdx.files.local(dump), LoadProfile.BY_TOTAL_TIME);
+		}
+	}
+
 	/**
 	 * Draw the status of this player mode.
 	 *
@@ -311,19 +413,8 @@ public class LoadingMode extends MenuScreen {
 			canvas.draw(playButton, tint, playButton.getRegionWidth()/2f, playButton.getRegionHeight()/2f,
 						centerX, centerY, 0, BUTTON_SCALE*scale, BUTTON_SCALE*scale);
 		}
-		//draw mouse texture
-		int mx = Gdx.input.getX();
-		int my = Gdx.input.getY();
-		// retrieve the viewport coordinate to draw cursor
-		Vector2 pos = camera.unproject(mx, my);
-		if(pos.x <= camera.getViewWidth() && pos.x>= 0 && pos.y < camera.getViewHeight() && pos.y >0) {
-			canvas.draw(cursorTexture, Color.WHITE, 0, cursorTexture.getRegionHeight(),
-					pos.x, pos.y, 0, .4f, .4f);
-			Gdx.graphics.setSystemCursor(Cursor.SystemCursor.None);
-		}
-		else {
-			Gdx.graphics.setSystemCursor(Cursor.SystemCursor.Arrow);
-		}
+		// the hardware cursor follows the mouse, so only its shape is set here
+		CursorService.getInstance().use(CursorService.MENU);
 
 		canvas.end();
 	}
@@ -4,8 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Cursor;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -14,6 +12,7 @@ import com.mygdx.game.GameCanvas;
 import com.mygdx.game.GameMode;
 import com.mygdx.game.screen.MenuScreen;
 import com.mygdx.game.utility.assets.AssetDirectory;
+import com.mygdx.game.utility.util.CursorService;
 import com.mygdx.game.utility.util.MySlider;
 import com.mygdx.game.utility.util.ScreenListener;
 import org.w3c.dom.Text;
@@ -196,11 +195,6 @@ public class MenuMode extends MenuScreen {
     /** current selected level */
     private int currentLevel;
 
-    /** texture for the cursor */
-    private TextureRegion cursorTexture;
-    /** pixmap for the cursor */
-    private Cursor newCursor;
-
     /** preferences object to store user settings */
     Preferences settings = Gdx.app.getPreferences("settings");
     /** preferences object to store which levels the user has unlocked */
@@ -285,11 +279,6 @@ public class MenuMode extends MenuScreen {
         backgroundTexture = new TextureRegion(directory.getEntry( "menu:background", Texture.class ));
         backgroundTexture2 = new TextureRegion(directory.getEntry( "menu:background2", Texture.class ));
 
-        cursorTexture = new TextureRegion(directory.getEntry( "menu:cursor_menu", Texture.class ));
-        Pixmap pm = new Pixmap(Gdx.files.internal("game/goal.png"));
-        newCursor = Gdx.graphics.newCursor(pm, 0, 0);
-        pm.dispose();
-
         // MENU COMPONENTS
         TextureRegion exitTexture = new TextureRegion(directory.getEntry("menu:exit_button", Texture.class));
         TextureRegion startTexture = new TextureRegion(directory.getEntry("menu:start_button", Texture.class));
@@ -671,19 +660,8 @@ public class MenuMode extends MenuScreen {
             resetButton.draw(canvas, resetSettingsPressState, BUTTON_SCALE, Color.WHITE);
         }
 
-        //draw mouse texture
-        int mx = Gdx.input.getX();
-        int my = Gdx.input.getY();
-        // retrieve the viewport coordinate to draw cursor
-        Vector2 pos = camera.unproject(mx, my);
-        if(pos.x <= camera.getViewWidth() && pos.x>= 0 && pos.y < camera.getViewHeight() && pos.y >0) {
-            canvas.draw(cursorTexture, Color.WHITE, 0, cursorTexture.getRegionHeight(),
-                    pos.x, pos.y, 0, .4f, .4f);
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.None);
-        }
-        else {
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.Arrow);
-        }
+        // the hardware cursor follows the mouse, so only its shape is set here
+        CursorService.getInstance().use(CursorService.MENU);
 
         canvas.end();
     }
@@ -1,13 +1,13 @@
 package com.mygdx.game.mode;
 
 import com.badlogic.gdx.*;
-import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.math.Vector2;
 import com.mygdx.game.CameraController;
 import com.mygdx.game.GameCanvas;
 import com.mygdx.game.screen.MenuScreen;
 import com.mygdx.game.utility.assets.AssetDirectory;
+import com.mygdx.game.utility.util.CursorService;
 import com.mygdx.game.utility.util.ScreenListener;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
@@ -85,8 +85,6 @@ public class PauseMode extends MenuScreen {
     private final int levelFontY;
     private Color fontColor = new Color(244f/255f,92f/255f,20f/255f,1f);
 
-    /** Texture for the cursor */
-    private TextureRegion cursorTexture;
     /** current level */
     private int currentLevel;
 
@@ -136,7 +134,6 @@ public class PauseMode extends MenuScreen {
 
 
         pauseTag = new TextureRegion(directory.getEntry("pause:pause_tag", Texture.class));
-        cursorTexture = new TextureRegion(directory.getEntry("menu:cursor_menu", Texture.class));
 
         menuButton.setTexture(menuTexture);
         restartButton.setTexture(restartTexture);
@@ -270,26 +267,14 @@ public class PauseMode extends MenuScreen {
 
         canvas.drawText("Level " + currentLevel, levelFont, levelFontX, levelFontY);
 
-        //draw mouse texture
-        int mx = Gdx.input.getX();
-        int my = Gdx.input.getY();
-        // retrieve the viewport coordinate to draw cursor
-        Vector2 pos = camera.unproject(mx, my);
-        if(pos.x <= camera.getViewWidth() && pos.x>= 0 && pos.y < camera.getViewHeight() && pos.y >0) {
-            canvas.draw(cursorTexture, Color.WHITE, 0, cursorTexture.getRegionHeight(),
-                    pos.x, pos.y, 0, .4f, .4f);
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.None);
-        }
-        else {
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.Arrow);
-        }
+        // the hardware cursor follows the mouse, so only its shape is set here
+        CursorService.getInstance().use(CursorService.MENU);
 
         canvas.end();
     }
 
     public void resize(int width, int height) {
         // resizing done through viewport
-        Gdx.graphics.setSystemCursor(Cursor.SystemCursor.None);
     }
 
     public void dispose() {
@@ -2,8 +2,8 @@ package com.mygdx.game.model;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.spec.MovingPlatformSpec;
 import com.mygdx.game.utility.obstacle.PolygonObstacle;
 import com.mygdx.game.utility.util.Drawable;
 
@@ -84,22 +84,21 @@ public class MovingPlatformModel extends PolygonObstacle implements Drawable {
     private final Vector2 temp = new Vector2();
 
 
-    public MovingPlatformModel(JsonValue data, float[] points, float x, float y) {
+    public MovingPlatformModel(MovingPlatformSpec data, float[] points, float x, float y) {
         super(points, x, y);
-        moveSpeed = data.getFloat("movespeed");
+        moveSpeed = data.getMoveSpeed();
         currentPathIndex = 0;
-        flipped = data.getBoolean("flipped");
+        flipped = data.isFlipped();
         prevPos.set(getX(), getY());
-        depth = data.getInt("depth");
-        setPath(data.get("path").asFloatArray(), data.getInt("loopTo", -1));
+        depth = data.getDepth();
+        setPath(data.getPath(), data.getLoopTo());
 
         // this is the bounding box dimensions of the cloud.
-        // aabb = [x,y, width, height] where x,y is relative to bird coordinate
-        float[] aabb = data.get("AABB").asFloatArray();
-        boxCoordinate.x = aabb[0];
-        boxCoordinate.y = aabb[1];
-        dimensions.x = aabb[2];
-        dimensions.y = aabb[3];
+        // box is relative to platform coordinate
+        boxCoordinate.x = data.getBoxX();
+        boxCoordinate.y = data.getBoxY();
+        dimensions.x = data.getBoxWidth();
+        dimensions.y = data.getBoxHeight();
     }
 
     /**
@@ -178,7 +177,7 @@ public class MovingPlatformModel extends PolygonObstacle implements Drawable {
     public void draw(GameCanvas canvas) {
         float effect = flipped ? -1.0f : 1.0f;
         canvas.draw(texture, Color.WHITE, texture.getRegionWidth()/2f, texture.getRegionHeight()/2f,
-                (getX()) * drawScale.x, (getY()) * drawScale.y, getAngle(),
+                (getRenderX()) * drawScale.x, (getRenderY()) * drawScale.y, getRenderAngle(),
                 effect * dimensions.x/texture.getRegionWidth() * drawScale.x,
                 dimensions.y/texture.getRegionHeight() * drawScale.y);
     }
@@ -10,8 +10,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.simulation.RenderSnapshot;
+import com.mygdx.game.spec.WindSpec;
 import com.mygdx.game.utility.obstacle.PolygonObstacle;
 import com.mygdx.game.utility.util.Drawable;
 import java.util.Random;
@@ -26,10 +27,6 @@ import static com.badlogic.gdx.math.Intersector.isPointInPolygon;
  */
 public class NewWindModel extends PolygonObstacle implements Drawable {
 
-    /**
-     * The initializing data (to avoid magic numbers)
-     */
-    private final JsonValue data;
     /** The local centroid coordinate (x,y) of the wind */
     private final Vector2 centroid = new Vector2();
     /** The global center coordinate (x,y) of the wind */
@@ -74,6 +71,10 @@ public class NewWindModel extends PolygonObstacle implements Drawable {
     private float area;
 
     private final Vector2 temp = new Vector2();
+    /** cache for the result of findReflectedPoint */
+    private final Vector2 reflected = new Vector2();
+    /** tint of the background fill animation */
+    private final Color tint = new Color(1,1,1,0.5f);
 
     /** (x,y) offset of the AABB top corner from polygon origin */
     private final Vector2 boxCoordinate;
@@ -96,15 +97,15 @@ public class NewWindModel extends PolygonObstacle implements Drawable {
     private final Random rand;
 
 
-    public NewWindModel(JsonValue data, Vector2 scale) {
-        super(data.get("dimensions").asFloatArray(), data.get("pos").getFloat(0), data.get("pos").getFloat(1));
-        direction = data.getFloat("direction", 0);
-        magnitude = data.getFloat("magnitude");
+    public NewWindModel(WindSpec data, Vector2 scale) {
+        super(data.getPoints(), data.getX(), data.getY());
+        direction = data.getDirection();
+        magnitude = data.getMagnitude();
         rand = new Random();
 
         // Defining the wind object origin (x,y)
-        float originX = data.get("pos").getFloat(0);
-        float originY = data.get("pos").getFloat(1);
+        float originX = data.getX();
+        float originY = data.getY();
 
         // Defining wind object body
         setBodyType(BodyDef.BodyType.DynamicBody);
@@ -114,12 +115,11 @@ public class NewWindModel extends PolygonObstacle implements Drawable {
         setRestitution(0);
         fixture.isSensor = true;
 
-        this.data = data;
-        this.depth = data.getInt("depth");
+        this.depth = data.getDepth();
 
         // compute tight AABB top left corner
         boxCoordinate = new Vector2();
-        float[] points = data.get("dimensions").asFloatArray();
+        float[] points = data.getPoints();
         float minx = points[0];
         float maxx = points[0];
         float miny = points[1];
@@ -359,11 +359,33 @@ public class NewWindModel extends PolygonObstacle implements Drawable {
                 queue[i].setPos(newSample);
                 queue[i].setTextureIndex(rand.nextInt(3));
             }
+
+            // if left wind area, particle fades out
+            if (!isPointInPolygon(polygonPoints, queue[i].getPos())) {
+                queue[i].setDead();
+            } else if (!queue[i].getIsAlive()) {
+                queue[i].setAlive();
+            }
+        }
+    }
+
+    @Override
+    public void writeRenderState(RenderSnapshot snapshot) {
+        for (int i = 0; i < numParticles; i++) {
+            queue[i].writeRenderState(snapshot);
+        }
+    }
+
+    @Override
+    public void readRenderState(RenderSnapshot snapshot) {
+        for (int i = 0; i < numParticles; i++) {
+            queue[i].readRenderState(snapshot);
         }
     }
 
     /** Find reflected point over the line perpendicular to direction of wind (remains for future usage)
-     * NOTE: this code can be used for wrapping around certain objects */
+     * NOTE: this code can be used for wrapping around certain objects
+     * NOTE: this is a reference to a cache that is overwritten by the next call. This is not an allocator. */
     public Vector2 findReflectedPoint(Vector2 pos) {
 
 
@@ -375,7 +397,7 @@ public class NewWindModel extends PolygonObstacle implements Drawable {
         float x2 =( pos.x * (A*A - B*B) - 2*B*(A*pos.y + C)) / (A*A + B*B);
         float y2 = ( pos.y * (B*B - A*A) - 2*A*(B*pos.x + C)) / (A*A + B*B);
 
-        return new Vector2(x2, y2);
+        return reflected.set(x2, y2);
     }
 
     /** Checks if the particle is in bound - within the circle that bounds the wind object*/
@@ -400,21 +422,11 @@ public class NewWindModel extends PolygonObstacle implements Drawable {
         elapsedTime += Gdx.graphics.getDeltaTime();
         PolygonRegion p = animation.getKeyFrame(elapsedTime, true);
 
-        Color tint = new Color(1,1,1,0.5f);
-        canvas.draw(p, tint, -xOffset, -yOffset,getX()*drawScale.x + xOffset,getY()*drawScale.y + yOffset,
+        canvas.draw(p, tint, -xOffset, -yOffset,getRenderX()*drawScale.x + xOffset,getRenderY()*drawScale.y + yOffset,
                     direction-((float) Math.PI/2),1,1);
 
         // Draw Particles
         for (int i = 0; i < numParticles; i++) {
-
-            // Updating Particles - if left wind area, particle fades out
-            if (!isPointInPolygon(polygonPoints, queue[i].getPos())) {
-                queue[i].setDead();
-            } else if (!queue[i].getIsAlive()) {
-                queue[i].setAlive();
-            }
-
-            // Draw particles
             queue[i].setDrawScale(drawScale);
             queue[i].draw(canvas);
         }
@@ -8,6 +8,8 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.simulation.RenderSnapshot;
+import com.mygdx.game.utility.assets.AnimationLibrary;
 import static java.lang.Math.*;
 
 
@@ -56,6 +58,8 @@ public class ParticleModel {
 //    private final Vector2 temp = new Vector2();
     private final Vector2 drawScale = new Vector2();
     private final Vector2 partSize = new Vector2();
+    /** tint of this particle, faded according to its life */
+    private final Color particleColor = new Color(1, 1, 1, 1);
     /** Decides when particles get start drawn - gives different start time */
     private int startOffset;
     private int countOffset;
@@ -66,6 +70,15 @@ public class ParticleModel {
 
     private int textureIndex;
 
+    /** The x-coordinate of this particle in the last render snapshot */
+    private float renderX;
+    /** The y-coordinate of this particle in the last render snapshot */
+    private float renderY;
+    /** The life of this particle in the last render snapshot */
+    private int renderLife;
+    /** The animation of this particle in the last render snapshot */
+    private int renderTextureIndex;
+
 
     public ParticleModel(float posX, float posY, float direction, float magnitude, int depth, int offset) {
 
@@ -99,23 +112,35 @@ public class ParticleModel {
     /** Sets particle animation */
     public void setAnimation(Texture[] t){
         for (int i = 0; i < 3; i++ ) {
-            TextureRegion[][] tempFrames = TextureRegion.split(t[i], 64, 64);
-            TextureRegion[] frames = new TextureRegion[8];
-
-            // Placing animation frames in order
-            int index = 0;
-            for (TextureRegion[] tempFrame : tempFrames) {
-                for (int k = 0; k < tempFrames[0].length; k++) {
-                    frames[index] = tempFrame[k];
-                    index++;
-                }
-            }
-
-            // Adjust animation frame here
-            animation.set(i, new Animation<>(1f / 8f, frames));
+            // Adjust animation frame here (the animations are shared by every particle)
+            animation.set(i, AnimationLibrary.get().obtain(t[i], 64, 64, 8, 1f / 8f));
         }
     }
 
+    /**
+     * Writes the state this particle is drawn with into the render snapshot
+     *
+     * @param snapshot the snapshot being captured
+     */
+    public void writeRenderState(RenderSnapshot snapshot) {
+        snapshot.write(pos.x);
+        snapshot.write(pos.y);
+        snapshot.write(life);
+        snapshot.write(textureIndex);
+    }
+
+    /**
+     * Reads the state written by {@link #writeRenderState} from the render snapshot
+     *
+     * @param snapshot the snapshot being applied
+     */
+    public void readRenderState(RenderSnapshot snapshot) {
+        renderX = snapshot.read();
+        renderY = snapshot.read();
+        renderLife = snapshot.readInt();
+        renderTextureIndex = snapshot.readInt();
+    }
+
     /**
      * Draws the particle object.
      *
@@ -124,16 +149,16 @@ public class ParticleModel {
     public void draw(GameCanvas canvas) {
 
         // Adjusts alpha value according to particle life
-        Color particleColor = new Color(1, 1, 1, (float)life/MAX_LIFE);
+        particleColor.a = (float)renderLife/MAX_LIFE;
 
         elapsedTime += Gdx.graphics.getDeltaTime();
 
-        TextureRegion t = animation.get(textureIndex).getKeyFrame(elapsedTime, true);
+        TextureRegion t = animation.get(renderTextureIndex).getKeyFrame(elapsedTime, true);
 
         float ox = t.getRegionWidth()/2.0f;
         float oy = t.getRegionHeight()/2.0f;
 
-        canvas.draw(t, particleColor, ox, oy, this.pos.x * drawScale.x, this.pos.y * drawScale.y, 0, partSize.x / t.getRegionWidth(),
+        canvas.draw(t, particleColor, ox, oy, renderX * drawScale.x, renderY * drawScale.y, 0, partSize.x / t.getRegionWidth(),
                 partSize.y / t.getRegionHeight());
     }
 
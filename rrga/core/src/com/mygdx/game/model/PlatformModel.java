@@ -3,8 +3,8 @@ package com.mygdx.game.model;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.spec.PlatformSpec;
 import com.mygdx.game.utility.obstacle.PolygonObstacle;
 import com.mygdx.game.utility.util.Drawable;
 
@@ -58,18 +58,18 @@ public class PlatformModel extends PolygonObstacle implements Drawable {
 
     /**
      * constructs a platform with the given texture
-     * @param texturedPlatformData JSON data for platforms with texture (ex. tree logs)
+     * @param texturedPlatformData descriptor of a platform with texture (ex. tree logs)
      * @param texture object texture
      */
-    public PlatformModel(JsonValue texturedPlatformData, TextureRegion texture, int depth){
-        super(texturedPlatformData.get("points").asFloatArray(), texturedPlatformData.getFloat("x", 0),
-                texturedPlatformData.getFloat("y", 0));
+    public PlatformModel(PlatformSpec texturedPlatformData, TextureRegion texture, int depth){
+        super(texturedPlatformData.getPoints(), texturedPlatformData.getX(), texturedPlatformData.getY());
         this.texture = texture;
         this.depth = depth;
-        flipX = texturedPlatformData.getBoolean("flipX");
-        flipY = texturedPlatformData.getBoolean("flipY");
-        angle = texturedPlatformData.getFloat("angle", 0);
-        float[] aabb = texturedPlatformData.get("AABB").asFloatArray();
+        flipX = texturedPlatformData.isFlipX();
+        flipY = texturedPlatformData.isFlipY();
+        angle = texturedPlatformData.getAngle();
+        float[] aabb = {texturedPlatformData.getBoxX(), texturedPlatformData.getBoxY(),
+                texturedPlatformData.getBoxWidth(), texturedPlatformData.getBoxHeight()};
         size.set(aabb[2], aabb[3]);
         temp.set(size);
         if (this.angle != 0){
@@ -110,7 +110,7 @@ public class PlatformModel extends PolygonObstacle implements Drawable {
             int effectX = flipX ? -1 : 1;
             int effectY = flipY ? -1 : 1;
             canvas.draw(texture, Color.WHITE, texture.getRegionWidth() / 2f, texture.getRegionHeight() / 2f,
-                    getX() * drawScale.x, getY() * drawScale.y, angle,
+                    getRenderX() * drawScale.x, getRenderY() * drawScale.y, angle,
                     effectX * size.x / texture.getRegionWidth() * drawScale.x,
                     effectY * size.y / texture.getRegionHeight() * drawScale.y);
         }
@@ -20,10 +20,13 @@ import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.config.PlayerConfig;
+import com.mygdx.game.simulation.RenderSnapshot;
+import com.mygdx.game.utility.assets.AnimationLibrary;
 import com.mygdx.game.utility.obstacle.CapsuleObstacle;
+import com.mygdx.game.utility.obstacle.NativeTracker;
 import com.mygdx.game.utility.util.Drawable;
 
 /**
@@ -34,8 +37,8 @@ import com.mygdx.game.utility.util.Drawable;
  */
 public class PlayerModel extends CapsuleObstacle implements Drawable {
 
-	/** The initializing data (to avoid magic numbers) */
-	private final JsonValue data;
+	/** The initializing constants (to avoid magic numbers) */
+	private final PlayerConfig config;
 
 	/** The factor to multiply by the input */
 	private final float force;
@@ -137,6 +140,8 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 	private final int LAND_ANIMATION_FRAMECOUNT = 18;
 
 	// <=============================== Animation objects start here ===============================>
+	// The animations come from the AnimationLibrary, so their frames are split once and
+	// shared by every level.
 	/** Player walk animation*/
 	private Animation<TextureRegion> walkAnimation;
 
@@ -189,6 +194,34 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 
 	private final Color fade = new Color(255, 255, 255, 0.5f);
 
+	// <=============================== Render state (see RenderSnapshot) ===============
+	/** whether the player faces right in the last render snapshot */
+	private boolean renderFaceRight = true;
+	/** whether the player is moving in the last render snapshot */
+	private boolean renderMoving;
+	/** whether the player is on the ground in the last render snapshot */
+	private boolean renderGrounded;
+	/** whether the player stands still zooming out in the last render snapshot */
+	private boolean renderLooking;
+	/** whether the flip animation plays in the last render snapshot */
+	private boolean renderFlipping;
+	/** whether the takeoff animation plays in the last render snapshot */
+	private boolean renderTakeoff;
+	/** whether the landing animation plays in the last render snapshot */
+	private boolean renderLanding;
+	/** the mirroring of the flip animation in the last render snapshot */
+	private float renderFlipEffect = 1;
+	/** the i-frames in the last render snapshot */
+	private int renderIFrames;
+	/** the health in the last render snapshot */
+	private int renderHealth;
+	/** the lighter fuel in the last render snapshot */
+	private float renderFuel;
+	/** whether to draw the indicator opaque in the last render snapshot */
+	private boolean renderIndicatorShown;
+	/** the angle of the indicator in the last render snapshot */
+	private float renderIndicatorAngle;
+
 	/**
 	 * Returns left/right movement of this character.
 	 *
@@ -220,7 +253,6 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 			flipping = true;
 			currentFrameCount = FlIP_ANIMATION_FRAMECOUNT;
 			flipEffect = faceRight ? 1.0f : -1.0f;
-			flipElapsedTime = 0;
 		}
 	}
 
@@ -416,6 +448,15 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 	 */
 	public int getiFrames(){return iFrames;}
 
+	/**
+	 * Returns the player's i-frames in the last render snapshot
+	 *
+	 * Use this instead of {@link #getiFrames()} on the render thread.
+	 *
+	 * @return the i-frames in the last render snapshot
+	 */
+	public int getRenderIFrames(){return renderIFrames;}
+
 	/**
 	 * Sets the player's i-frames
 	 *
@@ -487,151 +528,58 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 
 	/**
 	 * Sets player walk animation
-	 * NOTE: iterator is specific to current filmstrip - need to change value if tile dimension changes on filmstrip
+	 * NOTE: frame size and count are specific to current filmstrip - need to change value if tile dimension changes on filmstrip
 	 * */
 	public void setWalkAnimation(Texture texture) {
-		//TODO maybe find a way to do this without constants?
-		TextureRegion[][] tempFrames = TextureRegion.split(texture, 252, 352);
-		TextureRegion[] frames = new TextureRegion[8];
-
-		// Placing animation frames in order
-		int index = 0;
-		for (int i=0; i<tempFrames.length; i++) {
-			for (int j=0; j<tempFrames[0].length; j++) {
-				frames[index] = tempFrames[i][j];
-				index++;
-			}
-		}
-
-		// Adjust walk animation speed here
-		this.walkAnimation = new Animation<>(1f/12f, frames);
+		walkAnimation = AnimationLibrary.get().obtain(texture, 252, 352, 8, 1f/12f);
 	}
 
 	/**
 	 * Sets player falling animation
-	 * NOTE: iterator is specific to current filmstrip - need to change value if tile dimension changes on filmstrip
+	 * NOTE: frame size and count are specific to current filmstrip - need to change value if tile dimension changes on filmstrip
 	 * */
 	public void setFallingAnimation(Texture texture) {
-		//TODO maybe find a way to do this without constants?
-		TextureRegion[][] tempFrames = TextureRegion.split(texture, 252, 352);
-		TextureRegion[] frames = new TextureRegion[4];
-
-		// Placing animation frames in order
-		int index = 0;
-		for (int i=0; i<tempFrames.length; i++) {
-			for (int j=0; j<tempFrames[0].length; j++) {
-				frames[index] = tempFrames[i][j];
-				index++;
-			}
-		}
-
-		// Adjust fall animation speed here
-		this.fallAnimation = new Animation<>(1f/12f, frames);
+		fallAnimation = AnimationLibrary.get().obtain(texture, 252, 352, 4, 1f/12f);
 	}
 
 	/**
 	 * Sets player idle animation
-	 * NOTE: iterator is specific to current filmstrip - need to change value if tile dimension changes on filmstrip
+	 * NOTE: frame size and count are specific to current filmstrip - need to change value if tile dimension changes on filmstrip
 	 * */
 	public void setIdleAnimation(Texture texture){
-		TextureRegion[][] tempFrames = TextureRegion.split(texture, 252, 352);
-		TextureRegion[] frames = new TextureRegion[15];
-
-		// Placing animation frames in order
-		int index = 0;
-		for (int i=0; i<tempFrames.length; i++) {
-			for (int j=0; j<tempFrames[0].length; j++) {
-				frames[index] = tempFrames[i][j];
-				index++;
-			}
-		}
-
-		// Adjust idle animation speed here
-		idleAnimation = new Animation<>(1f/15f, frames);
+		idleAnimation = AnimationLibrary.get().obtain(texture, 252, 352, 15, 1f/15f);
 	}
 
 	/**
 	 * Sets player look animation
-	 * NOTE: iterator is specific to current filmstrip - need to change value if tile dimension changes on filmstrip
+	 * NOTE: frame size and count are specific to current filmstrip - need to change value if tile dimension changes on filmstrip
 	 * */
 	public void setLookAnimation(Texture texture){
-		TextureRegion[][] tempFrames = TextureRegion.split(texture, 252, 352);
-		TextureRegion[] frames = new TextureRegion[32];
-
-		// Placing animation frames in order
-		int index = 0;
-		for (int i=0; i<tempFrames.length; i++) {
-			for (int j=0; j<tempFrames[0].length; j++) {
-				frames[index] = tempFrames[i][j];
-				index++;
-			}
-		}
-
-		// Adjust idle animation speed here
-		lookAnimation = new Animation<>(1f/12f, frames);
+		lookAnimation = AnimationLibrary.get().obtain(texture, 252, 352, 32, 1f/12f);
 	}
 
 	/**
 	 * Sets player takeoff animation
-	 * NOTE: iterator is specific to current filmstrip - need to change value if tile dimension changes on filmstrip
+	 * NOTE: frame size and count are specific to current filmstrip - need to change value if tile dimension changes on filmstrip
 	 * */
 	public void setTakeoffAnimation(Texture texture){
-		TextureRegion[][] tempFrames = TextureRegion.split(texture, texture.getWidth()/2, texture.getHeight());
-		TextureRegion[] frames = new TextureRegion[2];
-
-		// Placing animation frames in order
-		int index = 0;
-		for (int i=0; i<tempFrames.length; i++) {
-			for (int j=0; j<tempFrames[0].length; j++) {
-				frames[index] = tempFrames[i][j];
-				index++;
-			}
-		}
-
-		// Adjust idle animation speed here
-		takeoffAnimation = new Animation<>(1f/12f, frames);
+		takeoffAnimation = AnimationLibrary.get().obtain(texture, texture.getWidth()/2, texture.getHeight(), 2, 1f/12f);
 	}
 
 	/**
 	 * Sets player land animation
-	 * NOTE: iterator is specific to current filmstrip - need to change value if tile dimension changes on filmstrip
+	 * NOTE: frame size and count are specific to current filmstrip - need to change value if tile dimension changes on filmstrip
 	 * */
 	public void setLandAnimation(Texture texture){
-		TextureRegion[][] tempFrames = TextureRegion.split(texture, texture.getWidth()/3, texture.getHeight());
-		TextureRegion[] frames = new TextureRegion[3];
-
-		// Placing animation frames in order
-		int index = 0;
-		for (int i=0; i<tempFrames.length; i++) {
-			for (int j=0; j<tempFrames[0].length; j++) {
-				frames[index] = tempFrames[i][j];
-				index++;
-			}
-		}
-
-		// Adjust idle animation speed here
-		landAnimation = new Animation<>(1f/12f, frames);
+		landAnimation = AnimationLibrary.get().obtain(texture, texture.getWidth()/3, texture.getHeight(), 3, 1f/12f);
 	}
 
 	/**
 	 * Sets player flip animation
-	 * NOTE: iterator is specific to current filmstrip - need to change value if tile dimension changes on filmstrip
+	 * NOTE: frame size and count are specific to current filmstrip - need to change value if tile dimension changes on filmstrip
 	 * */
 	public void setFlipAnimation(Texture texture){
-		TextureRegion[][] tempFrames = TextureRegion.split(texture, texture.getWidth()/4, texture.getHeight()/2);
-		TextureRegion[] frames = new TextureRegion[8];
-
-		// Placing animation frames in order
-		int index = 0;
-		for (int i=0; i<tempFrames.length; i++) {
-			for (int j=0; j<tempFrames[0].length; j++) {
-				frames[index] = tempFrames[i][j];
-				index++;
-			}
-		}
-
-		// Adjust idle animation speed here
-		flipAnimation = new Animation<>(1f/20f, frames);
+		flipAnimation = AnimationLibrary.get().obtain(texture, texture.getWidth()/4, texture.getHeight()/2, 8, 1f/20f);
 	}
 
 	/**
@@ -663,45 +611,44 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 	 * drawing to work properly, you MUST set the drawScale. The drawScale
 	 * converts the physics units to pixels.
 	 *
-	 * @param data  	The physics constants for this player
-	 * @param width		The object width in physics units
-	 * @param height	The object width in physics units
+	 * @param config  	The physics constants for this player
+	 * @param pos		The starting position in physics units
+	 * @param drawDepth	The depth of the player in the drawing order
 	 */
-	public PlayerModel(JsonValue data, Vector2 pos, float width, float height, int maxHp, int drawDepth) {
+	public PlayerModel(PlayerConfig config, Vector2 pos, int drawDepth) {
 		// The shrink factors fit the image to a tigher hitbox
 		super(	pos.x,
 				pos.y,
-				width*data.get("shrink").getFloat( 0 ),
-				height*data.get("shrink").getFloat( 1 ));
+				config.width*config.shrinkX,
+				config.height*config.shrinkY);
 
-		float density = FINAL_MASS / (width *data.get("shrink").getFloat( 0 )
-				* height * data.get("shrink").getFloat( 1 ));
+		float density = FINAL_MASS / (config.width*config.shrinkX * config.height*config.shrinkY);
 
 		setDensity(density);
-		setFriction(data.getFloat("friction", 0));  /// HE WILL STICK TO WALLS IF YOU FORGET
+		setFriction(config.friction);  /// HE WILL STICK TO WALLS IF YOU FORGET
 		setFixedRotation(true);
 
-		maxspeed_x_ground = data.getFloat("maxspeed_x_ground", 0);
-		maxspeed_x_air_wind = data.getFloat("maxspeed_x_air_wind", 0);
-		maxspeed_x_air_drag = data.getFloat("maxspeed_x_air_drag", 0);
-		maxspeed_up = data.getFloat("maxspeed_up", 0);
-		maxspeed_down_open = data.getFloat("maxspeed_down_open", 0);
-		maxspeed_down_closed = data.getFloat("maxspeed_down_closed", 0);
-		damping = data.getFloat("damping", 0);
-		force = data.getFloat("force", 0);
-		size = data.get("size").asFloatArray();
+		maxspeed_x_ground = config.maxSpeedXGround;
+		maxspeed_x_air_wind = config.maxSpeedXAirWind;
+		maxspeed_x_air_drag = config.maxSpeedXAirDrag;
+		maxspeed_up = config.maxSpeedUp;
+		maxspeed_down_open = config.maxSpeedDownOpen;
+		maxspeed_down_closed = config.maxSpeedDownClosed;
+		damping = config.damping;
+		force = config.force;
+		size = new float[] {config.width, config.height};
 		sensorName = "PlayerGroundSensor";
-		lighterForce = data.getFloat("lighter_force");
-		maxLighterFuel = data.getFloat("lighter_fuel");
+		lighterForce = config.lighterForce;
+		maxLighterFuel = config.lighterFuel;
 		lighterFuel = maxLighterFuel;
-		lighterChangeRate = data.getFloat("lighter_change_rate");
-		this.data = data;
+		lighterChangeRate = config.lighterChangeRate;
+		this.config = config;
 
 		// Gameplay attributes
 		isGrounded = false;
 		isJumping = false;
 		faceRight = true;
-		setMaxHealth(maxHp);
+		setMaxHealth(config.maxHealth);
 		setHealth(getMaxHealth());
 		jumpCooldown = 0;
 		setName("player");
@@ -736,12 +683,13 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 		// collisions with the world but has no collision response.
 		Vector2 sensorCenter = new Vector2(0, -getHeight() / 2);
 		FixtureDef sensorDef = new FixtureDef();
-		sensorDef.density = data.getFloat("density",0);
+		sensorDef.density = config.density;
 		sensorDef.isSensor = true;
-		sensorShape = new PolygonShape();
-		JsonValue sensorjv = data.get("sensor");
-		sensorShape.setAsBox(sensorjv.getFloat("shrink",0)*getWidth()/2.0f,
-				sensorjv.getFloat("height",0), sensorCenter, 0.0f);
+		if (sensorShape == null) {
+			sensorShape = NativeTracker.get().track(this, new PolygonShape());
+		}
+		sensorShape.setAsBox(config.sensorShrink*getWidth()/2.0f,
+				config.sensorHeight, sensorCenter, 0.0f);
 		sensorDef.shape = sensorShape;
 
 		// Ground sensor to represent our feet
@@ -870,7 +818,7 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
                     forceCache.y = getVY();
                 } else forceCache.y = umbrellaY * lighterForce * yscl;
             }
-            body.setLinearVelocity(forceCache);
+            setLinearVelocity(forceCache);
             return true;
         }
         return false;
@@ -901,18 +849,63 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 		// Apply cooldowns
 		if(iFrames!=0) iFrames--;
 		if (currentFrameCount != 0) currentFrameCount--;
+		// the one-shot animations end with their frame count
+		if (currentFrameCount == 0) {
+			flipping = false;
+			takeoff = false;
+			landing = false;
+		}
 
 		super.update(dt);
 	}
 
+	@Override
+	public void writeRenderState(RenderSnapshot snapshot) {
+		snapshot.write(faceRight);
+		snapshot.write(isMoving());
+		snapshot.write(isGrounded);
+		snapshot.write(isZooming && getLinearVelocity().epsilonEquals(0, 0));
+		snapshot.write(flipping);
+		snapshot.write(takeoff);
+		snapshot.write(landing);
+		snapshot.write(flipEffect);
+		snapshot.write(iFrames);
+		snapshot.write(health);
+		snapshot.write(lighterFuel);
+		snapshot.write(drawIndicator);
+		snapshot.write(indicatorAngle);
+	}
+
+	@Override
+	public void readRenderState(RenderSnapshot snapshot) {
+		renderFaceRight = snapshot.readBoolean();
+		renderMoving = snapshot.readBoolean();
+		renderGrounded = snapshot.readBoolean();
+		renderLooking = snapshot.readBoolean();
+		renderFlipping = snapshot.readBoolean();
+		renderTakeoff = snapshot.readBoolean();
+		renderLanding = snapshot.readBoolean();
+		float effect = snapshot.read();
+		if (effect != renderFlipEffect) {
+			// a new flip, possibly interrupting the last one
+			flipElapsedTime = 0;
+		}
+		renderFlipEffect = effect;
+		renderIFrames = snapshot.readInt();
+		renderHealth = snapshot.readInt();
+		renderFuel = snapshot.read();
+		renderIndicatorShown = snapshot.readBoolean();
+		renderIndicatorAngle = snapshot.read();
+	}
+
 	/**
 	 * auxillary method to simplify draw method below.
 	 */
 	private void drawAux(GameCanvas canvas, Color tint){
 		// mirror left or right (if player is facing left, this should be -1)
-		float effect = faceRight ? -1.0f : 1.0f;
+		float effect = renderFaceRight ? -1.0f : 1.0f;
 		TextureRegion t;
-		if(flipping){
+		if(renderFlipping){
 			// Reset other animation elapsed time
 			fallElapsedTime = 0;
 			idleElapsedTime = 0;
@@ -924,17 +917,13 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 			flipElapsedTime += Gdx.graphics.getDeltaTime();
 			t = flipAnimation.getKeyFrame(flipElapsedTime, false);
 
-			if (currentFrameCount == 0) {
-				flipping = false;
-			}
-
 			canvas.draw(t, tint, t.getRegionWidth() / 2f, t.getRegionHeight() / 2f,
-					getX() * drawScale.x, getY() * drawScale.y, getAngle(),
-					flipEffect * size[0] / t.getRegionWidth() * drawScale.x, size[1] / t.getRegionHeight() * drawScale.y);
+					getRenderX() * drawScale.x, getRenderY() * drawScale.y, getRenderAngle(),
+					renderFlipEffect * size[0] / t.getRegionWidth() * drawScale.x, size[1] / t.getRegionHeight() * drawScale.y);
 		}
 		else {
 			flipElapsedTime = 0;
-			if(landing && !isMoving()){
+			if(renderLanding && !renderMoving){
 				takeoffElapsedTime = 0;
 				fallElapsedTime = 0;
 				walkElapsedTime = 0;
@@ -943,11 +932,8 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 
 				landElapsedTime += Gdx.graphics.getDeltaTime();
 				t = landAnimation.getKeyFrame(landElapsedTime, false);
-				if (currentFrameCount == 0) {
-					landing = false;
-				}
 			}
-			else if (isGrounded() && isMoving()) {
+			else if (renderGrounded && renderMoving) {
 				// Reset other animation elapsed time
 				fallElapsedTime = 0;
 				idleElapsedTime = 0;
@@ -958,14 +944,14 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 				// Walk animation
 				walkElapsedTime += Gdx.graphics.getDeltaTime();
 				t = walkAnimation.getKeyFrame(walkElapsedTime, true);
-			} else if (isGrounded() && !isMoving()) {
+			} else if (renderGrounded && !renderMoving) {
 				// Reset other animation elapsed time
 				walkElapsedTime = 0f;
 				fallElapsedTime = 0;
 				takeoffElapsedTime = 0;
 				landElapsedTime = 0;
 
-				if (isZooming() && getLinearVelocity().epsilonEquals(0, 0)) {
+				if (renderLooking) {
 					idleElapsedTime = 0;
 					//look animation
 					lookElapsedTime += Gdx.graphics.getDeltaTime();
@@ -983,14 +969,11 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 				lookElapsedTime = 0;
 				landElapsedTime = 0;
 
-				if(takeoff){
+				if(renderTakeoff){
 					fallElapsedTime = 0;
 
 					takeoffElapsedTime += Gdx.graphics.getDeltaTime();
 					t = takeoffAnimation.getKeyFrame(takeoffElapsedTime, false);
-					if (currentFrameCount == 0) {
-						takeoff = false;
-					}
 				}
 				else {
 					// Reset other animation elapsed time
@@ -1002,25 +985,25 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
 				}
 			}
 			canvas.draw(t, tint, t.getRegionWidth() / 2f, t.getRegionHeight() / 2f,
-					getX() * drawScale.x, getY() * drawScale.y, getAngle(),
+					getRenderX() * drawScale.x, getRenderY() * drawScale.y, getRenderAngle(),
 					effect * size[0] / t.getRegionWidth() * drawScale.x, size[1] / t.getRegionHeight() * drawScale.y);
 		}
 	}
 
 	public void drawIndicator(GameCanvas canvas){
 		Color tint = fade;
-		if (drawIndicator){
+		if (renderIndicatorShown){
 			tint = Color.WHITE;
 		}
 		// formula to compute angle from y-axis(0 rads) to angle from x-axis(0 rads)
-		float cartesianAngle= indicatorAngle + (float) Math.PI / 2;
+		float cartesianAngle= renderIndicatorAngle + (float) Math.PI / 2;
 		float offset = getHeight() * 0.75f;
 		float offsetX = (float) (offset * Math.cos(cartesianAngle));
 		float offsetY = (float) (offset * Math.sin(cartesianAngle));
 		canvas.draw(indicatorTexture, tint, indicatorTexture.getRegionWidth() / 2f,
 				indicatorTexture.getRegionHeight() / 2f,
-				(getX() + offsetX) * drawScale.x, (getY() + offsetY) * drawScale.y,
-				indicatorAngle, 0.1f, 0.1f);
+				(getRenderX() + offsetX) * drawScale.x, (getRenderY() + offsetY) * drawScale.y,
+				renderIndicatorAngle, 0.1f, 0.1f);
 	}
       
     /**
@@ -1029,7 +1012,7 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
      * @param canvas Drawing context
      */
     public void draw(GameCanvas canvas) {
-        if (iFrames > 0) {
+        if (renderIFrames > 0) {
             if (iFrameCountdown == 0) {
                 iFrameCountdown = 7;
                 drawIFrameTexture = !drawIFrameTexture;
@@ -1056,17 +1039,17 @@ public class PlayerModel extends CapsuleObstacle implements Drawable {
         if (hpTexture == null) {
             return;
         }
-        float height = hpTexture[health].getRegionHeight();
-        float width = hpTexture[health].getRegionWidth();
+        float height = hpTexture[renderHealth].getRegionHeight();
+        float width = hpTexture[renderHealth].getRegionWidth();
 
         // TODO: HP Texture is manually scaled at the moment
-        canvas.draw(hpTexture[health], Color.WHITE, width / 2f, height / 2f, drawScale.x,
+        canvas.draw(hpTexture[renderHealth], Color.WHITE, width / 2f, height / 2f, drawScale.x,
                 canvas.getCamera().getViewHeight() - drawScale.y, 0, 0.3f, 0.3f);
 
         // TODO: Boost Texture is manually scaled at the moment
-        int boost_capac = (int) (lighterFuel / maxLighterFuel * 9);
-        canvas.draw(boostTexture[boost_capac], Color.WHITE, boostTexture[health].getRegionWidth() / 2f,
-                boostTexture[health].getRegionHeight() / 2f, drawScale.x,
+        int boost_capac = (int) (renderFuel / maxLighterFuel * 9);
+        canvas.draw(boostTexture[boost_capac], Color.WHITE, boostTexture[renderHealth].getRegionWidth() / 2f,
+                boostTexture[renderHealth].getRegionHeight() / 2f, drawScale.x,
 				canvas.getCamera().getViewHeight() - drawScale.y * 2,
                 0, 0.3f, 0.3f);
     }
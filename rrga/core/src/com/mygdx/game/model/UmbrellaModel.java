@@ -7,15 +7,18 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
-import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.config.UmbrellaConfig;
+import com.mygdx.game.simulation.RenderSnapshot;
+import com.mygdx.game.utility.assets.AnimationLibrary;
 import com.mygdx.game.utility.obstacle.BoxObstacle;
+import com.mygdx.game.utility.obstacle.NativeTracker;
 
 public class UmbrellaModel extends BoxObstacle {
     /**
-     * The initializing data (to avoid magic numbers)
+     * The initializing constants (to avoid magic numbers)
      */
-    private JsonValue data;
+    private final UmbrellaConfig config;
     /**
      * The factor to multiply by the input
      */
@@ -125,13 +128,35 @@ public class UmbrellaModel extends BoxObstacle {
     private int BOOST_ANIMATION_FRAMECOUNT = 32;
     public boolean canBoost;
 
+    //Render state (see RenderSnapshot)
+    /**
+     * Whether the umbrella faces right in the last render snapshot
+     */
+    private boolean renderFaceRight = true;
+    /**
+     * Whether the umbrella can boost in the last render snapshot
+     */
+    private boolean renderCanBoost;
+    /**
+     * Whether the umbrella is boosting in the last render snapshot
+     */
+    private boolean renderBoosting;
+    /**
+     * The open mode in the last render snapshot
+     */
+    private int renderOpenMode;
+    /**
+     * Whether the umbrella is open in the last render snapshot
+     */
+    private boolean renderOpened;
 
-    public UmbrellaModel(JsonValue data, Vector2 pos, float width, float height) {
+
+    public UmbrellaModel(UmbrellaConfig config, Vector2 pos) {
         super(pos.x, pos.y,
-                width * data.get("shrink").getFloat(0),
-                height * data.get("shrink").getFloat(1));
-        setDensity(data.getFloat("density", 0));
-        setFriction(data.getFloat("friction", 0));  /// WILL STICK TO WALLS IF YOU FORGET
+                config.width * config.shrinkX,
+                config.height * config.shrinkY);
+        setDensity(config.density);
+        setFriction(config.friction);  /// WILL STICK TO WALLS IF YOU FORGET
         setFixedRotation(false);
         //if we don't do this, the umbrella doesn't stay in position
         setGravityScale(0);
@@ -139,10 +164,12 @@ public class UmbrellaModel extends BoxObstacle {
         //setSensor(true);
         setBodyType(BodyDef.BodyType.StaticBody);
 
-        force = data.getFloat("force", 0);
-        size = data.get("size").asFloatArray();
+        force = config.force;
+        size = new float[] {config.width, config.height};
         sensorName = "umbrellaSensor";
-        this.data = data;
+        closedMomentumX = config.closedMomentumX;
+        closedMomentumY = config.closedMomentumY;
+        this.config = config;
         faceRight = true;
         setName("umbrella");
         open = false;
@@ -159,7 +186,9 @@ public class UmbrellaModel extends BoxObstacle {
         Vector2 sensorCenter = new Vector2(0, 3 * getHeight() / 8);
         sensorDef.density = 0;
         sensorDef.isSensor = true;
-        sensorShape = new PolygonShape();
+        if (sensorShape == null) {
+            sensorShape = NativeTracker.get().track(this, new PolygonShape());
+        }
         sensorShape.setAsBox(getWidth() / 2, getHeight() / 8, sensorCenter, 0.0f);
         sensorDef.shape = sensorShape;
         Fixture sensorFixture = body.createFixture(sensorDef);
@@ -240,58 +269,79 @@ public class UmbrellaModel extends BoxObstacle {
     public void update(float dt) {
         // Apply cooldowns
         if (currentFrameCount != 0) currentFrameCount--;
+        // the open, close and boost animations end with their frame count
+        if (currentFrameCount == 0) {
+            openMode = 0;
+            isBoosting = false;
+        }
 
         super.update(dt);
     }
 
+    @Override
+    public void writeRenderState(RenderSnapshot snapshot) {
+        snapshot.write(faceRight);
+        snapshot.write(canBoost);
+        snapshot.write(isBoosting);
+        snapshot.write(openMode);
+        snapshot.write(texture == openTexture);
+    }
+
+    @Override
+    public void readRenderState(RenderSnapshot snapshot) {
+        renderFaceRight = snapshot.readBoolean();
+        renderCanBoost = snapshot.readBoolean();
+        renderBoosting = snapshot.readBoolean();
+        int mode = snapshot.readInt();
+        if (mode != renderOpenMode) {
+            // a new open or close animation starts from its first frame
+            openElapsedTime = 0;
+        }
+        renderOpenMode = mode;
+        renderOpened = snapshot.readBoolean();
+        if (!renderBoosting) {
+            boostElapsedTime = 0;
+        }
+    }
+
     /**
      * Draws the physics object.
      *
      * @param canvas Drawing context
      */
     public void draw(GameCanvas canvas) {
-        float effect = faceRight ? 1.0f : -1.0f;
-        Animation<TextureRegion> closeAnimation = canBoost ? closeAnimationFull : closeAnimationEmpty;
-        Animation<TextureRegion> openAnimation = canBoost ? openAnimationFull : openAnimationEmpty;
+        float effect = renderFaceRight ? 1.0f : -1.0f;
+        Animation<TextureRegion> closeAnimation = renderCanBoost ? closeAnimationFull : closeAnimationEmpty;
+        Animation<TextureRegion> openAnimation = renderCanBoost ? openAnimationFull : openAnimationEmpty;
         //canvas.setBlendState(GameCanvas.BlendState.OPAQUE);
         TextureRegion t;
         //not boosting
-        if (!isBoosting) {
-            if (openMode == -1) {
+        if (!renderBoosting) {
+            if (renderOpenMode == -1) {
                 // Playing umbrella close animation
                 openElapsedTime += Gdx.graphics.getDeltaTime();
                 t = closeAnimation.getKeyFrame(openElapsedTime, false);
                 canvas.draw(t, Color.WHITE, t.getRegionWidth() / 2f, t.getRegionHeight() / 2f,
-                        getX() * drawScale.x, getY() * drawScale.y, getAngle(),
+                        getRenderX() * drawScale.x, getRenderY() * drawScale.y, getRenderAngle(),
                         effect * size[0] / t.getRegionWidth() * drawScale.x, size[1] / t.getRegionHeight() * drawScale.y);
-
-                // Reset to default openMode
-                if (currentFrameCount == 0) {
-                    openMode = 0;
-                }
-            } else if (openMode == 1) {
+            } else if (renderOpenMode == 1) {
                 // Playing umbrella open animation
                 openElapsedTime += Gdx.graphics.getDeltaTime();
                 t = openAnimation.getKeyFrame(openElapsedTime, false);
                 canvas.draw(t, Color.WHITE, t.getRegionWidth() / 2f, t.getRegionHeight() / 2f,
-                        getX() * drawScale.x, getY() * drawScale.y, getAngle(),
+                        getRenderX() * drawScale.x, getRenderY() * drawScale.y, getRenderAngle(),
                         effect * size[0] / t.getRegionWidth() * drawScale.x, size[1] / t.getRegionHeight() * drawScale.y);
-
-                // Reset to default openMode
-                if (currentFrameCount == 0) {
-                    openMode = 0;
-                }
-            } else if (openMode == 0) {
-                TextureRegion[] openAnimationFrames = canBoost ? openAnimationFramesFull : openAnimationFramesEmpty;
-                if (texture == openTexture) {
+            } else if (renderOpenMode == 0) {
+                TextureRegion[] openAnimationFrames = renderCanBoost ? openAnimationFramesFull : openAnimationFramesEmpty;
+                if (renderOpened) {
                     t = openAnimationFrames[openAnimationFrames.length - 1];
                     canvas.draw(t, Color.WHITE, t.getRegionWidth() / 2f, t.getRegionHeight() / 2f,
-                            getX() * drawScale.x, getY() * drawScale.y, getAngle(),
+                            getRenderX() * drawScale.x, getRenderY() * drawScale.y, getRenderAngle(),
                             effect * size[0] / t.getRegionWidth() * drawScale.x, size[1] / t.getRegionHeight() * drawScale.y);
                 } else {
                     t = openAnimationFrames[0];
                     canvas.draw(t, Color.WHITE, t.getRegionWidth() / 2f, t.getRegionHeight() / 2f,
-                            getX() * drawScale.x, getY() * drawScale.y, getAngle(),
+                            getRenderX() * drawScale.x, getRenderY() * drawScale.y, getRenderAngle(),
                             effect * size[0] / t.getRegionWidth() * drawScale.x, size[1] / t.getRegionHeight() * drawScale.y);
                 }
             }
@@ -303,12 +353,8 @@ public class UmbrellaModel extends BoxObstacle {
             boostElapsedTime += Gdx.graphics.getDeltaTime();
             t = boostAnimation.getKeyFrame(boostElapsedTime, false);
             canvas.draw(t, Color.WHITE, t.getRegionWidth() / 2f, t.getRegionHeight() / 2f,
-                    getX() * drawScale.x, getY() * drawScale.y, getAngle(),
+                    getRenderX() * drawScale.x, getRenderY() * drawScale.y, getRenderAngle(),
                     effect * size[0] / t.getRegionWidth() * drawScale.x, size[1] / t.getRegionHeight() * drawScale.y);
-            if (currentFrameCount == 0) {
-                isBoosting = false;
-                boostElapsedTime = 0;
-            }
         }
     }
 
@@ -345,43 +391,17 @@ public class UmbrellaModel extends BoxObstacle {
      * NOTE: iterator is specific to current filmstrip - need to change value if tile dimension changes on filmstrip
      */
     public void setOpenAnimation(Texture textureFull, Texture textureEmpty) {
-        TextureRegion[][] tempFrames = TextureRegion.split(textureFull, 469, 600);
-        openAnimationFramesFull = new TextureRegion[6];
-
-        // Setting animation frames
-        int index = 0;
-        for (int i = 0; i < 1; i++) {
-            for (int j = 0; j < 6; j++) {
-                openAnimationFramesFull[index] = tempFrames[i][j];
-                index++;
-            }
-        }
-
-        // NOTE: If changing frameDuration, make sure to change OPEN_ANIMATION_FRAMECOUNT accordingly.
-        this.openAnimationFull = new Animation<>(1f / 20f, openAnimationFramesFull);
-        openAnimationFull.setPlayMode(Animation.PlayMode.NORMAL);
-
-        this.closeAnimationFull = new Animation<>(1f / 20f, openAnimationFramesFull);
-        closeAnimationFull.setPlayMode(Animation.PlayMode.REVERSED);
-
-        tempFrames = TextureRegion.split(textureEmpty, 469, 600);
-        openAnimationFramesEmpty = new TextureRegion[6];
-
-        // Setting animation frames
-        index = 0;
-        for (int i = 0; i < 1; i++) {
-            for (int j = 0; j < 6; j++) {
-                openAnimationFramesEmpty[index] = tempFrames[i][j];
-                index++;
-            }
-        }
+        AnimationLibrary library = AnimationLibrary.get();
 
         // NOTE: If changing frameDuration, make sure to change OPEN_ANIMATION_FRAMECOUNT accordingly.
-        this.openAnimationEmpty = new Animation<>(1f / 20f, openAnimationFramesEmpty);
-        openAnimationEmpty.setPlayMode(Animation.PlayMode.NORMAL);
-
-        this.closeAnimationEmpty = new Animation<>(1f / 20f, openAnimationFramesEmpty);
-        closeAnimationEmpty.setPlayMode(Animation.PlayMode.REVERSED);
+        // The open and close animations share the same frames, played in opposite directions.
+        openAnimationFramesFull = library.frames(textureFull, 469, 600, 6);
+        this.openAnimationFull = library.obtain(textureFull, 469, 600, 6, 1f / 20f, Animation.PlayMode.NORMAL);
+        this.closeAnimationFull = library.obtain(textureFull, 469, 600, 6, 1f / 20f, Animation.PlayMode.REVERSED);
+
+        openAnimationFramesEmpty = library.frames(textureEmpty, 469, 600, 6);
+        this.openAnimationEmpty = library.obtain(textureEmpty, 469, 600, 6, 1f / 20f, Animation.PlayMode.NORMAL);
+        this.closeAnimationEmpty = library.obtain(textureEmpty, 469, 600, 6, 1f / 20f, Animation.PlayMode.REVERSED);
     }
 
     /**
@@ -389,20 +409,8 @@ public class UmbrellaModel extends BoxObstacle {
      * NOTE: iterator is specific to current filmstrip - need to change value if tile dimension changes on filmstrip
      */
     public void setBoostAnimation(Texture texture) {
-        TextureRegion[][] tempFrames = TextureRegion.split(texture, texture.getWidth() / 4, texture.getHeight() / 4);
-        TextureRegion[] frames = new TextureRegion[16];
-
-        // Setting animation frames
-        int index = 0;
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                frames[index] = tempFrames[i][j];
-                index++;
-            }
-        }
-
-        this.boostAnimation = new Animation<>(1f / 20f, frames);
-        boostAnimation.setPlayMode(Animation.PlayMode.NORMAL);
+        this.boostAnimation = AnimationLibrary.get().obtain(texture, texture.getWidth() / 4, texture.getHeight() / 4,
+                16, 1f / 20f, Animation.PlayMode.NORMAL);
     }
 
     /**
@@ -415,7 +423,6 @@ public class UmbrellaModel extends BoxObstacle {
             setTexture(openTexture);
             currentFrameCount = OPEN_ANIMATION_FRAMECOUNT;
             openMode = 1;
-            openElapsedTime = 0;
         }
     }
 
@@ -429,7 +436,6 @@ public class UmbrellaModel extends BoxObstacle {
             setTexture(closedTexture);
             currentFrameCount = OPEN_ANIMATION_FRAMECOUNT;
             openMode = -1;
-            openElapsedTime = 0;
         }
     }
 
@@ -205,7 +205,7 @@ public class WindModel extends PolygonObstacle implements Drawable {
 
         PolygonRegion p = new PolygonRegion(t, verts,region.getTriangles());
 
-        canvas.draw(p, Color.WHITE, -xOffset, -yOffset,getX()*drawScale.x + xOffset,getY()*drawScale.y + yOffset,
+        canvas.draw(p, Color.WHITE, -xOffset, -yOffset,getRenderX()*drawScale.x + xOffset,getRenderY()*drawScale.y + yOffset,
                     direction-((float) Math.PI/2),1,1);
     }
 
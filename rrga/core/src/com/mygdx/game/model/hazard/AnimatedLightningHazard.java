@@ -7,8 +7,9 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.spec.LightningSpec;
+import com.mygdx.game.utility.audio.SpatialAudio;
 import com.mygdx.game.utility.obstacle.ComplexObstacle;
 import com.mygdx.game.utility.obstacle.Obstacle;
 import com.mygdx.game.utility.obstacle.PolygonObstacle;
@@ -17,8 +18,6 @@ import com.mygdx.game.utility.util.FilmStrip;
 
 public class AnimatedLightningHazard extends ComplexObstacle implements HazardModel, Drawable {
 
-    private static final int DEFAULT_STRIKE_DURATION = 100;
-
     private final Vector2 temp = new Vector2();
 
     /** the layer depth of this animated object when drawn */
@@ -55,26 +54,41 @@ public class AnimatedLightningHazard extends ComplexObstacle implements HazardMo
 
     private final float knockBack;
 
+    /** the volume of a strike, relative to the other sound effects */
+    private static final float STRIKE_VOLUME = 0.1f;
+    /** the duration of a strike sound in seconds */
+    private static final float STRIKE_DURATION = 2.0f;
+
     private Sound sfx;
-    private float sfxVol;
-    public void setSfxVol(float vol){sfxVol = vol;}
+    /** the spatial audio layer playing the strikes (null if silent) */
+    private SpatialAudio audio;
+    /** the handle of this lightning's emitter in the spatial audio layer */
+    private int emitter = SpatialAudio.INVALID;
+
+    /**
+     * Registers this lightning's strikes with the given spatial audio layer.
+     * @param audio the spatial audio layer of the level
+     */
+    public void setAudio(SpatialAudio audio){
+        this.audio = audio;
+        emitter = audio.register(sfx, getX(), getY(), STRIKE_VOLUME, STRIKE_DURATION);
+    }
 
     /**
      * Creates an animating lightning whose properties are contained within the given data.
-     * @param data JSON data with properties: position, dimensions, filmstrip size
+     * @param data lightning descriptor with properties: position, dimensions, filmstrip size
      * @param animationTexture the filmstrip containing each frame of the animation
      */
-    public AnimatedLightningHazard(JsonValue data, Texture animationTexture, int dmg, float knockBack, Sound sfx){
-        super(data.getFloat("x"), data.getFloat("y"));
-        drawDepth = data.getInt("depth");
-        flippedX = data.getBoolean("flipped");
+    public AnimatedLightningHazard(LightningSpec data, Texture animationTexture, int dmg, float knockBack, Sound sfx){
+        super(data.getX(), data.getY());
+        drawDepth = data.getDepth();
+        flippedX = data.isFlipped();
         // this is the bounding box dimensions of the texture that contains all animation frames.
-        // aabb = [x,y, width, height] where x,y is relative to lightning asset coordinate
-        float[] aabb = data.get("AABB").asFloatArray();
-        boxCoordinate.set(aabb[0], aabb[1]);
-        dimensions.set(aabb[2], aabb[3]);
-        int cols = animationTexture.getWidth() / data.getInt("filmStripWidth");
-        int rows = animationTexture.getHeight() / data.getInt("filmStripHeight");
+        // box is relative to lightning asset coordinate
+        boxCoordinate.set(data.getBoxX(), data.getBoxY());
+        dimensions.set(data.getBoxWidth(), data.getBoxHeight());
+        int cols = animationTexture.getWidth() / data.getFilmStripWidth();
+        int rows = animationTexture.getHeight() / data.getFilmStripHeight();
         frames = new FilmStrip(animationTexture, rows, cols);
         this.sfx=sfx;
 
@@ -83,17 +97,16 @@ public class AnimatedLightningHazard extends ComplexObstacle implements HazardMo
         for (Integer d : frameCounts){
             growDuration += d;
         }
-        frameCounts[5] = data.getInt("strike_duration", DEFAULT_STRIKE_DURATION) - growDuration;
+        frameCounts[5] = data.getStrikeDuration() - growDuration;
         activeFrameIndex = 0;
 
-        waitFrameCount = data.getInt("strike_timer", DEFAULT_STRIKE_DURATION) - growDuration;
-        waitCounter = waitFrameCount + data.getInt("initial_timer_offset");
+        waitFrameCount = data.getStrikeTimer() - growDuration;
+        waitCounter = waitFrameCount + data.getInitialTimerOffset();
 
-        float x = data.getFloat("x");
-        float y = data.getFloat("y");
-        for (JsonValue hitBoxData : data.get("hitboxes")){
-            float[] points = hitBoxData.asFloatArray();
-            Obstacle o = new PolygonObstacle(points, x, y);
+        float x = data.getX();
+        float y = data.getY();
+        for (int ii = 0; ii < data.getHitboxCount(); ii++){
+            Obstacle o = new PolygonObstacle(data.getHitbox(ii), x, y);
             o.setBodyType(BodyDef.BodyType.StaticBody);
             o.setDensity(0);
             o.setFriction(0);
@@ -121,14 +134,23 @@ public class AnimatedLightningHazard extends ComplexObstacle implements HazardMo
         return true;
     }
 
+    @Override
+    public boolean isDrawn() {
+        return bodies.get(activeFrameIndex).isActive();
+    }
+
+    @Override
+    public int getDrawnFrame() {
+        return activeFrameIndex;
+    }
+
     @Override
     public void draw(GameCanvas canvas) {
-        if (waitCounter==0) sfx.play(sfxVol*.1f);
-        if (bodies.get(activeFrameIndex).isActive()) {
+        if (isRenderVisible()) {
             int effect = flippedX ? -1 : 1;
-            frames.setFrame(activeFrameIndex);
+            frames.setFrame(getRenderFrame());
             canvas.draw(frames, Color.WHITE, frames.getRegionWidth() / 2f, frames.getRegionHeight() / 2f,
-                    getX() * drawScale.x, getY() * drawScale.y, getAngle(),
+                    getRenderX() * drawScale.x, getRenderY() * drawScale.y, getRenderAngle(),
                     effect * dimensions.x / frames.getRegionWidth() * drawScale.x,
                     dimensions.y / frames.getRegionHeight() * drawScale.y);
         }
@@ -176,6 +198,7 @@ public class AnimatedLightningHazard extends ComplexObstacle implements HazardMo
         }
         else if (waitCounter == 0){
             // finished waiting, transition to strike cycle
+            if (audio != null) audio.play(emitter);
             switchFrames();
             waitCounter--;
         }
@@ -1,7 +1,6 @@
 package com.mygdx.game.model.hazard;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
@@ -9,9 +8,13 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
-import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.simulation.RenderSnapshot;
+import com.mygdx.game.spec.BirdSpec;
+import com.mygdx.game.utility.assets.AnimationLibrary;
+import com.mygdx.game.utility.audio.SpatialAudio;
 import com.mygdx.game.utility.obstacle.ComplexObstacle;
+import com.mygdx.game.utility.obstacle.NativeTracker;
 import com.mygdx.game.utility.obstacle.Obstacle;
 import com.mygdx.game.utility.obstacle.PolygonObstacle;
 import com.mygdx.game.utility.util.Drawable;
@@ -64,6 +67,11 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
      */
     private final int sensorRadius;
 
+    /**
+     * Outline of the sensor in debug mode (created on first use)
+     */
+    private CircleShape sensorShape;
+
     /**
      * A list of points which represent this bird's flight path.
      * Invariant: length >=2 and length is even.
@@ -147,11 +155,8 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
     /** Bird flap animation elapsed time */
     float flapElapsedTime;
 
-    /** Bird warning animation frames */
-    private TextureRegion[][] warningTmpFrames;
-
-    /** Bird warning animation frames */
-    private TextureRegion[] warningAnimationFrames;
+    /** Bird flap animation frame drawn last (-1 when not flapping) */
+    private int flapFrame = -1;
 
     /** Bird warning animation*/
     private Animation<TextureRegion> warningAnimation;
@@ -159,6 +164,15 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
     /** Bird waning animation elapsed time */
     float warningElapsedTime;
 
+    /** Whether the bird faces right in the last render snapshot */
+    boolean renderFaceRight;
+
+    /** Whether the bird is still (neither angry nor moving) in the last render snapshot */
+    private boolean renderStill;
+
+    /** Whether the bird shows its warning in the last render snapshot */
+    private boolean renderWarning;
+
 
     /**
      * Whether this bird sees its target.
@@ -239,9 +253,25 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
     @Override
     public float getKnockBackScl() { return knockBackScl; }
 
-    private Music sfx;
-    private float sfxVol;
-    public void setSfxVol(float vol){sfxVol = vol;}
+    /** the volume of a wing beat, relative to the other sound effects */
+    private static final float FLAP_VOLUME = 0.7f;
+    /** the duration of a wing beat sound in seconds */
+    private static final float FLAP_DURATION = 0.5f;
+
+    private Sound sfx;
+    /** the spatial audio layer playing the wing beats (null if silent) */
+    private SpatialAudio audio;
+    /** the handle of this bird's emitter in the spatial audio layer */
+    private int emitter = SpatialAudio.INVALID;
+
+    /**
+     * Registers this bird's wing beats with the given spatial audio layer.
+     * @param audio the spatial audio layer of the level
+     */
+    public void setAudio(SpatialAudio audio){
+        this.audio = audio;
+        emitter = audio.register(sfx, getX(), getY(), FLAP_VOLUME, FLAP_DURATION);
+    }
 
     /**
      * Sets bird flapping animation
@@ -251,23 +281,10 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
             return;
         }
 
-        TextureRegion[][] flapTmpFrames = TextureRegion.split(flapTexture, (int) filmStripSize.x, (int) filmStripSize.y);
-        int columns = flapTmpFrames.length == 0? 0 : flapTmpFrames[0].length;
-        // Bird flap animation frames
-        TextureRegion[] flapAnimationFrames = new TextureRegion[flapTmpFrames.length * columns];
-
-        // PLacing animation frames in order
-        int index = 0;
-        for (TextureRegion[] flapTmpFrame : flapTmpFrames) {
-            for (TextureRegion textureRegion : flapTmpFrame) {
-                flapAnimationFrames[index] = textureRegion;
-                index++;
-            }
-        }
-        // Adjust frame duration here
-        this.flapAnimation = new Animation<>(1f/10f, flapAnimationFrames);
-        flapAnimation.setPlayMode(Animation.PlayMode.LOOP);
-        this.stillFrame = flapAnimationFrames[stillFrameIndex];
+        // Adjust frame duration here (the animation is shared by every bird of this color)
+        this.flapAnimation = AnimationLibrary.get().obtain(flapTexture, (int) filmStripSize.x, (int) filmStripSize.y,
+                0, 1f/10f, Animation.PlayMode.LOOP);
+        this.stillFrame = flapAnimation.getKeyFrames()[stillFrameIndex];
     }
 
     public void setWarningAnimation(Texture warningTexture){
@@ -275,20 +292,9 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
             return;
         }
 
-        warningTmpFrames = TextureRegion.split(warningTexture, warningTexture.getWidth()/4, warningTexture.getHeight());
-        int columns = warningTmpFrames.length == 0? 0 : warningTmpFrames[0].length;
-        warningAnimationFrames = new TextureRegion[warningTmpFrames.length * columns];
-
-        // PLacing animation frames in order
-        int index = 0;
-        for (TextureRegion[] warningTmpFrame : warningTmpFrames) {
-            for (TextureRegion textureRegion : warningTmpFrame) {
-                warningAnimationFrames[index] = textureRegion;
-                index++;
-            }
-        }
         // Adjust frame duration here
-        this.warningAnimation = new Animation<>(1f/10f, warningAnimationFrames);
+        this.warningAnimation = AnimationLibrary.get().obtain(warningTexture, warningTexture.getWidth()/4,
+                warningTexture.getHeight(), 0, 1f/10f);
     }
 
     /**
@@ -342,29 +348,27 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
         this.currentPathIndex = 0;
     }
 
-    public BirdHazard(JsonValue data, int birdDamage, int birdSensorRadius, float birdKnockBack, Music sfx) {
-        super(data.getFloat("x"), data.getFloat("y"));
+    public BirdHazard(BirdSpec data, int birdDamage, int birdSensorRadius, float birdKnockBack, Sound sfx) {
+        super(data.getX(), data.getY());
 
         // this is the bounding box dimensions of the texture that contains all animation frames.
-        // aabb = [x,y, width, height] where x,y is relative to bird coordinate
-        float[] aabb = data.get("AABB").asFloatArray();
-        boxCoordinate.x = aabb[0];
-        boxCoordinate.y = aabb[1];
-        dimensions.x = aabb[2];
-        dimensions.y = aabb[3];
-        filmStripSize.x = data.getInt("filmStripWidth");
-        filmStripSize.y = data.getInt("filmStripHeight");
-
-        // set remaining properties
-        depth = data.getInt("depth");
-        path = data.get("path").asFloatArray();
-        setPath(data.get("path").asFloatArray(), data.getInt("loopTo", -1));
-        attack = data.getBoolean("attack");
-        moveSpeed = data.getFloat("movespeed");
-
-        color = convertToColor(data.getString("color"));
-        faceRight = data.getBoolean("facing_right");
-        attackSpeed = data.getFloat("atkspeed");
+        // box is relative to bird coordinate
+        boxCoordinate.x = data.getBoxX();
+        boxCoordinate.y = data.getBoxY();
+        dimensions.x = data.getBoxWidth();
+        dimensions.y = data.getBoxHeight();
+        filmStripSize.x = data.getFilmStripWidth();
+        filmStripSize.y = data.getFilmStripHeight();
+
+        // set remaining properties (the path is only ever read, so it is shared with the descriptor)
+        depth = data.getDepth();
+        setPath(data.getPath(), data.getLoopTo());
+        attack = data.isAttack();
+        moveSpeed = data.getMoveSpeed();
+
+        color = convertToColor(data.getColor());
+        faceRight = data.isFacingRight();
+        attackSpeed = data.getAttackSpeed();
         sensorRadius = birdSensorRadius;
         currentPathIndex = 0;
         attackWait = ATTACK_WAIT_TIME;
@@ -375,9 +379,9 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
         warning = false;
 
         // make hit-box objects
-        float x = data.getFloat("x");
-        float y = data.getFloat("y");
-        float[] shape = data.get("points").asFloatArray();
+        float x = data.getX();
+        float y = data.getY();
+        float[] shape = data.getPoints().clone();
         PolygonObstacle hit1 = new PolygonObstacle( shape, x, y);
         // flip points and make hit-box #2:
         for (int idx = 0; idx < shape.length; idx+=2){
@@ -485,6 +489,7 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
     }
 
     public void move() {
+        if (audio != null) audio.setPosition(emitter, getX(), getY());
         //if target not seen
         if (!seesTarget) {
             if(moveSpeed > 0) {
@@ -527,24 +532,39 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
         return angle;
     }
 
+    @Override
+    public void writeRenderState(RenderSnapshot snapshot) {
+        snapshot.write(faceRight);
+        snapshot.write(!seesTarget && moveSpeed == 0);
+        snapshot.write(warning);
+    }
+
+    @Override
+    public void readRenderState(RenderSnapshot snapshot) {
+        renderFaceRight = snapshot.readBoolean();
+        renderStill = snapshot.readBoolean();
+        renderWarning = snapshot.readBoolean();
+    }
+
     /**
      * Draws the physics object.
      *
      * @param canvas Drawing context
      */
     public void draw(GameCanvas canvas) {
-        float effect = faceRight ? 1.0f : -1.0f;
+        float effect = renderFaceRight ? 1.0f : -1.0f;
 
         // this fixes inconsistency with blue/brown bird assets
         if (color.equals(BirdColor.BROWN) || color.equals(BirdColor.BLUE)){
-            effect = faceRight ? -1.0f : 1f;
+            effect = renderFaceRight ? -1.0f : 1f;
         }
 
         TextureRegion birdRegion = stillFrame;
-        if (!seesTarget && moveSpeed == 0){
+        if (renderStill){
             // not angry + not moving => still
+            flapFrame = -1;
             canvas.draw(birdRegion, Color.WHITE, stillFrame.getRegionWidth() / 2f, birdRegion.getRegionHeight() / 2f,
-                    (getX()) * drawScale.x, (getY()) * drawScale.y, getAngle(),
+                    (getRenderX()) * drawScale.x, (getRenderY()) * drawScale.y, getRenderAngle(),
                     effect * dimensions.x / birdRegion.getRegionWidth() * drawScale.x,
                     dimensions.y / birdRegion.getRegionHeight() * drawScale.y);
         }
@@ -552,25 +572,27 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
             // moving/angry => flapping
             flapElapsedTime += Gdx.graphics.getDeltaTime();
             birdRegion = flapAnimation.getKeyFrame(flapElapsedTime, true);
-            if (flapAnimation.getKeyFrameIndex(flapElapsedTime)==3){
-                sfx.setVolume(sfxVol * 0.7f);
-                sfx.play();
+            // each bird plays its own flap once per wing beat
+            int frame = flapAnimation.getKeyFrameIndex(flapElapsedTime);
+            if (frame == 3 && flapFrame != 3){
+                if (audio != null) audio.playLater(emitter);
             }
+            flapFrame = frame;
 
             canvas.draw(birdRegion, Color.WHITE, birdRegion.getRegionWidth() / 2f, birdRegion.getRegionHeight() / 2f,
-                    (getX()) * drawScale.x, (getY()) * drawScale.y, getAngle(),
+                    (getRenderX()) * drawScale.x, (getRenderY()) * drawScale.y, getRenderAngle(),
                     effect * dimensions.x / birdRegion.getRegionWidth() * drawScale.x,
                     dimensions.y / birdRegion.getRegionHeight() * drawScale.y);
         }
 
-        if(warning){
+        if(renderWarning){
             warningElapsedTime += Gdx.graphics.getDeltaTime();
             TextureRegion warningRegion = warningAnimation.getKeyFrame(warningElapsedTime, true);
 
-            int flip = faceRight ? 1 : -1;
+            int flip = renderFaceRight ? 1 : -1;
             float eye = color == BirdColor.BLUE ? 7.5f : 6f;
             canvas.draw(warningRegion, Color.WHITE, warningRegion.getRegionWidth()/2f, warningRegion.getRegionHeight()/2f,
-                    (getX()) * drawScale.x + flip*birdRegion.getRegionWidth()/eye, (getY()) * drawScale.y, getAngle(),
+                    (getRenderX()) * drawScale.x + flip*birdRegion.getRegionWidth()/eye, (getRenderY()) * drawScale.y, getRenderAngle(),
                     dimensions.x/birdRegion.getRegionWidth() * drawScale.x,
                     dimensions.y/birdRegion.getRegionHeight() * drawScale.y);
             }
@@ -593,50 +615,11 @@ public class BirdHazard extends ComplexObstacle implements HazardModel, Drawable
 
 
         if (attack) {
-            CircleShape sensorShape = new CircleShape();
+            if (sensorShape == null) {
+                sensorShape = NativeTracker.get().track(this, new CircleShape());
+            }
             sensorShape.setRadius(sensorRadius);
             canvas.drawPhysics(sensorShape, Color.RED, getX(), getY(), drawScale.x, drawScale.y);
-            //CAN CRASH THE GAME
-            //JUST FOR VISUALIZATION
-            /*
-            Vector2 targ = new Vector2();
-            Vector2 third = new Vector2();
-            Vector2 pos = new Vector2();
-            float x = getX();
-            float y = getY();
-            pos.set(x, y);
-
-            //need px. py
-            temp.set(0, 0);
-            temp.sub(x, y);
-            temp.nor();
-            float angle;
-
-            //adapted from https://stackoverflow.com/questions/6247153/angle-from-2d-unit-vector
-            if (temp.x == 0) {
-                angle =  (temp.y > 0) ? (float) Math.PI/2 : (temp. y == 0) ? 0 : 3 * (float) Math.PI/2;
-            }
-            else if (temp.y == 0){
-                angle = (temp.x >= 0) ? 0 : (float) Math.PI;
-            }
-            else {
-                angle = (float) Math.atan(temp.y / temp.x);
-                if (temp.x < 0 && temp.y < 0) // quadrant Ⅲ
-                    angle += Math.PI;
-                else if (temp.x < 0) // quadrant Ⅱ
-                    angle += Math.PI;
-                else if (temp.y < 0) // quadrant Ⅳ
-                    angle += 2*Math.PI;
-            }
-
-            for (int i = 0; i < 5; i++) {
-                targ.set(x + getSensorRadius(), y).rotateAroundRad(pos, angle - (float) (Math.PI/8) + (float) (Math.PI/4) * i / 5);
-                third.set(targ).add(.01f, .01f);;
-                PolygonShape line = new PolygonShape();
-                line.set(new Vector2[]{pos, targ, third});
-                canvas.drawPhysics(line, Color.RED, 0, 0, 0, drawScale.x, drawScale.y);
-            }
-            */
         }
     }
 
@@ -4,8 +4,8 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.spec.LightningSpec;
 import com.mygdx.game.utility.util.Drawable;
 
 /**
@@ -13,8 +13,6 @@ import com.mygdx.game.utility.util.Drawable;
  */
 public class LightningHazard extends PolygonHazard implements Drawable {
 
-    private static final int DEFAULT_STRIKE_DURATION = 100;
-
     /** How long a lightning strike lasts */
     private final int strikeDuration;
 
@@ -33,17 +31,17 @@ public class LightningHazard extends PolygonHazard implements Drawable {
 
     private final Vector2 temp = new Vector2();
 
-    public LightningHazard(JsonValue data, int dmg, float knockBack) {
-        super(data, dmg, knockBack);
+    public LightningHazard(LightningSpec data, int dmg, float knockBack) {
+        super(data.getX(), data.getY(), data.getPoints(), dmg, knockBack, null);
         setBodyType(BodyDef.BodyType.StaticBody);
         setDensity(0);
         setFriction(0);
         setRestitution(0);
-        waitDuration = data.getInt("strike_timer");
-        waitTimer = waitDuration + data.getInt("initial_timer_offset");
-        strikeDuration = data.getInt("strike_duration", DEFAULT_STRIKE_DURATION);
+        waitDuration = data.getStrikeTimer();
+        waitTimer = waitDuration + data.getInitialTimerOffset();
+        strikeDuration = data.getStrikeDuration();
         strikeTimer = -1;
-        depth = data.getInt("depth");
+        depth = data.getDepth();
     }
 
     @Override
@@ -53,8 +51,13 @@ public class LightningHazard extends PolygonHazard implements Drawable {
         return result;
     }
 
+    @Override
+    public boolean isDrawn() {
+        return isActive();
+    }
+
     public void draw(GameCanvas canvas) {
-        if(isActive()) {
+        if(isRenderVisible()) {
             super.draw(canvas);
         }
     }
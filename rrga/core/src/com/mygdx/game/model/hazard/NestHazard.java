@@ -5,19 +5,19 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.spec.BirdSpec;
+import com.mygdx.game.spec.NestSpec;
 import com.mygdx.game.utility.obstacle.PolygonObstacle;
 import com.mygdx.game.utility.util.Drawable;
-import com.mygdx.game.utility.util.PooledList;
 
 public class NestHazard extends PolygonObstacle implements Drawable {
 
     private final float[] path;
     private final int spawnDelay;
 
-    /** blue bird json data for bird initializer*/
-    private final JsonValue blueBirdData;
+    /** blue bird template for bird initializer*/
+    private final BirdSpec blueBirdData;
 
     private final float birdSpeed;
 
@@ -32,47 +32,36 @@ public class NestHazard extends PolygonObstacle implements Drawable {
 
     private final boolean visible;
 
-    public NestHazard(JsonValue nestData, JsonValue blueBirdData) {
-        super(nestData.get("points").asFloatArray(), nestData.getFloat("x"), nestData.getFloat("y"));
+    public NestHazard(NestSpec nestData, BirdSpec blueBirdData) {
+        super(nestData.getPoints(), nestData.getX(), nestData.getY());
         setGravityScale(0);
         setDensity(0);
         setFriction(0);
         setRestitution(0);
         setSensor(true);
         this.blueBirdData = blueBirdData;
-        this.path = nestData.get("path").asFloatArray();
-        birdSpeed = nestData.getFloat("bird_speed");
-        spawnDelay = nestData.getInt("spawn_delay");
-        visible = nestData.getBoolean("visible");
+        // copied, since the first point is moved below
+        this.path = nestData.getPath().clone();
+        birdSpeed = nestData.getBirdSpeed();
+        spawnDelay = nestData.getSpawnDelay();
+        visible = nestData.isVisible();
 
         // load Drawable-necessary information
-        float[] aabb = nestData.get("AABB").asFloatArray();
-        boxCoordinate.x = aabb[0];
-        boxCoordinate.y = aabb[1];
-        dimensions.x = aabb[2];
-        dimensions.y = aabb[3];
-        drawDepth = nestData.getInt("depth");
+        boxCoordinate.x = nestData.getBoxX();
+        boxCoordinate.y = nestData.getBoxY();
+        dimensions.x = nestData.getBoxWidth();
+        dimensions.y = nestData.getBoxHeight();
+        drawDepth = nestData.getDepth();
 
         // offset bird upwards so bird rests on nests
         this.path[1] = getY() + 0.5f * dimensions.y;
     }
 
     /**
-     * NOTE: for correctness, this data needs to be consumed immediately because there's shared data between nests.
-     * @return blue nested bird initializer data
+     * @return blue nested bird initializer data, placed at the start of this nest's path
      */
-    public JsonValue getBirdInitializerData(){
-        // update blue bird data with essential properties before returning
-        // no need to set real speed. bird will be stationary until spawn is over.
-        blueBirdData.remove("movespeed");
-        blueBirdData.addChild("movespeed", new JsonValue(birdSpeed));
-        blueBirdData.remove("x");
-        blueBirdData.remove("y");
-        blueBirdData.addChild("x", new JsonValue(path[0]));
-        blueBirdData.addChild("y", new JsonValue(path[1]));
-        blueBirdData.remove("depth");
-        blueBirdData.addChild("depth", new JsonValue(drawDepth));
-        return blueBirdData;
+    public BirdSpec getBirdInitializerData(){
+        return blueBirdData.placedAt(path[0], path[1], drawDepth, birdSpeed);
     }
 
     public float getBirdSpeed(){
@@ -114,7 +103,7 @@ public class NestHazard extends PolygonObstacle implements Drawable {
     public void draw(GameCanvas canvas){
         if (visible) {
             canvas.draw(texture, Color.WHITE, texture.getRegionWidth() / 2f, texture.getRegionHeight() / 2f,
-                    getX() * drawScale.x, getY() * drawScale.y, 0,
+                    getRenderX() * drawScale.x, getRenderY() * drawScale.y, 0,
                     dimensions.x / texture.getRegionWidth() * drawScale.x,
                     dimensions.y / texture.getRegionHeight() * drawScale.y);
         }
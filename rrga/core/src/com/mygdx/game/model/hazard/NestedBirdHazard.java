@@ -1,13 +1,12 @@
 package com.mygdx.game.model.hazard;
 
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.GameCanvas;
+import com.mygdx.game.simulation.RenderSnapshot;
 import com.mygdx.game.utility.obstacle.Obstacle;
 import com.mygdx.game.utility.util.FilmStrip;
 
@@ -27,12 +26,15 @@ public class NestedBirdHazard extends BirdHazard{
     /** the total number of frames in spawning mode/blinking */
     private final int spawningDuration;
 
+    /** the number of remaining frames in spawning mode in the last render snapshot */
+    private int renderSpawningCountDown;
+
     /** the spawn animation */
     private FilmStrip spawnFilmStrip;
     private int totalFrameCount;
     private int currentFrame;
 
-    public NestedBirdHazard(NestHazard spawner, int damage, int birdSensorRadius, float birdKnockBack, Music sfx){
+    public NestedBirdHazard(NestHazard spawner, int damage, int birdSensorRadius, float birdKnockBack, Sound sfx){
         super(spawner.getBirdInitializerData(), damage, birdSensorRadius, birdKnockBack, sfx);
         this.spawner = spawner;
         spawningDuration = spawner.getSpawnDelay();
@@ -64,16 +66,15 @@ public class NestedBirdHazard extends BirdHazard{
 
     @Override
     public void draw(GameCanvas canvas) {
-        if (spawningCountDown > 0) {
-            if (spawningCountDown <= 3 * totalFrameCount){
-                spawnFilmStrip.setFrame(totalFrameCount - (int) Math.ceil(spawningCountDown/3.0));
+        if (renderSpawningCountDown > 0) {
+            if (renderSpawningCountDown <= 3 * totalFrameCount){
+                spawnFilmStrip.setFrame(totalFrameCount - (int) Math.ceil(renderSpawningCountDown/3.0));
                 TextureRegion birdRegion = spawnFilmStrip;
-                Vector2 dimensions = getDimensions();
-                int effect = isFaceRight() ? -1 : 1;
+                int effect = renderFaceRight ? -1 : 1;
                 canvas.draw(birdRegion, Color.WHITE, birdRegion.getRegionWidth() / 2f, birdRegion.getRegionHeight() / 2f,
-                        (getX()) * drawScale.x, (getY()) * drawScale.y, getAngle(),
-                        effect * dimensions.x / birdRegion.getRegionWidth() * drawScale.x,
-                        dimensions.y / birdRegion.getRegionHeight() * drawScale.y);
+                        (getRenderX()) * drawScale.x, (getRenderY()) * drawScale.y, getRenderAngle(),
+                        effect * getWidth() / birdRegion.getRegionWidth() * drawScale.x,
+                        getHeight() / birdRegion.getRegionHeight() * drawScale.y);
             }
             return;
         }
@@ -81,6 +82,18 @@ public class NestedBirdHazard extends BirdHazard{
         super.draw(canvas);
     }
 
+    @Override
+    public void writeRenderState(RenderSnapshot snapshot) {
+        super.writeRenderState(snapshot);
+        snapshot.write(spawningCountDown);
+    }
+
+    @Override
+    public void readRenderState(RenderSnapshot snapshot) {
+        super.readRenderState(snapshot);
+        renderSpawningCountDown = snapshot.readInt();
+    }
+
     @Override
     public void update(float delta) {
         if (spawningCountDown > 0){
@@ -63,7 +63,7 @@ public class RockHazard extends StaticHazard{
         int effectX = flipX ? -1 : 1;
         int effectY = flipY ? -1 : 1;
         canvas.draw(texture, Color.WHITE, texture.getRegionWidth() / 2f, texture.getRegionHeight() / 2f,
-                getX() * drawScale.x, getY() * drawScale.y, angle,
+                getRenderX() * drawScale.x, getRenderY() * drawScale.y, angle,
                 effectX * size.x / texture.getRegionWidth() * drawScale.x,
                 effectY * size.y / texture.getRegionHeight() * drawScale.y);
     }
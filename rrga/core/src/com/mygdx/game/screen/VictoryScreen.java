@@ -4,7 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
@@ -14,6 +13,7 @@ import com.mygdx.game.GameMode;
 import com.mygdx.game.mode.MenuButton;
 import com.mygdx.game.mode.MenuMode;
 import com.mygdx.game.utility.assets.AssetDirectory;
+import com.mygdx.game.utility.util.CursorService;
 import com.mygdx.game.utility.util.ScreenListener;
 
 public class VictoryScreen extends MenuScreen{
@@ -42,8 +42,6 @@ public class VictoryScreen extends MenuScreen{
     private int winTagX;
     private int winTagY;
     private final float TAG_SCL = .8f;
-    /** Texture for the cursor */
-    private TextureRegion cursorTexture;
     /** Height of the button */
     private static final float BUTTON_SCALE  = 1.0f;
     /** Touch range constant */
@@ -110,19 +108,8 @@ public class VictoryScreen extends MenuScreen{
         menuButton.draw(canvas, menuPressState, BUTTON_SCALE, Color.WHITE);
         nextButton.draw(canvas, nextPressState, BUTTON_SCALE, Color.WHITE);
 
-        //draw mouse texture
-        int mx = Gdx.input.getX();
-        int my = Gdx.input.getY();
-        // retrieve the viewport coordinate to draw cursor
-        Vector2 pos = camera.unproject(mx, my);
-        if(pos.x <= camera.getViewWidth() && pos.x>= 0 && pos.y < camera.getViewHeight() && pos.y >0) {
-            canvas.draw(cursorTexture, Color.WHITE, 0, cursorTexture.getRegionHeight(),
-                    pos.x, pos.y, 0, .4f, .4f);
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.None);
-        }
-        else {
-            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.Arrow);
-        }
+        // the hardware cursor follows the mouse, so only its shape is set here
+        CursorService.getInstance().use(CursorService.MENU);
 
         canvas.end();
 
@@ -162,7 +149,6 @@ public class VictoryScreen extends MenuScreen{
         nextButton.setTexture(nextTexture);
 
         winTag = new TextureRegion(directory.getEntry("menu:win_text", Texture.class));
-        cursorTexture = new TextureRegion(directory.getEntry("menu:cursor_menu", Texture.class));
         victoryMusic = directory.getEntry("music:victory", Music.class);
     }
 
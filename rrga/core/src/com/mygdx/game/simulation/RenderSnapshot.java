@@ -0,0 +1,359 @@
+/*
+ * RenderSnapshot.java
+ *
+ * This class is the part of the game state that the render thread draws.  The
+ * simulation fills one in after it steps, and the render thread copies it into the
+ * render state of the obstacles before drawing, so drawing never reads a physics
+ * body that the simulation thread may be stepping.
+ */
+package com.mygdx.game.simulation;
+
+import com.badlogic.gdx.math.Vector2;
+import com.mygdx.game.utility.obstacle.Obstacle;
+import com.mygdx.game.utility.util.Drawable;
+import com.mygdx.game.utility.util.PooledList;
+
+/**
+ * The drawables of a level, in drawing order, with the state they are drawn with.
+ *
+ * For every entry the snapshot keeps the culling box and, for obstacles, the
+ * transform, the visibility and the simulation-driven animation frame.  Obstacles
+ * that are drawn by another drawable (like the umbrella, drawn with the player) are
+ * attached after the drawing list, so their render state is applied as well.
+ *
+ * Any other state an obstacle draws with (its facing, its health, the particles of a
+ * wind) is written by the obstacle itself into a stream of values when it is
+ * captured, and read back by it in the same order when the snapshot is applied.
+ *
+ * The arrays are allocated once and grow as needed, so capturing a snapshot does not
+ * allocate in the steady state.  A snapshot is written by one thread and, once
+ * published through a {@link SnapshotBuffer}, only read by another.
+ */
+public class RenderSnapshot {
+    /** The initial number of entries */
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /** The drawable of each entry */
+    private Drawable[] drawables;
+    /** The obstacle of each entry (null if the drawable is not an obstacle) */
+    private Obstacle[] obstacles;
+    /** The x-coordinate of each obstacle */
+    private float[] posX;
+    /** The y-coordinate of each obstacle */
+    private float[] posY;
+    /** The angle of each obstacle */
+    private float[] angles;
+    /** Whether each obstacle is visible */
+    private boolean[] visible;
+    /** The simulation-driven animation frame of each obstacle */
+    private int[] frames;
+    /** The x-coordinate of the top left corner of the culling box of each entry */
+    private float[] boxX;
+    /** The y-coordinate of the top left corner of the culling box of each entry */
+    private float[] boxY;
+    /** The width of the culling box of each entry */
+    private float[] widths;
+    /** The height of the culling box of each entry */
+    private float[] heights;
+    /** The values written by the obstacles, in entry order */
+    private float[] values;
+    /** The number of written values */
+    private int valueCount;
+    /** The position of the next value to read */
+    private int valueCursor;
+    /** The number of entries in the drawing list */
+    private int count;
+    /** The number of entries, including the attached obstacles */
+    private int size;
+    /** Whether the camera is showing the goal */
+    private boolean showingGoal;
+
+    /**
+     * Creates an empty snapshot
+     */
+    public RenderSnapshot() {
+        allocate( DEFAULT_CAPACITY );
+        values = new float[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Removes every entry, releasing the references to the drawables
+     */
+    public void clear() {
+        for (int ii = 0; ii < size; ii++) {
+            drawables[ii] = null;
+            obstacles[ii] = null;
+        }
+        count = 0;
+        size = 0;
+        valueCount = 0;
+    }
+
+    /**
+     * Captures the given drawing list, replacing the previous contents
+     *
+     * Obstacles may be attached afterwards with {@link #attach}.
+     *
+     * @param list  The drawables of the level, in drawing order
+     */
+    public void capture(PooledList<Drawable> list) {
+        clear();
+        for (int ii = 0; ii < list.size(); ii++) {
+            Drawable drawable = list.get( ii );
+            int slot = reserve();
+            drawables[slot] = drawable;
+            Vector2 corner = drawable.getBoxCorner();
+            boxX[slot] = corner.x;
+            boxY[slot] = corner.y;
+            Vector2 dimensions = drawable.getDimensions();
+            widths[slot]  = dimensions.x;
+            heights[slot] = dimensions.y;
+            if (drawable instanceof Obstacle) {
+                record( slot, (Obstacle)drawable );
+            }
+        }
+        count = size;
+    }
+
+    /**
+     * Captures an obstacle that is not in the drawing list but is drawn by another drawable
+     *
+     * @param obstacle  The obstacle to capture
+     */
+    public void attach(Obstacle obstacle) {
+        int slot = reserve();
+        record( slot, obstacle );
+    }
+
+    /**
+     * Copies the captured state into the render state of every obstacle
+     *
+     * This must be called on the render thread before drawing.
+     */
+    public void apply() {
+        valueCursor = 0;
+        for (int ii = 0; ii < size; ii++) {
+            Obstacle obstacle = obstacles[ii];
+            if (obstacle != null) {
+                obstacle.setRenderState( posX[ii], posY[ii], angles[ii], visible[ii], frames[ii] );
+                obstacle.readRenderState( this );
+            }
+        }
+    }
+
+    /**
+     * Appends a value to the state of the obstacle being captured
+     *
+     * This may only be called from {@link Obstacle#writeRenderState}.
+     *
+     * @param value The value to append
+     */
+    public void write(float value) {
+        if (valueCount == values.length) {
+            float[] grown = new float[values.length*2];
+            System.arraycopy( values, 0, grown, 0, valueCount );
+            values = grown;
+        }
+        values[valueCount++] = value;
+    }
+
+    /**
+     * Appends a flag to the state of the obstacle being captured
+     *
+     * This may only be called from {@link Obstacle#writeRenderState}.
+     *
+     * @param value The flag to append
+     */
+    public void write(boolean value) {
+        write( value ? 1.0f : 0.0f );
+    }
+
+    /**
+     * Returns the next value of the state of the obstacle being applied
+     *
+     * This may only be called from {@link Obstacle#readRenderState}, and must read
+     * the values in the order they were written.
+     *
+     * @return the next value of the state of the obstacle being applied
+     */
+    public float read() {
+        return values[valueCursor++];
+    }
+
+    /**
+     * Returns the next value of the state of the obstacle being applied, as an integer
+     *
+     * This may only be called from {@link Obstacle#readRenderState}, and must read
+     * the values in the order they were written.
+     *
+     * @return the next value of the state of the obstacle being applied
+     */
+    public int readInt() {
+        return (int)read();
+    }
+
+    /**
+     * Returns the next flag of the state of the obstacle being applied
+     *
+     * This may only be called from {@link Obstacle#readRenderState}, and must read
+     * the values in the order they were written.
+     *
+     * @return the next flag of the state of the obstacle being applied
+     */
+    public boolean readBoolean() {
+        return read() != 0;
+    }
+
+    /**
+     * Returns the number of entries in the drawing list
+     *
+     * @return the number of entries in the drawing list
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the drawable of the given entry
+     *
+     * @param index The entry index
+     *
+     * @return the drawable of the given entry
+     */
+    public Drawable getDrawable(int index) {
+        return drawables[index];
+    }
+
+    /**
+     * Returns the x-coordinate of the top left corner of the culling box of the given entry
+     *
+     * @param index The entry index
+     *
+     * @return the x-coordinate of the top left corner of the culling box
+     */
+    public float getBoxX(int index) {
+        return boxX[index];
+    }
+
+    /**
+     * Returns the y-coordinate of the top left corner of the culling box of the given entry
+     *
+     * @param index The entry index
+     *
+     * @return the y-coordinate of the top left corner of the culling box
+     */
+    public float getBoxY(int index) {
+        return boxY[index];
+    }
+
+    /**
+     * Returns the width of the culling box of the given entry
+     *
+     * @param index The entry index
+     *
+     * @return the width of the culling box
+     */
+    public float getWidth(int index) {
+        return widths[index];
+    }
+
+    /**
+     * Returns the height of the culling box of the given entry
+     *
+     * @param index The entry index
+     *
+     * @return the height of the culling box
+     */
+    public float getHeight(int index) {
+        return heights[index];
+    }
+
+    /**
+     * Returns true if the camera is showing the goal
+     *
+     * @return true if the camera is showing the goal
+     */
+    public boolean isShowingGoal() {
+        return showingGoal;
+    }
+
+    /**
+     * Sets whether the camera is showing the goal
+     *
+     * @param value whether the camera is showing the goal
+     */
+    public void setShowingGoal(boolean value) {
+        showingGoal = value;
+    }
+
+    /**
+     * Records the state of an obstacle in the given entry
+     *
+     * @param slot      The entry index
+     * @param obstacle  The obstacle to record
+     */
+    private void record(int slot, Obstacle obstacle) {
+        obstacles[slot] = obstacle;
+        posX[slot]    = obstacle.getX();
+        posY[slot]    = obstacle.getY();
+        angles[slot]  = obstacle.getAngle();
+        visible[slot] = obstacle.isDrawn();
+        frames[slot]  = obstacle.getDrawnFrame();
+        obstacle.writeRenderState( this );
+    }
+
+    /**
+     * Returns the index of a new entry, growing the arrays if necessary
+     *
+     * @return the index of a new entry
+     */
+    private int reserve() {
+        if (size == drawables.length) {
+            allocate( size*2 );
+        }
+        return size++;
+    }
+
+    /**
+     * Resizes the entry arrays to the given capacity
+     *
+     * @param capacity  The new capacity
+     */
+    private void allocate(int capacity) {
+        Drawable[] drawables = new Drawable[capacity];
+        Obstacle[] obstacles = new Obstacle[capacity];
+        float[] posX = new float[capacity];
+        float[] posY = new float[capacity];
+        float[] angles = new float[capacity];
+        boolean[] visible = new boolean[capacity];
+        int[] frames = new int[capacity];
+        float[] boxX = new float[capacity];
+        float[] boxY = new float[capacity];
+        float[] widths = new float[capacity];
+        float[] heights = new float[capacity];
+        if (size > 0) {
+            System.arraycopy( this.drawables, 0, drawables, 0, size );
+            System.arraycopy( this.obstacles, 0, obstacles, 0, size );
+            System.arraycopy( this.posX, 0, posX, 0, size );
+            System.arraycopy( this.posY, 0, posY, 0, size );
+            System.arraycopy( this.angles, 0, angles, 0, size );
+            System.arraycopy( this.visible, 0, visible, 0, size );
+            System.arraycopy( this.frames, 0, frames, 0, size );
+            System.arraycopy( this.boxX, 0, boxX, 0, size );
+            System.arraycopy( this.boxY, 0, boxY, 0, size );
+            System.arraycopy( this.widths, 0, widths, 0, size );
+            System.arraycopy( this.heights, 0, heights, 0, size );
+        }
+        this.drawables = drawables;
+        this.obstacles = obstacles;
+        this.posX = posX;
+        this.posY = posY;
+        this.angles = angles;
+        this.visible = visible;
+        this.frames = frames;
+        this.boxX = boxX;
+        this.boxY = boxY;
+        this.widths = widths;
+        this.heights = heights;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * SimulationThread.java
+ *
+ * This class runs the simulation of a frame on a second core.  The render thread
+ * hands it a frame, draws the last published snapshot while the frame runs, and
+ * then waits for the frame to finish before it handles input or ends the frame.
+ */
+package com.mygdx.game.simulation;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * A dedicated thread that runs one simulation frame at a time.
+ *
+ * Every frame started with {@link #begin()} must be matched by a {@link #finish()}
+ * on the same (render) thread.  Between the two, the simulation owns the game state,
+ * and the render thread may only read published snapshots.  Outside of them the
+ * simulation thread is idle, so input, screen changes and level loading need no
+ * further synchronization.  The semaphores make everything written on either side
+ * visible to the other side at the handoff.
+ *
+ * An exception thrown by the frame is rethrown on the render thread by
+ * {@link #finish()}.
+ */
+public class SimulationThread {
+    /** The work of one frame */
+    private final Runnable frame;
+    /** The thread running the frames */
+    private final Thread thread;
+    /** Released to start a frame (or to stop the thread) */
+    private final Semaphore started = new Semaphore( 0 );
+    /** Released when a frame is finished */
+    private final Semaphore finished = new Semaphore( 0 );
+    /** Whether the thread should keep running */
+    private volatile boolean running;
+    /** Whether a frame was started and not yet finished (render thread only) */
+    private boolean pending;
+    /** The exception thrown by the last frame (null if none) */
+    private Throwable failure;
+
+    /**
+     * Creates a new (stopped) simulation thread
+     *
+     * @param frame The work of one frame
+     */
+    public SimulationThread(Runnable frame) {
+        this.frame = frame;
+        thread = new Thread( new Runnable() {
+            public void run() {
+                loop();
+            }
+        }, "SimulationThread" );
+        thread.setDaemon( true );
+    }
+
+    /**
+     * Starts the thread
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Starts running a frame on the simulation thread
+     */
+    public void begin() {
+        pending = true;
+        started.release();
+    }
+
+    /**
+     * Waits for the frame started by {@link #begin()} to finish
+     *
+     * This does nothing if no frame is running.
+     */
+    public void finish() {
+        if (!pending) {
+            return;
+        }
+        pending = false;
+        finished.acquireUninterruptibly();
+        if (failure != null) {
+            Throwable cause = failure;
+            failure = null;
+            throw new GdxRuntimeException( "Simulation frame failed", cause );
+        }
+    }
+
+    /**
+     * Finishes the running frame (if any) and stops the thread
+     */
+    public void shutdown() {
+        finish();
+        running = false;
+        started.release();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The body of the simulation thread
+     */
+    private void loop() {
+        while (true) {
+            started.acquireUninterruptibly();
+            if (!running) {
+                return;
+            }
+            try {
+                frame.run();
+            } catch (Throwable e) {
+                failure = e;
+            }
+            finished.release();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SnapshotBuffer.java
+ *
+ * This class passes render snapshots from the simulation to the render thread.  It
+ * is a triple buffer: the simulation always has a snapshot to write, the render
+ * thread always has a complete snapshot to read, and the third holds the latest
+ * published snapshot between them.  Neither side ever waits for the other.
+ */
+package com.mygdx.game.simulation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free triple buffer of render snapshots.
+ *
+ * The writer fills {@link #getBack()} and calls {@link #publish()}, which swaps it
+ * with the middle snapshot.  The reader calls {@link #acquire()}, which swaps the
+ * middle snapshot with its own if a newer one was published since.  Each side only
+ * touches its own snapshot, and the swaps are a single atomic exchange.
+ *
+ * Only one thread may write, and only one (possibly the same) thread may read.
+ */
+public class SnapshotBuffer {
+    /** The bits of the middle state that hold the snapshot index */
+    private static final int INDEX = 3;
+    /** The bit of the middle state set when the middle snapshot is newer than the front one */
+    private static final int FRESH = 4;
+
+    /** The three snapshots */
+    private final RenderSnapshot[] snapshots;
+    /** The index of the middle snapshot, and whether it is fresh */
+    private final AtomicInteger middle = new AtomicInteger( 1 );
+    /** The index of the snapshot being written (writer only) */
+    private int back;
+    /** The index of the snapshot being read (reader only) */
+    private int front = 2;
+
+    /**
+     * Creates a buffer of three empty snapshots
+     */
+    public SnapshotBuffer() {
+        snapshots = new RenderSnapshot[3];
+        for (int ii = 0; ii < snapshots.length; ii++) {
+            snapshots[ii] = new RenderSnapshot();
+        }
+    }
+
+    /**
+     * Returns the snapshot to write next (writer only)
+     *
+     * @return the snapshot to write next
+     */
+    public RenderSnapshot getBack() {
+        return snapshots[back];
+    }
+
+    /**
+     * Publishes the snapshot returned by {@link #getBack()} (writer only)
+     */
+    public void publish() {
+        back = middle.getAndSet( back | FRESH ) & INDEX;
+    }
+
+    /**
+     * Returns the latest published snapshot (reader only)
+     *
+     * The snapshot stays valid until the next call to this method.
+     *
+     * @return the latest published snapshot
+     */
+    public RenderSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet( front ) & INDEX;
+        }
+        return snapshots[front];
+    }
+
+    /**
+     * Empties every snapshot, releasing the references to the drawables
+     *
+     * This may only be called while neither side is using the buffer.
+     */
+    public void clear() {
+        for (int ii = 0; ii < snapshots.length; ii++) {
+            snapshots[ii].clear();
+        }
+    }
+}
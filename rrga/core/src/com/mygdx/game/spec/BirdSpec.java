@@ -0,0 +1,126 @@
+package com.mygdx.game.spec;
+
+/**
+ * A bird, flying a path or waiting in place.
+ */
+public class BirdSpec extends ObjectSpec {
+    /** the color of the bird ("red", "blue", "green" or "brown") */
+    private final String color;
+    /** whether the bird attacks the player */
+    private final boolean attack;
+    /** whether the bird faces right at the start */
+    private final boolean facingRight;
+    /** the width of one animation frame in pixels */
+    private final int filmStripWidth;
+    /** the height of one animation frame in pixels */
+    private final int filmStripHeight;
+    /** the hit-box polygon relative to the position, as {x1, y1, x2, y2, ...} */
+    private final float[] points;
+    /** the path as {x1, y1, x2, y2, ...}, starting at the position */
+    private final float[] path;
+    /** the index of the path point that the last point loops back to (invalid if the path does not loop) */
+    private final int loopTo;
+    /** the speed along the path */
+    private final float moveSpeed;
+    /** the speed of an attack */
+    private final float attackSpeed;
+
+    /**
+     * @param x the x-coordinate of the position
+     * @param y the y-coordinate of the position
+     * @param depth the drawing depth
+     * @param box the box of the animation as {corner x, corner y, width, height}
+     * @param color the color of the bird
+     * @param attack whether the bird attacks the player
+     * @param facingRight whether the bird faces right at the start
+     * @param filmStripWidth the width of one animation frame in pixels
+     * @param filmStripHeight the height of one animation frame in pixels
+     * @param points the hit-box polygon relative to the position
+     * @param path the path, starting at the position
+     * @param loopTo the index of the path point that the last point loops back to
+     * @param moveSpeed the speed along the path
+     * @param attackSpeed the speed of an attack
+     */
+    public BirdSpec(float x, float y, int depth, float[] box, String color, boolean attack, boolean facingRight,
+                    int filmStripWidth, int filmStripHeight, float[] points, float[] path, int loopTo,
+                    float moveSpeed, float attackSpeed) {
+        super(x, y, depth, box);
+        this.color = color;
+        this.attack = attack;
+        this.facingRight = facingRight;
+        this.filmStripWidth = filmStripWidth;
+        this.filmStripHeight = filmStripHeight;
+        this.points = points;
+        this.path = path;
+        this.loopTo = loopTo;
+        this.moveSpeed = moveSpeed;
+        this.attackSpeed = attackSpeed;
+    }
+
+    /**
+     * Returns a copy of this bird placed at the given position, for a bird spawned by a nest
+     * <p>
+     * The copy waits at the position, and shares the shape and animation of this bird.
+     *
+     * @param x the x-coordinate of the new position
+     * @param y the y-coordinate of the new position
+     * @param depth the new drawing depth
+     * @param moveSpeed the new speed
+     * @return a copy of this bird placed at the given position
+     */
+    public BirdSpec placedAt(float x, float y, int depth, float moveSpeed) {
+        return new BirdSpec(x, y, depth, new float[]{getBoxX(), getBoxY(), getBoxWidth(), getBoxHeight()},
+                color, attack, facingRight, filmStripWidth, filmStripHeight, points, new float[]{x, y}, -1,
+                moveSpeed, attackSpeed);
+    }
+
+    /** @return the color of the bird */
+    public String getColor() {
+        return color;
+    }
+
+    /** @return whether the bird attacks the player */
+    public boolean isAttack() {
+        return attack;
+    }
+
+    /** @return whether the bird faces right at the start */
+    public boolean isFacingRight() {
+        return facingRight;
+    }
+
+    /** @return the width of one animation frame in pixels */
+    public int getFilmStripWidth() {
+        return filmStripWidth;
+    }
+
+    /** @return the height of one animation frame in pixels */
+    public int getFilmStripHeight() {
+        return filmStripHeight;
+    }
+
+    /** @return the hit-box polygon relative to the position (shared, do not modify) */
+    public float[] getPoints() {
+        return points;
+    }
+
+    /** @return the path, starting at the position (shared, do not modify) */
+    public float[] getPath() {
+        return path;
+    }
+
+    /** @return the index of the path point that the last point loops back to */
+    public int getLoopTo() {
+        return loopTo;
+    }
+
+    /** @return the speed along the path */
+    public float getMoveSpeed() {
+        return moveSpeed;
+    }
+
+    /** @return the speed of an attack */
+    public float getAttackSpeed() {
+        return attackSpeed;
+    }
+}
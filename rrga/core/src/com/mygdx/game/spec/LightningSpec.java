@@ -0,0 +1,139 @@
+package com.mygdx.game.spec;
+
+/**
+ * A lightning bolt: either a still polygon filled with a texture, or an animated bolt with one hit-box per frame.
+ */
+public class LightningSpec extends ObjectSpec {
+    /** the number of frames between strikes */
+    private final int strikeTimer;
+    /** the number of frames a strike lasts */
+    private final int strikeDuration;
+    /** the number of frames added to the first wait */
+    private final int initialTimerOffset;
+    /** the polygon of a still bolt relative to the position (null for an animated bolt) */
+    private final float[] points;
+    /** the hit-box of each frame of an animated bolt (null for a still bolt) */
+    private final float[][] hitboxes;
+    /** the index of the animation texture (-1 for a still bolt) */
+    private final int tileIndex;
+    /** the width of one animation frame in pixels */
+    private final int filmStripWidth;
+    /** the height of one animation frame in pixels */
+    private final int filmStripHeight;
+    /** whether the animation is flipped horizontally */
+    private final boolean flipped;
+
+    /**
+     * Creates a still bolt filled with a texture
+     *
+     * @param x the x-coordinate of the position
+     * @param y the y-coordinate of the position
+     * @param depth the drawing depth
+     * @param points the polygon relative to the position
+     * @param strikeTimer the number of frames between strikes
+     * @param strikeDuration the number of frames a strike lasts
+     * @param initialTimerOffset the number of frames added to the first wait
+     */
+    public LightningSpec(float x, float y, int depth, float[] points,
+                         int strikeTimer, int strikeDuration, int initialTimerOffset) {
+        super(x, y, depth, null);
+        this.points = points;
+        this.hitboxes = null;
+        this.tileIndex = -1;
+        this.filmStripWidth = 0;
+        this.filmStripHeight = 0;
+        this.flipped = false;
+        this.strikeTimer = strikeTimer;
+        this.strikeDuration = strikeDuration;
+        this.initialTimerOffset = initialTimerOffset;
+    }
+
+    /**
+     * Creates an animated bolt
+     *
+     * @param x the x-coordinate of the position
+     * @param y the y-coordinate of the position
+     * @param depth the drawing depth
+     * @param box the box of the animation as {corner x, corner y, width, height}
+     * @param hitboxes the hit-box of each frame, relative to the position
+     * @param tileIndex the index of the animation texture
+     * @param filmStripWidth the width of one animation frame in pixels
+     * @param filmStripHeight the height of one animation frame in pixels
+     * @param flipped whether the animation is flipped horizontally
+     * @param strikeTimer the number of frames between strikes
+     * @param strikeDuration the number of frames a strike lasts
+     * @param initialTimerOffset the number of frames added to the first wait
+     */
+    public LightningSpec(float x, float y, int depth, float[] box, float[][] hitboxes, int tileIndex,
+                         int filmStripWidth, int filmStripHeight, boolean flipped,
+                         int strikeTimer, int strikeDuration, int initialTimerOffset) {
+        super(x, y, depth, box);
+        this.points = null;
+        this.hitboxes = hitboxes;
+        this.tileIndex = tileIndex;
+        this.filmStripWidth = filmStripWidth;
+        this.filmStripHeight = filmStripHeight;
+        this.flipped = flipped;
+        this.strikeTimer = strikeTimer;
+        this.strikeDuration = strikeDuration;
+        this.initialTimerOffset = initialTimerOffset;
+    }
+
+    /** @return whether this is a still bolt filled with a texture */
+    public boolean isFilled() {
+        return hitboxes == null;
+    }
+
+    /** @return the number of frames between strikes */
+    public int getStrikeTimer() {
+        return strikeTimer;
+    }
+
+    /** @return the number of frames a strike lasts */
+    public int getStrikeDuration() {
+        return strikeDuration;
+    }
+
+    /** @return the number of frames added to the first wait */
+    public int getInitialTimerOffset() {
+        return initialTimerOffset;
+    }
+
+    /** @return the polygon of a still bolt (shared, do not modify) */
+    public float[] getPoints() {
+        return points;
+    }
+
+    /** @return the number of animation frames with a hit-box */
+    public int getHitboxCount() {
+        return hitboxes == null ? 0 : hitboxes.length;
+    }
+
+    /**
+     * @param frame the animation frame
+     * @return the hit-box of the given frame (shared, do not modify)
+     */
+    public float[] getHitbox(int frame) {
+        return hitboxes[frame];
+    }
+
+    /** @return the index of the animation texture */
+    public int getTileIndex() {
+        return tileIndex;
+    }
+
+    /** @return the width of one animation frame in pixels */
+    public int getFilmStripWidth() {
+        return filmStripWidth;
+    }
+
+    /** @return the height of one animation frame in pixels */
+    public int getFilmStripHeight() {
+        return filmStripHeight;
+    }
+
+    /** @return whether the animation is flipped horizontally */
+    public boolean isFlipped() {
+        return flipped;
+    }
+}
@@ -0,0 +1,72 @@
+package com.mygdx.game.spec;
+
+/**
+ * A cloud platform that follows a path.
+ */
+public class MovingPlatformSpec extends ObjectSpec {
+    /** the hit-box polygon relative to the position, as {x1, y1, x2, y2, ...} */
+    private final float[] points;
+    /** the path as {x1, y1, x2, y2, ...}, starting at the position */
+    private final float[] path;
+    /** the index of the path point that the last point loops back to (invalid if the path does not loop) */
+    private final int loopTo;
+    /** the speed along the path */
+    private final float moveSpeed;
+    /** the index of the cloud texture */
+    private final int tileIndex;
+    /** whether the texture is flipped horizontally */
+    private final boolean flipped;
+
+    /**
+     * @param x the x-coordinate of the position
+     * @param y the y-coordinate of the position
+     * @param depth the drawing depth
+     * @param box the texture box as {corner x, corner y, width, height}
+     * @param points the hit-box polygon relative to the position
+     * @param path the path, starting at the position
+     * @param loopTo the index of the path point that the last point loops back to
+     * @param moveSpeed the speed along the path
+     * @param tileIndex the index of the cloud texture
+     * @param flipped whether the texture is flipped horizontally
+     */
+    public MovingPlatformSpec(float x, float y, int depth, float[] box, float[] points, float[] path, int loopTo,
+                              float moveSpeed, int tileIndex, boolean flipped) {
+        super(x, y, depth, box);
+        this.points = points;
+        this.path = path;
+        this.loopTo = loopTo;
+        this.moveSpeed = moveSpeed;
+        this.tileIndex = tileIndex;
+        this.flipped = flipped;
+    }
+
+    /** @return the hit-box polygon relative to the position (shared, do not modify) */
+    public float[] getPoints() {
+        return points;
+    }
+
+    /** @return the path, starting at the position (shared, do not modify) */
+    public float[] getPath() {
+        return path;
+    }
+
+    /** @return the index of the path point that the last point loops back to */
+    public int getLoopTo() {
+        return loopTo;
+    }
+
+    /** @return the speed along the path */
+    public float getMoveSpeed() {
+        return moveSpeed;
+    }
+
+    /** @return the index of the cloud texture */
+    public int getTileIndex() {
+        return tileIndex;
+    }
+
+    /** @return whether the texture is flipped horizontally */
+    public boolean isFlipped() {
+        return flipped;
+    }
+}
@@ -0,0 +1,72 @@
+package com.mygdx.game.spec;
+
+/**
+ * A nest that spawns a blue bird, which flies the nest path and respawns when it leaves the screen.
+ */
+public class NestSpec extends ObjectSpec {
+    /** the hit-box polygon relative to the position, as {x1, y1, x2, y2, ...} */
+    private final float[] points;
+    /** the path of the bird as {x1, y1, x2, y2, ...}, starting at the position */
+    private final float[] path;
+    /** whether the nest is drawn */
+    private final boolean visible;
+    /** the speed of the bird */
+    private final float birdSpeed;
+    /** the number of frames the bird waits after spawning */
+    private final int spawnDelay;
+    /** whether the nest is flipped horizontally */
+    private final boolean flipX;
+
+    /**
+     * @param x the x-coordinate of the position
+     * @param y the y-coordinate of the position
+     * @param depth the drawing depth
+     * @param box the texture box as {corner x, corner y, width, height}
+     * @param points the hit-box polygon relative to the position
+     * @param path the path of the bird, starting at the position
+     * @param visible whether the nest is drawn
+     * @param birdSpeed the speed of the bird
+     * @param spawnDelay the number of frames the bird waits after spawning
+     * @param flipX whether the nest is flipped horizontally
+     */
+    public NestSpec(float x, float y, int depth, float[] box, float[] points, float[] path, boolean visible,
+                    float birdSpeed, int spawnDelay, boolean flipX) {
+        super(x, y, depth, box);
+        this.points = points;
+        this.path = path;
+        this.visible = visible;
+        this.birdSpeed = birdSpeed;
+        this.spawnDelay = spawnDelay;
+        this.flipX = flipX;
+    }
+
+    /** @return the hit-box polygon relative to the position (shared, do not modify) */
+    public float[] getPoints() {
+        return points;
+    }
+
+    /** @return the path of the bird, starting at the position (shared, do not modify) */
+    public float[] getPath() {
+        return path;
+    }
+
+    /** @return whether the nest is drawn */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /** @return the speed of the bird */
+    public float getBirdSpeed() {
+        return birdSpeed;
+    }
+
+    /** @return the number of frames the bird waits after spawning */
+    public int getSpawnDelay() {
+        return spawnDelay;
+    }
+
+    /** @return whether the nest is flipped horizontally */
+    public boolean isFlipX() {
+        return flipX;
+    }
+}
@@ -0,0 +1,84 @@
+package com.mygdx.game.spec;
+
+/**
+ * The parsed description of a level object, as emitted by {@link com.mygdx.game.LevelParser}.
+ * <p>
+ * A spec holds only final fields and primitive arrays, and is never modified after it is built, so a parsed level
+ * may be handed from the parse threads to the game thread and reused every time the level is reset. The arrays
+ * returned by the getters of a spec are shared (not copies) and must not be modified; a model that needs to change
+ * one must copy it first.
+ * <p>
+ * All coordinates are in physics units. The box of an object is the bounding box of its texture, given by its top
+ * left corner relative to the object position and by its size. Objects without a texture have an empty box.
+ */
+public abstract class ObjectSpec {
+    /** the x-coordinate of the object position */
+    private final float x;
+    /** the y-coordinate of the object position */
+    private final float y;
+    /** the drawing depth of the object */
+    private final int depth;
+    /** the x-coordinate of the box corner, relative to the object position */
+    private final float boxX;
+    /** the y-coordinate of the box corner, relative to the object position */
+    private final float boxY;
+    /** the width of the box */
+    private final float boxWidth;
+    /** the height of the box */
+    private final float boxHeight;
+
+    /**
+     * @param x the x-coordinate of the object position
+     * @param y the y-coordinate of the object position
+     * @param depth the drawing depth of the object
+     * @param box the box as {corner x, corner y, width, height}, or null if the object has no texture
+     */
+    protected ObjectSpec(float x, float y, int depth, float[] box) {
+        this.x = x;
+        this.y = y;
+        this.depth = depth;
+        if (box != null) {
+            boxX = box[0];
+            boxY = box[1];
+            boxWidth = box[2];
+            boxHeight = box[3];
+        } else {
+            boxX = boxY = boxWidth = boxHeight = 0;
+        }
+    }
+
+    /** @return the x-coordinate of the object position */
+    public float getX() {
+        return x;
+    }
+
+    /** @return the y-coordinate of the object position */
+    public float getY() {
+        return y;
+    }
+
+    /** @return the drawing depth of the object */
+    public int getDepth() {
+        return depth;
+    }
+
+    /** @return the x-coordinate of the box corner, relative to the object position */
+    public float getBoxX() {
+        return boxX;
+    }
+
+    /** @return the y-coordinate of the box corner, relative to the object position */
+    public float getBoxY() {
+        return boxY;
+    }
+
+    /** @return the width of the box */
+    public float getBoxWidth() {
+        return boxWidth;
+    }
+
+    /** @return the height of the box */
+    public float getBoxHeight() {
+        return boxHeight;
+    }
+}
@@ -0,0 +1,82 @@
+package com.mygdx.game.spec;
+
+/**
+ * A static platform: either an invisible polygon, or a textured branch or log.
+ */
+public class PlatformSpec extends ObjectSpec {
+    /** the hit-box polygon relative to the position, as {x1, y1, x2, y2, ...} */
+    private final float[] points;
+    /** the index of the texture in the tree log list of the world config, or -1 for an invisible platform */
+    private final int texture;
+    /** whether the texture is flipped horizontally */
+    private final boolean flipX;
+    /** whether the texture is flipped vertically */
+    private final boolean flipY;
+    /** the counterclockwise rotation in radians */
+    private final float angle;
+
+    /**
+     * Creates an invisible platform
+     *
+     * @param x the x-coordinate of the position
+     * @param y the y-coordinate of the position
+     * @param depth the drawing depth
+     * @param points the polygon relative to the position
+     */
+    public PlatformSpec(float x, float y, int depth, float[] points) {
+        this(x, y, depth, null, points, -1, false, false, 0);
+    }
+
+    /**
+     * Creates a textured platform
+     *
+     * @param x the x-coordinate of the position
+     * @param y the y-coordinate of the position
+     * @param depth the drawing depth
+     * @param box the unrotated texture box as {corner x, corner y, width, height}
+     * @param points the hit-box polygon relative to the position
+     * @param texture the index of the texture in {@link com.mygdx.game.config.WorldConfig#getTreeLogs()}
+     * @param flipX whether the texture is flipped horizontally
+     * @param flipY whether the texture is flipped vertically
+     * @param angle the counterclockwise rotation in radians
+     */
+    public PlatformSpec(float x, float y, int depth, float[] box, float[] points, int texture,
+                        boolean flipX, boolean flipY, float angle) {
+        super(x, y, depth, box);
+        this.points = points;
+        this.texture = texture;
+        this.flipX = flipX;
+        this.flipY = flipY;
+        this.angle = angle;
+    }
+
+    /** @return whether the platform has a texture */
+    public boolean isTextured() {
+        return texture >= 0;
+    }
+
+    /** @return the hit-box polygon relative to the position (shared, do not modify) */
+    public float[] getPoints() {
+        return points;
+    }
+
+    /** @return the index of the texture in the tree log list, or -1 for an invisible platform */
+    public int getTexture() {
+        return texture;
+    }
+
+    /** @return whether the texture is flipped horizontally */
+    public boolean isFlipX() {
+        return flipX;
+    }
+
+    /** @return whether the texture is flipped vertically */
+    public boolean isFlipY() {
+        return flipY;
+    }
+
+    /** @return the counterclockwise rotation in radians */
+    public float getAngle() {
+        return angle;
+    }
+}
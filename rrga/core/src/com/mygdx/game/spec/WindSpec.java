@@ -0,0 +1,52 @@
+package com.mygdx.game.spec;
+
+/**
+ * A wind gust.
+ */
+public class WindSpec extends ObjectSpec {
+    /** the area of the wind relative to the position, as {x1, y1, x2, y2, ...} */
+    private final float[] points;
+    /** the magnitude of the wind force */
+    private final float magnitude;
+    /** the direction of the wind force in radians, in [0, 2pi) */
+    private final float direction;
+    /** the name of the particle type */
+    private final String particle;
+
+    /**
+     * @param x the x-coordinate of the position
+     * @param y the y-coordinate of the position
+     * @param depth the drawing depth
+     * @param points the area of the wind relative to the position
+     * @param magnitude the magnitude of the wind force
+     * @param direction the direction of the wind force in radians
+     * @param particle the name of the particle type
+     */
+    public WindSpec(float x, float y, int depth, float[] points, float magnitude, float direction, String particle) {
+        super(x, y, depth, null);
+        this.points = points;
+        this.magnitude = magnitude;
+        this.direction = direction;
+        this.particle = particle;
+    }
+
+    /** @return the area of the wind relative to the position (shared, do not modify) */
+    public float[] getPoints() {
+        return points;
+    }
+
+    /** @return the magnitude of the wind force */
+    public float getMagnitude() {
+        return magnitude;
+    }
+
+    /** @return the direction of the wind force in radians */
+    public float getDirection() {
+        return direction;
+    }
+
+    /** @return the name of the particle type */
+    public String getParticle() {
+        return particle;
+    }
+}
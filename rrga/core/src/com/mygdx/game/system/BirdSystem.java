@@ -0,0 +1,229 @@
+package com.mygdx.game.system;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.mygdx.game.model.PlayerModel;
+import com.mygdx.game.model.hazard.BirdHazard;
+import com.mygdx.game.model.hazard.BirdRayCastCallback;
+import com.mygdx.game.model.hazard.NestedBirdHazard;
+import com.mygdx.game.utility.util.PooledList;
+
+import java.util.Iterator;
+
+/**
+ * Runs the bird AI before the physics step, and the bird timers after it.
+ * <p>
+ * Before the step, every bird looks for the player, winds up and attacks, and follows its path. Birds that leave
+ * the level are removed (nested birds respawn at their nest instead). After the step, removed birds are dropped
+ * from the list and the others tick their timers.
+ */
+public class BirdSystem extends GameSystem {
+
+    /** the number of rays a bird casts to look for the player */
+    private static final int BIRD_RAYS = 5;
+
+    /** the active birds (order does not matter, so removals swap in the last bird) */
+    private final PooledList<BirdHazard> birds = new PooledList<>(false);
+
+    /** the bounds of the level (shared with the level container) */
+    private final Rectangle bounds;
+
+    /** the world the birds cast rays in */
+    private World world;
+
+    /** the player the birds look for */
+    private PlayerModel target;
+
+    /** the sound played when a bird sees the player */
+    private Sound alertSound;
+
+    /** the volume of the alert sound */
+    private float alertVolume;
+
+    /** the ray-cast callback (reused by every ray) */
+    private final BirdRayCastCallback rccb = new BirdRayCastCallback();
+
+    /** position cache */
+    private final Vector2 pos = new Vector2();
+
+    /** ray target cache */
+    private final Vector2 ray = new Vector2();
+
+    /** direction cache */
+    private final Vector2 temp = new Vector2();
+
+    /**
+     * @param bounds the bounds of the level (the rectangle is kept, so later changes are seen)
+     */
+    public BirdSystem(Rectangle bounds) {
+        this.bounds = bounds;
+    }
+
+    /**
+     * @param world the world the birds cast rays in
+     */
+    public void setWorld(World world) {
+        this.world = world;
+    }
+
+    /**
+     * @param target the player the birds look for
+     */
+    public void setTarget(PlayerModel target) {
+        this.target = target;
+    }
+
+    /**
+     * @param alertSound the sound played when a bird sees the player
+     */
+    public void setAlertSound(Sound alertSound) {
+        this.alertSound = alertSound;
+    }
+
+    /**
+     * @param alertVolume the volume of the alert sound
+     */
+    public void setAlertVolume(float alertVolume) {
+        this.alertVolume = alertVolume;
+    }
+
+    /**
+     * @param bird a bird of the level
+     */
+    public void add(BirdHazard bird) {
+        birds.add(bird);
+    }
+
+    /**
+     * NOTE: this is a reference to the bird list. This is not an allocator.
+     * @return the active birds
+     */
+    public PooledList<BirdHazard> getBirds() {
+        return birds;
+    }
+
+    @Override
+    public void preStep(float dt) {
+        float px = target.getX();
+        float py = target.getY();
+        for (int ii = 0; ii < birds.size(); ii++) {
+            BirdHazard bird = birds.get(ii);
+            //If sees target, wait before attacking
+            if (bird.seesTarget) {
+                if (bird.attackWait == 0) {
+                    bird.setTargetDir(px, py, target.getVX(), target.getVY());
+                    bird.attackWait--;
+                    bird.warning = false;
+                } else if (bird.attackWait > 0) {
+                    bird.attackWait--;
+                    bird.setFaceRight(!(px - bird.getX() < 0));
+                }
+            }
+
+            //move the birds
+            bird.move();
+
+            if (bird.getAABBx() >= bounds.width + 20 || bird.getAABBy() < 0
+                    || bird.getAABBx() + bird.getWidth() <= -20
+                    || bird.getAABBy() - bird.getHeight() > bounds.height * bounds.height ) {
+                //(brown/green/red) mark removed so that it is garbage collected at end of update loop
+                // blue: set spawning again
+                if (bird.getColor().equals(BirdHazard.BirdColor.BLUE)){
+                    ((NestedBirdHazard) bird).setSpawning();
+                }
+                else {
+                    bird.markRemoved(true);
+                }
+                continue;
+            }
+
+            if (bird.getAttack()) {
+                look(bird, px, py);
+            }
+        }
+    }
+
+    /**
+     * Casts a fan of rays from the bird towards the player, and alerts the bird if the nearest hit is the player
+     * @param bird an attacking bird
+     * @param px the x-coordinate of the player
+     * @param py the y-coordinate of the player
+     */
+    private void look(BirdHazard bird, float px, float py) {
+        float bx = bird.getX();
+        float by = bird.getY();
+        float dist = (float) Math.sqrt(Math.pow(px - bx, 2) + Math.pow(py - by, 2));
+        if (dist >= bird.getSensorRadius()) {
+            return;
+        }
+        temp.set(px, py);
+        temp.sub(bx, by);
+        temp.nor();
+
+        //adapted from https://stackoverflow.com/questions/6247153/angle-from-2d-unit-vector
+        float angle;
+        if (temp.x == 0) {
+            angle = (temp.y > 0) ? (float) Math.PI / 2 : (temp.y == 0) ? 0 : 3 * (float) Math.PI / 2;
+        } else if (temp.y == 0) {
+            angle = (temp.x >= 0) ? 0 : (float) Math.PI;
+        } else {
+            angle = (float) Math.atan(temp.y / temp.x);
+            if (temp.x < 0 && temp.y < 0) // quadrant Ⅲ
+                angle += Math.PI;
+            else if (temp.x < 0) // quadrant Ⅱ
+                angle += Math.PI;
+            else if (temp.y < 0) // quadrant Ⅳ
+                angle += 2 * Math.PI;
+        }
+
+        //send out rays and check for collisions with player
+        pos.set(bx, by);
+        for (int i = 0; i < BIRD_RAYS; i++) {
+            rccb.collisions.clear();
+            float minDist = Integer.MAX_VALUE;
+            ray.set(bx + bird.getSensorRadius(), by).rotateAroundRad(pos, angle - (float) (Math.PI / 16) + (float) (Math.PI / 8) * i / BIRD_RAYS);
+            world.rayCast(rccb, pos, ray);
+            for (ObjectMap.Entry<Fixture, Float> e : rccb.collisions.entries()) {
+                if (e.value < minDist) {
+                    minDist = e.value;
+                }
+            }
+            for (ObjectMap.Entry<Fixture, Float> e : rccb.collisions.entries()) {
+                if ((e.key).getBody().getUserData() == target) {
+                    if (Math.abs(e.value - minDist) < .001) {
+                        if (!bird.seesTarget) {
+                            bird.seesTarget = true;
+                            bird.setFaceRight(!(px - bx < 0));
+                            alertSound.play(alertVolume);
+                            bird.warning = true;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void postStep(float dt) {
+        // drop the birds removed this step, and tick the others
+        Iterator<PooledList<BirdHazard>.Entry> iterator = birds.entryIterator();
+        while (iterator.hasNext()) {
+            PooledList<BirdHazard>.Entry entry = iterator.next();
+            BirdHazard bird = entry.getValue();
+            if (bird.isRemoved()) {
+                entry.remove();
+            } else {
+                bird.update(dt);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        birds.clear();
+    }
+}
@@ -0,0 +1,36 @@
+package com.mygdx.game.system;
+
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.utility.obstacle.Obstacle;
+
+/**
+ * Ticks the per-step counters of the avatar and the umbrella after the physics step.
+ * <p>
+ * These are the invincibility and animation frame counters, and the fixtures of a body that was resized during
+ * the step. Level geometry and static hazards never change after they are built, so they are not members.
+ */
+public class ClockSystem extends GameSystem {
+
+    /** the bodies with counters */
+    private final Array<Obstacle> bodies = new Array<>(true, 4, Obstacle.class);
+
+    /**
+     * @param body a body whose counters tick every step
+     */
+    public void add(Obstacle body) {
+        bodies.add(body);
+    }
+
+    @Override
+    public void postStep(float dt) {
+        Obstacle[] items = bodies.items;
+        for (int ii = 0; ii < bodies.size; ii++) {
+            items[ii].update(dt);
+        }
+    }
+
+    @Override
+    public void clear() {
+        bodies.clear();
+    }
+}
@@ -0,0 +1,29 @@
+package com.mygdx.game.system;
+
+/**
+ * A subsystem of the gameplay loop that updates one kind of object.
+ * <p>
+ * Each system keeps its members in its own dense array, so a frame is a series of tight loops over objects of
+ * the same type instead of one walk over every obstacle. Systems are run by a {@link SystemScheduler}.
+ */
+public abstract class GameSystem {
+
+    /**
+     * Runs the work of this system that comes before the physics step (movement and AI)
+     * @param dt the length of the step in seconds
+     */
+    public void preStep(float dt) {
+    }
+
+    /**
+     * Runs the work of this system that comes after the physics step (timers, particles and counters)
+     * @param dt the length of the step in seconds
+     */
+    public void postStep(float dt) {
+    }
+
+    /**
+     * Forgets every member, because the level is being rebuilt
+     */
+    public abstract void clear();
+}
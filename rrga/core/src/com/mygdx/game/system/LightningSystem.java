@@ -0,0 +1,51 @@
+package com.mygdx.game.system;
+
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.model.hazard.AnimatedLightningHazard;
+import com.mygdx.game.model.hazard.LightningHazard;
+
+/**
+ * Advances the strike timers of the lightning bolts after the physics step.
+ * <p>
+ * Still and animated bolts are kept apart, so that each loop only sees one type.
+ */
+public class LightningSystem extends GameSystem {
+
+    /** the still bolts (filled with a texture) */
+    private final Array<LightningHazard> stillBolts = new Array<>(true, 16, LightningHazard.class);
+
+    /** the animated bolts */
+    private final Array<AnimatedLightningHazard> animatedBolts = new Array<>(true, 16, AnimatedLightningHazard.class);
+
+    /**
+     * @param bolt a still bolt of the level
+     */
+    public void add(LightningHazard bolt) {
+        stillBolts.add(bolt);
+    }
+
+    /**
+     * @param bolt an animated bolt of the level
+     */
+    public void add(AnimatedLightningHazard bolt) {
+        animatedBolts.add(bolt);
+    }
+
+    @Override
+    public void postStep(float dt) {
+        LightningHazard[] still = stillBolts.items;
+        for (int ii = 0; ii < stillBolts.size; ii++) {
+            still[ii].update(dt);
+        }
+        AnimatedLightningHazard[] animated = animatedBolts.items;
+        for (int ii = 0; ii < animatedBolts.size; ii++) {
+            animated[ii].update(dt);
+        }
+    }
+
+    @Override
+    public void clear() {
+        stillBolts.clear();
+        animatedBolts.clear();
+    }
+}
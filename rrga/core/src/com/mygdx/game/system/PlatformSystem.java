@@ -0,0 +1,41 @@
+package com.mygdx.game.system;
+
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.model.MovingPlatformModel;
+
+/**
+ * Moves the cloud platforms along their paths before the physics step.
+ */
+public class PlatformSystem extends GameSystem {
+
+    /** the moving platforms of the level */
+    private final Array<MovingPlatformModel> platforms = new Array<>(true, 16, MovingPlatformModel.class);
+
+    /**
+     * @param platform a moving platform of the level
+     */
+    public void add(MovingPlatformModel platform) {
+        platforms.add(platform);
+    }
+
+    /**
+     * NOTE: this is a reference to the platform list. This is not an allocator.
+     * @return the moving platforms of the level
+     */
+    public Array<MovingPlatformModel> getPlatforms() {
+        return platforms;
+    }
+
+    @Override
+    public void preStep(float dt) {
+        MovingPlatformModel[] items = platforms.items;
+        for (int ii = 0; ii < platforms.size; ii++) {
+            items[ii].move();
+        }
+    }
+
+    @Override
+    public void clear() {
+        platforms.clear();
+    }
+}
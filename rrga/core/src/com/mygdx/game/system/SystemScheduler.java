@@ -0,0 +1,55 @@
+package com.mygdx.game.system;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Runs the gameplay systems of a level in the order they were added.
+ * <p>
+ * Every system runs its pre-step work before any system runs its post-step work, mirroring the update and
+ * post-update phases of the gameplay controller.
+ */
+public class SystemScheduler {
+
+    /** the systems, in the order they run */
+    private final Array<GameSystem> systems = new Array<>(true, 8, GameSystem.class);
+
+    /**
+     * Adds a system after all systems added so far
+     * @param system the system to run
+     */
+    public void add(GameSystem system) {
+        systems.add(system);
+    }
+
+    /**
+     * Runs the pre-step work of every system, in order
+     * @param dt the length of the step in seconds
+     */
+    public void preStep(float dt) {
+        GameSystem[] items = systems.items;
+        for (int ii = 0; ii < systems.size; ii++) {
+            items[ii].preStep(dt);
+        }
+    }
+
+    /**
+     * Runs the post-step work of every system, in order
+     * @param dt the length of the step in seconds
+     */
+    public void postStep(float dt) {
+        GameSystem[] items = systems.items;
+        for (int ii = 0; ii < systems.size; ii++) {
+            items[ii].postStep(dt);
+        }
+    }
+
+    /**
+     * Empties every system
+     */
+    public void clear() {
+        GameSystem[] items = systems.items;
+        for (int ii = 0; ii < systems.size; ii++) {
+            items[ii].clear();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.mygdx.game.system;
+
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.model.NewWindModel;
+
+/**
+ * Moves the particles of the wind gusts after the physics step.
+ */
+public class WindSystem extends GameSystem {
+
+    /** the wind gusts of the level */
+    private final Array<NewWindModel> winds = new Array<>(true, 16, NewWindModel.class);
+
+    /**
+     * @param wind a wind gust of the level
+     */
+    public void add(NewWindModel wind) {
+        winds.add(wind);
+    }
+
+    /**
+     * NOTE: this is a reference to the wind list. This is not an allocator.
+     * @return the wind gusts of the level
+     */
+    public Array<NewWindModel> getWinds() {
+        return winds;
+    }
+
+    @Override
+    public void postStep(float dt) {
+        NewWindModel[] items = winds.items;
+        for (int ii = 0; ii < winds.size; ii++) {
+            items[ii].update(dt);
+        }
+    }
+
+    @Override
+    public void clear() {
+        winds.clear();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * AnimationLibrary.java
+ *
+ * The models build their animations from filmstrip textures.  Doing this in the
+ * model setters means that every level start (and every particle) splits the same
+ * textures again and allocates new frame arrays and animations.  This singleton
+ * builds each animation once and shares it.  Animations hold no playback state of
+ * their own (the models keep their own elapsed time), so sharing them is safe as
+ * long as nobody modifies them.
+ */
+package com.mygdx.game.utility.assets;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * This class provides a singleton cache of filmstrip animations
+ *
+ * An animation is identified by its texture, frame size, frame count, frame duration
+ * and play mode.  The frames are taken from the texture in row-major order.  The first
+ * request for an animation builds it, and every later request returns the same
+ * instance, so repopulating a level allocates no animation data.  Animations that only
+ * differ in duration or play mode share the same frame array.
+ *
+ * The animations returned are shared, and must not be modified.  Call {@link #dispose}
+ * when the textures are unloaded, as the animations refer to them.
+ */
+public class AnimationLibrary {
+    /** The singleton instance of this library */
+    private static AnimationLibrary instance = null;
+
+    /**
+     * The identity of an animation (or, with no duration, of a frame array)
+     */
+    private static class Key {
+        /** The filmstrip texture */
+        Texture texture;
+        /** The frame width in pixels */
+        int width;
+        /** The frame height in pixels */
+        int height;
+        /** The number of frames */
+        int count;
+        /** The duration of a frame in seconds */
+        float duration;
+        /** The play mode */
+        Animation.PlayMode mode;
+
+        /**
+         * Sets the fields of this key
+         *
+         * @return this key, for chaining
+         */
+        Key set(Texture texture, int width, int height, int count, float duration, Animation.PlayMode mode) {
+            this.texture = texture;
+            this.width = width;
+            this.height = height;
+            this.count = count;
+            this.duration = duration;
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * Returns a copy of this key, suitable for storing in a map
+         *
+         * @return a copy of this key
+         */
+        Key copy() {
+            return new Key().set( texture, width, height, count, duration, mode );
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key k = (Key)o;
+            return texture == k.texture && width == k.width && height == k.height && count == k.count
+                    && Float.floatToIntBits( duration ) == Float.floatToIntBits( k.duration ) && mode == k.mode;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode( texture );
+            result = 31*result+width;
+            result = 31*result+height;
+            result = 31*result+count;
+            result = 31*result+Float.floatToIntBits( duration );
+            result = 31*result+(mode == null ? 0 : mode.ordinal());
+            return result;
+        }
+    }
+
+    /** The shared animations */
+    private final ObjectMap<Key, Animation<TextureRegion>> animations = new ObjectMap<Key, Animation<TextureRegion>>();
+    /** The shared frame arrays (keys have no duration or mode) */
+    private final ObjectMap<Key, TextureRegion[]> frames = new ObjectMap<Key, TextureRegion[]>();
+    /** The key used for lookups, so that a cache hit allocates nothing */
+    private final Key probe = new Key();
+
+    /**
+     * Returns the singleton instance of this library
+     *
+     * @return the singleton instance of this library
+     */
+    public static AnimationLibrary get() {
+        if (instance == null) {
+            instance = new AnimationLibrary();
+        }
+        return instance;
+    }
+
+    /**
+     * Releases every animation in the singleton library
+     *
+     * This does not dispose the textures, which belong to the asset directory.
+     */
+    public static void dispose() {
+        if (instance != null) {
+            instance.clear();
+            instance = null;
+        }
+    }
+
+    /**
+     * Returns the shared animation for the given filmstrip
+     *
+     * The animation has the default (normal) play mode.
+     *
+     * @param texture   The filmstrip texture
+     * @param width     The frame width in pixels
+     * @param height    The frame height in pixels
+     * @param count     The number of frames (0 for every frame in the texture)
+     * @param duration  The duration of a frame in seconds
+     *
+     * @return the shared animation for the given filmstrip
+     */
+    public Animation<TextureRegion> obtain(Texture texture, int width, int height, int count, float duration) {
+        return obtain( texture, width, height, count, duration, Animation.PlayMode.NORMAL );
+    }
+
+    /**
+     * Returns the shared animation for the given filmstrip and play mode
+     *
+     * @param texture   The filmstrip texture
+     * @param width     The frame width in pixels
+     * @param height    The frame height in pixels
+     * @param count     The number of frames (0 for every frame in the texture)
+     * @param duration  The duration of a frame in seconds
+     * @param mode      The play mode
+     *
+     * @return the shared animation for the given filmstrip and play mode
+     */
+    public synchronized Animation<TextureRegion> obtain(Texture texture, int width, int height, int count,
+                                                        float duration, Animation.PlayMode mode) {
+        Animation<TextureRegion> animation = animations.get( probe.set( texture, width, height, count, duration, mode ) );
+        if (animation == null) {
+            Key key = probe.copy();
+            animation = new Animation<TextureRegion>( duration, frames( texture, width, height, count ) );
+            animation.setPlayMode( mode );
+            animations.put( key, animation );
+        }
+        return animation;
+    }
+
+    /**
+     * Returns the shared frames of the given filmstrip, in row-major order
+     *
+     * @param texture   The filmstrip texture
+     * @param width     The frame width in pixels
+     * @param height    The frame height in pixels
+     * @param count     The number of frames (0 for every frame in the texture)
+     *
+     * @return the shared frames of the given filmstrip
+     */
+    public synchronized TextureRegion[] frames(Texture texture, int width, int height, int count) {
+        TextureRegion[] result = frames.get( probe.set( texture, width, height, count, 0, null ) );
+        if (result == null) {
+            Key key = probe.copy();
+            TextureRegion[][] grid = TextureRegion.split( texture, width, height );
+            int columns = grid.length == 0 ? 0 : grid[0].length;
+            int total = grid.length*columns;
+            result = new TextureRegion[count == 0 ? total : Math.min( count, total )];
+            for (int ii = 0; ii < result.length; ii++) {
+                result[ii] = grid[ii/columns][ii%columns];
+            }
+            frames.put( key, result );
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of shared animations
+     *
+     * @return the number of shared animations
+     */
+    public synchronized int size() {
+        return animations.size;
+    }
+
+    /**
+     * Releases every animation in this library
+     */
+    public synchronized void clear() {
+        animations.clear();
+        frames.clear();
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.mygdx.game.utility.assets;
 
+import com.badlogic.gdx.assets.AssetLoaderParameters;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.assets.loaders.*;
 import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
@@ -29,6 +30,7 @@ import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGeneratorLoader;
 import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.ObjectMap;
 
@@ -76,6 +78,13 @@ public class AssetDirectory extends AssetManager {
     protected Index contents;
     /** The dedicated loader for the {@link Index} class */
     protected DirectoryLoader topLoader;
+    /** The load times and sizes of every asset loaded by this directory */
+    protected LoadProfile profile;
+    /** The worker pool that decodes queued textures ahead of the loader thread */
+    protected PixmapDecoder decoder;
+
+    /** The default number of bytes of decoded images that may wait for upload */
+    public static final long DEFAULT_DECODE_BUDGET = 128L*1024*1024;
 
     /**
      * This class represents the top level index of an asset directory.
@@ -89,12 +98,43 @@ public class AssetDirectory extends AssetManager {
         ObjectMap<Class<?>, ObjectMap<String, String>> keymap;
         /** The contents of the JSON file */
         JsonValue directory;
-        
+        /** The asset groups that are loaded on demand, by group name */
+        ObjectMap<String, Group> groups;
+
         /**
          * Creates a new, empty directory index
          */
         public Index() {
             keymap = new ObjectMap<Class<?>, ObjectMap<String, String>>();
+            groups = new ObjectMap<String, Group>();
+        }
+    }
+
+    /**
+     * This class represents a named group of assets that is loaded on demand.
+     *
+     * A group is declared in the "groups" section of the directory JSON, and its
+     * body has the same format as the top level (textures, sounds, ...).  Groups
+     * are NOT loaded by {@link #loadAssets}.  Instead, screens acquire the groups
+     * they need and release them when done.  The assets of a group are unloaded
+     * once no screen holds the group any more.
+     */
+    public static class Group {
+        /** The contents of this group in the directory JSON */
+        JsonValue directory;
+        /** The mapping from JSON keys to file names (empty while unloaded) */
+        ObjectMap<Class<?>, ObjectMap<String, String>> keymap;
+        /** The number of outstanding {@link #acquireGroup} calls */
+        int references;
+
+        /**
+         * Creates a new, unloaded group for the given JSON contents
+         *
+         * @param directory    The contents of this group in the directory JSON
+         */
+        public Group(JsonValue directory) {
+            this.directory = directory;
+            keymap = new ObjectMap<Class<?>, ObjectMap<String, String>>();
         }
     }
 
@@ -145,29 +185,31 @@ public class AssetDirectory extends AssetManager {
 
         // Add the default loaders
         topLoader = new DirectoryLoader( resolver );
-        setLoader( Index.class, topLoader );
-        setLoader( FreeTypeFontGenerator.class, new FreeTypeFontGeneratorLoader( resolver ) );
-        setLoader( BitmapFont.class, ".ttf", new FreetypeFontLoader( resolver ) );
+        profile = new LoadProfile();
+        decoder = new PixmapDecoder( DEFAULT_DECODE_BUDGET );
+        setLoader( Index.class, profiled( topLoader ) );
+        setLoader( FreeTypeFontGenerator.class, profiled( new FreeTypeFontGeneratorLoader( resolver ) ) );
+        setLoader( BitmapFont.class, ".ttf", profiled( new FreetypeFontLoader( resolver ) ) );
         //setLoader( BitmapFont.class, new BitmapFontLoader( resolver ) ); // fallback
 
-        setLoader( AudioSource.class, new AudioSourceLoader( resolver ) );
-        setLoader( Sound.class, new SoundLoader( resolver ) );
-        setLoader( Music.class, new MusicLoader( resolver ) );
-        setLoader( SoundEffect.class, new SoundEffectLoader( resolver ) );
-        setLoader( MusicQueue.class, new MusicQueueLoader( resolver ) );
+        setLoader( AudioSource.class, profiled( new AudioSourceLoader( resolver ) ) );
+        setLoader( Sound.class, profiled( new SoundLoader( resolver ) ) );
+        setLoader( Music.class, profiled( new MusicLoader( resolver ) ) );
+        setLoader( SoundEffect.class, profiled( new SoundEffectLoader( resolver ) ) );
+        setLoader( MusicQueue.class, profiled( new MusicQueueLoader( resolver ) ) );
 
-        setLoader( Pixmap.class, new PixmapLoader( resolver ) );
-        setLoader( Texture.class, new TextureLoader( resolver ) );
-        setLoader( TextureAtlas.class, new TextureAtlasLoader( resolver ) );
-        setLoader( TextureRegion.class, new TextureRegionLoader( resolver ) );
-        setLoader( FilmStrip.class, new FilmStripLoader( resolver ) );
+        setLoader( Pixmap.class, profiled( new PixmapLoader( resolver ) ) );
+        setLoader( Texture.class, profiled( new PrefetchTextureLoader( resolver, decoder ) ) );
+        setLoader( TextureAtlas.class, profiled( new TextureAtlasLoader( resolver ) ) );
+        setLoader( TextureRegion.class, profiled( new TextureRegionLoader( resolver ) ) );
+        setLoader( FilmStrip.class, profiled( new FilmStripLoader( resolver ) ) );
 
-        setLoader( JsonValue.class, new JsonValueLoader( resolver ) );
+        setLoader( JsonValue.class, profiled( new JsonValueLoader( resolver ) ) );
 
         // Why not?
-        setLoader( Skin.class, new SkinLoader( resolver ) );
-        setLoader( ParticleEffect.class, new ParticleEffectLoader( resolver ) );
-        setLoader( PolygonRegion.class, new PolygonRegionLoader( resolver ) );
+        setLoader( Skin.class, profiled( new SkinLoader( resolver ) ) );
+        setLoader( ParticleEffect.class, profiled( new ParticleEffectLoader( resolver ) ) );
+        setLoader( PolygonRegion.class, profiled( new PolygonRegionLoader( resolver ) ) );
 
         // And now the default parsers
         topLoader.addParser( new JsonValueParser() );
@@ -181,6 +223,93 @@ public class AssetDirectory extends AssetManager {
         topLoader.addParser( new MusicQueueParser() );
     }
 
+    /**
+     * Wraps a loader so that its loads are recorded in the load profile
+     *
+     * @param loader    The loader that does the actual work
+     *
+     * @return a loader that times the given one
+     */
+    private <T, P extends AssetLoaderParameters<T>> ProfiledLoader<T, P> profiled(AssetLoader<T, P> loader) {
+        return new ProfiledLoader<T, P>( loader, profile );
+    }
+
+    /**
+     * Returns the load times and sizes of every asset loaded by this directory
+     *
+     * Use {@link LoadProfile#getReport} for a sorted table of the worst offenders,
+     * or {@link LoadProfile#writeJson} to save the data for later analysis.
+     *
+     * @return the load profile of this directory
+     */
+    public LoadProfile getLoadProfile() {
+        return profile;
+    }
+
+    /**
+     * Starts decoding queued textures on the given number of worker threads
+     *
+     * The asset manager only loads one asset at a time, so by default every texture
+     * is decoded on its single loader thread.  Once this method is called, each texture
+     * is handed to a worker as soon as it is queued, and the loader thread only picks
+     * up the result.  Uploads still happen on the GL thread within the budget passed
+     * to {@link #update(int)}.
+     *
+     * This should be called before {@link #loadAssets}; textures queued earlier are
+     * decoded the normal way.
+     *
+     * @param threads   The number of worker threads
+     */
+    public void setDecodeThreads(int threads) {
+        if (threads > 0) {
+            decoder.start( threads );
+        }
+    }
+
+    /**
+     * Adds the given asset to the loading queue, prefetching it if it is a texture
+     *
+     * @param fileName  The file name (interpretation depends on {@link AssetLoader})
+     * @param type      The type of the asset
+     * @param parameter The parameters for the {@link AssetLoader}
+     */
+    @Override
+    public synchronized <T> void load (String fileName, Class<T> type, AssetLoaderParameters<T> parameter) {
+        if (type == Texture.class && decoder.isRunning() && !contains( fileName )) {
+            Pixmap.Format format = null;
+            if (parameter instanceof TextureLoader.TextureParameter) {
+                TextureLoader.TextureParameter params = (TextureLoader.TextureParameter)parameter;
+                if (params.textureData != null) {
+                    super.load( fileName, type, parameter );
+                    return;
+                }
+                format = params.format;
+            }
+            decoder.prefetch( fileName, resolver.resolve( fileName ), format );
+        }
+        super.load( fileName, type, parameter );
+    }
+
+    /**
+     * Removes the given asset, dropping its prefetched image if it never loaded
+     *
+     * @param fileName  The file name of the asset
+     */
+    @Override
+    public synchronized void unload (String fileName) {
+        decoder.discard( fileName );
+        super.unload( fileName );
+    }
+
+    /**
+     * Disposes all assets in the manager and stops the decode workers.
+     */
+    @Override
+    public synchronized void dispose () {
+        decoder.dispose();
+        super.dispose();
+    }
+
     /**
      * Returns the progress in percent of completion.
      *
@@ -226,6 +355,11 @@ public class AssetDirectory extends AssetManager {
         if (contents == null) {
             return;
         }
+        // group keys are also in the main key map, so this only resets the counts
+        for (Group group : contents.groups.values()) {
+            group.keymap.clear();
+            group.references = 0;
+        }
         for (ObjectMap<String, String> category : contents.keymap.values()) {
             for (String filename : category.values()) {
                 unload( filename );
@@ -234,6 +368,140 @@ public class AssetDirectory extends AssetManager {
         contents = null;
     }
     
+    /**
+     * Returns true if the asset directory declares a group with the given name
+     *
+     * The method {@link #loadAssets} must have finished for this method to
+     * return anything other than false.
+     *
+     * @param name  the group name
+     *
+     * @return true if the asset directory declares a group with the given name
+     */
+    public boolean hasGroup(String name) {
+        return contents != null && contents.groups.containsKey( name );
+    }
+
+    /**
+     * Acquires the asset group with the given name, queueing its assets if necessary
+     *
+     * Groups are reference counted.  The first acquisition queues every asset in the
+     * group (they load with the normal calls to {@link #update}), and later ones only
+     * increment the count.  Each call must be matched by a call to {@link #releaseGroup}.
+     *
+     * @param name  the group name
+     */
+    public void acquireGroup(String name) {
+        Group group = getGroup( name );
+        group.references++;
+        if (group.references > 1) {
+            return;
+        }
+        for(AssetParser<?> parser : topLoader.getParsers()) {
+            ObjectMap<String,String> keys = group.keymap.get( parser.getType(), null );
+            if (keys == null) {
+                keys = new ObjectMap<String,String>();
+                group.keymap.put( parser.getType(), keys );
+            }
+            parser.reset( group.directory );
+            while (parser.hasNext()) {
+                parser.processNext( this, keys );
+            }
+            ObjectMap<String,String> global = contents.keymap.get( parser.getType(), null );
+            if (global == null) {
+                global = new ObjectMap<String,String>();
+                contents.keymap.put( parser.getType(), global );
+            }
+            global.putAll( keys );
+        }
+    }
+
+    /**
+     * Releases the asset group with the given name
+     *
+     * When the last holder releases the group, its assets are unloaded and their
+     * keys are no longer available through {@link #getEntry}.
+     *
+     * @param name  the group name
+     */
+    public void releaseGroup(String name) {
+        Group group = getGroup( name );
+        if (group.references == 0) {
+            throw new GdxRuntimeException( String.format("Asset group '%s' is not acquired.", name) );
+        }
+        group.references--;
+        if (group.references > 0) {
+            return;
+        }
+        for (ObjectMap.Entry<Class<?>, ObjectMap<String,String>> category : group.keymap) {
+            ObjectMap<String,String> global = contents.keymap.get( category.key, null );
+            for (ObjectMap.Entry<String,String> entry : category.value) {
+                if (global != null) {
+                    global.remove( entry.key );
+                }
+                unload( entry.value );
+            }
+        }
+        group.keymap.clear();
+    }
+
+    /**
+     * Returns true if the asset group is acquired and all of its assets are loaded
+     *
+     * @param name  the group name
+     *
+     * @return true if the asset group is acquired and all of its assets are loaded
+     */
+    public boolean isGroupLoaded(String name) {
+        Group group = getGroup( name );
+        if (group.references == 0) {
+            return false;
+        }
+        for (ObjectMap<String,String> category : group.keymap.values()) {
+            for (String filename : category.values()) {
+                if (!isLoaded( filename )) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Blocks until every asset in the (acquired) group is loaded
+     *
+     * This only waits on the assets of this group, so it is much cheaper than
+     * {@link #finishLoading} when other assets are still queued.
+     *
+     * @param name  the group name
+     */
+    public void finishLoadingGroup(String name) {
+        Group group = getGroup( name );
+        for (ObjectMap<String,String> category : group.keymap.values()) {
+            for (String filename : category.values()) {
+                finishLoadingAsset( filename );
+            }
+        }
+    }
+
+    /**
+     * Returns the group with the given name
+     *
+     * @param name  the group name
+     *
+     * @return the group with the given name
+     */
+    private Group getGroup(String name) {
+        if (contents == null) {
+            throw new GdxRuntimeException( "The asset directory has not been loaded." );
+        }
+        Group group = contents.groups.get( name, null );
+        if (group == null) {
+            throw new GdxRuntimeException( String.format("Asset group '%s' does not exist.", name) );
+        }
+        return group;
+    }
+
     /**
      * Returns the {@link AssetParser} objects associated with this directory loader
      *
@@ -141,6 +141,13 @@ public class DirectoryLoader extends AsynchronousAssetLoader<AssetDirectory.Inde
                 parser.processNext( manager, keys );
             }
         }
+        // groups are only recorded here; they are loaded on demand by AssetDirectory
+        JsonValue groups = cachedData.directory.get( "groups" );
+        if (groups != null) {
+            for (JsonValue group : groups) {
+                cachedData.groups.put( group.name(), new AssetDirectory.Group( group ) );
+            }
+        }
     }
 
     /**
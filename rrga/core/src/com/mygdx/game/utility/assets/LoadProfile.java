@@ -0,0 +1,296 @@
+/*
+ * LoadProfile.java
+ *
+ * This class collects how long each asset took to load and how much memory it
+ * occupies.  It is filled in by ProfiledLoader as the asset directory loads, and
+ * can be printed as a sorted report or written out as JSON.
+ */
+package com.mygdx.game.utility.assets;
+
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.mygdx.game.utility.audio.QueuedSound;
+import com.mygdx.game.utility.audio.SoundCache;
+import com.mygdx.game.utility.audio.SoundEffect;
+
+import java.util.Comparator;
+
+/**
+ * A per-asset record of load times and sizes for an {@link AssetDirectory}.
+ *
+ * Decode time is the time spent on the loader thread (reading and decompressing
+ * the file), while upload time is the time spent on the GL thread (creating the
+ * GL or audio objects).  Resident bytes are an estimate; see {@link #estimateBytes}.
+ *
+ * Records may be written from the loader thread, so all access is synchronized.
+ */
+public class LoadProfile {
+    /** Orders records by total (decode + upload) time, largest first */
+    public static final Comparator<Record> BY_TOTAL_TIME = new Comparator<Record>() {
+        public int compare(Record a, Record b) {
+            return Long.compare( b.decodeNanos+b.uploadNanos, a.decodeNanos+a.uploadNanos );
+        }
+    };
+    /** Orders records by decode time, largest first */
+    public static final Comparator<Record> BY_DECODE_TIME = new Comparator<Record>() {
+        public int compare(Record a, Record b) {
+            return Long.compare( b.decodeNanos, a.decodeNanos );
+        }
+    };
+    /** Orders records by upload time, largest first */
+    public static final Comparator<Record> BY_UPLOAD_TIME = new Comparator<Record>() {
+        public int compare(Record a, Record b) {
+            return Long.compare( b.uploadNanos, a.uploadNanos );
+        }
+    };
+    /** Orders records by size on disk, largest first */
+    public static final Comparator<Record> BY_DISK_BYTES = new Comparator<Record>() {
+        public int compare(Record a, Record b) {
+            return Long.compare( b.diskBytes, a.diskBytes );
+        }
+    };
+    /** Orders records by estimated resident size, largest first */
+    public static final Comparator<Record> BY_RESIDENT_BYTES = new Comparator<Record>() {
+        public int compare(Record a, Record b) {
+            return Long.compare( b.residentBytes, a.residentBytes );
+        }
+    };
+
+    /**
+     * The load statistics of a single asset file
+     */
+    public static class Record {
+        /** The asset file name */
+        public final String file;
+        /** The asset type (null until the asset finishes loading) */
+        public Class<?> type;
+        /** The size of the file on disk */
+        public long diskBytes;
+        /** The time spent on the loader thread */
+        public long decodeNanos;
+        /** The time spent on the GL thread */
+        public long uploadNanos;
+        /** The estimated memory held by the loaded asset (CPU or GPU) */
+        public long residentBytes;
+
+        /**
+         * Creates an empty record for the given file
+         *
+         * @param file  The asset file name
+         */
+        public Record(String file) {
+            this.file = file;
+        }
+    }
+
+    /** The records, by file name */
+    private final ObjectMap<String, Record> records = new ObjectMap<String, Record>();
+
+    /**
+     * Records the decode (loader thread) time of an asset
+     *
+     * @param fileName  The asset file name
+     * @param file      The resolved file
+     * @param nanos     The time spent in nanoseconds
+     */
+    public synchronized void recordDecode(String fileName, FileHandle file, long nanos) {
+        Record record = getRecord( fileName, file );
+        record.decodeNanos += nanos;
+    }
+
+    /**
+     * Records the upload (GL thread) time of an asset, and estimates its size
+     *
+     * @param fileName  The asset file name
+     * @param file      The resolved file
+     * @param asset     The loaded asset
+     * @param nanos     The time spent in nanoseconds
+     */
+    public synchronized void recordUpload(String fileName, FileHandle file, Object asset, long nanos) {
+        Record record = getRecord( fileName, file );
+        record.uploadNanos += nanos;
+        if (asset != null) {
+            record.type = asset.getClass();
+            record.residentBytes = estimateBytes( asset, record.diskBytes );
+        }
+    }
+
+    /**
+     * Removes all records
+     */
+    public synchronized void clear() {
+        records.clear();
+    }
+
+    /**
+     * Returns a copy of all records, sorted by the given order
+     *
+     * @param order The sort order (e.g. {@link #BY_TOTAL_TIME})
+     *
+     * @return a copy of all records, sorted by the given order
+     */
+    public synchronized Array<Record> getRecords(Comparator<Record> order) {
+        Array<Record> result = new Array<Record>( records.size );
+        for (Record record : records.values()) {
+            result.add( record );
+        }
+        result.sort( order );
+        return result;
+    }
+
+    /**
+     * Returns a human-readable table of the worst offenders
+     *
+     * @param order The sort order (e.g. {@link #BY_TOTAL_TIME})
+     * @param limit The maximum number of rows (non-positive for all)
+     *
+     * @return a human-readable table of the worst offenders
+     */
+    public String getReport(Comparator<Record> order, int limit) {
+        Array<Record> sorted = getRecords( order );
+        long decode = 0, upload = 0, disk = 0, resident = 0;
+        for (Record record : sorted) {
+            decode += record.decodeNanos;
+            upload += record.uploadNanos;
+            disk += record.diskBytes;
+            resident += record.residentBytes;
+        }
+        StringBuilder report = new StringBuilder();
+        report.append( String.format("Asset load profile: %d assets, decode %.1f ms, upload %.1f ms, disk %d KB, resident ~%d KB%n",
+                sorted.size, decode/1e6, upload/1e6, disk/1024, resident/1024) );
+        report.append( String.format("%10s %10s %10s %12s  %s%n", "decode ms", "upload ms", "disk KB", "resident KB", "file") );
+        int rows = limit > 0 ? Math.min( limit, sorted.size ) : sorted.size;
+        for (int ii = 0; ii < rows; ii++) {
+            Record record = sorted.get( ii );
+            report.append( String.format("%10.2f %10.2f %10d %12d  %s%n", record.decodeNanos/1e6, record.uploadNanos/1e6,
+                    record.diskBytes/1024, record.residentBytes/1024, record.file) );
+        }
+        return report.toString();
+    }
+
+    /**
+     * Returns all records as a JSON array, sorted by the given order
+     *
+     * @param order The sort order (e.g. {@link #BY_TOTAL_TIME})
+     *
+     * @return all records as a JSON array
+     */
+    public JsonValue toJson(Comparator<Record> order) {
+        JsonValue json = new JsonValue( JsonValue.ValueType.array );
+        for (Record record : getRecords( order )) {
+            JsonValue entry = new JsonValue( JsonValue.ValueType.object );
+            entry.addChild( "file", new JsonValue( record.file ) );
+            entry.addChild( "type", new JsonValue( record.type == null ? "unknown" : record.type.getSimpleName() ) );
+            entry.addChild( "decode_ms", new JsonValue( record.decodeNanos/1e6 ) );
+            entry.addChild( "upload_ms", new JsonValue( record.uploadNanos/1e6 ) );
+            entry.addChild( "disk_bytes", new JsonValue( record.diskBytes ) );
+            entry.addChild( "resident_bytes", new JsonValue( record.residentBytes ) );
+            json.addChild( entry );
+        }
+        return json;
+    }
+
+    /**
+     * Writes all records to the given file as JSON, sorted by the given order
+     *
+     * @param file  The file to write
+     * @param order The sort order (e.g. {@link #BY_TOTAL_TIME})
+     */
+    public void writeJson(FileHandle file, Comparator<Record> order) {
+        file.writeString( toJson( order ).prettyPrint( JsonWriter.OutputType.json, 0 ), false );
+    }
+
+    /**
+     * Returns the record for the given file, creating it if necessary
+     *
+     * @param fileName  The asset file name
+     * @param file      The resolved file
+     *
+     * @return the record for the given file
+     */
+    private Record getRecord(String fileName, FileHandle file) {
+        Record record = records.get( fileName, null );
+        if (record == null) {
+            record = new Record( fileName );
+            record.diskBytes = file == null ? 0 : file.length();
+            records.put( fileName, record );
+        }
+        return record;
+    }
+
+    /**
+     * Returns an estimate of the memory held by a loaded asset
+     *
+     * Textures and pixmaps are measured exactly from their dimensions and format
+     * (mipmaps add a third).  Fonts count their glyph pages.  Regions share the memory
+     * of their texture, and music is streamed, so both count as zero.  Sound effects
+     * of known format count their decoded samples (which may be shared with other
+     * assets of the same file, see {@link SoundCache}).  Everything else is approximated
+     * by its size on disk.
+     *
+     * @param asset     The loaded asset
+     * @param diskBytes The size of the asset file
+     *
+     * @return an estimate of the memory held by a loaded asset
+     */
+    public static long estimateBytes(Object asset, long diskBytes) {
+        if (asset instanceof Texture) {
+            Texture texture = (Texture)asset;
+            long bytes = (long)texture.getWidth()*texture.getHeight()*bytesPerPixel( texture.getTextureData().getFormat() );
+            return texture.getTextureData().useMipMaps() ? bytes*4/3 : bytes;
+        } else if (asset instanceof Pixmap) {
+            Pixmap pixmap = (Pixmap)asset;
+            return (long)pixmap.getWidth()*pixmap.getHeight()*bytesPerPixel( pixmap.getFormat() );
+        } else if (asset instanceof BitmapFont) {
+            long bytes = 0;
+            for (TextureRegion region : ((BitmapFont)asset).getRegions()) {
+                bytes += estimateBytes( region.getTexture(), 0 );
+            }
+            return bytes;
+        } else if (asset instanceof TextureRegion || asset instanceof Music) {
+            return 0;
+        } else if (asset instanceof QueuedSound) {
+            return estimateBytes( ((QueuedSound)asset).getSound(), diskBytes );
+        } else if (asset instanceof SoundEffect) {
+            SoundEffect effect = (SoundEffect)asset;
+            if (effect.getDuration() > 0) {
+                return 2L*(effect.isMono() ? 1 : 2)*(long)(effect.getDuration()*effect.getSampleRate());
+            }
+        }
+        return diskBytes;
+    }
+
+    /**
+     * Returns the number of bytes per pixel of the given format
+     *
+     * @param format    The pixel format
+     *
+     * @return the number of bytes per pixel of the given format
+     */
+    public static int bytesPerPixel(Pixmap.Format format) {
+        if (format == null) {
+            return 4;
+        }
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+}
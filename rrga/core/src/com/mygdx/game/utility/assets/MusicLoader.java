@@ -22,6 +22,7 @@ import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.utility.audio.AudioThread;
 
 /**
  * This class is an {@link AssetLoader} to load {@link Music} assets.
@@ -87,7 +88,8 @@ public class MusicLoader extends AsynchronousAssetLoader<Music, MusicLoader.Musi
      * Loads the main thread part of the asset.
      *
      * This is used to load OpenGL parts of the asset that require the context of the
-     * main thread.
+     * main thread.  If the {@link AudioThread} is running, the music is wrapped in a
+     * proxy that sends all of its calls to that thread.
      *
      * @param manager   The asset manager
      * @param fileName  The name of the asset to load
@@ -98,7 +100,7 @@ public class MusicLoader extends AsynchronousAssetLoader<Music, MusicLoader.Musi
     public Music loadSync (AssetManager manager, String fileName, FileHandle file, MusicParameters params) {
         Music music = cachedMusic;
         cachedMusic = null;
-        return music;
+        return AudioThread.wrap( music );
     }
 
     /** 
@@ -71,6 +71,8 @@ public class MusicQueueLoader extends AsynchronousAssetLoader<MusicQueue, MusicQ
         public boolean looping;
         /** Whether to use a local loop behavior (loop one source only) */
         public boolean shortLoop;
+        /** The crossfade time between sources in seconds (0 for none) */
+        public float crossfade;
 
         /**
          * Creates music buffer parameters for stereo CD sound.
@@ -108,6 +110,7 @@ public class MusicQueueLoader extends AsynchronousAssetLoader<MusicQueue, MusicQ
             panning = 0.0f;
             looping = false;
             shortLoop = false;
+            crossfade = 0.0f;
         }
 
     }
@@ -167,6 +170,7 @@ public class MusicQueueLoader extends AsynchronousAssetLoader<MusicQueue, MusicQ
         cachedBuffer.setPan( params.panning );
         cachedBuffer.setLooping( params.looping );
         cachedBuffer.setLoopBehavior( params.shortLoop );
+        cachedBuffer.setCrossfade( params.crossfade );
         for(String deps : manager.getDependencies(fileName)) {
             cachedBuffer.addSource( manager.get(deps,AudioSource.class) );
         }
@@ -76,6 +76,7 @@ public class MusicQueueParser implements AssetParser<MusicQueue> {
         params.panning = root.getFloat( "panning", 0.0f );
         params.looping = root.getBoolean( "looping", false );
         params.shortLoop = root.getBoolean( "shortLoop", false );
+        params.crossfade = root.getFloat( "crossfade", 0.0f );
         JsonValue sources = root.get("sources");
         if (sources != null) {
             for (int ii = 0; ii < sources.size; ii++) {
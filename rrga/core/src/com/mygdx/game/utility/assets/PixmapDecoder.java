@@ -0,0 +1,291 @@
+/*
+ * PixmapDecoder.java
+ *
+ * The asset manager loads one asset at a time, so a large PNG decode stalls every
+ * load queued behind it.  This class decodes image files on a pool of worker threads
+ * as soon as they are queued, so that the texture loader only has to pick up the
+ * finished Pixmap and the GL thread only has to upload it.
+ */
+package com.mygdx.game.utility.assets;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * A pool of worker threads that decodes image files into {@link Pixmap} objects ahead of time.
+ *
+ * Decoded pixmaps wait until they are claimed with {@link #take}.  To bound memory, workers
+ * stop decoding while the unclaimed pixmaps exceed the byte budget.  A file that no worker
+ * has started yet is never waited on: {@link #take} drops it and returns null, so the caller
+ * decodes it itself.  This means the consumer never waits on a worker that is itself waiting
+ * for memory.
+ *
+ * The pool does nothing until {@link #start} is called.
+ */
+public class PixmapDecoder implements Disposable {
+    /** Job state: waiting for a worker */
+    private static final int QUEUED = 0;
+    /** Job state: being decoded by a worker */
+    private static final int DECODING = 1;
+    /** Job state: decoded and waiting to be claimed */
+    private static final int DONE = 2;
+    /** Job state: discarded while being decoded */
+    private static final int CANCELLED = 3;
+
+    /**
+     * A single image file to decode
+     */
+    private static class Job {
+        /** The asset file name */
+        final String fileName;
+        /** The resolved file */
+        final FileHandle file;
+        /** The pixel format the texture expects (null for the file format) */
+        final Pixmap.Format format;
+        /** The decoded image (null until DONE) */
+        Pixmap pixmap;
+        /** The number of bytes held by the decoded image */
+        long bytes;
+        /** The current state of this job */
+        int state;
+
+        Job(String fileName, FileHandle file, Pixmap.Format format) {
+            this.fileName = fileName;
+            this.file = file;
+            this.format = format;
+            state = QUEUED;
+        }
+    }
+
+    /** The lock guarding every field below */
+    private final Object lock = new Object();
+    /** Jobs waiting for a worker, in the order they were queued */
+    private final Array<Job> queue = new Array<Job>();
+    /** All unclaimed jobs, by file name */
+    private final ObjectMap<String, Job> jobs = new ObjectMap<String, Job>();
+    /** The worker threads (empty until started) */
+    private final Array<Thread> workers = new Array<Thread>();
+    /** The maximum number of bytes of decoded but unclaimed images */
+    private final long budget;
+    /** The number of bytes of decoded but unclaimed images */
+    private long pendingBytes;
+    /** Whether this decoder has been disposed */
+    private boolean disposed;
+
+    /**
+     * Creates a new (stopped) decoder with the given memory budget
+     *
+     * @param budget    The maximum number of bytes of decoded but unclaimed images
+     */
+    public PixmapDecoder(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Starts the given number of worker threads
+     *
+     * Calling this on a running decoder adds more workers.
+     *
+     * @param threads   The number of worker threads
+     */
+    public void start(int threads) {
+        synchronized (lock) {
+            if (disposed) {
+                return;
+            }
+            for (int ii = 0; ii < threads; ii++) {
+                Thread worker = new Thread( new Runnable() {
+                    public void run() {
+                        work();
+                    }
+                }, "PixmapDecoder-"+workers.size );
+                worker.setDaemon( true );
+                workers.add( worker );
+                worker.start();
+            }
+        }
+    }
+
+    /**
+     * Returns true if this decoder has worker threads
+     *
+     * @return true if this decoder has worker threads
+     */
+    public boolean isRunning() {
+        synchronized (lock) {
+            return workers.size > 0 && !disposed;
+        }
+    }
+
+    /**
+     * Queues the given image file for decoding
+     *
+     * This does nothing if the decoder is not running or the file is already queued.
+     *
+     * @param fileName  The asset file name
+     * @param file      The resolved file
+     * @param format    The pixel format the texture expects (null for the file format)
+     */
+    public void prefetch(String fileName, FileHandle file, Pixmap.Format format) {
+        synchronized (lock) {
+            if (disposed || workers.size == 0 || jobs.containsKey( fileName )) {
+                return;
+            }
+            Job job = new Job( fileName, file, format );
+            jobs.put( fileName, job );
+            queue.add( job );
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Claims the decoded image for the given file, waiting if a worker is decoding it
+     *
+     * The caller owns the returned pixmap.  This returns null if the file was never
+     * queued, if no worker has started it yet, or if decoding failed.  In that case the
+     * caller should decode the file itself.
+     *
+     * @param fileName  The asset file name
+     *
+     * @return the decoded image for the given file (or null)
+     */
+    public Pixmap take(String fileName) {
+        synchronized (lock) {
+            Job job = jobs.remove( fileName );
+            if (job == null) {
+                return null;
+            }
+            if (job.state == QUEUED) {
+                queue.removeValue( job, true );
+                return null;
+            }
+            while (job.state == DECODING) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    job.state = CANCELLED;
+                    return null;
+                }
+            }
+            pendingBytes -= job.bytes;
+            lock.notifyAll();
+            return job.pixmap;
+        }
+    }
+
+    /**
+     * Drops the given file, freeing its decoded image if there is one
+     *
+     * This never waits.  A file that is being decoded is freed when its worker finishes.
+     *
+     * @param fileName  The asset file name
+     */
+    public void discard(String fileName) {
+        synchronized (lock) {
+            Job job = jobs.remove( fileName );
+            if (job == null) {
+                return;
+            }
+            if (job.state == QUEUED) {
+                queue.removeValue( job, true );
+            } else if (job.state == DECODING) {
+                job.state = CANCELLED;
+            } else if (job.state == DONE) {
+                pendingBytes -= job.bytes;
+                if (job.pixmap != null) {
+                    job.pixmap.dispose();
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Stops the workers and frees every unclaimed image
+     */
+    public void dispose() {
+        synchronized (lock) {
+            disposed = true;
+            for (Job job : jobs.values()) {
+                if (job.state == DONE && job.pixmap != null) {
+                    job.pixmap.dispose();
+                } else if (job.state == DECODING) {
+                    job.state = CANCELLED;
+                }
+            }
+            jobs.clear();
+            queue.clear();
+            pendingBytes = 0;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * The body of a worker thread
+     */
+    private void work() {
+        while (true) {
+            Job job;
+            synchronized (lock) {
+                while (!disposed && (queue.size == 0 || pendingBytes >= budget)) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (disposed) {
+                    return;
+                }
+                job = queue.removeIndex( 0 );
+                job.state = DECODING;
+            }
+
+            Pixmap pixmap = null;
+            try {
+                pixmap = decode( job.file, job.format );
+            } catch (RuntimeException e) {
+                // leave it to the texture loader to report the failure
+                pixmap = null;
+            }
+
+            synchronized (lock) {
+                if (job.state == CANCELLED) {
+                    if (pixmap != null) {
+                        pixmap.dispose();
+                    }
+                } else {
+                    job.pixmap = pixmap;
+                    job.bytes = pixmap == null ? 0 : LoadProfile.estimateBytes( pixmap, 0 );
+                    job.state = DONE;
+                    pendingBytes += job.bytes;
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Decodes an image file, converting it to the given format if necessary
+     *
+     * @param file      The image file
+     * @param format    The pixel format the texture expects (null for the file format)
+     *
+     * @return the decoded image
+     */
+    private static Pixmap decode(FileHandle file, Pixmap.Format format) {
+        Pixmap pixmap = new Pixmap( file );
+        if (format != null && pixmap.getFormat() != format) {
+            Pixmap converted = new Pixmap( pixmap.getWidth(), pixmap.getHeight(), format );
+            converted.setBlending( Pixmap.Blending.None );
+            converted.drawPixmap( pixmap, 0, 0, 0, 0, pixmap.getWidth(), pixmap.getHeight() );
+            pixmap.dispose();
+            pixmap = converted;
+        }
+        return pixmap;
+    }
+}
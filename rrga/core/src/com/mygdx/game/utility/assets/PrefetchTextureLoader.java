@@ -0,0 +1,71 @@
+/*
+ * PrefetchTextureLoader.java
+ *
+ * This is a texture loader that picks up images decoded ahead of time by a
+ * PixmapDecoder.  When the image was not prefetched, it behaves exactly like the
+ * default libGDX texture loader.
+ */
+package com.mygdx.game.utility.assets;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+
+/**
+ * A {@link TextureLoader} that uses the images decoded by a {@link PixmapDecoder}.
+ *
+ * The loader thread only has to wait for (or skip) the decode, and the GL thread
+ * uploads the pixels in {@link #loadSync} as usual.  Because the texture is built
+ * from a pixmap rather than a file, it is not managed, which is fine on desktop where
+ * the GL context is never lost.
+ */
+public class PrefetchTextureLoader extends TextureLoader {
+    /** The decoder holding the prefetched images */
+    private final PixmapDecoder decoder;
+
+    /**
+     * Creates a new PrefetchTextureLoader with the given file resolver and decoder
+     *
+     * @param resolver  The file resolver
+     * @param decoder   The decoder holding the prefetched images
+     */
+    public PrefetchTextureLoader(FileHandleResolver resolver, PixmapDecoder decoder) {
+        super( resolver );
+        this.decoder = decoder;
+    }
+
+    /**
+     * Loads the thread-safe part of the texture, using the prefetched image if there is one
+     *
+     * @param manager   The asset manager
+     * @param fileName  The name of the asset to load
+     * @param file      The resolved file to load
+     * @param parameter The parameters to use for loading the asset
+     */
+    @Override
+    public void loadAsync (AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+        if (parameter != null && parameter.textureData != null) {
+            super.loadAsync( manager, fileName, file, parameter );
+            return;
+        }
+
+        Pixmap pixmap = decoder.take( fileName );
+        if (pixmap == null) {
+            super.loadAsync( manager, fileName, file, parameter );
+            return;
+        }
+
+        TextureParameter prefetched = parameter == null ? new TextureParameter() : parameter;
+        boolean mipmaps = parameter != null && parameter.genMipMaps;
+        prefetched.textureData = new PixmapTextureData( pixmap, pixmap.getFormat(), mipmaps, true );
+        try {
+            super.loadAsync( manager, fileName, file, prefetched );
+        } finally {
+            // loadSync only reads the filters and wraps
+            prefetched.textureData = null;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * ProfiledLoader.java
+ *
+ * This is a wrapper around another asset loader that times each load and reports
+ * it to a LoadProfile.  The wrapped loader does all of the actual work.
+ */
+package com.mygdx.game.utility.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AssetLoader;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * This class is an {@link AssetLoader} that measures another loader.
+ *
+ * The time spent in {@link #loadAsync} (on the loader thread) is recorded as decode
+ * time, and the time spent in {@link #loadSync} (on the GL thread) is recorded as
+ * upload time.  A wrapped {@link SynchronousAssetLoader} does all of its work in
+ * {@link #loadSync}, just as it would without the wrapper.
+ */
+public class ProfiledLoader<T, P extends AssetLoaderParameters<T>> extends AsynchronousAssetLoader<T, P> {
+    /** The loader that does the actual work */
+    private final AssetLoader<T, P> loader;
+    /** The profile to report to */
+    private final LoadProfile profile;
+
+    /**
+     * Creates a new ProfiledLoader wrapping the given loader
+     *
+     * @param loader    The loader that does the actual work
+     * @param profile   The profile to report to
+     */
+    public ProfiledLoader(AssetLoader<T, P> loader, LoadProfile profile) {
+        super( null );
+        this.loader = loader;
+        this.profile = profile;
+    }
+
+    /**
+     * Returns the loader that does the actual work
+     *
+     * @return the loader that does the actual work
+     */
+    public AssetLoader<T, P> getLoader() {
+        return loader;
+    }
+
+    /**
+     * Returns a file handle for the given file name, using the resolver of the wrapped loader
+     *
+     * @param fileName  The file name to resolve
+     *
+     * @return a file handle for the given file name
+     */
+    @Override
+    public FileHandle resolve (String fileName) {
+        return loader.resolve( fileName );
+    }
+
+    /**
+     * Loads the thread-safe part of the asset, recording the decode time.
+     *
+     * @param manager   The asset manager
+     * @param fileName  The name of the asset to load
+     * @param file      The resolved file to load
+     * @param params    The parameters to use for loading the asset
+     */
+    @Override
+    public void loadAsync (AssetManager manager, String fileName, FileHandle file, P params) {
+        if (!(loader instanceof AsynchronousAssetLoader)) {
+            return;
+        }
+        long start = TimeUtils.nanoTime();
+        ((AsynchronousAssetLoader<T, P>)loader).loadAsync( manager, fileName, file, params );
+        profile.recordDecode( fileName, file, TimeUtils.nanoTime()-start );
+    }
+
+    /**
+     * Unloads the thread-safe part of an asset whose load was cancelled.
+     *
+     * @param manager   The asset manager
+     * @param fileName  The name of the asset
+     * @param file      The resolved file
+     * @param params    The parameters used for loading the asset
+     */
+    @Override
+    public void unloadAsync (AssetManager manager, String fileName, FileHandle file, P params) {
+        if (loader instanceof AsynchronousAssetLoader) {
+            ((AsynchronousAssetLoader<T, P>)loader).unloadAsync( manager, fileName, file, params );
+        }
+    }
+
+    /**
+     * Loads the main thread part of the asset, recording the upload time.
+     *
+     * @param manager   The asset manager
+     * @param fileName  The name of the asset to load
+     * @param file      The resolved file to load
+     * @param params    The parameters to use for loading the asset
+     */
+    @Override
+    public T loadSync (AssetManager manager, String fileName, FileHandle file, P params) {
+        long start = TimeUtils.nanoTime();
+        T asset;
+        if (loader instanceof AsynchronousAssetLoader) {
+            asset = ((AsynchronousAssetLoader<T, P>)loader).loadSync( manager, fileName, file, params );
+        } else {
+            asset = ((SynchronousAssetLoader<T, P>)loader).load( manager, fileName, file, params );
+        }
+        profile.recordUpload( fileName, file, asset, TimeUtils.nanoTime()-start );
+        return asset;
+    }
+
+    /**
+     * Returns the other assets this asset requires to be loaded first.
+     *
+     * @param fileName  The name of the asset to load
+     * @param file      The resolved file to load
+     * @param params    The parameters for loading the asset
+     *
+     * @return the other assets this asset requires to be loaded first.
+     */
+    @Override
+    public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, P params) {
+        return loader.getDependencies( fileName, file, params );
+    }
+}
@@ -13,6 +13,10 @@
  */
 package com.mygdx.game.utility.assets;
 
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.GLFrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
@@ -38,6 +42,11 @@ import com.badlogic.gdx.utils.ObjectMap;
  * the manager becomes the resource owner of that resource, and will be responsible for 
  * disposing of it. All references to the object outside of the reference manager 
  * will be essentially weak references (in the C++ sense).
+ *
+ * The manager also estimates the GPU and heap memory of every {@link Texture},
+ * {@link GLFrameBuffer}, {@link ShaderProgram} and {@link Pixmap} it holds, and counts
+ * lookup hits and misses, so that {@link #getStats} can report them on a debug overlay.
+ * It never disposes a resource on its own, since callers may still hold it.
  */
 public class ResourceManager {
 	/** The singleton instance of this resource manager */
@@ -46,6 +55,38 @@ public class ResourceManager {
     final ObjectMap<Class, ObjectMap<String, Disposable>> resources = new ObjectMap<Class, ObjectMap<String, Disposable>>();
     /** The classes supported by this resource manager */
     final ObjectMap<String, Class> resourceTypes = new ObjectMap<String, Class>();
+    /** The estimated size of each resource, by key */
+    final ObjectMap<String, Entry> entries = new ObjectMap<String, Entry>();
+
+    /**
+     * The bookkeeping for a single resource
+     */
+    static class Entry {
+        /** The resource key */
+        final String key;
+        /** The resource type */
+        final Class type;
+        /** The estimated number of bytes of video memory */
+        final long gpuBytes;
+        /** The estimated number of bytes of heap (or native) memory */
+        final long heapBytes;
+
+        Entry(String key, Class type, long gpuBytes, long heapBytes) {
+            this.key = key;
+            this.type = type;
+            this.gpuBytes = gpuBytes;
+            this.heapBytes = heapBytes;
+        }
+    }
+
+    /** The estimated video memory of all resources */
+    private long gpuBytes;
+    /** The estimated heap memory of all resources */
+    private long heapBytes;
+    /** The number of successful lookups */
+    private long hits;
+    /** The number of failed lookups */
+    private long misses;
 
     /**
      * Creates a new resource manager.
@@ -93,17 +134,10 @@ public class ResourceManager {
     public synchronized <T> T get (String key) {
         Class<T> type = resourceTypes.get(key);
         if (type == null) {
+            misses++;
             throw new GdxRuntimeException(String.format("Resource '%s' is not active.", key));
         }
-        ObjectMap<String, Disposable> rsrcByType = resources.get(type);
-        if (rsrcByType == null) {
-            throw new GdxRuntimeException(String.format("Resource '%s' is not active.", key));
-        }
-        T resource = (T) rsrcByType.get( key );
-        if (resource == null) {
-            throw new GdxRuntimeException(String.format("Resource '%s' is not active.", key));
-        }
-        return resource;
+        return get(key, type);
     }
 
     /**
@@ -119,12 +153,15 @@ public class ResourceManager {
     public synchronized <T> T get (String key, Class<T> type) {
         ObjectMap<String, Disposable> rsrcByType = resources.get(type);
         if (rsrcByType == null) {
+            misses++;
             throw new GdxRuntimeException(String.format("Resource '%s' is not active.", key));
         }
         T resource = (T) rsrcByType.get( key );
         if (resource == null) {
+            misses++;
             throw new GdxRuntimeException(String.format("Resource '%s' is not active.", key));
         }
+        hits++;
         return resource;
     }
 
@@ -239,6 +276,7 @@ public class ResourceManager {
         }
         resource.dispose();
         resourcesByType.remove(key);
+        untrack(key);
     }
 
     /**
@@ -264,6 +302,7 @@ public class ResourceManager {
         }
         resource.dispose();
         resourcesByType.remove(key);
+        untrack(key);
     }
 
     /**
@@ -296,6 +335,9 @@ public class ResourceManager {
         }
         resources.clear();
         resourceTypes.clear();
+        entries.clear();
+        gpuBytes = 0;
+        heapBytes = 0;
     }
     
 	/**
@@ -327,6 +369,7 @@ public class ResourceManager {
             throw new GdxRuntimeException(String.format("Pipeline resource '%s' not active.", key));
         }
         resourcesByType.remove(key);
+        untrack(key);
         return (T)resource;
     }
 
@@ -355,6 +398,7 @@ public class ResourceManager {
             throw new GdxRuntimeException(String.format("Pipeline resource '%s' not active.", key));
         }
         resourcesByType.remove(key);
+        untrack(key);
         return (T)resource;
     }
     
@@ -391,7 +435,10 @@ public class ResourceManager {
      * @param resource	The resource to add
      */
     @SuppressWarnings("unchecked")
-    public <T> void add(final String key, Class<T> type, T resource) {
+    public synchronized <T> void add(final String key, Class<T> type, T resource) {
+        // replacing a key drops the old bookkeeping (but the caller still owns the old resource)
+        untrack(key);
+
         // add the asset to the filename lookup
         resourceTypes.put(key, type);
 
@@ -402,6 +449,161 @@ public class ResourceManager {
             resources.put(type, typeToRsrc);
         }
         typeToRsrc.put(key, (Disposable)resource);
+
+        Entry entry = new Entry(key, type, estimateGpuBytes(resource), estimateHeapBytes(resource));
+        entries.put(key, entry);
+        gpuBytes += entry.gpuBytes;
+        heapBytes += entry.heapBytes;
+    }
+
+    /**
+     * Returns the estimated video memory of all resources
+     *
+     * @return the estimated video memory of all resources
+     */
+    public synchronized long getGpuBytes() {
+        return gpuBytes;
+    }
+
+    /**
+     * Returns the estimated heap memory of all resources
+     *
+     * @return the estimated heap memory of all resources
+     */
+    public synchronized long getHeapBytes() {
+        return heapBytes;
+    }
+
+    /**
+     * Returns the estimated (video plus heap) memory of all resources of the given type
+     *
+     * @param type  The resource type
+     *
+     * @return the estimated memory of all resources of the given type
+     */
+    public synchronized long getBytes(Class type) {
+        long total = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.type == type) {
+                total += entry.gpuBytes+entry.heapBytes;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of successful lookups since the last {@link #resetStats}
+     *
+     * @return the number of successful lookups
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of failed lookups since the last {@link #resetStats}
+     *
+     * @return the number of failed lookups
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Resets the hit and miss counters
+     */
+    public synchronized void resetStats() {
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Returns a short human-readable summary of memory use, for a debug overlay
+     *
+     * @return a short human-readable summary of memory use
+     */
+    public synchronized String getStats() {
+        ObjectMap<Class, long[]> byType = new ObjectMap<Class, long[]>();
+        for (Entry entry : entries.values()) {
+            long[] total = byType.get(entry.type);
+            if (total == null) {
+                total = new long[2];
+                byType.put(entry.type, total);
+            }
+            total[0]++;
+            total[1] += entry.gpuBytes+entry.heapBytes;
+        }
+        StringBuilder stats = new StringBuilder();
+        stats.append(String.format("GPU %d KB, heap %d KB, hits %d, misses %d",
+                gpuBytes/1024, heapBytes/1024, hits, misses));
+        for (ObjectMap.Entry<Class, long[]> total : byType.entries()) {
+            stats.append(String.format(", %s %d (%d KB)", total.key.getSimpleName(), total.value[0], total.value[1]/1024));
+        }
+        return stats.toString();
+    }
+
+    /**
+     * Removes the bookkeeping for the given key (if any)
+     *
+     * @param key   The resource key
+     */
+    private void untrack(String key) {
+        resourceTypes.remove(key);
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            gpuBytes -= entry.gpuBytes;
+            heapBytes -= entry.heapBytes;
+        }
+    }
+
+    /**
+     * Returns an estimate of the video memory held by a resource
+     *
+     * Textures and framebuffers are measured from their dimensions and formats.
+     * Compiled shaders are approximated by the size of their sources.
+     *
+     * @param resource  The resource
+     *
+     * @return an estimate of the video memory held by a resource
+     */
+    public static long estimateGpuBytes(Object resource) {
+        if (resource instanceof Texture) {
+            return LoadProfile.estimateBytes(resource, 0);
+        } else if (resource instanceof GLFrameBuffer) {
+            GLFrameBuffer<?> buffer = (GLFrameBuffer<?>)resource;
+            long pixels = (long)buffer.getWidth()*buffer.getHeight();
+            long bytes = 0;
+            for (Object attachment : buffer.getTextureAttachments()) {
+                bytes += LoadProfile.estimateBytes(attachment, 0);
+            }
+            if (buffer.getDepthBufferHandle() != 0) {
+                bytes += pixels*4;
+            }
+            if (buffer.getStencilBufferHandle() != 0) {
+                bytes += pixels;
+            }
+            return bytes;
+        } else if (resource instanceof ShaderProgram) {
+            ShaderProgram shader = (ShaderProgram)resource;
+            return shader.getVertexShaderSource().length()+shader.getFragmentShaderSource().length();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns an estimate of the heap (or native) memory held by a resource
+     *
+     * Only pixmaps are measured; everything else counts as zero.
+     *
+     * @param resource  The resource
+     *
+     * @return an estimate of the heap (or native) memory held by a resource
+     */
+    public static long estimateHeapBytes(Object resource) {
+        if (resource instanceof Pixmap) {
+            return LoadProfile.estimateBytes(resource, 0);
+        }
+        return 0;
     }
 
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.utility.audio.AudioThread;
 
 /**
  * This class is an {@link AssetLoader} to load {@link Sound} assets.
@@ -90,7 +91,8 @@ public class SoundLoader extends AsynchronousAssetLoader<Sound, SoundLoader.Soun
      * Loads the main thread part of the asset.
      *
      * This is used to load OpenGL parts of the asset that require the context of the
-     * main thread.
+     * main thread.  If the {@link AudioThread} is running, the sound is wrapped in a
+     * proxy that sends all of its calls to that thread.
      *
      * @param manager   The asset manager
      * @param fileName  The name of the asset to load
@@ -101,7 +103,7 @@ public class SoundLoader extends AsynchronousAssetLoader<Sound, SoundLoader.Soun
     public Sound loadSync (AssetManager manager, String fileName, FileHandle file, SoundParameters params) {
         Sound sound = cachedSound;
         cachedSound = null;
-        return sound;
+        return AudioThread.wrap( sound );
     }
 
     /** 
@@ -0,0 +1,198 @@
+/*
+ * AudioCommandQueue.java
+ *
+ * This class is a fixed-size ring buffer of sound commands passed from the game
+ * thread to the audio thread.  It has exactly one producer and one consumer, so
+ * it needs no locks: each side only ever writes its own index.
+ */
+package com.mygdx.game.utility.audio;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free single-producer/single-consumer queue of audio commands.
+ *
+ * A command is an opcode, a target (the sound or music it applies to), an instance
+ * id and up to three float arguments.  The fields are stored in parallel arrays that
+ * are allocated once, so pushing a command never allocates.  If the consumer falls
+ * so far behind that the queue is full, new commands are dropped (and counted) rather
+ * than blocking the producer.
+ *
+ * Only one thread may call {@link #push}, and only one (other) thread may call
+ * {@link #poll}.
+ */
+public class AudioCommandQueue {
+    /**
+     * A batch of commands removed from the queue.
+     *
+     * The consumer owns the batch, and may mark commands as skipped before running it.
+     */
+    public static class Batch {
+        /** The command opcodes */
+        public final int[] ops;
+        /** The command targets */
+        public final Object[] targets;
+        /** The command instance ids */
+        public final long[] ids;
+        /** The first float argument of each command */
+        public final float[] a;
+        /** The second float argument of each command */
+        public final float[] b;
+        /** The third float argument of each command */
+        public final float[] c;
+        /** Whether each command should be skipped */
+        public final boolean[] skip;
+        /** The number of commands in this batch */
+        public int size;
+
+        /**
+         * Creates an empty batch with the given capacity
+         *
+         * @param capacity  The maximum number of commands
+         */
+        public Batch(int capacity) {
+            ops = new int[capacity];
+            targets = new Object[capacity];
+            ids = new long[capacity];
+            a = new float[capacity];
+            b = new float[capacity];
+            c = new float[capacity];
+            skip = new boolean[capacity];
+        }
+
+        /**
+         * Empties this batch, releasing its references to the targets
+         */
+        public void clear() {
+            for (int ii = 0; ii < size; ii++) {
+                targets[ii] = null;
+            }
+            size = 0;
+        }
+    }
+
+    /** The index mask (capacity-1) */
+    private final int mask;
+    /** The command opcodes */
+    private final int[] ops;
+    /** The command targets */
+    private final Object[] targets;
+    /** The command instance ids */
+    private final long[] ids;
+    /** The first float argument of each command */
+    private final float[] a;
+    /** The second float argument of each command */
+    private final float[] b;
+    /** The third float argument of each command */
+    private final float[] c;
+    /** The index of the next command to read (written only by the consumer) */
+    private final AtomicLong head = new AtomicLong();
+    /** The index of the next command to write (written only by the producer) */
+    private final AtomicLong tail = new AtomicLong();
+    /** The producer's last view of the head */
+    private long cachedHead;
+    /** The number of commands dropped because the queue was full (producer only) */
+    private long dropped;
+
+    /**
+     * Creates a new queue with (at least) the given capacity
+     *
+     * The capacity is rounded up to a power of two.
+     *
+     * @param capacity  The minimum number of pending commands
+     */
+    public AudioCommandQueue(int capacity) {
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        mask = size-1;
+        ops = new int[size];
+        targets = new Object[size];
+        ids = new long[size];
+        a = new float[size];
+        b = new float[size];
+        c = new float[size];
+    }
+
+    /**
+     * Returns the number of commands this queue can hold
+     *
+     * @return the number of commands this queue can hold
+     */
+    public int getCapacity() {
+        return mask+1;
+    }
+
+    /**
+     * Returns the number of commands dropped because the queue was full
+     *
+     * This may only be called by the producer.
+     *
+     * @return the number of commands dropped
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Adds a command to the queue (producer only)
+     *
+     * @param op        The command opcode
+     * @param target    The sound or music the command applies to
+     * @param id        The instance id (or sequence number)
+     * @param a         The first float argument
+     * @param b         The second float argument
+     * @param c         The third float argument
+     *
+     * @return true if the command was added, false if the queue was full
+     */
+    public boolean push(int op, Object target, long id, float a, float b, float c) {
+        long index = tail.get();
+        if (index-cachedHead > mask) {
+            cachedHead = head.get();
+            if (index-cachedHead > mask) {
+                dropped++;
+                return false;
+            }
+        }
+        int slot = (int)(index & mask);
+        ops[slot] = op;
+        targets[slot] = target;
+        ids[slot] = id;
+        this.a[slot] = a;
+        this.b[slot] = b;
+        this.c[slot] = c;
+        tail.lazySet( index+1 );
+        return true;
+    }
+
+    /**
+     * Moves as many pending commands as fit into the given batch (consumer only)
+     *
+     * The batch is cleared first.
+     *
+     * @param batch The batch to fill
+     *
+     * @return the number of commands moved
+     */
+    public int poll(Batch batch) {
+        batch.clear();
+        long start = head.get();
+        long end = Math.min( tail.get(), start+batch.ops.length );
+        for (long index = start; index < end; index++) {
+            int slot = (int)(index & mask);
+            int pos = batch.size++;
+            batch.ops[pos] = ops[slot];
+            batch.targets[pos] = targets[slot];
+            batch.ids[pos] = ids[slot];
+            batch.a[pos] = a[slot];
+            batch.b[pos] = b[slot];
+            batch.c[pos] = c[slot];
+            batch.skip[pos] = false;
+            targets[slot] = null;
+        }
+        head.lazySet( end );
+        return batch.size;
+    }
+}
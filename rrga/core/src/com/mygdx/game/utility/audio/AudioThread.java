@@ -0,0 +1,549 @@
+/*
+ * AudioThread.java
+ *
+ * This class moves every sound and music call off the game thread.  Gameplay code
+ * talks to QueuedSound and QueuedMusic proxies, which push compact commands into a
+ * lock-free queue.  A dedicated thread drains the queue, drops redundant commands,
+ * and makes the actual backend calls.
+ */
+package com.mygdx.game.utility.audio;
+
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A dedicated thread that performs all audio backend calls.
+ *
+ * The asset loaders wrap every sound and music in a proxy (see {@link #wrap(Sound)}),
+ * so the rest of the game uses the normal {@link Sound} and {@link Music} interfaces.
+ * Each proxy call pushes a command to an {@link AudioCommandQueue} and returns at once.
+ * Sound plays return a ticket that stands in for the backend instance id.
+ *
+ * Every few milliseconds the audio thread drains the queue.  Within each batch it
+ * skips setters overwritten by a later setter, repeated stops and repeated music
+ * plays.  It then runs the remaining commands and the engine update while holding
+ * the engine lock, so the backend is never used by two threads at once.
+ *
+ * Only the game (GL) thread may use the proxies.  Like {@link com.mygdx.game.utility.assets.ResourceManager},
+ * this class is a singleton, started by the application and shut down before the
+ * audio assets are disposed.
+ */
+public class AudioThread {
+    /** Opcode: play a sound (a=volume, b=pitch, c=pan) */
+    static final int PLAY = 0;
+    /** Opcode: loop a sound (a=volume, b=pitch, c=pan) */
+    static final int LOOP = 1;
+    /** Opcode: stop one sound instance */
+    static final int STOP = 2;
+    /** Opcode: stop all instances of a sound */
+    static final int STOP_ALL = 3;
+    /** Opcode: pause one sound instance */
+    static final int PAUSE = 4;
+    /** Opcode: pause all instances of a sound */
+    static final int PAUSE_ALL = 5;
+    /** Opcode: resume one sound instance */
+    static final int RESUME = 6;
+    /** Opcode: resume all instances of a sound */
+    static final int RESUME_ALL = 7;
+    /** Opcode: set the volume of a sound instance (a=volume) */
+    static final int SET_VOLUME = 8;
+    /** Opcode: set the pitch of a sound instance (a=pitch) */
+    static final int SET_PITCH = 9;
+    /** Opcode: set the pan of a sound instance (a=pan, b=volume) */
+    static final int SET_PAN = 10;
+    /** Opcode: set the looping of a sound instance (a=1 to loop) */
+    static final int SET_LOOPING = 11;
+    /** Opcode: dispose a sound */
+    static final int DISPOSE = 12;
+    /** Opcode: play a music stream */
+    static final int MUSIC_PLAY = 13;
+    /** Opcode: pause a music stream */
+    static final int MUSIC_PAUSE = 14;
+    /** Opcode: stop a music stream */
+    static final int MUSIC_STOP = 15;
+    /** Opcode: set the volume of a music stream (a=volume) */
+    static final int MUSIC_VOLUME = 16;
+    /** Opcode: set the looping of a music stream (a=1 to loop) */
+    static final int MUSIC_LOOPING = 17;
+    /** Opcode: set the pan of a music stream (a=pan, b=volume) */
+    static final int MUSIC_PAN = 18;
+    /** Opcode: set the position of a music stream (a=seconds) */
+    static final int MUSIC_POSITION = 19;
+    /** Opcode: start tracking the state of a music stream */
+    static final int MUSIC_REGISTER = 20;
+    /** Opcode: stop tracking the state of a music stream and dispose it */
+    static final int MUSIC_UNREGISTER = 21;
+
+    /** The number of pending commands the queue can hold */
+    private static final int QUEUE_CAPACITY = 1024;
+    /** The maximum number of commands handled per batch */
+    private static final int BATCH_CAPACITY = 256;
+    /** The number of sound tickets remembered (a power of two) */
+    private static final int TICKETS = 256;
+    /** The time between batches in nanoseconds */
+    private static final long PERIOD = 2000000L;
+
+    /** The singleton instance (null if not running) */
+    private static AudioThread instance;
+
+    /** The backend audio (also used as the lock around backend calls) */
+    private final Audio audio;
+    /** The commands from the game thread */
+    private final AudioCommandQueue queue = new AudioCommandQueue( QUEUE_CAPACITY );
+    /** The batch being processed (audio thread only) */
+    private final AudioCommandQueue.Batch batch = new AudioCommandQueue.Batch( BATCH_CAPACITY );
+    /** The music streams whose state is mirrored (audio thread only) */
+    private final Array<QueuedMusic> tracked = new Array<QueuedMusic>();
+    /** The ticket stored in each slot (audio thread only) */
+    private final long[] slotTickets = new long[TICKETS];
+    /** The backend instance of each slot (audio thread only) */
+    private final long[] slotInstances = new long[TICKETS];
+    /** The music proxies created while running (game thread only) */
+    private final Array<QueuedMusic> streams = new Array<QueuedMusic>();
+    /** The thread draining the queue */
+    private final Thread thread;
+    /** Whether the thread should keep running */
+    private volatile boolean running;
+    /** The last ticket handed out (game thread only) */
+    private long tickets;
+    /** The number of commands skipped as redundant (audio thread only) */
+    private volatile long skipped;
+    /** The number of commands run (audio thread only) */
+    private volatile long executed;
+
+    /**
+     * Starts the audio thread for the given backend audio
+     *
+     * Sounds and music loaded after this call are wrapped in proxies.  This does
+     * nothing if the thread is already running.
+     *
+     * @param audio The backend audio
+     *
+     * @return the running audio thread
+     */
+    public static AudioThread start(Audio audio) {
+        if (instance == null) {
+            instance = new AudioThread( audio );
+            instance.running = true;
+            instance.thread.start();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the running audio thread (or null if it is not running)
+     *
+     * @return the running audio thread (or null if it is not running)
+     */
+    public static AudioThread get() {
+        return instance;
+    }
+
+    /**
+     * Stops the audio thread, running any commands still in the queue
+     *
+     * This must be called before the audio assets are disposed.  Proxies created
+     * earlier call the backend directly from then on.
+     */
+    public static void shutdown() {
+        if (instance == null) {
+            return;
+        }
+        AudioThread current = instance;
+        instance = null;
+        current.running = false;
+        LockSupport.unpark( current.thread );
+        try {
+            current.thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (current.audio instanceof PooledAudioEngine) {
+            ((PooledAudioEngine)current.audio).setUpdateThread( null );
+        }
+        current.process();
+        current.streams.clear();
+    }
+
+    /**
+     * Returns a proxy for the given sound if the audio thread is running
+     *
+     * @param sound The backend sound
+     *
+     * @return a proxy for the given sound (or the sound itself)
+     */
+    public static Sound wrap(Sound sound) {
+        if (instance == null || sound == null || sound instanceof QueuedSound) {
+            return sound;
+        }
+        return new QueuedSound( instance, sound );
+    }
+
+    /**
+     * Returns a proxy for the given music if the audio thread is running
+     *
+     * @param music The backend music
+     *
+     * @return a proxy for the given music (or the music itself)
+     */
+    public static Music wrap(Music music) {
+        if (instance == null || music == null || music instanceof QueuedMusic) {
+            return music;
+        }
+        QueuedMusic proxy = new QueuedMusic( instance, music );
+        instance.streams.add( proxy );
+        instance.push( MUSIC_REGISTER, proxy, 0, 0, 0, 0 );
+        return proxy;
+    }
+
+    /**
+     * Invokes the completion listeners of any music that finished since the last call
+     *
+     * The backend reports completion on the audio thread, but listeners may touch
+     * game state, so they are deferred to this method.  It should be called once per
+     * frame on the game thread.
+     */
+    public static void update() {
+        if (instance == null) {
+            return;
+        }
+        Array<QueuedMusic> streams = instance.streams;
+        for (int ii = 0; ii < streams.size; ii++) {
+            streams.get( ii ).dispatch();
+        }
+    }
+
+    /**
+     * Creates a new (stopped) audio thread
+     *
+     * @param audio The backend audio
+     */
+    private AudioThread(Audio audio) {
+        this.audio = audio;
+        for (int ii = 0; ii < TICKETS; ii++) {
+            slotTickets[ii] = -1;
+        }
+        thread = new Thread( new Runnable() {
+            public void run() {
+                loop();
+            }
+        }, "AudioThread" );
+        thread.setDaemon( true );
+        if (audio instanceof PooledAudioEngine) {
+            ((PooledAudioEngine)audio).setUpdateThread( thread );
+        }
+    }
+
+    /**
+     * Returns the number of commands dropped because the queue was full
+     *
+     * @return the number of commands dropped
+     */
+    public long getDropped() {
+        return queue.getDropped();
+    }
+
+    /**
+     * Returns the number of commands skipped as redundant
+     *
+     * @return the number of commands skipped as redundant
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Returns the number of commands sent to the backend
+     *
+     * @return the number of commands sent to the backend
+     */
+    public long getExecuted() {
+        return executed;
+    }
+
+    /**
+     * Returns true if the calling thread should push commands instead of calling the backend
+     *
+     * @return true if commands should be queued
+     */
+    boolean isQueueing() {
+        return running && Thread.currentThread() != thread;
+    }
+
+    /**
+     * Returns a new ticket for a sound play (game thread only)
+     *
+     * @return a new ticket for a sound play
+     */
+    long nextTicket() {
+        return ++tickets;
+    }
+
+    /**
+     * Forgets a music proxy and disposes its backend music (game thread only)
+     *
+     * The music is disposed on the audio thread, after any commands still pending.
+     *
+     * @param music The disposed music proxy
+     */
+    void release(QueuedMusic music) {
+        streams.removeValue( music, true );
+        if (isQueueing()) {
+            push( MUSIC_UNREGISTER, music, 0, 0, 0, 0 );
+        } else {
+            executeNow( MUSIC_UNREGISTER, music, 0, 0, 0, 0 );
+        }
+    }
+
+    /**
+     * Adds a command to the queue (game thread only)
+     *
+     * @param op        The command opcode
+     * @param target    The proxy the command applies to
+     * @param id        The ticket (or sequence number)
+     * @param a         The first float argument
+     * @param b         The second float argument
+     * @param c         The third float argument
+     */
+    void push(int op, Object target, long id, float a, float b, float c) {
+        queue.push( op, target, id, a, b, c );
+    }
+
+    /**
+     * The body of the audio thread
+     */
+    private void loop() {
+        while (running) {
+            process();
+            LockSupport.parkNanos( PERIOD );
+        }
+    }
+
+    /**
+     * Drains the queue, runs the commands and updates the backend
+     */
+    private void process() {
+        synchronized (audio) {
+            while (queue.poll( batch ) > 0) {
+                dedupe();
+                for (int ii = 0; ii < batch.size; ii++) {
+                    if (!batch.skip[ii]) {
+                        execute( batch.ops[ii], batch.targets[ii], batch.ids[ii], batch.a[ii], batch.b[ii], batch.c[ii] );
+                    } else if (batch.ops[ii] >= MUSIC_PLAY) {
+                        ((QueuedMusic)batch.targets[ii]).applied = batch.ids[ii];
+                    }
+                }
+                batch.clear();
+            }
+            if (audio instanceof PooledAudioEngine) {
+                ((PooledAudioEngine)audio).update();
+            }
+            for (QueuedMusic music : tracked) {
+                music.refresh();
+            }
+        }
+    }
+
+    /**
+     * Marks the redundant commands of the current batch as skipped
+     *
+     * A setter is redundant if a later command in the batch sets the same property
+     * of the same instance.  A stop (or music play) is redundant if the same target
+     * was already stopped (or played) earlier in the batch, with only setters in
+     * between.  This is what makes calling stop or play every frame cheap.
+     */
+    private void dedupe() {
+        long count = 0;
+        for (int ii = 0; ii < batch.size; ii++) {
+            if (batch.skip[ii]) {
+                continue;
+            }
+            int op = batch.ops[ii];
+            Object target = batch.targets[ii];
+            boolean setter = isSetter( op );
+            boolean repeat = op == STOP_ALL || op == MUSIC_STOP || op == MUSIC_PLAY;
+            if (!setter && !repeat) {
+                continue;
+            }
+            for (int jj = ii+1; jj < batch.size; jj++) {
+                if (batch.targets[jj] != target) {
+                    continue;
+                }
+                int later = batch.ops[jj];
+                if (setter) {
+                    // Music commands carry sequence numbers, not instances
+                    if (later == op && (op >= MUSIC_PLAY || batch.ids[jj] == batch.ids[ii])) {
+                        batch.skip[ii] = true;
+                        count++;
+                        break;
+                    }
+                } else if (later == op) {
+                    batch.skip[jj] = true;
+                    count++;
+                } else if (!isSetter( later )) {
+                    break;
+                }
+            }
+        }
+        skipped += count;
+    }
+
+    /**
+     * Returns true if the given opcode only sets a property
+     *
+     * @param op    The command opcode
+     *
+     * @return true if the given opcode only sets a property
+     */
+    private static boolean isSetter(int op) {
+        return op == SET_VOLUME || op == SET_PITCH || op == SET_PAN || op == SET_LOOPING ||
+               op == MUSIC_VOLUME || op == MUSIC_LOOPING || op == MUSIC_PAN || op == MUSIC_POSITION;
+    }
+
+    /**
+     * Runs a single command against the backend
+     *
+     * @param op        The command opcode
+     * @param target    The proxy the command applies to
+     * @param id        The ticket (or sequence number)
+     * @param a         The first float argument
+     * @param b         The second float argument
+     * @param c         The third float argument
+     */
+    private void execute(int op, Object target, long id, float a, float b, float c) {
+        executed++;
+        if (op >= MUSIC_PLAY) {
+            QueuedMusic proxy = (QueuedMusic)target;
+            Music music = proxy.music;
+            switch (op) {
+                case MUSIC_PLAY:
+                    music.play();
+                    break;
+                case MUSIC_PAUSE:
+                    music.pause();
+                    break;
+                case MUSIC_STOP:
+                    music.stop();
+                    break;
+                case MUSIC_VOLUME:
+                    music.setVolume( a );
+                    break;
+                case MUSIC_LOOPING:
+                    music.setLooping( a != 0 );
+                    break;
+                case MUSIC_PAN:
+                    music.setPan( a, b );
+                    break;
+                case MUSIC_POSITION:
+                    music.setPosition( a );
+                    break;
+                case MUSIC_REGISTER:
+                    tracked.add( proxy );
+                    break;
+                case MUSIC_UNREGISTER:
+                    tracked.removeValue( proxy, true );
+                    music.dispose();
+                    break;
+            }
+            proxy.applied = id;
+            return;
+        }
+
+        Sound sound = ((QueuedSound)target).sound;
+        switch (op) {
+            case PLAY:
+                remember( id, sound.play( a, b, c ) );
+                break;
+            case LOOP:
+                remember( id, sound.loop( a, b, c ) );
+                break;
+            case STOP_ALL:
+                sound.stop();
+                break;
+            case PAUSE_ALL:
+                sound.pause();
+                break;
+            case RESUME_ALL:
+                sound.resume();
+                break;
+            case DISPOSE:
+                sound.dispose();
+                break;
+            default:
+                long instance = lookup( id );
+                if (instance == -1) {
+                    return;
+                }
+                switch (op) {
+                    case STOP:
+                        sound.stop( instance );
+                        break;
+                    case PAUSE:
+                        sound.pause( instance );
+                        break;
+                    case RESUME:
+                        sound.resume( instance );
+                        break;
+                    case SET_VOLUME:
+                        sound.setVolume( instance, a );
+                        break;
+                    case SET_PITCH:
+                        sound.setPitch( instance, a );
+                        break;
+                    case SET_PAN:
+                        sound.setPan( instance, a, b );
+                        break;
+                    case SET_LOOPING:
+                        sound.setLooping( instance, a != 0 );
+                        break;
+                }
+        }
+    }
+
+    /**
+     * Records the backend instance for a ticket
+     *
+     * @param ticket    The ticket returned to the game thread
+     * @param instance  The backend instance id
+     */
+    private void remember(long ticket, long instance) {
+        int slot = (int)(ticket & (TICKETS-1));
+        slotTickets[slot] = ticket;
+        slotInstances[slot] = instance;
+    }
+
+    /**
+     * Returns the backend instance for a ticket (-1 if unknown or too old)
+     *
+     * @param ticket    The ticket returned to the game thread
+     *
+     * @return the backend instance for a ticket
+     */
+    private long lookup(long ticket) {
+        if (ticket <= 0) {
+            return -1;
+        }
+        int slot = (int)(ticket & (TICKETS-1));
+        return slotTickets[slot] == ticket ? slotInstances[slot] : -1;
+    }
+
+    /**
+     * Runs a command immediately, for proxies used after the thread has stopped
+     *
+     * @param op        The command opcode
+     * @param target    The proxy the command applies to
+     * @param id        The ticket (or sequence number)
+     * @param a         The first float argument
+     * @param b         The second float argument
+     * @param c         The third float argument
+     */
+    void executeNow(int op, Object target, long id, float a, float b, float c) {
+        synchronized (audio) {
+            execute( op, target, id, a, b, c );
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * BackendMusic.java
+ *
+ * This is a MusicQueue that simply wraps a music stream from the backend audio.
+ * It lets PooledAudioEngine hand out ordinary music through the MusicQueue
+ * interface, but it has no queue of its own.
+ */
+package com.mygdx.game.utility.audio;
+
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * A {@link MusicQueue} for a single file streamed by the backend {@link Music}.
+ *
+ * This class behaves exactly like the wrapped music.  It has no {@link AudioSource}
+ * objects, so the queue management methods either return nothing or throw an
+ * exception.  Pitch and effect filters are not supported by the backend, so they
+ * have no effect.  Use {@link AudioEngine#newMusicBuffer} for a real queue.
+ */
+public class BackendMusic implements MusicQueue {
+    /** The engine that created this music (null if none) */
+    private final PooledAudioEngine engine;
+    /** The backend music */
+    private final Music music;
+    /** Whether the music was paused by {@link #pauseByEngine} */
+    private boolean pausedByEngine;
+    /** The current pan */
+    private float pan;
+
+    /**
+     * Creates a new wrapper for the given backend music
+     *
+     * @param engine    The engine that created this music (null if none)
+     * @param music     The backend music
+     */
+    public BackendMusic(PooledAudioEngine engine, Music music) {
+        this.engine = engine;
+        this.music = music;
+    }
+
+    /**
+     * Returns the backend music
+     *
+     * @return the backend music
+     */
+    public Music getMusic() {
+        return music;
+    }
+
+    /**
+     * Pauses the music if it is playing, so that {@link #resumeByEngine} can restart it
+     */
+    void pauseByEngine() {
+        if (music.isPlaying()) {
+            music.pause();
+            pausedByEngine = true;
+        }
+    }
+
+    /**
+     * Resumes the music if it was paused by {@link #pauseByEngine}
+     */
+    void resumeByEngine() {
+        if (pausedByEngine) {
+            music.play();
+            pausedByEngine = false;
+        }
+    }
+
+    // #mark -
+    // #mark Music Methods
+
+    public void play() {
+        music.play();
+    }
+
+    public void pause() {
+        pausedByEngine = false;
+        music.pause();
+    }
+
+    public void stop() {
+        pausedByEngine = false;
+        music.stop();
+    }
+
+    public boolean isPlaying() {
+        return music.isPlaying();
+    }
+
+    public void setLooping(boolean isLooping) {
+        music.setLooping( isLooping );
+    }
+
+    public boolean isLooping() {
+        return music.isLooping();
+    }
+
+    public void setVolume(float volume) {
+        music.setVolume( volume );
+    }
+
+    public float getVolume() {
+        return music.getVolume();
+    }
+
+    public void setPan(float pan, float volume) {
+        this.pan = pan;
+        music.setPan( pan, volume );
+    }
+
+    public void setPosition(float position) {
+        music.setPosition( position );
+    }
+
+    public float getPosition() {
+        return music.getPosition();
+    }
+
+    public void dispose() {
+        if (engine != null) {
+            engine.release( this );
+        }
+        music.dispose();
+    }
+
+    public void setOnCompletionListener(final OnCompletionListener listener) {
+        music.setOnCompletionListener( listener == null ? null : new OnCompletionListener() {
+            public void onCompletion(Music music) {
+                listener.onCompletion( BackendMusic.this );
+            }
+        } );
+    }
+
+    // #mark -
+    // #mark MusicQueue Attributes
+
+    /**
+     * Has no effect, as there are no sources to transition between.
+     *
+     * @param listener  The callback that will be run.
+     */
+    public void setOnTransitionListener(OnTransitionListener listener) {
+    }
+
+    /**
+     * Returns false, as the backend does not report the channel count.
+     *
+     * @return false
+     */
+    public boolean isMono() {
+        return false;
+    }
+
+    /**
+     * Returns 0, as the backend does not report the sample rate.
+     *
+     * @return 0
+     */
+    public int getSampleRate() {
+        return 0;
+    }
+
+    /**
+     * Returns -1, as the backend does not report the duration.
+     *
+     * @return -1
+     */
+    public float getDuration() {
+        return -1;
+    }
+
+    /**
+     * Has no effect, as the backend music does not support pitch.
+     *
+     * @param pitch The pitch multiplier
+     */
+    public void setPitch(float pitch) {
+    }
+
+    public float getPitch() {
+        return 1;
+    }
+
+    public void setPan(float pan) {
+        setPan( pan, music.getVolume() );
+    }
+
+    public float getPan() {
+        return pan;
+    }
+
+    public void setLoopBehavior(boolean local) {
+    }
+
+    public boolean getLoopBehavior() {
+        return true;
+    }
+
+    /**
+     * Has no effect, as there are no sources to transition between.
+     *
+     * @param seconds   The crossfade time in seconds
+     */
+    public void setCrossfade(float seconds) {
+    }
+
+    public float getCrossfade() {
+        return 0;
+    }
+
+    public void addEffect(EffectFilter effect) {
+    }
+
+    public void removeEffect(EffectFilter effect) {
+    }
+
+    public void clearAllEffect() {
+    }
+
+    // #mark -
+    // #mark Queue Management
+
+    public int getNumberOfSources() {
+        return 0;
+    }
+
+    public AudioSource getCurrent() {
+        return null;
+    }
+
+    public AudioSource getSource(int pos) {
+        return null;
+    }
+
+    public void setSource(int pos, AudioSource source) {
+        throw new GdxRuntimeException( "Backend music does not support a source queue." );
+    }
+
+    public void addSource(AudioSource source) {
+        throw new GdxRuntimeException( "Backend music does not support a source queue." );
+    }
+
+    public void insertSource(int pos, AudioSource source) {
+        throw new GdxRuntimeException( "Backend music does not support a source queue." );
+    }
+
+    public AudioSource removeSource(int pos) {
+        return null;
+    }
+
+    public void clearSources() {
+        stop();
+    }
+
+    public void advanceSource() {
+        stop();
+    }
+
+    public void advanceSource(int steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException( "Cannot advance a negative number of steps." );
+        }
+        if (steps == 0) {
+            reset();
+        } else {
+            stop();
+        }
+    }
+
+    public void jumpToSource(int pos) {
+        if (pos == 0) {
+            reset();
+        } else {
+            stop();
+        }
+    }
+
+    public void reset() {
+        music.setPosition( 0 );
+    }
+}
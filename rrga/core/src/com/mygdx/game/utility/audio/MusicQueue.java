@@ -198,6 +198,30 @@ public interface MusicQueue extends Music {
      */
      public boolean getLoopBehavior();
 
+    /**
+     * Sets the crossfade time of this music buffer in seconds.
+     *
+     * When the crossfade time is positive, moving from one source to the next
+     * (either at the end of a source or by {@link #jumpToSource}) fades out the
+     * old source while fading in the new one.  Otherwise, sources are played
+     * back to back without any gap.
+     *
+     * @param seconds   The crossfade time in seconds
+     */
+    public void setCrossfade(float seconds);
+
+    /**
+     * Returns the crossfade time of this music buffer in seconds.
+     *
+     * When the crossfade time is positive, moving from one source to the next
+     * (either at the end of a source or by {@link #jumpToSource}) fades out the
+     * old source while fading in the new one.  Otherwise, sources are played
+     * back to back without any gap.
+     *
+     * @return the crossfade time of this music buffer in seconds.
+     */
+    public float getCrossfade();
+
     /**
      * Add an effect to the music playback
      *
@@ -0,0 +1,231 @@
+/*
+ * PCMRing.java
+ *
+ * This class is a fixed ring of decoded audio pages passed from a decoder thread to
+ * the thread that feeds them to the audio card.  Like AudioCommandQueue, it has one
+ * producer and one consumer, so the pages change hands without locks.
+ */
+package com.mygdx.game.utility.audio;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free single-producer/single-consumer ring of 16-bit PCM pages.
+ *
+ * The pages are allocated once, so a stream of any length uses the same amount of
+ * memory.  The producer fills the page returned by {@link #obtain} and hands it over
+ * with {@link #commit}.  The consumer reads the page at {@link #peek} and gives it
+ * back with {@link #release}.  Each page records the queue position of the audio
+ * source it ends in, and flags for the stream events that happen within it.
+ *
+ * Only {@link #clear} and {@link #shiftSources} touch both ends of the ring, so the
+ * caller must make sure neither side is active while they run.
+ */
+public class PCMRing {
+    /** Flag: the page starts a new audio source */
+    public static final int START = 1;
+    /** Flag: the page loops the current audio source back to its beginning */
+    public static final int LOOP = 2;
+    /** Flag: the page ends the stream */
+    public static final int END = 4;
+
+    /** The index mask (capacity-1) */
+    private final int mask;
+    /** The sample pages */
+    private final short[][] pages;
+    /** The number of samples in each page */
+    private final int[] lengths;
+    /** The source position for each page */
+    private final int[] sources;
+    /** The event flags for each page */
+    private final int[] flags;
+    /** The index of the next page to read (written only by the consumer) */
+    private final AtomicLong head = new AtomicLong();
+    /** The index of the next page to write (written only by the producer) */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Creates a new ring of (at least) the given number of pages
+     *
+     * The page count is rounded up to a power of two.
+     *
+     * @param count         The minimum number of pages
+     * @param pageSamples   The number of samples per page
+     */
+    public PCMRing(int count, int pageSamples) {
+        int size = 1;
+        while (size < count) {
+            size <<= 1;
+        }
+        mask = size-1;
+        pages = new short[size][pageSamples];
+        lengths = new int[size];
+        sources = new int[size];
+        flags = new int[size];
+    }
+
+    /**
+     * Returns the number of pages in this ring
+     *
+     * @return the number of pages in this ring
+     */
+    public int getCapacity() {
+        return mask+1;
+    }
+
+    /**
+     * Returns the number of samples per page
+     *
+     * @return the number of samples per page
+     */
+    public int getPageSamples() {
+        return pages[0].length;
+    }
+
+    /**
+     * Returns the number of bytes of sample data held by this ring
+     *
+     * @return the number of bytes of sample data held by this ring
+     */
+    public long getBytes() {
+        return 2L*pages.length*pages[0].length;
+    }
+
+    /**
+     * Returns the number of pages ready for the consumer
+     *
+     * @return the number of pages ready for the consumer
+     */
+    public int getReady() {
+        return (int)(tail.get()-head.get());
+    }
+
+    // #mark -
+    // #mark Producer
+
+    /**
+     * Returns the next page to fill, or null if the ring is full (producer only)
+     *
+     * @return the next page to fill, or null if the ring is full
+     */
+    public short[] obtain() {
+        long index = tail.get();
+        if (index-head.get() > mask) {
+            return null;
+        }
+        return pages[(int)(index & mask)];
+    }
+
+    /**
+     * Hands the page returned by {@link #obtain} to the consumer (producer only)
+     *
+     * @param length    The number of samples written to the page
+     * @param source    The source position at the end of the page
+     * @param events    The event flags for the page
+     */
+    public void commit(int length, int source, int events) {
+        long index = tail.get();
+        int slot = (int)(index & mask);
+        lengths[slot] = length;
+        sources[slot] = source;
+        flags[slot] = events;
+        tail.lazySet( index+1 );
+    }
+
+    // #mark -
+    // #mark Consumer
+
+    /**
+     * Returns the slot of the next page to read, or -1 if the ring is empty (consumer only)
+     *
+     * @return the slot of the next page to read, or -1 if the ring is empty
+     */
+    public int peek() {
+        long index = head.get();
+        if (index == tail.get()) {
+            return -1;
+        }
+        return (int)(index & mask);
+    }
+
+    /**
+     * Returns the samples of the page in the given slot
+     *
+     * @param slot  The page slot
+     *
+     * @return the samples of the page in the given slot
+     */
+    public short[] getPage(int slot) {
+        return pages[slot];
+    }
+
+    /**
+     * Returns the number of samples in the page in the given slot
+     *
+     * @param slot  The page slot
+     *
+     * @return the number of samples in the page in the given slot
+     */
+    public int getLength(int slot) {
+        return lengths[slot];
+    }
+
+    /**
+     * Returns the source position at the end of the page in the given slot
+     *
+     * @param slot  The page slot
+     *
+     * @return the source position at the end of the page in the given slot
+     */
+    public int getSource(int slot) {
+        return sources[slot];
+    }
+
+    /**
+     * Returns the event flags of the page in the given slot
+     *
+     * @param slot  The page slot
+     *
+     * @return the event flags of the page in the given slot
+     */
+    public int getFlags(int slot) {
+        return flags[slot];
+    }
+
+    /**
+     * Gives the page returned by {@link #peek} back to the producer (consumer only)
+     */
+    public void release() {
+        head.lazySet( head.get()+1 );
+    }
+
+    // #mark -
+    // #mark Maintenance
+
+    /**
+     * Discards every page in the ring
+     *
+     * Neither the producer nor the consumer may be active during this call.
+     */
+    public void clear() {
+        head.set( tail.get() );
+    }
+
+    /**
+     * Shifts the source positions of the pending pages after a queue change
+     *
+     * Every page at a position of at least start is moved by delta.  Neither the
+     * producer nor the consumer may be active during this call.
+     *
+     * @param start The first source position to shift
+     * @param delta The amount to shift
+     */
+    public void shiftSources(int start, int delta) {
+        for (long index = head.get(); index < tail.get(); index++) {
+            int slot = (int)(index & mask);
+            if (sources[slot] >= start) {
+                sources[slot] += delta;
+            }
+        }
+    }
+}
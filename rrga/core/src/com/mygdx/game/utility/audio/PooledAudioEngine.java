@@ -0,0 +1,314 @@
+/*
+ * PooledAudioEngine.java
+ *
+ * This is an implementation of AudioEngine on top of the audio of the libGDX
+ * backend.  The backend does all of the decoding and playback, while this class
+ * decides which sounds are allowed to play, so that a busy level never runs out
+ * of sources.
+ */
+package com.mygdx.game.utility.audio;
+
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.audio.AudioDevice;
+import com.badlogic.gdx.audio.AudioRecorder;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * An {@link AudioEngine} that plays every sound effect on a fixed {@link VoicePool}.
+ *
+ * The backend audio has a fixed number of sources and silently refuses to play once
+ * they are all busy.  This engine keeps a smaller pool of voices for sound effects
+ * (leaving the rest for music) and decides which sound gets a voice using category
+ * limits and priorities.  Use {@link #classify} to assign a loaded sound to a category.
+ *
+ * The engine must be installed as the application audio by the platform launcher,
+ * and {@link #update} must be called once per frame (the desktop backend does this
+ * automatically).  When an {@link AudioThread} is running, only that thread updates
+ * the engine, and every backend call is made while holding the lock on the engine.
+ */
+public class PooledAudioEngine implements AudioEngine, Disposable {
+    /** The audio of the libGDX backend */
+    protected final Audio backend;
+    /** The voices shared by all sound effects */
+    protected final VoicePool voices;
+    /** The decoded sounds shared by all sound effects */
+    protected final SoundCache sounds;
+    /** The music streams created by this engine */
+    private final Array<BackendMusic> streams = new Array<BackendMusic>();
+    /** The only thread allowed to update the engine (null for any thread) */
+    private volatile Thread updateThread;
+
+    /**
+     * Creates a new engine on top of the given backend audio
+     *
+     * The number of voices should be smaller than the number of backend sources, as
+     * the backend also needs sources for music.
+     *
+     * @param backend   The audio of the libGDX backend
+     * @param capacity  The number of sound effect voices
+     */
+    public PooledAudioEngine(Audio backend, int capacity) {
+        this.backend = backend;
+        this.voices = new VoicePool( capacity );
+        this.sounds = new SoundCache( backend );
+    }
+
+    /**
+     * Assigns the given sound to a voice category, if it was created by this engine
+     *
+     * This lets gameplay code classify its sounds without depending on the engine.
+     * It does nothing for sounds created by any other audio.
+     *
+     * @param sound     The sound to classify
+     * @param category  The category name (see {@link VoicePool#setLimit})
+     * @param priority  The priority (higher values may steal voices from lower ones)
+     */
+    public static void classify(Sound sound, String category, int priority) {
+        if (sound instanceof QueuedSound) {
+            sound = ((QueuedSound)sound).getSound();
+        }
+        if (sound instanceof PooledSoundEffect) {
+            ((PooledSoundEffect)sound).setCategory( category, priority );
+        }
+    }
+
+    /**
+     * Returns the voice pool shared by all sound effects
+     *
+     * @return the voice pool shared by all sound effects
+     */
+    public VoicePool getVoices() {
+        return voices;
+    }
+
+    /**
+     * Returns the cache of decoded sounds shared by all sound effects
+     *
+     * @return the cache of decoded sounds shared by all sound effects
+     */
+    public SoundCache getSounds() {
+        return sounds;
+    }
+
+    /**
+     * Returns the number of simultaneous sound effects supported by this audio engine.
+     *
+     * @return the number of simultaneous sound effects
+     */
+    public int getCapacity() {
+        return voices.getCapacity();
+    }
+
+    /**
+     * Frees the voices of finished sounds, invoking their completion listeners.
+     *
+     * This should be called once per frame.  If an update thread has been set, calls
+     * from any other thread are ignored.
+     */
+    public synchronized void update() {
+        Thread owner = updateThread;
+        if (owner != null && owner != Thread.currentThread()) {
+            return;
+        }
+        updateBackend();
+        voices.update();
+    }
+
+    /**
+     * Sets the only thread allowed to update the engine
+     *
+     * The platform backend calls {@link #update} from the game thread every frame.
+     * Once the audio moves to its own thread, those calls must be ignored.
+     *
+     * @param thread    The update thread (null to allow any thread)
+     */
+    public void setUpdateThread(Thread thread) {
+        updateThread = thread;
+    }
+
+    /**
+     * Updates the backend audio (e.g. refills streaming buffers)
+     *
+     * This is called by {@link #update} before the voices are freed.  The default
+     * backend needs no update, so this does nothing.
+     */
+    protected void updateBackend() {
+    }
+
+    // #mark -
+    // #mark Asset Creation
+
+    public AudioDevice newAudioDevice(int samplingRate, boolean isMono) {
+        return backend.newAudioDevice( samplingRate, isMono );
+    }
+
+    public AudioRecorder newAudioRecorder(int samplingRate, boolean isMono) {
+        return backend.newAudioRecorder( samplingRate, isMono );
+    }
+
+    public boolean switchOutputDevice(String deviceIdentifier) {
+        return backend.switchOutputDevice( deviceIdentifier );
+    }
+
+    public String[] getAvailableOutputDevices() {
+        return backend.getAvailableOutputDevices();
+    }
+
+    /**
+     * Creates a new {@link SoundEffect} that plays on the voices of this engine.
+     *
+     * The decoded samples are shared with every other effect of the same file.
+     *
+     * @param file The sound asset
+     *
+     * @throws GdxRuntimeException if the asset could not be loaded
+     * @return a new {@link SoundEffect} from the given file.
+     */
+    public synchronized SoundEffect newSound(FileHandle file) {
+        PooledSoundEffect effect = createEffect( file, sounds.obtain( file ) );
+        share( effect );
+        return effect;
+    }
+
+    /**
+     * Creates a new {@link MusicQueue} to stream from the given file.
+     *
+     * The music is streamed by the backend, so it does not support a source queue.
+     *
+     * @param file The sound asset
+     *
+     * @throws GdxRuntimeException if the asset could not be loaded
+     * @return a new {@link MusicQueue} from the given file.
+     */
+    public synchronized MusicQueue newMusic(FileHandle file) {
+        BackendMusic music = new BackendMusic( this, backend.newMusic( file ) );
+        streams.add( music );
+        return music;
+    }
+
+    /**
+     * Throws an exception, as the backend does not expose decoded audio sources.
+     *
+     * @param file The sound asset
+     *
+     * @throws GdxRuntimeException always
+     * @return nothing
+     */
+    public AudioSource newSource(FileHandle file) {
+        throw new GdxRuntimeException( "Audio sources are not supported by this engine." );
+    }
+
+    /**
+     * Creates a new {@link SoundEffect} for the file of the given source.
+     *
+     * The decoded samples are shared with every other effect of the same file.  The
+     * format comes from the source, so the file header is not read again.
+     *
+     * @param source    The sound asset
+     *
+     * @throws GdxRuntimeException if the asset could not be loaded
+     * @return a new {@link SoundEffect} from the given source.
+     */
+    public synchronized SoundEffect newSoundBuffer(AudioSource source) {
+        FileHandle file = source.getFile();
+        PooledSoundEffect effect = new PooledSoundEffect( voices, sounds.obtain( file ), file,
+                                                          source.getChannels() == 1, source.getSampleRate(),
+                                                          source.getDuration() );
+        share( effect );
+        return effect;
+    }
+
+    /**
+     * Throws an exception, as the backend does not expose decoded audio sources.
+     *
+     * @param isMono        Whether this is a mono stream (as opposed to stereo)
+     * @param sampleRate    The fixed sample rate of this stream
+     *
+     * @throws GdxRuntimeException always
+     * @return nothing
+     */
+    public MusicQueue newMusicBuffer(boolean isMono, int sampleRate) {
+        throw new GdxRuntimeException( "Music buffers are not supported by this engine." );
+    }
+
+    /**
+     * Returns null, as the backend does not support effect filters.
+     *
+     * @return null
+     */
+    public EffectFactory getEffectFactory() {
+        return null;
+    }
+
+    /**
+     * Creates the sound effect wrapping a backend sound
+     *
+     * The backend {@link Sound} does not report its format, so this version assumes a
+     * stereo sound of unknown duration.  Non-looping voices of unknown duration are
+     * only freed when stopped or stolen.  Platform engines should override this method
+     * to supply the actual format.
+     *
+     * @param file  The sound asset
+     * @param sound The backend sound
+     *
+     * @return the sound effect wrapping the backend sound
+     */
+    protected PooledSoundEffect createEffect(FileHandle file, Sound sound) {
+        return new PooledSoundEffect( voices, sound, file, false, 44100, -1 );
+    }
+
+    /**
+     * Hands the backend sound of the given effect to the sound cache
+     *
+     * @param effect    The effect created from a cached sound
+     */
+    private void share(PooledSoundEffect effect) {
+        effect.cache = sounds;
+        sounds.measure( effect.getFile(), effect.isMono() ? 1 : 2, effect.getSampleRate(), effect.getDuration() );
+    }
+
+    /**
+     * Forgets a music stream that has been disposed
+     *
+     * @param music The disposed music
+     */
+    synchronized void release(BackendMusic music) {
+        streams.removeValue( music, true );
+    }
+
+    // #mark -
+    // #mark Engine Control
+
+    /**
+     * Pauses all sound effects and music created by this engine.
+     */
+    public synchronized void pause() {
+        voices.pauseAll();
+        for (BackendMusic music : streams) {
+            music.pauseByEngine();
+        }
+    }
+
+    /**
+     * Resumes all sound effects and music paused by {@link #pause()}.
+     */
+    public synchronized void resume() {
+        voices.resumeAll();
+        for (BackendMusic music : streams) {
+            music.resumeByEngine();
+        }
+    }
+
+    /**
+     * Disposes the backend audio.
+     */
+    public synchronized void dispose() {
+        if (backend instanceof Disposable) {
+            ((Disposable)backend).dispose();
+        }
+    }
+}
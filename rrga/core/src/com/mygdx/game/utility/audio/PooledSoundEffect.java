@@ -0,0 +1,356 @@
+/*
+ * PooledSoundEffect.java
+ *
+ * This is the SoundEffect implementation of PooledAudioEngine.  It wraps a sound
+ * from the backend audio, but routes every play through the engine voice pool so
+ * that the number of simultaneous instances is bounded.
+ */
+package com.mygdx.game.utility.audio;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * A {@link SoundEffect} whose instances play on the voices of a {@link VoicePool}.
+ *
+ * Each effect has a category and a priority that decide which voice it may take
+ * (see {@link VoicePool}).  If no voice is available, the play methods return -1,
+ * exactly as a backend that ran out of sources would.
+ *
+ * The backend sound already shares its decoded samples among all instances, so
+ * playing an effect never decodes or allocates.  The per-instance attributes that
+ * {@link Sound} cannot report (volume, pitch, pan, position) are tracked on the voice.
+ * Effect filters are not supported by the backend, so {@link #addEffect} does nothing.
+ */
+public class PooledSoundEffect implements SoundEffect {
+    /** The voice pool of the engine */
+    private final VoicePool pool;
+    /** The backend sound */
+    private final Sound sound;
+    /** The file that generated this sound */
+    private final FileHandle file;
+    /** Whether this is a mono sound */
+    private final boolean mono;
+    /** The number of samples per second */
+    private final int sampleRate;
+    /** The duration in seconds (non-positive if unknown) */
+    private final float duration;
+    /** The category index of this sound */
+    private int category;
+    /** The priority of this sound */
+    private int priority;
+    /** The callback invoked when an instance completes */
+    private OnCompletionListener listener;
+    /** The cache that owns the backend sound (null if this effect owns it) */
+    SoundCache cache;
+
+    /**
+     * Creates a new pooled sound effect
+     *
+     * The sound starts in the default category with priority 0.
+     *
+     * @param pool          The voice pool of the engine
+     * @param sound         The backend sound
+     * @param file          The file that generated this sound
+     * @param mono          Whether this is a mono sound
+     * @param sampleRate    The number of samples per second
+     * @param duration      The duration in seconds (non-positive if unknown)
+     */
+    public PooledSoundEffect(VoicePool pool, Sound sound, FileHandle file, boolean mono, int sampleRate, float duration) {
+        this.pool = pool;
+        this.sound = sound;
+        this.file = file;
+        this.mono = mono;
+        this.sampleRate = sampleRate;
+        this.duration = duration;
+        this.category = pool.getCategory( VoicePool.DEFAULT_CATEGORY );
+    }
+
+    /**
+     * Sets the category and priority used by future plays of this sound
+     *
+     * @param category  The category name (see {@link VoicePool#setLimit})
+     * @param priority  The priority (higher values may steal voices from lower ones)
+     */
+    public void setCategory(String category, int priority) {
+        this.category = pool.getCategory( category );
+        this.priority = priority;
+    }
+
+    /**
+     * Returns the priority used by future plays of this sound
+     *
+     * @return the priority used by future plays of this sound
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the backend sound
+     *
+     * @return the backend sound
+     */
+    public Sound getSound() {
+        return sound;
+    }
+
+    // #mark -
+    // #mark Source Attributes
+
+    public void setOnCompletionListener(OnCompletionListener listener) {
+        this.listener = listener;
+    }
+
+    public FileHandle getFile() {
+        return file;
+    }
+
+    public boolean isMono() {
+        return mono;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public float getDuration() {
+        return duration;
+    }
+
+    // #mark -
+    // #mark Playback Control
+
+    public long play() {
+        return play( 1.0f );
+    }
+
+    public long play(float volume) {
+        return play( volume, 1.0f, 0.0f );
+    }
+
+    public long play(float volume, float pitch, float pan) {
+        return start( volume, pitch, pan, false );
+    }
+
+    public long loop() {
+        return loop( 1.0f );
+    }
+
+    public long loop(float volume) {
+        return loop( volume, 1.0f, 0.0f );
+    }
+
+    public long loop(float volume, float pitch, float pan) {
+        return start( volume, pitch, pan, true );
+    }
+
+    public void stop() {
+        for (VoicePool.Voice voice : pool.getVoices()) {
+            if (voice.owner == this) {
+                halt( voice );
+            }
+        }
+    }
+
+    public void pause() {
+        for (VoicePool.Voice voice : pool.getVoices()) {
+            if (voice.owner == this) {
+                pause( voice.instance );
+            }
+        }
+    }
+
+    public void resume() {
+        for (VoicePool.Voice voice : pool.getVoices()) {
+            if (voice.owner == this) {
+                resume( voice.instance );
+            }
+        }
+    }
+
+    public void dispose() {
+        stop();
+        if (cache != null) {
+            cache.release( file );
+            cache = null;
+        } else {
+            sound.dispose();
+        }
+    }
+
+    public void stop(long soundId) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        if (voice != null) {
+            halt( voice );
+        }
+    }
+
+    public void pause(long soundId) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        if (voice != null && !voice.paused) {
+            voice.rebase( duration, TimeUtils.nanoTime() );
+            voice.paused = true;
+            sound.pause( soundId );
+        }
+    }
+
+    public void resume(long soundId) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        if (voice != null && voice.paused) {
+            voice.mark = TimeUtils.nanoTime();
+            voice.paused = false;
+            voice.pausedByPool = false;
+            sound.resume( soundId );
+        }
+    }
+
+    public boolean isPlaying(long soundId) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        return voice != null && !voice.paused;
+    }
+
+    public void setLooping(long soundId, boolean looping) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        if (voice != null) {
+            voice.rebase( duration, TimeUtils.nanoTime() );
+            voice.looping = looping;
+            sound.setLooping( soundId, looping );
+        }
+    }
+
+    public boolean getLooping(long soundId, boolean looping) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        return voice != null && voice.looping;
+    }
+
+    public void setPitch(long soundId, float pitch) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        if (voice != null) {
+            voice.rebase( duration, TimeUtils.nanoTime() );
+            voice.pitch = pitch;
+            sound.setPitch( soundId, pitch );
+        }
+    }
+
+    public float getPitch(long soundId) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        return voice == null ? 1 : voice.pitch;
+    }
+
+    public void setVolume(long soundId, float volume) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        if (voice != null) {
+            voice.volume = volume;
+            sound.setVolume( soundId, volume );
+        }
+    }
+
+    public float getVolume(long soundId, float volume) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        return voice == null ? -1 : voice.volume;
+    }
+
+    public void setPan(long soundId, float pan, float volume) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        if (voice != null) {
+            voice.pan = pan;
+            voice.volume = volume;
+            sound.setPan( soundId, pan, volume );
+        }
+    }
+
+    public void setPan(long soundId, float pan) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        if (voice != null) {
+            setPan( soundId, pan, voice.volume );
+        }
+    }
+
+    public float getPan(long soundId) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        return voice == null ? 0 : voice.pan;
+    }
+
+    public float getPosition(long soundId) {
+        VoicePool.Voice voice = pool.find( this, soundId );
+        return voice == null ? -1 : voice.getPosition( duration, TimeUtils.nanoTime() );
+    }
+
+    /**
+     * Has no effect, as the backend {@link Sound} cannot seek.
+     *
+     * @param soundId   The playback instance
+     * @param seconds   The current position of this instance in seconds.
+     */
+    public void setPosition(long soundId, float seconds) {
+    }
+
+    /**
+     * Has no effect, as the backend {@link Sound} does not support effect filters.
+     *
+     * @param soundId   The playback instance
+     * @param effect    The effect to add
+     */
+    public void addEffect(long soundId, EffectFilter effect) {
+    }
+
+    /**
+     * Has no effect, as the backend {@link Sound} does not support effect filters.
+     *
+     * @param soundId   The playback instance
+     * @param effect    The effect to remove
+     */
+    public void removeEffect(long soundId, EffectFilter effect) {
+    }
+
+    // #mark -
+    // #mark Voice Management
+
+    /**
+     * Starts a new instance on a pooled voice
+     *
+     * @param volume    The initial volume
+     * @param pitch     The initial pitch multiplier
+     * @param pan       The initial pan
+     * @param looping   Whether the sound loops
+     *
+     * @return the new instance id (-1 if no voice was available)
+     */
+    private long start(float volume, float pitch, float pan, boolean looping) {
+        VoicePool.Voice voice = pool.obtain( category, priority );
+        if (voice == null) {
+            return -1;
+        }
+        long instance = looping ? sound.loop( volume, pitch, pan ) : sound.play( volume, pitch, pan );
+        if (instance == -1) {
+            return -1;
+        }
+        pool.start( voice, this, instance, category, priority, volume, pitch, pan, looping );
+        return instance;
+    }
+
+    /**
+     * Stops the instance on the given voice and frees it
+     *
+     * @param voice The voice to stop
+     */
+    void halt(VoicePool.Voice voice) {
+        sound.stop( voice.instance );
+        finish( voice );
+    }
+
+    /**
+     * Frees the given voice and invokes the completion listener
+     *
+     * @param voice The voice that has completed
+     */
+    void finish(VoicePool.Voice voice) {
+        long instance = voice.instance;
+        pool.free( voice );
+        if (listener != null) {
+            listener.onCompletion( this, instance );
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * QueuedMusic.java
+ *
+ * This is the music proxy used with AudioThread.  Commands are sent to the audio
+ * thread, while queries are answered from state that the audio thread copies back
+ * after every batch.
+ */
+package com.mygdx.game.utility.audio;
+
+import com.badlogic.gdx.audio.Music;
+
+/**
+ * A {@link Music} that forwards every call to the {@link AudioThread}.
+ *
+ * While commands for this music are still pending, {@link #isPlaying} reports the
+ * requested state; otherwise it reports the state last copied from the backend.
+ * This means that code which calls {@link #play} every frame until the music is
+ * playing only sends a single command.  Redundant volume changes are not sent at all.
+ *
+ * The completion listener is invoked on the game thread by {@link AudioThread#update}.
+ */
+public class QueuedMusic implements Music {
+    /** The audio thread running the commands */
+    private final AudioThread thread;
+    /** The backend music */
+    final Music music;
+    /** The sequence number of the last command sent (game thread only) */
+    private long sequence;
+    /** The sequence number of the last command run (written by the audio thread) */
+    volatile long applied;
+    /** Whether the backend music is playing (written by the audio thread) */
+    private volatile boolean actualPlaying;
+    /** The playback position of the backend music (written by the audio thread) */
+    private volatile float actualPosition;
+    /** Whether the backend music completed since the last dispatch */
+    private volatile boolean completed;
+    /** Whether the music should be playing */
+    private boolean playing;
+    /** Whether the music should loop */
+    private boolean looping;
+    /** The requested volume */
+    private float volume;
+    /** The callback invoked when the music completes */
+    private OnCompletionListener listener;
+
+    /**
+     * Creates a new proxy for the given backend music
+     *
+     * @param thread    The audio thread running the commands
+     * @param music     The backend music
+     */
+    QueuedMusic(AudioThread thread, Music music) {
+        this.thread = thread;
+        this.music = music;
+        this.looping = music.isLooping();
+        this.volume = music.getVolume();
+        music.setOnCompletionListener( new OnCompletionListener() {
+            public void onCompletion(Music music) {
+                completed = true;
+            }
+        } );
+    }
+
+    /**
+     * Returns the backend music
+     *
+     * The backend music should only be used on the audio thread.
+     *
+     * @return the backend music
+     */
+    public Music getMusic() {
+        return music;
+    }
+
+    /**
+     * Copies the state of the backend music (audio thread only)
+     */
+    void refresh() {
+        actualPlaying = music.isPlaying();
+        actualPosition = music.getPosition();
+    }
+
+    /**
+     * Invokes the completion listener if the music completed (game thread only)
+     */
+    void dispatch() {
+        if (completed) {
+            completed = false;
+            playing = false;
+            if (listener != null) {
+                listener.onCompletion( this );
+            }
+        }
+    }
+
+    /**
+     * Sends a command to the audio thread (or runs it now if the thread has stopped)
+     *
+     * @param op    The command opcode
+     * @param a     The first float argument
+     * @param b     The second float argument
+     */
+    private void send(int op, float a, float b) {
+        sequence++;
+        if (thread.isQueueing()) {
+            thread.push( op, this, sequence, a, b, 0 );
+        } else {
+            thread.executeNow( op, this, sequence, a, b, 0 );
+            refresh();
+        }
+    }
+
+    // #mark -
+    // #mark Music Methods
+
+    public void play() {
+        if (!isPlaying()) {
+            playing = true;
+            send( AudioThread.MUSIC_PLAY, 0, 0 );
+        }
+    }
+
+    public void pause() {
+        playing = false;
+        send( AudioThread.MUSIC_PAUSE, 0, 0 );
+    }
+
+    public void stop() {
+        playing = false;
+        actualPosition = 0;
+        send( AudioThread.MUSIC_STOP, 0, 0 );
+    }
+
+    public boolean isPlaying() {
+        return applied < sequence ? playing : actualPlaying;
+    }
+
+    public void setLooping(boolean isLooping) {
+        looping = isLooping;
+        send( AudioThread.MUSIC_LOOPING, isLooping ? 1 : 0, 0 );
+    }
+
+    public boolean isLooping() {
+        return looping;
+    }
+
+    public void setVolume(float volume) {
+        if (this.volume != volume) {
+            this.volume = volume;
+            send( AudioThread.MUSIC_VOLUME, volume, 0 );
+        }
+    }
+
+    public float getVolume() {
+        return volume;
+    }
+
+    public void setPan(float pan, float volume) {
+        this.volume = volume;
+        send( AudioThread.MUSIC_PAN, pan, volume );
+    }
+
+    public void setPosition(float position) {
+        actualPosition = position;
+        send( AudioThread.MUSIC_POSITION, position, 0 );
+    }
+
+    public float getPosition() {
+        return actualPosition;
+    }
+
+    public void dispose() {
+        playing = false;
+        thread.release( this );
+    }
+
+    public void setOnCompletionListener(OnCompletionListener listener) {
+        this.listener = listener;
+    }
+}
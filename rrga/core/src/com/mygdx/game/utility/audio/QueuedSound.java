@@ -0,0 +1,149 @@
+/*
+ * QueuedSound.java
+ *
+ * This is the sound proxy used with AudioThread.  Every call is turned into a
+ * command for the audio thread, so playing a sound never blocks the game thread
+ * on the backend.
+ */
+package com.mygdx.game.utility.audio;
+
+import com.badlogic.gdx.audio.Sound;
+
+/**
+ * A {@link Sound} that forwards every call to the {@link AudioThread}.
+ *
+ * The play methods return a ticket rather than a backend instance id.  The ticket
+ * may be used with the per-instance methods exactly like an instance id.  Because
+ * the play has not happened yet, a ticket is returned even if the backend later
+ * refuses to play the sound; commands for such a ticket are ignored.
+ *
+ * Stopping every instance is skipped if nothing was played since the last stop,
+ * so that it is cheap to call once per frame.
+ */
+public class QueuedSound implements Sound {
+    /** The audio thread running the commands */
+    private final AudioThread thread;
+    /** The backend sound */
+    final Sound sound;
+    /** Whether a play was requested since the last stop of all instances */
+    private boolean active;
+
+    /**
+     * Creates a new proxy for the given backend sound
+     *
+     * @param thread    The audio thread running the commands
+     * @param sound     The backend sound
+     */
+    QueuedSound(AudioThread thread, Sound sound) {
+        this.thread = thread;
+        this.sound = sound;
+    }
+
+    /**
+     * Returns the backend sound
+     *
+     * The backend sound should only be used on the audio thread.
+     *
+     * @return the backend sound
+     */
+    public Sound getSound() {
+        return sound;
+    }
+
+    /**
+     * Sends a command to the audio thread (or runs it now if the thread has stopped)
+     *
+     * @param op    The command opcode
+     * @param id    The instance ticket
+     * @param a     The first float argument
+     * @param b     The second float argument
+     * @param c     The third float argument
+     */
+    private void send(int op, long id, float a, float b, float c) {
+        if (thread.isQueueing()) {
+            thread.push( op, this, id, a, b, c );
+        } else {
+            thread.executeNow( op, this, id, a, b, c );
+        }
+    }
+
+    // #mark -
+    // #mark Playback Control
+
+    public long play() {
+        return play( 1.0f );
+    }
+
+    public long play(float volume) {
+        return play( volume, 1.0f, 0.0f );
+    }
+
+    public long play(float volume, float pitch, float pan) {
+        long ticket = thread.nextTicket();
+        active = true;
+        send( AudioThread.PLAY, ticket, volume, pitch, pan );
+        return ticket;
+    }
+
+    public long loop() {
+        return loop( 1.0f );
+    }
+
+    public long loop(float volume) {
+        return loop( volume, 1.0f, 0.0f );
+    }
+
+    public long loop(float volume, float pitch, float pan) {
+        long ticket = thread.nextTicket();
+        active = true;
+        send( AudioThread.LOOP, ticket, volume, pitch, pan );
+        return ticket;
+    }
+
+    public void stop() {
+        if (active) {
+            active = false;
+            send( AudioThread.STOP_ALL, 0, 0, 0, 0 );
+        }
+    }
+
+    public void pause() {
+        send( AudioThread.PAUSE_ALL, 0, 0, 0, 0 );
+    }
+
+    public void resume() {
+        send( AudioThread.RESUME_ALL, 0, 0, 0, 0 );
+    }
+
+    public void dispose() {
+        send( AudioThread.DISPOSE, 0, 0, 0, 0 );
+    }
+
+    public void stop(long soundId) {
+        send( AudioThread.STOP, soundId, 0, 0, 0 );
+    }
+
+    public void pause(long soundId) {
+        send( AudioThread.PAUSE, soundId, 0, 0, 0 );
+    }
+
+    public void resume(long soundId) {
+        send( AudioThread.RESUME, soundId, 0, 0, 0 );
+    }
+
+    public void setLooping(long soundId, boolean looping) {
+        send( AudioThread.SET_LOOPING, soundId, looping ? 1 : 0, 0, 0 );
+    }
+
+    public void setPitch(long soundId, float pitch) {
+        send( AudioThread.SET_PITCH, soundId, pitch, 0, 0 );
+    }
+
+    public void setVolume(long soundId, float volume) {
+        send( AudioThread.SET_VOLUME, soundId, volume, 0, 0 );
+    }
+
+    public void setPan(long soundId, float pan, float volume) {
+        send( AudioThread.SET_PAN, soundId, pan, volume, 0 );
+    }
+}
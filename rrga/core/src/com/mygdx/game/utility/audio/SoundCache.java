@@ -0,0 +1,177 @@
+/*
+ * SoundCache.java
+ *
+ * This class shares the decoded samples of sound effects among every asset that
+ * uses the same file.  The backend decodes a sound into a single buffer when it is
+ * created, so sharing the backend sound means a file is only ever decoded once.
+ */
+package com.mygdx.game.utility.audio;
+
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * A reference-counted cache of decoded backend sounds, keyed by file.
+ *
+ * The backend {@link Sound} decodes its file into one buffer at load time, and
+ * every instance played from it shares that buffer.  This cache extends the sharing
+ * across assets: loading the same file as a {@link Sound} and as a {@link SoundEffect}
+ * (or under two names) returns the same backend sound, and the decoded samples are
+ * freed when the last user releases them.
+ *
+ * The cache also keeps track of the size of the decoded samples, so the audio memory
+ * can be reported alongside the other resources.
+ */
+public class SoundCache {
+    /**
+     * A cached backend sound
+     */
+    private static class Entry {
+        /** The backend sound */
+        Sound sound;
+        /** The number of users of the sound */
+        int references;
+        /** The size of the decoded samples in bytes (0 if unknown) */
+        long bytes;
+    }
+
+    /** The backend audio used to decode new sounds */
+    private final Audio backend;
+    /** The cached sounds, keyed by file */
+    private final ObjectMap<String, Entry> entries = new ObjectMap<String, Entry>();
+    /** The total size of the decoded samples in bytes */
+    private long bytes;
+    /** The number of requests served from the cache */
+    private long hits;
+    /** The number of requests that decoded a file */
+    private long misses;
+
+    /**
+     * Creates an empty cache on top of the given backend audio
+     *
+     * @param backend   The backend audio used to decode new sounds
+     */
+    public SoundCache(Audio backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Returns the backend sound for the given file, decoding it if necessary
+     *
+     * Every call must be balanced by a call to {@link #release}.
+     *
+     * @param file  The sound file
+     *
+     * @return the backend sound for the given file
+     */
+    public synchronized Sound obtain(FileHandle file) {
+        String key = keyOf( file );
+        Entry entry = entries.get( key );
+        if (entry == null) {
+            entry = new Entry();
+            entry.sound = backend.newSound( file );
+            entries.put( key, entry );
+            misses++;
+        } else {
+            hits++;
+        }
+        entry.references++;
+        return entry.sound;
+    }
+
+    /**
+     * Records the size of the decoded samples of the given file
+     *
+     * The size is only recorded once per file.  It is computed from the format,
+     * so it is exact for WAV files and close for compressed ones.
+     *
+     * @param file          The sound file
+     * @param channels      The number of channels
+     * @param sampleRate    The number of frames per second
+     * @param duration      The duration in seconds (non-positive if unknown)
+     */
+    public synchronized void measure(FileHandle file, int channels, int sampleRate, float duration) {
+        Entry entry = entries.get( keyOf( file ) );
+        if (entry != null && entry.bytes == 0 && duration > 0) {
+            entry.bytes = 2L*channels*(long)(duration*sampleRate);
+            bytes += entry.bytes;
+        }
+    }
+
+    /**
+     * Releases a sound returned by {@link #obtain}, disposing it if it is no longer used
+     *
+     * @param file  The sound file
+     */
+    public synchronized void release(FileHandle file) {
+        String key = keyOf( file );
+        Entry entry = entries.get( key );
+        if (entry == null) {
+            return;
+        }
+        entry.references--;
+        if (entry.references <= 0) {
+            entries.remove( key );
+            bytes -= entry.bytes;
+            entry.sound.dispose();
+        }
+    }
+
+    /**
+     * Returns the number of files in the cache
+     *
+     * @return the number of files in the cache
+     */
+    public synchronized int getSize() {
+        return entries.size;
+    }
+
+    /**
+     * Returns the total size of the decoded samples in bytes
+     *
+     * @return the total size of the decoded samples in bytes
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the number of requests served without decoding
+     *
+     * @return the number of requests served without decoding
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requests that decoded a file
+     *
+     * @return the number of requests that decoded a file
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns a summary of the cache for debugging
+     *
+     * @return a summary of the cache for debugging
+     */
+    public synchronized String getStats() {
+        return "sounds="+entries.size+" decoded="+(bytes/1024)+"KB hits="+hits+" misses="+misses;
+    }
+
+    /**
+     * Returns the cache key of the given file
+     *
+     * @param file  The sound file
+     *
+     * @return the cache key of the given file
+     */
+    private static String keyOf(FileHandle file) {
+        return file.type()+":"+file.path();
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * SpatialAudio.java
+ *
+ * This class positions sound effects in the world.  Hazards register an emitter
+ * once, when the level is built, and the gain and pan of every emitter is then
+ * computed together once a frame from its distance to the listener.  Emitters that
+ * are too far away to be heard are virtualized: they are still tracked, but their
+ * sounds are never sent to the backend.
+ */
+package com.mygdx.game.utility.audio;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * A distance-culled layer of positional sound effects.
+ *
+ * Emitters are referred to by integer handles, and all of their state is kept in
+ * parallel arrays, so the per-frame {@link #update} touches no objects and allocates
+ * nothing.  The gain falls off with the square of the distance to the listener and
+ * reaches zero at the audible radius.  The pan follows the horizontal offset.
+ *
+ * An emitter beyond the audible radius is virtual.  Playing a virtual emitter has no
+ * effect, and a sound that is still playing when its emitter becomes virtual is
+ * stopped, so inaudible hazards do not hold on to voices.  Sounds that are still
+ * playing inside the radius follow their emitter as it moves.
+ */
+public class SpatialAudio {
+    /** The handle returned when an emitter cannot be registered */
+    public static final int INVALID = -1;
+    /** The default number of emitters */
+    private static final int DEFAULT_CAPACITY = 32;
+    /** The change in gain or pan before a playing sound is updated */
+    private static final float EPSILON = 0.01f;
+
+    /** The sound of each emitter */
+    private Sound[] sounds;
+    /** The x-coordinate of each emitter */
+    private float[] posX;
+    /** The y-coordinate of each emitter */
+    private float[] posY;
+    /** The base volume of each emitter */
+    private float[] volumes;
+    /** The gain of each emitter from the last update */
+    private float[] gains;
+    /** The pan of each emitter from the last update */
+    private float[] pans;
+    /** The gain last sent to the playing sound of each emitter */
+    private float[] sentGains;
+    /** The pan last sent to the playing sound of each emitter */
+    private float[] sentPans;
+    /** The remaining play time of each emitter (0 if not playing) */
+    private float[] remaining;
+    /** The duration of a sound played by each emitter */
+    private float[] durations;
+    /** The instance id of the playing sound of each emitter */
+    private long[] instances;
+    /** The number of registered emitters */
+    private int size;
+    /** The emitters played by the render thread, to be played on the next flush */
+    private final IntArray deferred = new IntArray( false, 16 );
+
+    /** The distance beyond which emitters are virtual */
+    private float radius;
+    /** The volume applied to every emitter */
+    private float master = 1.0f;
+    /** The number of audible emitters after the last update */
+    private int audible;
+    /** The number of plays sent to the backend */
+    private long played;
+    /** The number of plays skipped because the emitter was virtual */
+    private long culled;
+
+    /**
+     * Creates an empty layer with the given audible radius
+     *
+     * @param radius    The distance beyond which emitters are virtual
+     */
+    public SpatialAudio(float radius) {
+        this( radius, DEFAULT_CAPACITY );
+    }
+
+    /**
+     * Creates an empty layer with the given audible radius and initial capacity
+     *
+     * @param radius    The distance beyond which emitters are virtual
+     * @param capacity  The initial number of emitters
+     */
+    public SpatialAudio(float radius, int capacity) {
+        this.radius = radius;
+        allocate( Math.max( capacity, 1 ) );
+    }
+
+    /**
+     * Registers a new emitter and returns its handle
+     *
+     * The duration is how long a sound played by the emitter keeps following it.  The
+     * emitter starts out virtual, until the next call to {@link #update}.
+     *
+     * @param sound     The sound played by the emitter
+     * @param x         The x-coordinate of the emitter
+     * @param y         The y-coordinate of the emitter
+     * @param volume    The base volume of the emitter
+     * @param duration  The duration of a sound played by the emitter in seconds
+     *
+     * @return the handle of the new emitter
+     */
+    public int register(Sound sound, float x, float y, float volume, float duration) {
+        if (sound == null) {
+            return INVALID;
+        }
+        if (size == sounds.length) {
+            allocate( size*2 );
+        }
+        int handle = size++;
+        sounds[handle]  = sound;
+        posX[handle]    = x;
+        posY[handle]    = y;
+        volumes[handle] = volume;
+        durations[handle] = duration;
+        gains[handle] = 0;
+        pans[handle]  = 0;
+        remaining[handle] = 0;
+        instances[handle] = -1;
+        return handle;
+    }
+
+    /**
+     * Moves the given emitter
+     *
+     * @param handle    The emitter handle
+     * @param x         The x-coordinate of the emitter
+     * @param y         The y-coordinate of the emitter
+     */
+    public void setPosition(int handle, float x, float y) {
+        if (handle >= 0 && handle < size) {
+            posX[handle] = x;
+            posY[handle] = y;
+        }
+    }
+
+    /**
+     * Plays the sound of the given emitter, unless it is virtual
+     *
+     * A sound that is still playing from the same emitter is left alone, and stops
+     * following the emitter.
+     *
+     * @param handle    The emitter handle
+     *
+     * @return true if the sound was sent to the backend
+     */
+    public boolean play(int handle) {
+        if (handle < 0 || handle >= size) {
+            return false;
+        }
+        float gain = gains[handle]*volumes[handle]*master;
+        if (gain <= 0) {
+            culled++;
+            return false;
+        }
+        instances[handle] = sounds[handle].play( gain, 1.0f, pans[handle] );
+        sentGains[handle] = gains[handle];
+        sentPans[handle]  = pans[handle];
+        remaining[handle] = instances[handle] == -1 ? 0 : durations[handle];
+        played++;
+        return true;
+    }
+
+    /**
+     * Plays the sound of the given emitter on the next call to {@link #playDeferred}
+     *
+     * Draw methods use this instead of {@link #play}, because the simulation thread
+     * may be updating this layer (and pushing audio commands) while they run.
+     *
+     * @param handle    The emitter handle
+     */
+    public void playLater(int handle) {
+        deferred.add( handle );
+    }
+
+    /**
+     * Plays the emitters deferred by {@link #playLater}
+     *
+     * This must be called on the render thread while the simulation is idle.
+     */
+    public void playDeferred() {
+        for (int ii = 0; ii < deferred.size; ii++) {
+            play( deferred.items[ii] );
+        }
+        deferred.clear();
+    }
+
+    /**
+     * Recomputes the gain and pan of every emitter from the listener position
+     *
+     * This should be called once a frame, after the emitters have moved.  Playing
+     * sounds are stopped if their emitter became virtual, and are otherwise updated
+     * if their gain or pan changed noticeably.
+     *
+     * @param x     The x-coordinate of the listener
+     * @param y     The y-coordinate of the listener
+     * @param dt    The number of seconds since the last update
+     */
+    public void update(float x, float y, float dt) {
+        float r2 = radius*radius;
+        float inv = 1.0f/radius;
+        int count = 0;
+        for (int ii = 0; ii < size; ii++) {
+            float dx = posX[ii]-x;
+            float dy = posY[ii]-y;
+            float d2 = dx*dx+dy*dy;
+            float gain = 0;
+            if (d2 < r2) {
+                float falloff = 1.0f-(float)Math.sqrt( d2 )*inv;
+                gain = falloff*falloff;
+                count++;
+            }
+            gains[ii] = gain;
+            pans[ii]  = MathUtils.clamp( dx*inv, -1.0f, 1.0f );
+
+            if (remaining[ii] > 0) {
+                remaining[ii] -= dt;
+                if (gain == 0) {
+                    sounds[ii].stop( instances[ii] );
+                    remaining[ii] = 0;
+                } else if (remaining[ii] <= 0) {
+                    remaining[ii] = 0;
+                } else if (Math.abs( gain-sentGains[ii] ) > EPSILON || Math.abs( pans[ii]-sentPans[ii] ) > EPSILON) {
+                    sounds[ii].setPan( instances[ii], pans[ii], gain*volumes[ii]*master );
+                    sentGains[ii] = gain;
+                    sentPans[ii]  = pans[ii];
+                }
+            }
+        }
+        audible = count;
+    }
+
+    /**
+     * Stops the playing sound of every emitter
+     */
+    public void stop() {
+        for (int ii = 0; ii < size; ii++) {
+            if (remaining[ii] > 0) {
+                sounds[ii].stop( instances[ii] );
+                remaining[ii] = 0;
+            }
+        }
+    }
+
+    /**
+     * Removes every emitter, stopping their sounds
+     *
+     * The sounds themselves are not disposed, as they belong to the asset directory.
+     */
+    public void clear() {
+        stop();
+        for (int ii = 0; ii < size; ii++) {
+            sounds[ii] = null;
+        }
+        deferred.clear();
+        size = 0;
+        audible = 0;
+    }
+
+    // #mark -
+    // #mark Attributes
+
+    /**
+     * Returns the volume applied to every emitter
+     *
+     * @return the volume applied to every emitter
+     */
+    public float getMasterVolume() {
+        return master;
+    }
+
+    /**
+     * Sets the volume applied to every emitter
+     *
+     * The new volume applies to the next sound played, and to playing sounds on
+     * the next update that moves them.
+     *
+     * @param volume    The volume applied to every emitter
+     */
+    public void setMasterVolume(float volume) {
+        master = volume;
+    }
+
+    /**
+     * Returns the distance beyond which emitters are virtual
+     *
+     * @return the distance beyond which emitters are virtual
+     */
+    public float getRadius() {
+        return radius;
+    }
+
+    /**
+     * Sets the distance beyond which emitters are virtual
+     *
+     * @param radius    The distance beyond which emitters are virtual
+     */
+    public void setRadius(float radius) {
+        this.radius = radius;
+    }
+
+    /**
+     * Returns the number of registered emitters
+     *
+     * @return the number of registered emitters
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of emitters inside the audible radius
+     *
+     * @return the number of emitters inside the audible radius
+     */
+    public int getAudible() {
+        return audible;
+    }
+
+    /**
+     * Returns the number of plays sent to the backend
+     *
+     * @return the number of plays sent to the backend
+     */
+    public long getPlayed() {
+        return played;
+    }
+
+    /**
+     * Returns the number of plays skipped because the emitter was virtual
+     *
+     * @return the number of plays skipped because the emitter was virtual
+     */
+    public long getCulled() {
+        return culled;
+    }
+
+    /**
+     * Resizes the emitter arrays to the given capacity
+     *
+     * @param capacity  The new capacity
+     */
+    private void allocate(int capacity) {
+        Sound[] sounds = new Sound[capacity];
+        float[] posX = new float[capacity];
+        float[] posY = new float[capacity];
+        float[] volumes = new float[capacity];
+        float[] gains = new float[capacity];
+        float[] pans = new float[capacity];
+        float[] sentGains = new float[capacity];
+        float[] sentPans = new float[capacity];
+        float[] remaining = new float[capacity];
+        float[] durations = new float[capacity];
+        long[] instances = new long[capacity];
+        if (size > 0) {
+            System.arraycopy( this.sounds, 0, sounds, 0, size );
+            System.arraycopy( this.posX, 0, posX, 0, size );
+            System.arraycopy( this.posY, 0, posY, 0, size );
+            System.arraycopy( this.volumes, 0, volumes, 0, size );
+            System.arraycopy( this.gains, 0, gains, 0, size );
+            System.arraycopy( this.pans, 0, pans, 0, size );
+            System.arraycopy( this.sentGains, 0, sentGains, 0, size );
+            System.arraycopy( this.sentPans, 0, sentPans, 0, size );
+            System.arraycopy( this.remaining, 0, remaining, 0, size );
+            System.arraycopy( this.durations, 0, durations, 0, size );
+            System.arraycopy( this.instances, 0, instances, 0, size );
+        }
+        this.sounds = sounds;
+        this.posX = posX;
+        this.posY = posY;
+        this.volumes = volumes;
+        this.gains = gains;
+        this.pans = pans;
+        this.sentGains = sentGains;
+        this.sentPans = sentPans;
+        this.remaining = remaining;
+        this.durations = durations;
+        this.instances = instances;
+    }
+}
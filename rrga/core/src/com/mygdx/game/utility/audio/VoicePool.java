@@ -0,0 +1,405 @@
+/*
+ * VoicePool.java
+ *
+ * This class manages a fixed set of playback voices shared by every sound effect
+ * of a PooledAudioEngine.  It enforces a concurrency limit per category of sound
+ * and, when a limit or the pool itself is exhausted, steals the least important
+ * voice instead of letting the backend run out of sources.
+ */
+package com.mygdx.game.utility.audio;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * A fixed pool of playback voices with per-category limits and priority stealing.
+ *
+ * Every voice is allocated up front and reused for every play, so playing a sound
+ * never allocates.  Each sound effect belongs to a category (such as "hazard" or
+ * "ambient") with a maximum number of simultaneous voices.  When a new play would
+ * exceed the category limit or the pool size, the voice with the lowest priority
+ * (and then the oldest) is stopped and reused, provided its priority is no higher
+ * than that of the new play.  Otherwise the new play is rejected.
+ *
+ * Like the rest of the audio package, this class is not thread-safe.
+ */
+public class VoicePool {
+    /** The category of sounds that have not been assigned one */
+    public static final String DEFAULT_CATEGORY = "default";
+
+    /**
+     * A single playback voice
+     *
+     * A voice is active from the moment a sound starts until it is stopped, stolen,
+     * or (for a non-looping sound) reaches its end.
+     */
+    public static class Voice {
+        /** The sound effect playing on this voice (null if free) */
+        PooledSoundEffect owner;
+        /** The backend instance id (-1 if free) */
+        long instance = -1;
+        /** The category index of this voice */
+        int category;
+        /** The priority of the sound on this voice */
+        int priority;
+        /** The order in which this voice was started (for age comparisons) */
+        long serial;
+        /** The current volume */
+        float volume;
+        /** The current pitch multiplier */
+        float pitch;
+        /** The current pan */
+        float pan;
+        /** Whether the sound loops */
+        boolean looping;
+        /** Whether the sound is paused */
+        boolean paused;
+        /** Whether the sound was paused by {@link VoicePool#pauseAll} */
+        boolean pausedByPool;
+        /** The playback position (in seconds) at {@link #mark} */
+        float position;
+        /** The time (in nanoseconds) the position was last recorded */
+        long mark;
+
+        /**
+         * Returns true if this voice is playing (or paused) a sound
+         *
+         * @return true if this voice is playing (or paused) a sound
+         */
+        public boolean isActive() {
+            return owner != null;
+        }
+
+        /**
+         * Returns the playback position of this voice in seconds
+         *
+         * @param duration  The duration of the sound (non-positive if unknown)
+         * @param now       The current time in nanoseconds
+         *
+         * @return the playback position of this voice in seconds
+         */
+        float getPosition(float duration, long now) {
+            float result = position;
+            if (!paused) {
+                result += (now-mark)/1e9f*pitch;
+            }
+            if (duration > 0 && looping) {
+                result %= duration;
+            }
+            return result;
+        }
+
+        /**
+         * Records the current position, so that later changes take effect from now on
+         *
+         * @param duration  The duration of the sound (non-positive if unknown)
+         * @param now       The current time in nanoseconds
+         */
+        void rebase(float duration, long now) {
+            position = getPosition( duration, now );
+            mark = now;
+        }
+    }
+
+    /** The voices of this pool */
+    private final Voice[] voices;
+    /** The category indices, by name */
+    private final ObjectIntMap<String> categories = new ObjectIntMap<String>();
+    /** The category names, by index */
+    private final Array<String> names = new Array<String>();
+    /** The maximum number of simultaneous voices per category */
+    private final IntArray limits = new IntArray();
+    /** The number of active voices per category */
+    private final IntArray counts = new IntArray();
+    /** The counter used to order voices by age */
+    private long serial;
+    /** The number of plays that stole a voice */
+    private long steals;
+    /** The number of plays that were rejected */
+    private long rejections;
+
+    /**
+     * Creates a new pool with the given number of voices
+     *
+     * @param capacity  The number of voices
+     */
+    public VoicePool(int capacity) {
+        voices = new Voice[capacity];
+        for (int ii = 0; ii < capacity; ii++) {
+            voices[ii] = new Voice();
+        }
+        getCategory( DEFAULT_CATEGORY );
+    }
+
+    /**
+     * Returns the number of voices in this pool
+     *
+     * @return the number of voices in this pool
+     */
+    public int getCapacity() {
+        return voices.length;
+    }
+
+    /**
+     * Returns the number of active voices
+     *
+     * @return the number of active voices
+     */
+    public int getActive() {
+        int total = 0;
+        for (int ii = 0; ii < counts.size; ii++) {
+            total += counts.get( ii );
+        }
+        return total;
+    }
+
+    /**
+     * Returns the index of the category with the given name, creating it if necessary
+     *
+     * A new category may use every voice in the pool until {@link #setLimit} is called.
+     *
+     * @param name  The category name
+     *
+     * @return the index of the category with the given name
+     */
+    public int getCategory(String name) {
+        int index = categories.get( name, -1 );
+        if (index == -1) {
+            index = names.size;
+            categories.put( name, index );
+            names.add( name );
+            limits.add( voices.length );
+            counts.add( 0 );
+        }
+        return index;
+    }
+
+    /**
+     * Sets the maximum number of simultaneous voices for the given category
+     *
+     * Voices already playing are not stopped if they exceed the new limit.
+     *
+     * @param name  The category name
+     * @param limit The maximum number of simultaneous voices
+     */
+    public void setLimit(String name, int limit) {
+        limits.set( getCategory( name ), Math.max( 0, limit ) );
+    }
+
+    /**
+     * Returns the maximum number of simultaneous voices for the given category
+     *
+     * @param name  The category name
+     *
+     * @return the maximum number of simultaneous voices for the given category
+     */
+    public int getLimit(String name) {
+        return limits.get( getCategory( name ) );
+    }
+
+    /**
+     * Returns the number of active voices in the given category
+     *
+     * @param name  The category name
+     *
+     * @return the number of active voices in the given category
+     */
+    public int getActive(String name) {
+        return counts.get( getCategory( name ) );
+    }
+
+    /**
+     * Returns the number of plays that stole a voice from another sound
+     *
+     * @return the number of plays that stole a voice from another sound
+     */
+    public long getSteals() {
+        return steals;
+    }
+
+    /**
+     * Returns the number of plays rejected because every candidate voice was more important
+     *
+     * @return the number of rejected plays
+     */
+    public long getRejections() {
+        return rejections;
+    }
+
+    /**
+     * Returns a voice for a new sound of the given category and priority
+     *
+     * If a voice has to be stolen, its sound is stopped first.  The returned voice is
+     * not active until {@link #start} is called.  This method returns null if the play
+     * should be rejected.
+     *
+     * @param category  The category index
+     * @param priority  The priority of the new sound
+     *
+     * @return a voice for a new sound (or null)
+     */
+    Voice obtain(int category, int priority) {
+        Voice victim = null;
+        if (counts.get( category ) >= limits.get( category )) {
+            victim = weakest( category );
+        } else {
+            for (Voice voice : voices) {
+                if (!voice.isActive()) {
+                    return voice;
+                }
+            }
+            victim = weakest( -1 );
+        }
+
+        if (victim == null || victim.priority > priority) {
+            rejections++;
+            return null;
+        }
+        steals++;
+        victim.owner.halt( victim );
+        return victim;
+    }
+
+    /**
+     * Marks the given voice as playing a new instance
+     *
+     * @param voice     The voice returned by {@link #obtain}
+     * @param owner     The sound effect playing on this voice
+     * @param instance  The backend instance id
+     * @param category  The category index
+     * @param priority  The priority of the sound
+     * @param volume    The initial volume
+     * @param pitch     The initial pitch multiplier
+     * @param pan       The initial pan
+     * @param looping   Whether the sound loops
+     */
+    void start(Voice voice, PooledSoundEffect owner, long instance, int category, int priority,
+               float volume, float pitch, float pan, boolean looping) {
+        voice.owner = owner;
+        voice.instance = instance;
+        voice.category = category;
+        voice.priority = priority;
+        voice.serial = serial++;
+        voice.volume = volume;
+        voice.pitch = pitch;
+        voice.pan = pan;
+        voice.looping = looping;
+        voice.paused = false;
+        voice.pausedByPool = false;
+        voice.position = 0;
+        voice.mark = TimeUtils.nanoTime();
+        counts.incr( category, 1 );
+    }
+
+    /**
+     * Returns the given voice to the pool
+     *
+     * This does not stop the backend instance.
+     *
+     * @param voice     The voice to free
+     */
+    void free(Voice voice) {
+        if (voice.isActive()) {
+            counts.incr( voice.category, -1 );
+        }
+        voice.owner = null;
+        voice.instance = -1;
+    }
+
+    /**
+     * Returns the active voice playing the given instance of the given sound (or null)
+     *
+     * @param owner     The sound effect
+     * @param instance  The backend instance id
+     *
+     * @return the active voice playing the given instance (or null)
+     */
+    Voice find(PooledSoundEffect owner, long instance) {
+        if (instance == -1) {
+            return null;
+        }
+        for (Voice voice : voices) {
+            if (voice.owner == owner && voice.instance == instance) {
+                return voice;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the voices of this pool (active or not)
+     *
+     * @return the voices of this pool
+     */
+    Voice[] getVoices() {
+        return voices;
+    }
+
+    /**
+     * Pauses every playing voice
+     *
+     * Only these voices are resumed by {@link #resumeAll}.
+     */
+    public void pauseAll() {
+        for (Voice voice : voices) {
+            if (voice.isActive() && !voice.paused) {
+                voice.owner.pause( voice.instance );
+                voice.pausedByPool = true;
+            }
+        }
+    }
+
+    /**
+     * Resumes every voice paused by {@link #pauseAll}
+     */
+    public void resumeAll() {
+        for (Voice voice : voices) {
+            if (voice.isActive() && voice.pausedByPool) {
+                voice.owner.resume( voice.instance );
+            }
+        }
+    }
+
+    /**
+     * Frees every non-looping voice that has reached the end of its sound
+     *
+     * This should be called once per frame.  The completion listener of each finished
+     * sound is invoked.
+     */
+    public void update() {
+        long now = TimeUtils.nanoTime();
+        for (Voice voice : voices) {
+            if (voice.isActive() && !voice.looping && !voice.paused) {
+                float duration = voice.owner.getDuration();
+                if (duration > 0 && voice.getPosition( duration, now ) >= duration) {
+                    voice.owner.finish( voice );
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the least important active voice in the given category
+     *
+     * The least important voice has the lowest priority, and among those the oldest.
+     *
+     * @param category  The category index (-1 for any category)
+     *
+     * @return the least important active voice (or null)
+     */
+    private Voice weakest(int category) {
+        Voice result = null;
+        for (Voice voice : voices) {
+            if (!voice.isActive() || (category != -1 && voice.category != category)) {
+                continue;
+            }
+            if (result == null || voice.priority < result.priority ||
+                (voice.priority == result.priority && voice.serial < result.serial)) {
+                result = voice;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * BodyCache.java
+ *
+ * Every read of a body position, angle or velocity is a call into native Box2D.
+ * The game reads these many times per object per step (movement, bird vision,
+ * culling, the camera), yet they only change when the world steps or when the game
+ * sets them.  This class copies the transform and velocity of every body once after
+ * each step, so that obstacles can answer reads from Java memory.
+ */
+package com.mygdx.game.utility.obstacle;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+
+/**
+ * A table of body transforms and velocities, refreshed once per physics step.
+ *
+ * A {@link SimpleObstacle} claims a slot when it activates its body and frees it when
+ * it deactivates.  The state of all bodies is kept in parallel arrays indexed by slot.
+ * {@link #sync} reads every moving body after the world steps (three native calls a
+ * body), and the setters of the obstacle write through to both the body and its slot,
+ * so the table always agrees with the world.  Static bodies only change through those
+ * setters, so they are skipped by the sync.
+ *
+ * Code must not change a cached body behind the back of its obstacle (for example by
+ * calling {@link Body#setLinearVelocity} on it directly), as that change is not seen
+ * until the next sync.  Like {@link NativeTracker}, this class is a singleton, as
+ * there is only one world at a time.
+ */
+public class BodyCache {
+	/** The initial number of slots */
+	private static final int DEFAULT_CAPACITY = 256;
+
+	/** The singleton instance of this cache */
+	private static BodyCache instance = null;
+
+	/** The body in each slot */
+	private Body[] bodies;
+	/** The obstacle owning each slot */
+	private SimpleObstacle[] owners;
+	/** Whether the body in each slot can move on its own (is not static) */
+	private boolean[] moving;
+	/** The x-coordinate of each body */
+	private float[] posX;
+	/** The y-coordinate of each body */
+	private float[] posY;
+	/** The angle of each body */
+	private float[] angles;
+	/** The x-velocity of each body */
+	private float[] velX;
+	/** The y-velocity of each body */
+	private float[] velY;
+	/** The number of used slots */
+	private int size;
+
+	/**
+	 * Returns the singleton instance of this cache
+	 *
+	 * @return the singleton instance of this cache
+	 */
+	public static BodyCache get() {
+		if (instance == null) {
+			instance = new BodyCache();
+		}
+		return instance;
+	}
+
+	/**
+	 * Creates an empty cache
+	 */
+	private BodyCache() {
+		allocate(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Copies the transform and velocity of every moving body into the cache
+	 *
+	 * This should be called once after every world step.
+	 */
+	public void sync() {
+		for (int ii = 0; ii < size; ii++) {
+			if (moving[ii]) {
+				Body body = bodies[ii];
+				Vector2 pos = body.getPosition();
+				posX[ii] = pos.x;
+				posY[ii] = pos.y;
+				angles[ii] = body.getAngle();
+				Vector2 vel = body.getLinearVelocity();
+				velX[ii] = vel.x;
+				velY[ii] = vel.y;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of cached bodies
+	 *
+	 * @return the number of cached bodies
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Claims a slot for the body of the given obstacle, filled with the current state of the body
+	 *
+	 * @param owner	The obstacle owning the body
+	 * @param body	The body to cache
+	 *
+	 * @return the slot of the body
+	 */
+	int add(SimpleObstacle owner, Body body) {
+		if (size == bodies.length) {
+			allocate(size*2);
+		}
+		int slot = size++;
+		bodies[slot] = body;
+		owners[slot] = owner;
+		moving[slot] = body.getType() != BodyType.StaticBody;
+		Vector2 pos = body.getPosition();
+		posX[slot] = pos.x;
+		posY[slot] = pos.y;
+		angles[slot] = body.getAngle();
+		Vector2 vel = body.getLinearVelocity();
+		velX[slot] = vel.x;
+		velY[slot] = vel.y;
+		return slot;
+	}
+
+	/**
+	 * Frees the given slot
+	 *
+	 * The last slot is moved into the freed one, and its owner is told its new slot.
+	 *
+	 * @param slot	The slot to free
+	 */
+	void remove(int slot) {
+		int last = --size;
+		if (slot != last) {
+			bodies[slot] = bodies[last];
+			owners[slot] = owners[last];
+			moving[slot] = moving[last];
+			posX[slot] = posX[last];
+			posY[slot] = posY[last];
+			angles[slot] = angles[last];
+			velX[slot] = velX[last];
+			velY[slot] = velY[last];
+			owners[slot].cacheSlot = slot;
+		}
+		bodies[last] = null;
+		owners[last] = null;
+	}
+
+	/**
+	 * Returns the cached x-coordinate of the body in the given slot
+	 *
+	 * @param slot	The body slot
+	 *
+	 * @return the cached x-coordinate
+	 */
+	float getX(int slot) {
+		return posX[slot];
+	}
+
+	/**
+	 * Returns the cached y-coordinate of the body in the given slot
+	 *
+	 * @param slot	The body slot
+	 *
+	 * @return the cached y-coordinate
+	 */
+	float getY(int slot) {
+		return posY[slot];
+	}
+
+	/**
+	 * Returns the cached angle of the body in the given slot
+	 *
+	 * @param slot	The body slot
+	 *
+	 * @return the cached angle
+	 */
+	float getAngle(int slot) {
+		return angles[slot];
+	}
+
+	/**
+	 * Returns the cached x-velocity of the body in the given slot
+	 *
+	 * @param slot	The body slot
+	 *
+	 * @return the cached x-velocity
+	 */
+	float getVX(int slot) {
+		return velX[slot];
+	}
+
+	/**
+	 * Returns the cached y-velocity of the body in the given slot
+	 *
+	 * @param slot	The body slot
+	 *
+	 * @return the cached y-velocity
+	 */
+	float getVY(int slot) {
+		return velY[slot];
+	}
+
+	/**
+	 * Records a transform set on the body in the given slot
+	 *
+	 * @param slot	The body slot
+	 * @param x		The new x-coordinate
+	 * @param y		The new y-coordinate
+	 * @param angle	The new angle
+	 */
+	void setTransform(int slot, float x, float y, float angle) {
+		posX[slot] = x;
+		posY[slot] = y;
+		angles[slot] = angle;
+	}
+
+	/**
+	 * Records a velocity set on the body in the given slot
+	 *
+	 * @param slot	The body slot
+	 * @param vx	The new x-velocity
+	 * @param vy	The new y-velocity
+	 */
+	void setVelocity(int slot, float vx, float vy) {
+		velX[slot] = vx;
+		velY[slot] = vy;
+	}
+
+	/**
+	 * Records a change of the type of the body in the given slot
+	 *
+	 * @param slot	The body slot
+	 * @param type	The new body type
+	 */
+	void setType(int slot, BodyType type) {
+		moving[slot] = type != BodyType.StaticBody;
+	}
+
+	/**
+	 * Resizes the slot arrays to the given capacity
+	 *
+	 * @param capacity	The new capacity
+	 */
+	private void allocate(int capacity) {
+		Body[] bodies = new Body[capacity];
+		SimpleObstacle[] owners = new SimpleObstacle[capacity];
+		boolean[] moving = new boolean[capacity];
+		float[] posX = new float[capacity];
+		float[] posY = new float[capacity];
+		float[] angles = new float[capacity];
+		float[] velX = new float[capacity];
+		float[] velY = new float[capacity];
+		if (size > 0) {
+			System.arraycopy(this.bodies, 0, bodies, 0, size);
+			System.arraycopy(this.owners, 0, owners, 0, size);
+			System.arraycopy(this.moving, 0, moving, 0, size);
+			System.arraycopy(this.posX, 0, posX, 0, size);
+			System.arraycopy(this.posY, 0, posY, 0, size);
+			System.arraycopy(this.angles, 0, angles, 0, size);
+			System.arraycopy(this.velX, 0, velX, 0, size);
+			System.arraycopy(this.velY, 0, velY, 0, size);
+		}
+		this.bodies = bodies;
+		this.owners = owners;
+		this.moving = moving;
+		this.posX = posX;
+		this.posY = posY;
+		this.angles = angles;
+		this.velX = velX;
+		this.velY = velY;
+	}
+}
@@ -142,7 +142,7 @@ public class BoxObstacle extends SimpleObstacle {
 		super(x,y);
 		dimension = new Vector2(width,height);
 		sizeCache = new Vector2();
-		shape = new PolygonShape();
+		shape = NativeTracker.get().track(this, new PolygonShape());
 		vertices = new float[8];
 		geometry = null;
 		
@@ -217,8 +217,8 @@ public class BoxObstacle extends SimpleObstacle {
 	 */
 	public void draw(GameCanvas canvas) {
 		if (texture != null) {
-			canvas.draw(texture,Color.WHITE,origin.x,origin.y,getX()*drawScale.x,
-					getY()*drawScale.x,getAngle(),textureScale.x,textureScale.y);
+			canvas.draw(texture,Color.WHITE,origin.x,origin.y,getRenderX()*drawScale.x,
+					getRenderY()*drawScale.x,getRenderAngle(),textureScale.x,textureScale.y);
 		}
 	}
 
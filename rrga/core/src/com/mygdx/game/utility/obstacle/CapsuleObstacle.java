@@ -274,9 +274,9 @@ public class CapsuleObstacle extends SimpleObstacle {
 		super(x,y);
 		dimension = new Vector2();
 		sizeCache = new Vector2();
-		shape = new PolygonShape();
-		end1 = new CircleShape();
-		end2 = new CircleShape();
+		shape = NativeTracker.get().track(this, new PolygonShape());
+		end1 = NativeTracker.get().track(this, new CircleShape());
+		end2 = NativeTracker.get().track(this, new CircleShape());
 		center = new Rectangle();
 		vertices = new float[8];
 
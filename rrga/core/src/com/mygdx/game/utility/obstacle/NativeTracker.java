@@ -0,0 +1,324 @@
+/*
+ * NativeTracker.java
+ *
+ * Box2D shapes, textures, frame buffers and shaders live in native memory, which the
+ * garbage collector cannot see.  An obstacle that is dropped without disposing its
+ * shape leaks that memory for the rest of the session, and as levels are restarted
+ * over and over the leak grows without bound.  This class keeps a ledger of every
+ * native resource together with the object that owns it, so that the resources of a
+ * level can be disposed in one deterministic pass when the level is torn down.
+ */
+package com.mygdx.game.utility.obstacle;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.GLFrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * A ledger of native resources, grouped by owner and by scope.
+ *
+ * Every resource is registered with the object that owns it (usually the obstacle or
+ * canvas that allocated it) and with the scope that was open at the time.  A scope is
+ * an arbitrary object, such as the level container.  Closing a scope disposes every
+ * resource registered while it was open, and releasing an owner disposes just the
+ * resources of that owner.  Resources registered while no scope is open belong to the
+ * application, and are disposed by {@link #dispose}.
+ *
+ * Owners must not dispose tracked resources themselves, as disposing a native object
+ * twice crashes the backend.  In verbose mode the tracker logs the live counts when
+ * a scope closes, and logs as leaks any resources that are still live at shutdown.
+ */
+public class NativeTracker {
+	/** The kind of a Box2D shape */
+	public static final int SHAPE = 0;
+	/** The kind of a texture */
+	public static final int TEXTURE = 1;
+	/** The kind of a frame buffer */
+	public static final int FRAMEBUFFER = 2;
+	/** The kind of a shader program */
+	public static final int SHADER = 3;
+	/** The kind of any other disposable (batches, renderers, ...) */
+	public static final int OTHER = 4;
+	/** The names of the kinds, for reports */
+	private static final String[] KIND_NAMES = {"shapes", "textures", "framebuffers", "shaders", "other"};
+
+	/** The singleton instance of this tracker */
+	private static NativeTracker instance = null;
+
+	/**
+	 * A registered native resource
+	 */
+	private static class Entry {
+		/** The resource (a Shape or a Disposable) */
+		Object resource;
+		/** The object responsible for the resource */
+		Object owner;
+		/** The scope open when the resource was registered (null for the application) */
+		Object scope;
+		/** The kind of the resource */
+		int kind;
+	}
+
+	/** The live resources (unordered) */
+	private final Array<Entry> live = new Array<Entry>(false, 256);
+	/** Entries of disposed resources, kept for reuse */
+	private final Array<Entry> free = new Array<Entry>(false, 256);
+	/** The number of live resources of each kind */
+	private final int[] counts = new int[KIND_NAMES.length];
+	/** The scope that new resources are registered to */
+	private Object scope;
+	/** The number of resources registered since startup */
+	private long created;
+	/** The number of resources disposed since startup */
+	private long disposed;
+	/** Whether to log counts and leaks */
+	private boolean verbose;
+
+	/**
+	 * Returns the singleton instance of this tracker
+	 *
+	 * @return the singleton instance of this tracker
+	 */
+	public static NativeTracker get() {
+		if (instance == null) {
+			instance = new NativeTracker();
+		}
+		return instance;
+	}
+
+	/**
+	 * Disposes every resource still tracked by the singleton tracker
+	 *
+	 * This should be called when the application shuts down.  Any resource still live
+	 * at this point was never released by its owner, and is reported as a leak in
+	 * verbose mode.
+	 */
+	public static void dispose() {
+		if (instance != null) {
+			if (instance.verbose && instance.live.size > 0) {
+				for (Entry entry : instance.live) {
+					Gdx.app.log("NativeTracker", "leaked " + entry.resource.getClass().getSimpleName()
+							+ " owned by " + entry.owner.getClass().getSimpleName());
+				}
+			}
+			instance.disposeIf(null, null, false);
+			instance = null;
+		}
+	}
+
+	/**
+	 * Registers a Box2D shape with its owner, and returns it
+	 *
+	 * @param owner  The object responsible for the shape
+	 * @param shape  The shape to track
+	 *
+	 * @return the shape, for chaining
+	 */
+	public <T extends Shape> T track(Object owner, T shape) {
+		add(owner, shape, SHAPE);
+		return shape;
+	}
+
+	/**
+	 * Registers a disposable native resource with its owner, and returns it
+	 *
+	 * @param owner     The object responsible for the resource
+	 * @param resource  The resource to track
+	 *
+	 * @return the resource, for chaining
+	 */
+	public <T extends Disposable> T track(Object owner, T resource) {
+		int kind = OTHER;
+		if (resource instanceof Texture) {
+			kind = TEXTURE;
+		} else if (resource instanceof GLFrameBuffer) {
+			kind = FRAMEBUFFER;
+		} else if (resource instanceof ShaderProgram) {
+			kind = SHADER;
+		}
+		add(owner, resource, kind);
+		return resource;
+	}
+
+	/**
+	 * Opens the given scope, so that new resources are registered to it
+	 *
+	 * @param scope  The scope to open
+	 */
+	public void open(Object scope) {
+		this.scope = scope;
+	}
+
+	/**
+	 * Closes the given scope, disposing every resource registered to it
+	 *
+	 * If the scope is the one open, new resources go to the application again.
+	 *
+	 * @param scope  The scope to close
+	 *
+	 * @return the number of resources disposed
+	 */
+	public int close(Object scope) {
+		if (this.scope == scope) {
+			this.scope = null;
+		}
+		int count = disposeIf(scope, null, false);
+		if (verbose) {
+			Gdx.app.log("NativeTracker", "closed scope: disposed " + count + ", " + describe());
+		}
+		return count;
+	}
+
+	/**
+	 * Disposes every resource of the given owner
+	 *
+	 * If the owner is a complex obstacle, the resources of its bodies are disposed as
+	 * well.  The owner must not use the resources afterwards.
+	 *
+	 * @param owner  The owner to release
+	 *
+	 * @return the number of resources disposed
+	 */
+	public int release(Object owner) {
+		int count = disposeIf(null, owner, true);
+		if (owner instanceof ComplexObstacle) {
+			for (Obstacle obj : ((ComplexObstacle)owner).bodies) {
+				count += release(obj);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of live resources
+	 *
+	 * @return the number of live resources
+	 */
+	public int getLive() {
+		return live.size;
+	}
+
+	/**
+	 * Returns the number of live resources of the given kind
+	 *
+	 * @param kind  The resource kind (e.g. {@link #SHAPE})
+	 *
+	 * @return the number of live resources of the given kind
+	 */
+	public int getLive(int kind) {
+		return counts[kind];
+	}
+
+	/**
+	 * Returns the number of resources registered since startup
+	 *
+	 * @return the number of resources registered since startup
+	 */
+	public long getCreated() {
+		return created;
+	}
+
+	/**
+	 * Returns the number of resources disposed since startup
+	 *
+	 * @return the number of resources disposed since startup
+	 */
+	public long getDisposed() {
+		return disposed;
+	}
+
+	/**
+	 * Returns true if this tracker logs counts and leaks
+	 *
+	 * @return true if this tracker logs counts and leaks
+	 */
+	public boolean isVerbose() {
+		return verbose;
+	}
+
+	/**
+	 * Sets whether this tracker logs counts and leaks
+	 *
+	 * @param value  whether this tracker logs counts and leaks
+	 */
+	public void setVerbose(boolean value) {
+		verbose = value;
+	}
+
+	/**
+	 * Returns a one line summary of the live resources
+	 *
+	 * @return a one line summary of the live resources
+	 */
+	public String describe() {
+		StringBuilder text = new StringBuilder();
+		text.append("live ").append(live.size).append(" (");
+		for (int ii = 0; ii < counts.length; ii++) {
+			if (ii > 0) {
+				text.append(", ");
+			}
+			text.append(KIND_NAMES[ii]).append(' ').append(counts[ii]);
+		}
+		return text.append(')').toString();
+	}
+
+	/**
+	 * Registers a resource with its owner in the open scope
+	 *
+	 * @param owner     The object responsible for the resource
+	 * @param resource  The resource to track
+	 * @param kind      The resource kind
+	 */
+	private void add(Object owner, Object resource, int kind) {
+		if (resource == null) {
+			return;
+		}
+		assert owner != null : "Native resources must have an owner";
+		Entry entry = free.size > 0 ? free.pop() : new Entry();
+		entry.resource = resource;
+		entry.owner = owner;
+		entry.scope = scope;
+		entry.kind = kind;
+		live.add(entry);
+		counts[kind]++;
+		created++;
+	}
+
+	/**
+	 * Disposes the resources that match the given scope or owner
+	 *
+	 * @param scope    The scope to match (ignored if byOwner is true)
+	 * @param owner    The owner to match (ignored if byOwner is false)
+	 * @param byOwner  Whether to match by owner instead of by scope
+	 *
+	 * @return the number of resources disposed
+	 */
+	private int disposeIf(Object scope, Object owner, boolean byOwner) {
+		// the application scope (null) is only closed at shutdown, which disposes everything
+		boolean all = !byOwner && scope == null;
+		int count = 0;
+		for (int ii = live.size - 1; ii >= 0; ii--) {
+			Entry entry = live.get(ii);
+			if (all || (byOwner ? entry.owner == owner : entry.scope == scope)) {
+				if (entry.resource instanceof Shape) {
+					((Shape)entry.resource).dispose();
+				} else {
+					((Disposable)entry.resource).dispose();
+				}
+				counts[entry.kind]--;
+				live.removeIndex(ii);
+				entry.resource = null;
+				entry.owner = null;
+				entry.scope = null;
+				free.add(entry);
+				count++;
+			}
+		}
+		disposed += count;
+		return count;
+	}
+}
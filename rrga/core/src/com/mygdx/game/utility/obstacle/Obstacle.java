@@ -22,6 +22,7 @@ import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 
 import com.mygdx.game.*;
+import com.mygdx.game.simulation.RenderSnapshot;
 
 /**
  * Base model class to support collisions.
@@ -67,6 +68,18 @@ public abstract class Obstacle {
 	/** A cache value for when the user wants to access the drawing scale */
 	protected Vector2 scaleCache = new Vector2();
 
+	/// Render state (copied from the last published render snapshot)
+	/** The x-coordinate to draw this object at */
+	private float renderX;
+	/** The y-coordinate to draw this object at */
+	private float renderY;
+	/** The angle to draw this object at */
+	private float renderAngle;
+	/** Whether this object is visible in the snapshot */
+	private boolean renderVisible = true;
+	/** The animation frame chosen by the simulation for the snapshot */
+	private int renderFrame;
+
 
 	/// BodyDef Methods
 	/**
@@ -834,6 +847,120 @@ public abstract class Obstacle {
 	
 	/// DRAWING METHODS
 	/**
+	 * Returns true if this object should be drawn in its current simulation state
+	 *
+	 * This is captured into the render snapshot after the simulation steps.  Objects
+	 * that hide themselves (e.g. a lightning bolt between strikes) override it.
+	 *
+	 * @return true if this object should be drawn
+	 */
+	public boolean isDrawn() {
+		return true;
+	}
+
+	/**
+	 * Returns the animation frame chosen by the simulation
+	 *
+	 * This is captured into the render snapshot after the simulation steps.  Only
+	 * objects whose frame is driven by the simulation (and not by the render clock)
+	 * override it.
+	 *
+	 * @return the animation frame chosen by the simulation
+	 */
+	public int getDrawnFrame() {
+		return 0;
+	}
+
+	/**
+	 * Sets the state this object is drawn with
+	 *
+	 * The render snapshot calls this on the render thread before drawing, so the
+	 * draw methods never read the physics body, which may be stepping on the
+	 * simulation thread.
+	 *
+	 * @param x  		the x-coordinate to draw at
+	 * @param y  		the y-coordinate to draw at
+	 * @param angle  	the angle to draw at
+	 * @param visible  	whether this object is visible
+	 * @param frame  	the animation frame chosen by the simulation
+	 */
+	public void setRenderState(float x, float y, float angle, boolean visible, int frame) {
+		renderX = x;
+		renderY = y;
+		renderAngle = angle;
+		renderVisible = visible;
+		renderFrame = frame;
+	}
+
+	/**
+	 * Writes any other state this object is drawn with into the render snapshot
+	 *
+	 * This is called on the simulation side when the snapshot is captured.  An object
+	 * whose drawing depends on more than its transform, visibility and frame (like
+	 * its facing) overrides this, and reads the values back in {@link #readRenderState}.
+	 *
+	 * @param snapshot	the snapshot being captured
+	 */
+	public void writeRenderState(RenderSnapshot snapshot) {
+	}
+
+	/**
+	 * Reads the state written by {@link #writeRenderState} from the render snapshot
+	 *
+	 * This is called on the render thread when the snapshot is applied, right after
+	 * {@link #setRenderState}.  The values must be read in the order they were written.
+	 *
+	 * @param snapshot	the snapshot being applied
+	 */
+	public void readRenderState(RenderSnapshot snapshot) {
+	}
+
+	/**
+	 * Returns the x-coordinate to draw this object at
+	 *
+	 * @return the x-coordinate to draw this object at
+	 */
+	public float getRenderX() {
+		return renderX;
+	}
+
+	/**
+	 * Returns the y-coordinate to draw this object at
+	 *
+	 * @return the y-coordinate to draw this object at
+	 */
+	public float getRenderY() {
+		return renderY;
+	}
+
+	/**
+	 * Returns the angle to draw this object at
+	 *
+	 * @return the angle to draw this object at
+	 */
+	public float getRenderAngle() {
+		return renderAngle;
+	}
+
+	/**
+	 * Returns true if this object is visible in the last render snapshot
+	 *
+	 * @return true if this object is visible in the last render snapshot
+	 */
+	public boolean isRenderVisible() {
+		return renderVisible;
+	}
+
+	/**
+	 * Returns the animation frame of this object in the last render snapshot
+	 *
+	 * @return the animation frame of this object in the last render snapshot
+	 */
+	public int getRenderFrame() {
+		return renderFrame;
+	}
+
+	/**
      * Returns the drawing scale for this physics object
      *
      * The drawing scale is the number of pixels to draw before Box2D unit. Because
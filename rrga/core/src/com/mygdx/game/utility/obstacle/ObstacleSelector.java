@@ -224,6 +224,8 @@ public class ObstacleSelector implements QueryCallback  {
         	groundFixture.shape = groundShape;
         	ground.createFixture(groundFixture);
     	}
+		// Fixtures copy their shape, so it is not needed any more
+		groundShape.dispose();
 	    
 	    drawScale = new Vector2(1,1);
     }
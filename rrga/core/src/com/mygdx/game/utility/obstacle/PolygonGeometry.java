@@ -0,0 +1,247 @@
+/*
+ * PolygonGeometry.java
+ *
+ * Triangulating a polygon is the expensive part of creating a PolygonObstacle.
+ * Levels are rebuilt from the same parsed data every time they are started or
+ * restarted, so the same polygons are triangulated over and over.  This class
+ * caches the result of that computational geometry, keyed by the polygon vertices.
+ *
+ * Based on the triangulation code in PolygonObstacle by Walker M. White
+ */
+package com.mygdx.game.utility.obstacle;
+
+import com.badlogic.gdx.math.EarClippingTriangulator;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ShortArray;
+
+import java.util.Arrays;
+
+/**
+ * The triangulation of a (not necessarily convex) polygon, shared by every obstacle
+ * built from the same vertices.
+ *
+ * A geometry holds the triangle indices (used to draw the polygon), the triangle
+ * vertices and one Box2D shape per triangle (the convex pieces of the polygon), and the
+ * bounding box of the pieces.  All of these are shared, and must not be modified.  An
+ * obstacle that needs to change its shape must copy them first.
+ *
+ * Geometries are obtained through {@link #obtain}, which only triangulates a polygon
+ * the first time it sees its vertices.
+ */
+public class PolygonGeometry {
+	/** An earclipping triangular to make sure we work with convex shapes */
+	private static final EarClippingTriangulator TRIANGULATOR = new EarClippingTriangulator();
+	/** The cached geometries, keyed by vertices */
+	private static final ObjectMap<Key, PolygonGeometry> cache = new ObjectMap<Key, PolygonGeometry>();
+	/** The key used for lookups, so that a cache hit allocates nothing */
+	private static final Key probe = new Key();
+
+	/**
+	 * A polygon identified by the contents of its vertex array
+	 */
+	private static class Key {
+		/** The polygon vertices */
+		float[] points;
+		/** The hash of the polygon vertices */
+		int hash;
+
+		/**
+		 * Sets the vertices of this key (by reference)
+		 *
+		 * @param points  The polygon vertices
+		 *
+		 * @return this key, for chaining
+		 */
+		Key set(float[] points) {
+			this.points = points;
+			this.hash = Arrays.hashCode(points);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Key && hash == ((Key)o).hash && Arrays.equals(points, ((Key)o).points);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/** The triangle indices into the polygon vertices */
+	private final short[] indices;
+	/** The triangle vertices, six floats per triangle */
+	private final float[] vertices;
+	/** The Box2D shape of each triangle */
+	private final PolygonShape[] shapes;
+	/** The width of the bounding box */
+	private final float width;
+	/** The height of the bounding box */
+	private final float height;
+
+	/**
+	 * Returns the (shared) geometry of the polygon with the given vertices
+	 *
+	 * The polygon is triangulated the first time these vertices are seen.  Later calls
+	 * with an equal array (it does not have to be the same array) return the same
+	 * geometry without any computation.
+	 *
+	 * @param points   The polygon vertices
+	 *
+	 * @return the geometry of the polygon with the given vertices
+	 */
+	public static synchronized PolygonGeometry obtain(float[] points) {
+		PolygonGeometry geometry = cache.get(probe.set(points));
+		if (geometry == null) {
+			geometry = new PolygonGeometry(points);
+			cache.put(new Key().set(points.clone()), geometry);
+		}
+		probe.points = null;
+		return geometry;
+	}
+
+	/**
+	 * Disposes every cached geometry
+	 *
+	 * This should only be called when no obstacles are using the geometries, as
+	 * their Box2D shapes are disposed.
+	 */
+	public static synchronized void clearCache() {
+		for (PolygonGeometry geometry : cache.values()) {
+			for (PolygonShape shape : geometry.shapes) {
+				shape.dispose();
+			}
+		}
+		cache.clear();
+	}
+
+	/**
+	 * Returns the number of cached geometries
+	 *
+	 * @return the number of cached geometries
+	 */
+	public static synchronized int getCacheSize() {
+		return cache.size;
+	}
+
+	/**
+	 * Triangulates the polygon with the given vertices
+	 *
+	 * @param points   The polygon vertices
+	 */
+	private PolygonGeometry(float[] points) {
+		assert points.length % 2 == 0;
+
+		// Triangulate
+		ShortArray array = TRIANGULATOR.computeTriangles(points);
+		trimColinear(points,array);
+
+		indices = new short[array.size];
+		System.arraycopy(array.items, 0, indices, 0, indices.length);
+
+		// Allocate space for physics triangles.
+		int tris = indices.length / 3;
+		vertices = new float[tris*6];
+		shapes = new PolygonShape[tris];
+		for(int ii = 0; ii < tris; ii++) {
+			for(int jj = 0; jj < 3; jj++) {
+				vertices[6*ii+2*jj  ] = points[2*indices[3*ii+jj]  ];
+				vertices[6*ii+2*jj+1] = points[2*indices[3*ii+jj]+1];
+			}
+			shapes[ii] = new PolygonShape();
+			shapes[ii].set(vertices,6*ii,6);
+		}
+
+		// Compute the bounds
+		float minx = vertices[0];
+		float maxx = vertices[0];
+		float miny = vertices[1];
+		float maxy = vertices[1];
+		for(int ii = 2; ii < vertices.length; ii += 2) {
+			if (vertices[ii] < minx) {
+				minx = vertices[ii];
+			} else if (vertices[ii] > maxx) {
+				maxx = vertices[ii];
+			}
+			if (vertices[ii+1] < miny) {
+				miny = vertices[ii+1];
+			} else if (vertices[ii+1] > maxy) {
+				maxy = vertices[ii+1];
+			}
+		}
+		width  = maxx-minx;
+		height = maxy-miny;
+	}
+
+	/**
+	 * Removes colinear vertices from the given triangulation.
+	 *
+	 * For some reason, the LibGDX triangulator will occasionally return colinear
+	 * vertices.
+	 *
+	 * @param points  The polygon vertices
+	 * @param indices The triangulation indices
+	 */
+	private static void trimColinear(float[] points, ShortArray indices) {
+		int colinear = 0;
+		for(int ii = 0; ii < indices.size/3-colinear; ii++) {
+			float t1 = points[2*indices.items[3*ii  ]]*(points[2*indices.items[3*ii+1]+1]-points[2*indices.items[3*ii+2]+1]);
+			float t2 = points[2*indices.items[3*ii+1]]*(points[2*indices.items[3*ii+2]+1]-points[2*indices.items[3*ii  ]+1]);
+			float t3 = points[2*indices.items[3*ii+2]]*(points[2*indices.items[3*ii  ]+1]-points[2*indices.items[3*ii+1]+1]);
+			if (Math.abs(t1+t2+t3) < 0.0000001f) {
+				indices.swap(3*ii  ,  indices.size-3*colinear-3);
+				indices.swap(3*ii+1,  indices.size-3*colinear-2);
+				indices.swap(3*ii+2,  indices.size-3*colinear-1);
+				colinear++;
+			 }
+		}
+		indices.size -= 3*colinear;
+	}
+
+	/**
+	 * Returns the triangle indices into the polygon vertices (shared, do not modify)
+	 *
+	 * @return the triangle indices into the polygon vertices
+	 */
+	public short[] getIndices() {
+		return indices;
+	}
+
+	/**
+	 * Returns the triangle vertices, six floats per triangle (shared, do not modify)
+	 *
+	 * @return the triangle vertices
+	 */
+	public float[] getVertices() {
+		return vertices;
+	}
+
+	/**
+	 * Returns the Box2D shape of each triangle (shared, do not modify)
+	 *
+	 * @return the Box2D shape of each triangle
+	 */
+	public PolygonShape[] getShapes() {
+		return shapes;
+	}
+
+	/**
+	 * Returns the width of the bounding box
+	 *
+	 * @return the width of the bounding box
+	 */
+	public float getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the height of the bounding box
+	 *
+	 * @return the height of the bounding box
+	 */
+	public float getHeight() {
+		return height;
+	}
+}
@@ -18,11 +18,9 @@ package com.mygdx.game.utility.obstacle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.PolygonRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.EarClippingTriangulator;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
-import com.badlogic.gdx.utils.ShortArray;
 
 import com.mygdx.game.*;
 
@@ -34,17 +32,14 @@ import com.mygdx.game.*;
  * from the texture size, using the same policy as PolygonSpriteBatch.
  */
 public class PolygonObstacle extends SimpleObstacle {
-	/** An earclipping triangular to make sure we work with convex shapes */
-	private static final EarClippingTriangulator TRIANGULATOR = new EarClippingTriangulator();
-	
-	/** Shape information for this physics object */
+	/** Shape information for this physics object (shared with the geometry until resized) */
 	protected PolygonShape[] shapes;
 	/** Texture information for this object */
 	protected PolygonRegion region;
 	
 	/** The polygon vertices, scaled for drawing */
 	private float[] scaled;
-	/** The triangle indices, used for drawing */
+	/** The triangle indices, used for drawing (shared with the geometry) */
 	private short[] tridx;
 
 	/** A cache value for the fixtures (for resizing) */
@@ -53,8 +48,10 @@ public class PolygonObstacle extends SimpleObstacle {
 	private Vector2 dimension;
 	/** A cache value for when the user wants to access the dimensions */
 	private Vector2 sizeCache;
-	/** Cache of the polygon vertices (for resizing) */
+	/** Cache of the polygon vertices (for resizing, shared with the geometry until resized) */
 	private float[] vertices;
+	/** Whether the shapes and vertices are still those of the shared geometry */
+	private boolean shared;
 	
 	/** 
 	 * Returns the dimensions of this box
@@ -159,67 +156,31 @@ public class PolygonObstacle extends SimpleObstacle {
 		super(x, y);
 		assert points.length % 2 == 0;
 		
-		// Compute the bounds.
+		// Compute the shapes and bounds.
 		initShapes(points);
-		initBounds();
 	}
 
 	/**
-	 * Initializes the bounding box (and drawing scale) for this polygon
-	 */
-	private void initBounds() {
-		float minx = vertices[0];
-		float maxx = vertices[0];
-		float miny = vertices[1];
-		float maxy = vertices[1];
-		
-		for(int ii = 2; ii < vertices.length; ii += 2) {
-			if (vertices[ii] < minx) {
-				minx = vertices[ii];
-			} else if (vertices[ii] > maxx) {
-				maxx = vertices[ii];
-			}
-			if (vertices[ii+1] < miny) {
-				miny = vertices[ii+1];
-			} else if (vertices[ii+1] > maxy) {
-				maxy = vertices[ii+1];
-			}
-		}
-		dimension = new Vector2((maxx-minx), (maxy-miny));
-		sizeCache = new Vector2(dimension);
-	}
-	
-	/**
-	 * Initializes the Box2d shapes for this polygon
+	 * Initializes the shapes and bounding box for this polygon
 	 *
-	 * If the texture is not null, this method also allocates the PolygonRegion 
-	 * for drawing.  However, the points in the polygon region may be rescaled 
-	 * later.
+	 * The triangulation comes from the shared {@link PolygonGeometry} cache, so a
+	 * polygon that has been seen before (such as the same level being restarted) is
+	 * not triangulated again.  If the texture is not null, this method also allocates
+	 * the PolygonRegion for drawing.  However, the points in the polygon region may be
+	 * rescaled later.
 	 *
 	 * @param points   The polygon vertices
 	 */
 	private void initShapes(float[] points) {
-		// Triangulate
-		ShortArray array = TRIANGULATOR.computeTriangles(points);
-		trimColinear(points,array);
-		
-		tridx = new short[array.items.length];
-		System.arraycopy(array.items, 0, tridx, 0, tridx.length);
-		
-		// Allocate space for physics triangles.
-		int tris = array.items.length / 3;
-		vertices = new float[tris*6];
-		shapes = new PolygonShape[tris];
-		geoms  = new Fixture[tris];
-		for(int ii = 0; ii < tris; ii++) {
-			for(int jj = 0; jj < 3; jj++) {
-				vertices[6*ii+2*jj  ] = points[2*array.items[3*ii+jj]  ];
-				vertices[6*ii+2*jj+1] = points[2*array.items[3*ii+jj]+1];
-			}
-			shapes[ii] = new PolygonShape();
-			shapes[ii].set(vertices,6*ii,6);
-		}
-		
+		PolygonGeometry geometry = PolygonGeometry.obtain(points);
+		tridx = geometry.getIndices();
+		vertices = geometry.getVertices();
+		shapes = geometry.getShapes();
+		shared = true;
+		geoms  = new Fixture[shapes.length];
+		dimension = new Vector2(geometry.getWidth(), geometry.getHeight());
+		sizeCache = new Vector2(dimension);
+
 		// Draw the shape with the appropriate scaling factor
 		scaled = new float[points.length];
 		for(int ii = 0; ii < points.length; ii+= 2) {
@@ -230,33 +191,6 @@ public class PolygonObstacle extends SimpleObstacle {
 			// WARNING: PolygonRegion constructor by REFERENCE
 			region = new PolygonRegion(texture,scaled,tridx);
 		}
-
-	}
-	
-	/**
-	 * Removes colinear vertices from the given triangulation.
-	 *
-	 * For some reason, the LibGDX triangulator will occasionally return colinear
-	 * vertices.
-	 *
-	 * @param points  The polygon vertices
-	 * @param indices The triangulation indices
-	 */
-	private void trimColinear(float[] points, ShortArray indices) {
-		int colinear = 0;
-		for(int ii = 0; ii < indices.size/3-colinear; ii++) {
-			float t1 = points[2*indices.items[3*ii  ]]*(points[2*indices.items[3*ii+1]+1]-points[2*indices.items[3*ii+2]+1]);
-			float t2 = points[2*indices.items[3*ii+1]]*(points[2*indices.items[3*ii+2]+1]-points[2*indices.items[3*ii  ]+1]);
-			float t3 = points[2*indices.items[3*ii+2]]*(points[2*indices.items[3*ii  ]+1]-points[2*indices.items[3*ii+1]+1]);
-			if (Math.abs(t1+t2+t3) < 0.0000001f) {
-				indices.swap(3*ii  ,  indices.size-3*colinear-3);
-				indices.swap(3*ii+1,  indices.size-3*colinear-2);
-				indices.swap(3*ii+2,  indices.size-3*colinear-1);
-				colinear++;
-			 }
-		}
-		indices.size -= 3*colinear;
-		indices.shrink();
 	}
 	
 	/**
@@ -268,6 +202,16 @@ public class PolygonObstacle extends SimpleObstacle {
 	private void resize(float width, float height) {
 		float scalex = width/dimension.x;
 		float scaley = height/dimension.y;
+
+		// Stop sharing the geometry before changing it
+		if (shared) {
+			vertices = vertices.clone();
+			shapes = new PolygonShape[shapes.length];
+			for(int ii = 0; ii < shapes.length; ii++) {
+				shapes[ii] = NativeTracker.get().track(this, new PolygonShape());
+			}
+			shared = false;
+		}
 		
 		for(int ii = 0; ii < shapes.length; ii++) {
 			for(int jj = 0; jj < 3; jj++) {
@@ -367,7 +311,7 @@ public class PolygonObstacle extends SimpleObstacle {
 	 */
 	public void draw(GameCanvas canvas) {
 		if (region != null) {
-			canvas.draw(region,Color.WHITE,0,0,getX()*drawScale.x,getY()*drawScale.y,getAngle(),1,1);
+			canvas.draw(region,Color.WHITE,0,0,getRenderX()*drawScale.x,getRenderY()*drawScale.y,getRenderAngle(),1,1);
 		}
 	}
 
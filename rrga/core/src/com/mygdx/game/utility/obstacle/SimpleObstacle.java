@@ -38,6 +38,10 @@ import com.mygdx.game.*;
 public abstract class SimpleObstacle extends Obstacle {
 	/** The physics body for Box2D. */
 	protected Body body;
+	/** The cache serving reads of the body state (null if there is no body) */
+	private BodyCache cache;
+	/** The slot of the body in the cache (-1 if there is no body) */
+	int cacheSlot = -1;
 
 	/** The texture for the shape. */
 	protected TextureRegion texture;
@@ -71,6 +75,7 @@ public abstract class SimpleObstacle extends Obstacle {
 	public void setBodyType(BodyType value) {
 		if (body != null) {
 			body.setType(value);
+			cache.setType(cacheSlot, value);
 		} else {
 			super.setBodyType(value);
 		}
@@ -86,7 +91,7 @@ public abstract class SimpleObstacle extends Obstacle {
 	 * @return the current position for this physics body
 	 */
 	public Vector2 getPosition() {
-		return (body != null ? body.getPosition() : super.getPosition());
+		return (body != null ? positionCache.set(cache.getX(cacheSlot), cache.getY(cacheSlot)) : super.getPosition());
 	}
 	
 	/**
@@ -98,7 +103,9 @@ public abstract class SimpleObstacle extends Obstacle {
 	 */
 	public void setPosition(Vector2 value) {
 		if (body != null) {
-			body.setTransform(value,body.getAngle());
+			float angle = cache.getAngle(cacheSlot);
+			body.setTransform(value,angle);
+			cache.setTransform(cacheSlot,value.x,value.y,angle);
 		} else {
 			super.setPosition(value);
 		}
@@ -112,8 +119,10 @@ public abstract class SimpleObstacle extends Obstacle {
 	 */
 	public void setPosition(float x, float y) {
 		if (body != null) {
+			float angle = cache.getAngle(cacheSlot);
 			positionCache.set(x,y);
-			body.setTransform(positionCache,body.getAngle());
+			body.setTransform(positionCache,angle);
+			cache.setTransform(cacheSlot,x,y,angle);
 		} else {
 			super.setPosition(x,y);
 		}
@@ -125,7 +134,7 @@ public abstract class SimpleObstacle extends Obstacle {
 	 * @return the x-coordinate for this physics body
 	 */
 	public float getX() {
-		return (body != null ? body.getPosition().x : super.getX());
+		return (body != null ? cache.getX(cacheSlot) : super.getX());
 	}
 	
 	/**
@@ -135,8 +144,10 @@ public abstract class SimpleObstacle extends Obstacle {
 	 */
 	public void setX(float value) {
 		if (body != null) {
-			positionCache.set(value,body.getPosition().y);
-			body.setTransform(positionCache,body.getAngle());
+			float angle = cache.getAngle(cacheSlot);
+			positionCache.set(value,cache.getY(cacheSlot));
+			body.setTransform(positionCache,angle);
+			cache.setTransform(cacheSlot,positionCache.x,positionCache.y,angle);
 		} else {
 			super.setX(value);
 		}
@@ -148,7 +159,7 @@ public abstract class SimpleObstacle extends Obstacle {
 	 * @return the y-coordinate for this physics body
 	 */
 	public float getY() {
-		return (body != null ? body.getPosition().y : super.getY());
+		return (body != null ? cache.getY(cacheSlot) : super.getY());
 	}
 	
 	/**
@@ -158,8 +169,10 @@ public abstract class SimpleObstacle extends Obstacle {
 	 */
 	public void setY(float value) {
 		if (body != null) {
-			positionCache.set(body.getPosition().x,value);
-			body.setTransform(positionCache,body.getAngle());
+			float angle = cache.getAngle(cacheSlot);
+			positionCache.set(cache.getX(cacheSlot),value);
+			body.setTransform(positionCache,angle);
+			cache.setTransform(cacheSlot,positionCache.x,positionCache.y,angle);
 		} else {
 			super.setY(value);
 		}
@@ -173,7 +186,7 @@ public abstract class SimpleObstacle extends Obstacle {
 	 * @return the angle of rotation for this body
 	 */
 	public float getAngle() {
-		return (body != null ? body.getAngle() : super.getAngle());
+		return (body != null ? cache.getAngle(cacheSlot) : super.getAngle());
 	}
 	
 	/**
@@ -183,7 +196,9 @@ public abstract class SimpleObstacle extends Obstacle {
 	 */
 	public void setAngle(float value) {
 		if (body != null) {
-			body.setTransform(body.getPosition(),value);
+			positionCache.set(cache.getX(cacheSlot),cache.getY(cacheSlot));
+			body.setTransform(positionCache,value);
+			cache.setTransform(cacheSlot,positionCache.x,positionCache.y,value);
 		} else {
 			super.setAngle(value);
 		}
@@ -199,7 +214,7 @@ public abstract class SimpleObstacle extends Obstacle {
 	 * @return the linear velocity for this physics body
 	 */
 	public Vector2 getLinearVelocity() {
-		return (body != null ? body.getLinearVelocity() : super.getLinearVelocity());
+		return (body != null ? velocityCache.set(cache.getVX(cacheSlot), cache.getVY(cacheSlot)) : super.getLinearVelocity());
 	}
 	
 	/**
@@ -212,6 +227,7 @@ public abstract class SimpleObstacle extends Obstacle {
 	public void setLinearVelocity(Vector2 value) {
 		if (body != null) {
 			body.setLinearVelocity(value);
+			cache.setVelocity(cacheSlot,value.x,value.y);
 		} else {
 			super.setLinearVelocity(value);
 		}
@@ -223,7 +239,7 @@ public abstract class SimpleObstacle extends Obstacle {
 	 * @return the x-velocity for this physics body
 	 */
 	public float getVX() {
-		return (body != null ? body.getLinearVelocity().x : super.getVX());
+		return (body != null ? cache.getVX(cacheSlot) : super.getVX());
 	}
 	
 	/**
@@ -233,8 +249,9 @@ public abstract class SimpleObstacle extends Obstacle {
 	 */
 	public void setVX(float value) {
 		if (body != null) {
-			velocityCache.set(value,body.getLinearVelocity().y);
+			velocityCache.set(value,cache.getVY(cacheSlot));
 			body.setLinearVelocity(velocityCache);
+			cache.setVelocity(cacheSlot,velocityCache.x,velocityCache.y);
 		} else {
 			super.setVX(value);
 		}
@@ -246,7 +263,7 @@ public abstract class SimpleObstacle extends Obstacle {
 	 * @return the y-velocity for this physics body
 	 */
 	public float getVY() {
-		return (body != null ? body.getLinearVelocity().y : super.getVY());
+		return (body != null ? cache.getVY(cacheSlot) : super.getVY());
 	}
 	
 	/**
@@ -256,8 +273,9 @@ public abstract class SimpleObstacle extends Obstacle {
 	 */
 	public void setVY(float value) {
 		if (body != null) {
-			velocityCache.set(body.getLinearVelocity().x,value);
+			velocityCache.set(cache.getVX(cacheSlot),value);
 			body.setLinearVelocity(velocityCache);
+			cache.setVelocity(cacheSlot,velocityCache.x,velocityCache.y);
 		} else {
 			super.setVY(value);
 		}
@@ -783,7 +801,7 @@ public abstract class SimpleObstacle extends Obstacle {
 	 */
 	public void draw(GameCanvas canvas) {
 		if (texture != null) {
-			canvas.draw(texture,Color.WHITE,origin.x,origin.y,getX()*drawScale.x,getY()*drawScale.x,getAngle(),1,1);
+			canvas.draw(texture,Color.WHITE,origin.x,origin.y,getRenderX()*drawScale.x,getRenderY()*drawScale.x,getRenderAngle(),1,1);
 		}
 	}
 	
@@ -838,6 +856,8 @@ public abstract class SimpleObstacle extends Obstacle {
 		// Only initialize if a body was created.
 		if (body != null) {
 			createFixtures();
+			cache = BodyCache.get();
+			cacheSlot = cache.add(this, body);
 			return true;
 		} 
 		
@@ -856,6 +876,9 @@ public abstract class SimpleObstacle extends Obstacle {
 		if (body != null) {
 			// Snapshot the values
 			setBodyState(body);
+			cache.remove(cacheSlot);
+			cache = null;
+			cacheSlot = -1;
 			world.destroyBody(body);
 			body = null;
 			bodyinfo.active = false;
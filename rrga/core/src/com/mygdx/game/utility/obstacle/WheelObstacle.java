@@ -73,7 +73,7 @@ public class WheelObstacle extends SimpleObstacle {
 	 */
 	public WheelObstacle(float x, float y, float radius) {
 		super(x,y);
-		shape = new CircleShape();
+		shape = NativeTracker.get().track(this, new CircleShape());
 		shape.setRadius(radius);
 	}
 	
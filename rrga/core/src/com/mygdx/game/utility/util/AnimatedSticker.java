@@ -4,7 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.GameCanvas;
 
 public class AnimatedSticker extends Sticker{
@@ -13,10 +12,10 @@ public class AnimatedSticker extends Sticker{
 
     private float elapsedTime;
 
-    public AnimatedSticker(float x, float y, float angle, int depth, JsonValue AABB, TextureInfo textureInfo,
+    public AnimatedSticker(float x, float y, float angle, int depth, float[] aabb, TextureInfo textureInfo,
                            boolean flipX, boolean flipY)
     {
-        super(x, y, angle, depth, AABB, null);
+        super(x, y, angle, depth, aabb, null);
         TextureRegion[][] frameMat = TextureRegion.split(textureInfo.getTexture(),
                 textureInfo.getRegionWidth(), textureInfo.getRegionHeight());
         TextureRegion[] frames = new TextureRegion[textureInfo.getRows() * textureInfo.getCols()];
@@ -0,0 +1,232 @@
+/*
+ * ContactBuffer.java
+ *
+ * Box2D reports contacts from inside World.step, while the native solver waits.  Any
+ * gameplay work done in those callbacks stretches the step, and the callbacks see the
+ * world half way through an update.  This class lets the callbacks do nothing more
+ * than record what touched what, so that the game can handle all contacts of a step
+ * in one pass once the step is over.
+ *
+ * A recorded contact must still make sense after the contact itself is gone.  Box2D
+ * reuses its Contact object for every callback, and a contact ended by destroying a
+ * body loses its user data right after the callback.  So an event copies everything
+ * the game identifies objects by, rather than keeping the contact.
+ */
+package com.mygdx.game.utility.util;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.Fixture;
+
+import java.util.Arrays;
+
+/**
+ * A buffer of contact events, recorded by a ContactListener and drained after the step.
+ *
+ * An event keeps the two fixtures along with the user data of the fixtures and their
+ * bodies, read when the event is recorded.  The contact normal is only computed when
+ * asked for, as it is the one native call a recording may need.
+ */
+public class ContactBuffer extends EventRing {
+    /** Two fixtures started touching */
+    public static final int BEGIN = 0;
+    /** Two fixtures stopped touching */
+    public static final int END = 1;
+
+    /** The default number of buffered events */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /** The type of each event */
+    private int[] types;
+    /** The first fixture of each event */
+    private Fixture[] fixturesA;
+    /** The second fixture of each event */
+    private Fixture[] fixturesB;
+    /** The user data of the first fixture of each event */
+    private Object[] fixtureDataA;
+    /** The user data of the second fixture of each event */
+    private Object[] fixtureDataB;
+    /** The user data of the body of the first fixture of each event */
+    private Object[] bodyDataA;
+    /** The user data of the body of the second fixture of each event */
+    private Object[] bodyDataB;
+    /** The x-component of the normal (from the first to the second fixture) of each event */
+    private float[] normalXs;
+    /** The y-component of the normal (from the first to the second fixture) of each event */
+    private float[] normalYs;
+
+    /**
+     * Creates an empty contact buffer
+     */
+    public ContactBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty contact buffer with the given initial capacity
+     *
+     * @param capacity  The initial number of events
+     */
+    public ContactBuffer(int capacity) {
+        reserve(capacity);
+    }
+
+    /**
+     * Records an event for the given contact
+     *
+     * @param type      The event type
+     * @param contact   The contact reported by Box2D
+     * @param normal    Whether to compute the contact normal (zero otherwise)
+     */
+    public void record(int type, Contact contact, boolean normal) {
+        Fixture fixA = contact.getFixtureA();
+        Fixture fixB = contact.getFixtureB();
+        int slot = claim();
+        types[slot] = type;
+        fixturesA[slot] = fixA;
+        fixturesB[slot] = fixB;
+        fixtureDataA[slot] = fixA.getUserData();
+        fixtureDataB[slot] = fixB.getUserData();
+        bodyDataA[slot] = fixA.getBody().getUserData();
+        bodyDataB[slot] = fixB.getBody().getUserData();
+        if (normal) {
+            Vector2 norm = contact.getWorldManifold().getNormal();
+            normalXs[slot] = norm.x;
+            normalYs[slot] = norm.y;
+        } else {
+            normalXs[slot] = 0;
+            normalYs[slot] = 0;
+        }
+    }
+
+    /**
+     * Returns the type of the event in the given slot
+     *
+     * @param slot  The event slot
+     *
+     * @return the type of the event in the given slot
+     */
+    public int getType(int slot) { return types[slot]; }
+
+    /**
+     * Returns the first fixture of the event in the given slot
+     *
+     * @param slot  The event slot
+     *
+     * @return the first fixture of the event in the given slot
+     */
+    public Fixture getFixtureA(int slot) { return fixturesA[slot]; }
+
+    /**
+     * Returns the second fixture of the event in the given slot
+     *
+     * @param slot  The event slot
+     *
+     * @return the second fixture of the event in the given slot
+     */
+    public Fixture getFixtureB(int slot) { return fixturesB[slot]; }
+
+    /**
+     * Returns the user data of the first fixture when the event in the given slot was recorded
+     *
+     * @param slot  The event slot
+     *
+     * @return the user data of the first fixture
+     */
+    public Object getFixtureDataA(int slot) { return fixtureDataA[slot]; }
+
+    /**
+     * Returns the user data of the second fixture when the event in the given slot was recorded
+     *
+     * @param slot  The event slot
+     *
+     * @return the user data of the second fixture
+     */
+    public Object getFixtureDataB(int slot) { return fixtureDataB[slot]; }
+
+    /**
+     * Returns the user data of the first body when the event in the given slot was recorded
+     *
+     * @param slot  The event slot
+     *
+     * @return the user data of the body of the first fixture
+     */
+    public Object getBodyDataA(int slot) { return bodyDataA[slot]; }
+
+    /**
+     * Returns the user data of the second body when the event in the given slot was recorded
+     *
+     * @param slot  The event slot
+     *
+     * @return the user data of the body of the second fixture
+     */
+    public Object getBodyDataB(int slot) { return bodyDataB[slot]; }
+
+    /**
+     * Returns the x-component of the contact normal of the event in the given slot
+     *
+     * @param slot  The event slot
+     *
+     * @return the x-component of the contact normal (from the first to the second fixture)
+     */
+    public float getNormalX(int slot) { return normalXs[slot]; }
+
+    /**
+     * Returns the y-component of the contact normal of the event in the given slot
+     *
+     * @param slot  The event slot
+     *
+     * @return the y-component of the contact normal (from the first to the second fixture)
+     */
+    public float getNormalY(int slot) { return normalYs[slot]; }
+
+    /**
+     * Discards every buffered event
+     *
+     * This also lets go of the recorded fixtures and user data.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(fixturesA, null);
+        Arrays.fill(fixturesB, null);
+        Arrays.fill(fixtureDataA, null);
+        Arrays.fill(fixtureDataB, null);
+        Arrays.fill(bodyDataA, null);
+        Arrays.fill(bodyDataB, null);
+        super.clear();
+    }
+
+    @Override
+    protected void resize(int capacity) {
+        int[] types = new int[capacity];
+        Fixture[] fixturesA = new Fixture[capacity];
+        Fixture[] fixturesB = new Fixture[capacity];
+        Object[] fixtureDataA = new Object[capacity];
+        Object[] fixtureDataB = new Object[capacity];
+        Object[] bodyDataA = new Object[capacity];
+        Object[] bodyDataB = new Object[capacity];
+        float[] normalXs = new float[capacity];
+        float[] normalYs = new float[capacity];
+        for (int ii = 0; ii < size(); ii++) {
+            int slot = slot(ii);
+            types[ii] = this.types[slot];
+            fixturesA[ii] = this.fixturesA[slot];
+            fixturesB[ii] = this.fixturesB[slot];
+            fixtureDataA[ii] = this.fixtureDataA[slot];
+            fixtureDataB[ii] = this.fixtureDataB[slot];
+            bodyDataA[ii] = this.bodyDataA[slot];
+            bodyDataB[ii] = this.bodyDataB[slot];
+            normalXs[ii] = this.normalXs[slot];
+            normalYs[ii] = this.normalYs[slot];
+        }
+        this.types = types;
+        this.fixturesA = fixturesA;
+        this.fixturesB = fixturesB;
+        this.fixtureDataA = fixtureDataA;
+        this.fixtureDataB = fixtureDataB;
+        this.bodyDataA = bodyDataA;
+        this.bodyDataB = bodyDataB;
+        this.normalXs = normalXs;
+        this.normalYs = normalYs;
+    }
+}
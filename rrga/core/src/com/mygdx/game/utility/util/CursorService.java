@@ -0,0 +1,128 @@
+/*
+ * CursorService.java
+ *
+ * The modes used to draw the cursor as a texture at the unprojected mouse position
+ * every frame, hiding the system cursor with a native call each time.  That puts the
+ * cursor a frame behind the mouse.  This class instead builds hardware cursors once,
+ * and only talks to the window when the cursor actually changes.
+ */
+package com.mygdx.game.utility.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Cursor;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * A registry of hardware cursors, with the current cursor cached.
+ *
+ * Modes call {@link #use} every frame with the cursor they want.  The call is a
+ * string comparison unless the cursor differs from the one already shown, so the
+ * native window call only happens on a change of state.
+ */
+public class CursorService implements Disposable {
+    /** The cursor of the menus and other screens */
+    public static final String MENU = "menu";
+    /** The cursor of the game play */
+    public static final String INGAME = "ingame";
+
+    /** The singleton instance of the cursor service */
+    private static CursorService theService = null;
+
+    /**
+     * Return the singleton instance of the cursor service
+     *
+     * @return the singleton instance of the cursor service
+     */
+    public static CursorService getInstance() {
+        if (theService == null) {
+            theService = new CursorService();
+        }
+        return theService;
+    }
+
+    /** The hardware cursors, by name */
+    private final ObjectMap<String, Cursor> cursors = new ObjectMap<>();
+    /** The name of the cursor being shown (null if unknown) */
+    private String current;
+
+    /**
+     * Creates a hardware cursor from an image and registers it under the given name
+     *
+     * Hardware cursors must be square with a power-of-two size, so the image is
+     * scaled to fit. The hotspot is given as a fraction of the image, so (0,0) is
+     * the top left corner and (0.5,0.5) is the center.
+     *
+     * @param name  The cursor name
+     * @param file  The cursor image
+     * @param size  The cursor size in pixels (a power of two)
+     * @param hotX  The horizontal position of the hotspot, in [0,1]
+     * @param hotY  The vertical position of the hotspot, in [0,1]
+     */
+    public void create(String name, FileHandle file, int size, float hotX, float hotY) {
+        Pixmap image = new Pixmap(file);
+        Pixmap scaled = new Pixmap(size, size, Pixmap.Format.RGBA8888);
+        scaled.setBlending(Pixmap.Blending.None);
+        scaled.setFilter(Pixmap.Filter.BiLinear);
+        scaled.drawPixmap(image, 0, 0, image.getWidth(), image.getHeight(), 0, 0, size, size);
+        image.dispose();
+
+        int x = Math.min(size - 1, (int)(hotX * size));
+        int y = Math.min(size - 1, (int)(hotY * size));
+        Cursor cursor = Gdx.graphics.newCursor(scaled, x, y);
+        scaled.dispose();
+
+        Cursor previous = cursors.put(name, cursor);
+        if (previous != null) {
+            previous.dispose();
+        }
+        if (name.equals(current)) {
+            current = null;
+        }
+    }
+
+    /**
+     * Shows the cursor with the given name, if it is not shown already
+     *
+     * If there is no cursor with that name, the system arrow is shown instead.
+     *
+     * @param name  The cursor name
+     */
+    public void use(String name) {
+        if (name.equals(current)) {
+            return;
+        }
+        Cursor cursor = cursors.get(name);
+        if (cursor != null) {
+            Gdx.graphics.setCursor(cursor);
+        } else {
+            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.Arrow);
+        }
+        current = name;
+    }
+
+    /**
+     * Forgets the cursor being shown, so that the next call to {@link #use} applies it
+     *
+     * Call this if anything else changes the cursor behind this service.
+     */
+    public void invalidate() {
+        current = null;
+    }
+
+    /**
+     * Disposes all of the hardware cursors, restoring the system arrow
+     */
+    public void dispose() {
+        if (cursors.size > 0) {
+            Gdx.graphics.setSystemCursor(Cursor.SystemCursor.Arrow);
+        }
+        for (Cursor cursor : cursors.values()) {
+            cursor.dispose();
+        }
+        cursors.clear();
+        current = null;
+    }
+}
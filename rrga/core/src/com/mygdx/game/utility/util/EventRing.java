@@ -0,0 +1,123 @@
+/*
+ * EventRing.java
+ *
+ * Some events reach the game from callbacks that run at a time chosen by someone else:
+ * input arrives from the backend between frames, and contacts arrive from inside the
+ * physics step.  Buffers of such events record them first and play them back later.
+ * This class holds the bookkeeping that those buffers share, so that each of them only
+ * declares the fields of its events.
+ */
+package com.mygdx.game.utility.util;
+
+/**
+ * The slot bookkeeping of a growable FIFO ring of events.
+ *
+ * A subclass stores its events in parallel arrays indexed by slot, and implements
+ * {@link #resize} to reallocate them.  To record an event, it claims a slot with
+ * {@link #claim} and fills in its arrays at that slot.  Readers take the oldest event
+ * with {@link #next} and read its fields at the returned slot.  The ring doubles when
+ * it is full, so recording does not allocate once the ring has reached its working size.
+ */
+public abstract class EventRing {
+    /** The number of slots */
+    private int capacity;
+    /** The slot of the oldest event */
+    private int head;
+    /** The number of buffered events */
+    private int size;
+
+    /**
+     * Returns true if there is a buffered event
+     *
+     * @return true if there is a buffered event
+     */
+    public boolean hasNext() {
+        return size > 0;
+    }
+
+    /**
+     * Removes the oldest event and returns its slot
+     *
+     * The slot is valid for the accessors until the next event is recorded.
+     *
+     * @return the slot of the oldest event
+     */
+    public int next() {
+        int slot = head;
+        head = (head + 1) % capacity;
+        size--;
+        return slot;
+    }
+
+    /**
+     * Returns the number of buffered events
+     *
+     * @return the number of buffered events
+     */
+    public int size() { return size; }
+
+    /**
+     * Discards every buffered event
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the slot of the buffered event at the given position (0 is the oldest)
+     *
+     * @param index The position of the event in the buffer
+     *
+     * @return the slot of the buffered event at the given position
+     */
+    protected int slot(int index) {
+        return (head + index) % capacity;
+    }
+
+    /**
+     * Appends an event and returns its slot, growing the ring if it is full
+     *
+     * The caller must fill in every field of the event at the returned slot.
+     *
+     * @return the slot of the new event
+     */
+    protected int claim() {
+        if (size == capacity) {
+            reserve(capacity * 2);
+        }
+        int slot = slot(size);
+        size++;
+        return slot;
+    }
+
+    /**
+     * Removes the newest event, so that a following {@link #claim} replaces it
+     */
+    protected void dropLast() {
+        size--;
+    }
+
+    /**
+     * Resizes the ring to the given capacity, moving the oldest event to slot 0
+     *
+     * A subclass must call this once from its constructor to allocate its arrays.
+     *
+     * @param capacity  The new capacity
+     */
+    protected void reserve(int capacity) {
+        resize(Math.max(capacity, 1));
+        this.capacity = Math.max(capacity, 1);
+        head = 0;
+    }
+
+    /**
+     * Reallocates the event arrays to the given capacity
+     *
+     * The event at position ii (slot {@link #slot}(ii)) for each ii less than
+     * {@link #size} must be copied to index ii of the new arrays.
+     *
+     * @param capacity  The new capacity
+     */
+    protected abstract void resize(int capacity);
+}
@@ -0,0 +1,238 @@
+/*
+ * InputBuffer.java
+ *
+ * Polling the input devices once per frame loses information.  A button that is
+ * pressed and released between two polls is never seen, and an edge is only visible
+ * for the one frame in which it is polled, whether or not the simulation actually
+ * advanced in that frame.  This class instead records every event as it arrives,
+ * along with the time that it happened, so that the simulation can replay them at
+ * the physics step in which they occurred.
+ *
+ * Consecutive mouse moves are merged, so a fast mouse does not flood the buffer.
+ */
+package com.mygdx.game.utility.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputProcessor;
+
+/**
+ * An input processor that buffers timestamped key, button and mouse events.
+ *
+ * Events are timestamped with {@link System#nanoTime}, using the time the backend
+ * received the event if it reports one.  The buffer never consumes events, so it
+ * can sit in an InputMultiplexer alongside other processors.
+ */
+public class InputBuffer extends EventRing implements InputProcessor {
+    /** A key was pressed (code is the key) */
+    public static final int KEY_DOWN = 0;
+    /** A key was released (code is the key) */
+    public static final int KEY_UP = 1;
+    /** A mouse button was pressed (code is the button) */
+    public static final int BUTTON_DOWN = 2;
+    /** A mouse button was released (code is the button) */
+    public static final int BUTTON_UP = 3;
+    /** The mouse moved (code is unused) */
+    public static final int MOVED = 4;
+
+    /** The default number of buffered events */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /** The type of each event */
+    private int[] types;
+    /** The key or button of each event */
+    private int[] codes;
+    /** The screen x-coordinate of each event */
+    private int[] xs;
+    /** The screen y-coordinate of each event */
+    private int[] ys;
+    /** The timestamp of each event in nanoseconds */
+    private long[] times;
+
+    /**
+     * Creates an empty input buffer
+     */
+    public InputBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty input buffer with the given initial capacity
+     *
+     * @param capacity  The initial number of events
+     */
+    public InputBuffer(int capacity) {
+        reserve(capacity);
+    }
+
+    /**
+     * Returns true if there is a buffered event at or before the given time
+     *
+     * @param time  The time in nanoseconds
+     *
+     * @return true if there is a buffered event at or before the given time
+     */
+    public boolean hasNext(long time) {
+        return size() > 0 && times[slot(0)] - time <= 0;
+    }
+
+    /**
+     * Returns the type of the event in the given slot
+     *
+     * @param slot  The event slot
+     *
+     * @return the type of the event in the given slot
+     */
+    public int getType(int slot) { return types[slot]; }
+
+    /**
+     * Returns the key or button of the event in the given slot
+     *
+     * @param slot  The event slot
+     *
+     * @return the key or button of the event in the given slot
+     */
+    public int getCode(int slot) { return codes[slot]; }
+
+    /**
+     * Returns the screen x-coordinate of the event in the given slot
+     *
+     * @param slot  The event slot
+     *
+     * @return the screen x-coordinate of the event in the given slot
+     */
+    public int getX(int slot) { return xs[slot]; }
+
+    /**
+     * Returns the screen y-coordinate of the event in the given slot
+     *
+     * @param slot  The event slot
+     *
+     * @return the screen y-coordinate of the event in the given slot
+     */
+    public int getY(int slot) { return ys[slot]; }
+
+    /**
+     * Returns the timestamp of the event in the given slot
+     *
+     * @param slot  The event slot
+     *
+     * @return the timestamp of the event in the given slot in nanoseconds
+     */
+    public long getTime(int slot) { return times[slot]; }
+
+    /**
+     * Returns true if a buffered event has the given type and code
+     *
+     * This does not remove any events.
+     *
+     * @param type  The event type
+     * @param code  The key or button
+     *
+     * @return true if a buffered event has the given type and code
+     */
+    public boolean contains(int type, int code) {
+        for (int ii = 0; ii < size(); ii++) {
+            int slot = slot(ii);
+            if (types[slot] == type && codes[slot] == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records an event at the current time
+     *
+     * @param type  The event type
+     * @param code  The key or button
+     * @param x     The screen x-coordinate
+     * @param y     The screen y-coordinate
+     */
+    private void record(int type, int code, int x, int y) {
+        if (type == MOVED && size() > 0) {
+            // consecutive moves only need the latest position
+            if (types[slot(size() - 1)] == MOVED) {
+                dropLast();
+            }
+        }
+        long time = Gdx.input == null ? 0 : Gdx.input.getCurrentEventTime();
+        if (time == 0) {
+            time = System.nanoTime();
+        }
+        int slot = claim();
+        types[slot] = type;
+        codes[slot] = code;
+        xs[slot] = x;
+        ys[slot] = y;
+        times[slot] = time;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+        int[] types = new int[capacity];
+        int[] codes = new int[capacity];
+        int[] xs = new int[capacity];
+        int[] ys = new int[capacity];
+        long[] times = new long[capacity];
+        for (int ii = 0; ii < size(); ii++) {
+            int slot = slot(ii);
+            types[ii] = this.types[slot];
+            codes[ii] = this.codes[slot];
+            xs[ii] = this.xs[slot];
+            ys[ii] = this.ys[slot];
+            times[ii] = this.times[slot];
+        }
+        this.types = types;
+        this.codes = codes;
+        this.xs = xs;
+        this.ys = ys;
+        this.times = times;
+    }
+
+    // INPUT PROCESSOR INTERFACE
+    @Override
+    public boolean keyDown(int keycode) {
+        record(KEY_DOWN, keycode, 0, 0);
+        return false;
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        record(KEY_UP, keycode, 0, 0);
+        return false;
+    }
+
+    @Override
+    public boolean keyTyped(char character) {
+        return false;
+    }
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        record(BUTTON_DOWN, button, screenX, screenY);
+        return false;
+    }
+
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        record(BUTTON_UP, button, screenX, screenY);
+        return false;
+    }
+
+    @Override
+    public boolean touchDragged(int screenX, int screenY, int pointer) {
+        record(MOVED, 0, screenX, screenY);
+        return false;
+    }
+
+    @Override
+    public boolean mouseMoved(int screenX, int screenY) {
+        record(MOVED, 0, screenX, screenY);
+        return false;
+    }
+
+    @Override
+    public boolean scrolled(float amountX, float amountY) {
+        return false;
+    }
+}
@@ -4,135 +4,128 @@
  * We are at the 8th version of Java and we still do not have a LinkedList that
  * can remove nodes in O(1) time. So we were forced to write one.
  *
- * While we were doing that, we decided to turn this class into a teaching moment.
- * This class uses a LibGDX memory pool to allocate all of its internal entry nodes.
- * A memory pool does not delete old objects, but instead allows us to reused them
- * later.  This helps us cut down on pesky calls to the garbage collector.
- *
  * Author: Walker M. White
  * Based on original PhysicsDemo Lab by Don Holden, 2007
  * LibGDX version, 2/6/2015
+ *
+ * The first version of this class was a doubly-linked list whose nodes came from a
+ * LibGDX memory pool.  That kept the garbage collector quiet, but every walk over the
+ * list chased pointers all over the heap, and the game walks its object, drawable and
+ * bird lists several times a frame.  This version keeps the elements in a single array
+ * instead.  Removing an element while iterating is still O(1): in an ordered list the
+ * slot is marked as a hole (a tombstone) and the holes are squeezed out in one pass
+ * later, while in an unordered list the last element is simply moved into the slot.
  */
 package com.mygdx.game.utility.util;
 
- import com.badlogic.gdx.utils.Pool;
-
- import java.util.AbstractSequentialList;
+ import java.util.AbstractList;
  import java.util.Iterator;
- import java.util.ListIterator;
  import java.util.NoSuchElementException;
+ import java.util.RandomAccess;
 
 /**
- * A doubly-linked list that uses LibGDX memory pools to optimize memory costs.
+ * An array-backed list that supports O(1) deletion during iteration.
+ *
+ * Use the entryIterator() method to access the Entry handles directly, and call
+ * remove() on an entry to delete it in place.  An ordered list keeps its elements
+ * in insertion order: removed slots become holes, which are compacted by
+ * {@link #compact}, by the start of the next iteration, or by the next indexed
+ * access.  An unordered list fills the removed slot with its last element, so it
+ * never has holes, but iteration order changes after a removal.
  *
- * This class supports O(1) deletion for internal nodes.  Simply use the entryIterator()
- * method to access the Entry nodes directly.
+ * The list does not accept null elements, as null marks a hole.  The iterators are
+ * cached, so a list cannot be iterated by two loops at once.
  */
-public class PooledList<E> extends AbstractSequentialList<E> implements Iterable<E> {
-	
+public class PooledList<E> extends AbstractList<E> implements RandomAccess, Iterable<E> {
+	/** The initial capacity of a new list */
+	private static final int DEFAULT_CAPACITY = 16;
+
 	/**
-	 * An internal node in the doubly-linked list */
-	public class Entry implements Pool.Poolable {
-		/** The entry value */
-		private E value;
-		/** The pointer to the next value */
-		private Entry next;
-		/** The pointer to the previous value */
-		private Entry prev;
-		
-		/**
-		 * Construct a new, isolated entry
-		 */
-		public Entry() {
-			reset();
-		}
-		
+	 * A handle to an element of the list, as returned by the entry iterator
+	 *
+	 * An entry is only valid until the next call to next() on its iterator.
+	 */
+	public class Entry {
+		/** The slot of the entry value */
+		private int index;
+
 		/**
 		 * Returns the value for this entry
 		 *
 		 * @return the value for this entry
 		 */
 		public E getValue() {
-			return value;
+			return items[index];
 		}
-		
+
 		/**
 		 * Removes this entry from the list in place
 		 *
 		 * This method supports O(1) deletion.
 		 */
 		public void remove() {
-			if (prev != null) {
-				prev.next = next;
-			} else {
-				head = next;
+			if (index < 0 || items[index] == null) {
+				throw new NoSuchElementException();
 			}
-			if (next != null) {
-				next.prev = prev;
-			} else {
-				tail = prev;
+			if (removeSlot(index)) {
+				// the last element moved into this slot, so visit it next
+				entries.cursor = index;
 			}
-			size--;
-			memory.free(this);
-		}
-		
-		/**
-		 * Resets this entry to an empty object for reuse later.
-		 */
-		public void reset() {
-			value = null;
-			next = null;
-			prev = null;
+			index = -1;
 		}
 	}
-	
-	/** 
-	 * Allocator for Entry objects
-	 *
-	 * This class does no preallocate, but will reuse objects that have
-	 * been freed.
+
+	/** The elements (null slots are holes) */
+	private E[] items;
+	/** The first slot that may hold an element (every slot before it is a hole) */
+	private int start;
+	/** The number of slots in use, holes included */
+	private int count;
+	/** The number of elements in the list */
+	private int size;
+	/** Whether removal preserves the order of the other elements */
+	private final boolean ordered;
+
+	/**
+	 * Creates a new empty ordered PooledList
 	 */
-	private class EntryPool extends Pool<Entry> {
-		
-		/**
-		 * Creates a new Pool for Entrys
-		 */
-		public EntryPool() {
-			super();
-		}
-		
-		/**
-		 * Return a new entry object
-		 *
-		 * This method allocates a new object if there are no free ones.
-		 *
-		 * @return a new entry object
-		 */
-		protected Entry newObject () {
-			return new Entry();
-		}
+	public PooledList() {
+		this(true);
 	}
 
-	/** Memory pool for reallocating deleted objects */
-	private Pool<Entry> memory;
-	
-	/** The queue head */
-	private Entry head;
-	/** The queue tail */
-	private Entry tail;
-	/** The number of elements in the queue */
-	private int size;
-	
 	/**
 	 * Creates a new empty PooledList
+	 *
+	 * @param ordered	whether removal preserves the order of the other elements
 	 */
-	public PooledList() {
-		memory = new EntryPool();
-		head = null;
-		tail = null;
+	public PooledList(boolean ordered) {
+		this(ordered, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new empty PooledList with the given initial capacity
+	 *
+	 * @param ordered	whether removal preserves the order of the other elements
+	 * @param capacity	the initial number of slots
+	 */
+	@SuppressWarnings("unchecked")
+	public PooledList(boolean ordered, int capacity) {
+		this.ordered = ordered;
+		items = (E[])new Object[Math.max(capacity, 1)];
+		start = 0;
+		count = 0;
 		size = 0;
 	}
-	
+
+	/**
+	 * Returns true if removal preserves the order of the other elements
+	 *
+	 * @return true if removal preserves the order of the other elements
+	 */
+	public boolean isOrdered() {
+		return ordered;
+	}
+
 	/**
 	 * Returns the number of elements in this list.
 	 *
@@ -141,26 +134,62 @@ public class PooledList<E> extends AbstractSequentialList<E> implements Iterable
 	public int size() {
 		return size;
 	}
-	
-	/** 
+
+	/**
+	 * Removes the holes left by deleted elements
+	 *
+	 * This is O(n), and does nothing if there are no holes.  It must not be called
+	 * while the list is being iterated.
+	 */
+	public void compact() {
+		if (count == size) {
+			return;
+		}
+		int dst = 0;
+		for (int src = start; src < count; src++) {
+			E value = items[src];
+			if (value != null) {
+				items[dst++] = value;
+			}
+		}
+		for (int ii = dst; ii < count; ii++) {
+			items[ii] = null;
+		}
+		start = 0;
+		count = size;
+	}
+
+	/**
+	 * Removes all of the elements from this list
+	 */
+	public void clear() {
+		for (int ii = 0; ii < count; ii++) {
+			items[ii] = null;
+		}
+		start = 0;
+		count = 0;
+		size = 0;
+	}
+
+	/**
 	 * Removes the first element of the list.
 	 *
-	 * @return the element removed 
+	 * @return the element removed
 	 */
 	public E poll() {
 		return removeHead();
 	}
 
-	/** 
+	/**
 	 * Removes the last element of the list.
 	 *
-	 * @return the element removed 
+	 * @return the element removed
 	 */
 	public E pop() {
 		return removeTail();
 	}
-	
-	/** 
+
+	/**
 	 * Adds an element to the end of the list
 	 *
 	 * @param e  the element to add
@@ -170,8 +199,8 @@ public class PooledList<E> extends AbstractSequentialList<E> implements Iterable
 	public boolean push(E e) {
 		return add(e);
 	}
-	
-	/** 
+
+	/**
 	 * Returns the first element of the list.
 	 *
 	 * @return the first element of the list.
@@ -180,11 +209,10 @@ public class PooledList<E> extends AbstractSequentialList<E> implements Iterable
 		if (size == 0) {
 			throw new IndexOutOfBoundsException();
 		}
-
-		return head.value;
+		return items[first()];
 	}
 
-	/** 
+	/**
 	 * Returns the last element of the list.
 	 *
 	 * @return the last element of the list.
@@ -193,53 +221,44 @@ public class PooledList<E> extends AbstractSequentialList<E> implements Iterable
 		if (size == 0) {
 			throw new IndexOutOfBoundsException();
 		}
-
-		return tail.value;
+		return items[last()];
 	}
 
-	/** 
+	/**
 	 * Removes the first element of the list.
 	 *
-	 * @return the element removed 
+	 * In an unordered list, the last element takes its place.
+	 *
+	 * @return the element removed
 	 */
 	public E removeHead() {
 		if (size == 0) {
 			throw new IndexOutOfBoundsException();
 		}
-
-		Entry last = head;
-		E value = head.value;
-		head = head.next;
-		if (size > 1) {
-			head.prev = null;
-		}
-		size--;
-		memory.free(last);
+		int slot = first();
+		E value = items[slot];
+		removeSlot(slot);
+		restartIfEmpty();
 		return value;
 	}
 
-	/** 
+	/**
 	 * Removes the last element of the list.
 	 *
-	 * @return the element removed 
+	 * @return the element removed
 	 */
 	public E removeTail() {
 		if (size == 0) {
 			throw new IndexOutOfBoundsException();
 		}
-
-		Entry last = tail;
-		E value = tail.value;
-		tail = tail.prev;
-		if (size > 1) {
-			tail.next = null;
-		}
-		size--;
-		memory.free(last);
+		int slot = last();
+		E value = items[slot];
+		removeSlot(slot);
+		restartIfEmpty();
 		return value;
 	}
-	
-	/** 
+
+	/**
 	 * Adds an element to the end of the list
 	 *
 	 * @param e  the element to add
@@ -247,74 +266,42 @@ public class PooledList<E> extends AbstractSequentialList<E> implements Iterable
 	 * @return whether the addition succeeeded
 	 */
 	public boolean add(E e) {
-		Entry entry = memory.obtain();
-		if (entry == null) {
-			return false;
-		}
-		entry.value = e;
-		entry.prev = tail;
-		if (size > 0) {
-			tail.next = entry;
-		} else {
-			head = entry;
+		if (e == null) {
+			throw new NullPointerException("PooledList does not accept null elements");
 		}
-		tail = entry;
+		if (count == items.length) {
+			resize(items.length*2);
+		}
+		items[count++] = e;
 		size++;
 		return true;
 	}
 
-	/** 
+	/**
 	 * Inserts an element to the list in place
 	 *
 	 * All elements after index are shifted one element to the right.
 	 *
 	 * @param index the position to add the element
 	 * @param element the element to add
-	 *
-	 * @return whether the addition succeeeded
 	 */
-	// Inserts the specified element at the specified position in this list (optional operation).
 	public void add(int index, E element) {
-		if (index > size) {
+		if (index < 0 || index > size) {
 			throw new IndexOutOfBoundsException();
 		}
-
-		// I should probably memory pool this later when I have time.
-		Entry entry = memory.obtain();
-		if (entry == null) {
-			return;
+		if (element == null) {
+			throw new NullPointerException("PooledList does not accept null elements");
 		}
-		entry.value = element;
-		
-		if (index == 0) {
-			entry.next = head;
-			if (size > 0) {
-				head.prev = entry;
-			} else {
-				tail = entry;
-			}
-			head = entry;
-		} else if (index == size) {
-			entry.prev = tail;
-			if (size > 0) {
-				tail.next = entry;
-			} else {
-				head = entry;
-			}
-			tail = entry;
-		} else {	
-			Entry curr = head;
-			for (int ii = 1; ii < index; ii++) {
-				curr = curr.next;
-			}
-			curr.prev.next = entry;
-			entry.prev = curr.prev;
-			curr.prev = entry;
-			entry.next = curr;
+		compact();
+		if (count == items.length) {
+			resize(items.length*2);
 		}
+		System.arraycopy(items, index, items, index+1, count-index);
+		items[index] = element;
+		count++;
 		size++;
 	}
-	
+
 	/**
 	 * Returns the element at the specified position
 	 *
@@ -323,62 +310,38 @@ public class PooledList<E> extends AbstractSequentialList<E> implements Iterable
 	 * @return the element at the specified position
 	 */
 	public E get(int index) {
-		if (index == 0) {
-			return head.value;
-		} else if (index == size-1) {
-			return tail.value;
-		} else {	
-			Entry curr = head;
-			for (int ii = 1; ii < index; ii++) {
-				curr = curr.next;
-			}
-			return curr.value;
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
 		}
+		compact();
+		return items[index];
 	}
 
 	/**
 	 * Removes the element at the specified position
 	 *
+	 * In an unordered list, the last element takes its place.
+	 *
 	 * @param index the position to access
 	 *
 	 * @return the element removed
 	 */
 	public E remove(int index) {
-		if (index >= size) {
+		if (index < 0 || index >= size) {
 			throw new IndexOutOfBoundsException();
 		}
-		
-		Entry last;
-		E value;
-		if (index == 0) {
-			last = head;
-			value = last.value;
-			head = head.next;
-			if (size > 1) {
-				head.prev = null;
-			}
-		} else if (index == size) {
-			last = tail;
-			value = last.value;
-			tail = tail.prev;
-			if (size > 1) {
-				tail.next = null;
-			}
-		} else {	
-			Entry curr = head;
-			for (int ii = 1; ii < index; ii++) {
-				curr = curr.next;
-			}
-			last = curr;
-			value = last.value;
-			curr.prev.next = curr.next;
-			curr.next.prev = curr.prev;
+		compact();
+		E value = items[index];
+		if (ordered) {
+			System.arraycopy(items, index+1, items, index, count-index-1);
+			items[--count] = null;
+			size--;
+		} else {
+			removeSlot(index);
 		}
-		size--;
-		memory.free(last);
 		return value;
 	}
-	
+
 	/**
 	 * Replaces the element at the specified position
 	 *
@@ -388,28 +351,18 @@ public class PooledList<E> extends AbstractSequentialList<E> implements Iterable
 	 * @return the original element
 	 */
 	public E set(int index, E element) {
-		if (index >= size) {
+		if (index < 0 || index >= size) {
 			throw new IndexOutOfBoundsException();
 		}
-		
-		E value;
-		if (index == 0) {
-			value = head.value;
-			head.value = element;
-		} else if (index == size) {
-			value = tail.value;
-			tail.value = element;
-		} else {	
-			Entry curr = head;
-			for (int ii = 1; ii < index; ii++) {
-				curr = curr.next;
-			}
-			value = curr.value;
-			curr.value = element;
+		if (element == null) {
+			throw new NullPointerException("PooledList does not accept null elements");
 		}
+		compact();
+		E value = items[index];
+		items[index] = element;
 		return value;
 	}
-	
+
 	/** Cached reference to the value iterator */
 	private ValueIterator values  = new ValueIterator();
 	/** Cached reference to the entry iterator */
@@ -418,431 +371,213 @@ public class PooledList<E> extends AbstractSequentialList<E> implements Iterable
 	/**
 	 * Returns an iterator over the list values
 	 *
+	 * Any holes are compacted first.
+	 *
 	 * @return an iterator over the list values
 	 */
 	public Iterator<E> iterator() {
+		compact();
 		values.reset();
 		return values;
 	}
 
-	/**
-	 * Returns a list iterator over the list values
-	 *
-	 * @return a list iterator over the list values
-	 */
-	public ListIterator<E> listIterator(int index) {
-		values.reset(index);
-		return values;
-	}
-	
 	/**
 	 * Returns an iterator over the list entries
 	 *
+	 * Any holes are compacted first.
+	 *
 	 * @return an iterator over the list entries
 	 */
 	public Iterator<Entry> entryIterator() {
+		compact();
 		entries.reset();
 		return entries;
 	}
 
 	/**
-	 * A standard list iterator for values
+	 * Returns the slot of the first element (the list must not be empty)
+	 *
+	 * @return the slot of the first element
 	 */
-	private class ValueIterator implements ListIterator<E> {
-		/** The next entry to return */
-		private Entry next;
-		/** The previous entry returned */
-		private Entry last;
-	
-		/**
-		 * Creates a new iterator starting at the beginning
-		 */
-		public ValueIterator() {
-			reset();
+	private int first() {
+		while (items[start] == null) {
+			start++;
 		}
+		return start;
+	}
 
-		/**
-		 * Resets the iterator to start at the beginning
-		 */
-		public void reset() {
-			next = head;
-			last = null;
+	/**
+	 * Returns the slot of the last element (the list must not be empty)
+	 *
+	 * @return the slot of the last element
+	 */
+	private int last() {
+		while (items[count-1] == null) {
+			count--;
 		}
-		
-		/**
-		 * Resets the iterator to start at the given position
-		 * 
-		 * @param index The position to start
-		 */
-		public void reset(int index) {
-			if (index > size) {
-				throw new IndexOutOfBoundsException();
-			}
-			last = null;
-			next = head;
-			for(int ii = 1; ii < index; ii++) {
-				next = next.next;
-			}
+		return count-1;
+	}
+
+	/**
+	 * Removes the element in the given slot
+	 *
+	 * An ordered list leaves a hole.  An unordered list moves its last element into
+	 * the slot.  Neither changes the slots in use, other than to drop the last one
+	 * of an unordered list, so an iteration in progress sees every element added.
+	 *
+	 * @param slot	the slot to empty
+	 *
+	 * @return true if another element was moved into the slot
+	 */
+	private boolean removeSlot(int slot) {
+		size--;
+		if (!ordered) {
+			items[slot] = items[--count];
+			items[count] = null;
+			return slot < count;
 		}
-		
-		/**
-		 * Inserts the specified element into the list
-		 *
-		 * The element is inserted before the next position
-		 *
-		 * @param e the element to insert
-		 */
-		public void add(E e) {
-			Entry entry = memory.obtain();
-			if (entry == null) {
-				return;
-			}
-			entry.value = e;
-			if (next == head) {
-				entry.next = head;
-				if (next != null) {
-					next.prev = entry;
-				}
-				head = entry;
-				next = head;
-			} else if (next != null) {
-				next.prev.next = entry;
-				entry.prev = next.prev;
-				entry.next = next;
-				next.prev  = entry;
-			} else {
-				entry.prev = tail;
-				if (tail != null) {
-					tail.next = entry;
-				}
-				tail = entry;
+		items[slot] = null;
+		if (slot == start) {
+			start++;
+		}
+		return false;
+	}
+
+	/**
+	 * Rewinds the list to its first slot if it is empty
+	 *
+	 * Without this, a list used as a queue would creep along its array.  This is only
+	 * done by the queue methods, as it would skip elements added during an iteration.
+	 */
+	private void restartIfEmpty() {
+		if (size == 0) {
+			for (int ii = start; ii < count; ii++) {
+				items[ii] = null;
 			}
-			size++;
+			start = 0;
+			count = 0;
 		}
-		
+	}
+
+	/**
+	 * Resizes the element array
+	 *
+	 * The slots keep their positions, so iterators in progress are not disturbed.
+	 *
+	 * @param capacity	the new number of slots
+	 */
+	@SuppressWarnings("unchecked")
+	private void resize(int capacity) {
+		E[] array = (E[])new Object[capacity];
+		System.arraycopy(items, 0, array, 0, count);
+		items = array;
+	}
+
+	/**
+	 * A standard iterator for values
+	 */
+	private class ValueIterator implements Iterator<E> {
+		/** The next slot to visit */
+		private int cursor;
+		/** The slot of the last value returned (-1 if none) */
+		private int last;
+
 		/**
-		 * Returns true if this iterator has more forward elements
-		 *
-		 * @return true if this iterator has more forward elements
+		 * Resets the iterator to start at the beginning
 		 */
-		public boolean hasNext() {
-			return next != null;
+		public void reset() {
+			cursor = start;
+			last = -1;
 		}
 
 		/**
-		 * Returns true if this iterator has more backward elements
+		 * Returns true if this iterator has more elements
 		 *
-		 * @return true if this iterator has more backward elements
+		 * @return true if this iterator has more elements
 		 */
-		public boolean hasPrevious() {
-			return next != null && next.prev != null;
+		public boolean hasNext() {
+			while (cursor < count && items[cursor] == null) {
+				cursor++;
+			}
+			return cursor < count;
 		}
 
 		/**
 		 * Returns the next element in the list (and advances the cursor)
 		 *
-		 * @return .the next element in the list
+		 * @return the next element in the list
 		 */
 		public E next() {
 			if (!hasNext()) {
 				throw new NoSuchElementException();
 			}
-			
-			last = next;
-			next = next.next;
-			return last.value;
-		}
-		
-		/**
-		 * Returns the index of the element that would be returned by next().
-		 *
-		 * @return the index of the next element
-		 */
-		public int nextIndex() {
-			if (!hasNext()) {
-				throw new NoSuchElementException();
-			}
-		
-			Entry curr = head;
-			int index = 0;
-			while (curr != next) {
-				curr = curr.next;
-				index++;
-			}
-			return index;
-		}
-		
-		/**
-		 * Returns the previous element in the list (and rolls back the cursor)
-		 *
-		 * @return .the previous element in the list
-		 */
-		public E previous() {
-			if (!hasPrevious()) {
-				throw new NoSuchElementException();
-			}
-			
-			next = next.prev;
-			last = next;
-			return next.value;		
+			last = cursor++;
+			return items[last];
 		}
 
 		/**
-		 * Returns the index of the element that would be returned by previous().
-		 *
-		 * @return the index of the previous element
-		 */
-		public int previousIndex() {
-			if (!hasPrevious()) {
-				throw new NoSuchElementException();
-			}		
-			Entry curr = head;
-			int index = 0;
-			while (curr != next.prev) {
-				curr = curr.next;
-				index++;
-			}
-			return index;
-		}
-		
-		/** 
 		 * Removes the last element that was returned.
 		 */
 		public void remove() {
-			if (last == null) {
+			if (last < 0 || items[last] == null) {
 				throw new NoSuchElementException();
 			}
-			
-			if (last.prev == null) {
-				head = last.next;
-				if (head != null) {
-					head.prev = null;
-				}
-			} else {
-				last.prev.next = last.next;
-			}
-			
-			if (last.next == null) {
-				tail = last.prev;
-				if (tail != null) {
-					tail.next = null;
-				}
-			} else {
-				last.next.prev = last.prev;
-			}
-			memory.free(last);
-			last = null;
-			size--;
-		}
-
-		/**
-		 * Replaces the last element returned with this element
-		 *
-		 * @param e the element to replace with
-		 */
-		public void set(E e) {
-			if (last == null) {
-				throw new NoSuchElementException();
+			if (removeSlot(last)) {
+				cursor = last;
 			}
-
-			last.value = e;
+			last = -1;
 		}
 	}
 
 	/**
-	 * A standard list iterator for entries
+	 * A standard iterator for entries
 	 */
-	private class EntryIterator implements ListIterator<Entry> {
-		/** The next entry to return */
-		private Entry next;
-		/** The previous entry returned */
-		private Entry last;
-	
-		/**
-		 * Creates a new iterator starting at the beginning
-		 */
-		public EntryIterator() {
-			reset();
-		}
+	private class EntryIterator implements Iterator<Entry> {
+		/** The next slot to visit */
+		private int cursor;
+		/** The handle returned by next() */
+		private final Entry entry = new Entry();
 
 		/**
 		 * Resets the iterator to start at the beginning
 		 */
 		public void reset() {
-			next = head;
-			last = null;
+			cursor = start;
+			entry.index = -1;
 		}
-		
-		/**
-		 * Inserts the specified element into the list
-		 *
-		 * The element is inserted before the next position
-		 *
-		 * @param entry the element to insert
-		 */
-		public void add(Entry entry) {
-			if (next == head) {
-				entry.next = head;
-				if (next != null) {
-					next.prev = entry;
-				}
-				head = entry;
-				next = head;
-			} else if (next != null) {
-				next.prev.next = entry;
-				entry.prev = next.prev;
-				entry.next = next;
-				next.prev  = entry;
-			} else {
-				entry.prev = tail;
-				if (tail != null) {
-					tail.next = entry;
-				}
-				tail = entry;
-			}
-			size++;
-		}
-		
+
 		/**
-		 * Returns true if this iterator has more forward elements
+		 * Returns true if this iterator has more entries
 		 *
-		 * @return true if this iterator has more forward elements
+		 * @return true if this iterator has more entries
 		 */
 		public boolean hasNext() {
-			return next != null;
+			while (cursor < count && items[cursor] == null) {
+				cursor++;
+			}
+			return cursor < count;
 		}
 
 		/**
-		 * Returns true if this iterator has more backward elements
+		 * Returns the next entry in the list (and advances the cursor)
 		 *
-		 * @return true if this iterator has more backward elements
-		 */
-		public boolean hasPrevious() {
-			return next != null && next.prev != null;		
-		}
-
-		/**
-		 * Returns the next element in the list (and advances the cursor)
+		 * The same handle is returned every time, pointing at the next element.
 		 *
-		 * @return .the next element in the list
+		 * @return the next entry in the list
 		 */
 		public Entry next() {
 			if (!hasNext()) {
 				throw new NoSuchElementException();
 			}
-			
-			last = next;
-			next = next.next;
-			return last;
-		}
-		
-		/**
-		 * Returns the index of the element that would be returned by next().
-		 *
-		 * @return the index of the next element
-		 */
-		public int nextIndex() {
-			if (!hasNext()) {
-				throw new NoSuchElementException();
-			}
-		
-			Entry curr = head;
-			int index = 0;
-			while (curr != next) {
-				curr = curr.next;
-				index++;
-			}
-			return index;
-		}
-		
-		/**
-		 * Returns the previous element in the list (and rolls back the cursor)
-		 *
-		 * @return .the previous element in the list
-		 */
-		public Entry previous() {
-			if (!hasPrevious()) {
-				throw new NoSuchElementException();
-			}
-			
-			next = next.prev;
-			last = next;
-			return next;
+			entry.index = cursor++;
+			return entry;
 		}
 
 		/**
-		 * Returns the index of the element that would be returned by previous().
-		 *
-		 * @return the index of the previous element
-		 */
-		public int previousIndex() {
-			if (!hasPrevious()) {
-				throw new NoSuchElementException();
-			}		
-			Entry curr = head;
-			int index = 0;
-			while (curr != next.prev) {
-				curr = curr.next;
-				index++;
-			}
-			return index;
-		}
-		
-		/** 
-		 * Removes the last element that was returned.
+		 * Removes the last entry that was returned.
 		 */
 		public void remove() {
-			if (last == null) {
-				throw new NoSuchElementException();
-			}
-			
-			if (last.prev == null) {
-				head = last.next;
-				if (head != null) {
-					head.prev = null;
-				}
-			} else {
-				last.prev.next = last.next;
-			}
-			
-			if (last.next == null) {
-				tail = last.prev;
-				if (tail != null) {
-					tail.next = null;
-				}
-			} else {
-				last.next.prev = last.prev;
-			}
-			memory.free(last);
-			last = null;
-			size--;
-		}
-
-		/**
-		 * Replaces the last element returned with this element
-		 *
-		 * @param e the element to replace with
-		 */
-		public void set(Entry entry) {
-			if (last == null) {
-				throw new NoSuchElementException();
-			}
-			
-			entry.prev = last.prev;
-			entry.next = last.next;
-			if (last.prev != null) {
-				last.prev.next = entry;
-			} else {
-				head = last;
-			}
-			
-			if (last.next != null) {
-				last.next.prev = entry;
-			} else {
-				tail = last;
-			}
-			memory.free(last);
-			last = entry;
+			entry.remove();
 		}
 	}
-}
\ No newline at end of file
+}
@@ -3,8 +3,6 @@ package com.mygdx.game.utility.util;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.PolygonShape;
-import com.badlogic.gdx.utils.JsonValue;
 import com.mygdx.game.GameCanvas;
 
 /**
@@ -33,8 +31,8 @@ public class Sticker implements Drawable {
 
     private final Vector2 cache;
 
-    /** shape of bounding box in debug mode*/
-    private final PolygonShape shape;
+    /** outline of bounding box in debug mode (plain vertices, so stickers own no native memory) */
+    private final float[] outline;
 
     /**
      * creates a sticker at position (x,y) whose AABB top left corner is (x+bx, y+by) and has given width and height.<br>
@@ -43,13 +41,11 @@ public class Sticker implements Drawable {
      * @param y position y coordinate
      * @param angle rotational angle in radians
      * @param depth sticker draw depth
-     * @param AABB the JSON data containing box data
+     * @param aabb the box data {corner bx, corner by, AABB physics width, AABB physics height} (modified in place)
      * @param texture the texture (with flipping already applied)
      */
-    public Sticker(float x, float y, float angle, int depth, JsonValue AABB, TextureRegion texture){
+    public Sticker(float x, float y, float angle, int depth, float[] aabb, TextureRegion texture){
         pos.set(x,y);
-        // AABB[0 ... 3] = {corner bx, corner by, AABB physics width, AABB physics height}
-        float[] aabb = AABB.asFloatArray();
         this.angle = angle;
         float width = aabb[2];
         float height = aabb[3];
@@ -71,12 +67,10 @@ public class Sticker implements Drawable {
         this.depth = depth;
         this.drawScale = new Vector2(1,1);
         this.cache = new Vector2();
-        shape = new PolygonShape();
-        float[] vertices = new float[]{
+        outline = new float[]{
                 -aabb[2]/2f, -aabb[3]/2f, -aabb[2]/2f, aabb[3]/2f,
                 aabb[2]/2f, aabb[3]/2f, aabb[2]/2f,-aabb[3]/2f
         };
-        shape.set(vertices);
     }
 
     // implementations for DRAWABLE Interface
@@ -111,6 +105,6 @@ public class Sticker implements Drawable {
 
     @Override
     public void drawDebug(GameCanvas canvas){
-        canvas.drawPhysics(shape,Color.FOREST,pos.x, pos.y,0,drawScale.x,drawScale.y);
+        canvas.drawPhysics(outline,Color.FOREST,pos.x, pos.y,0,drawScale.x,drawScale.y);
     }
 }
@@ -0,0 +1,152 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.backends.lwjgl3.audio.Lwjgl3Audio;
+import com.badlogic.gdx.backends.lwjgl3.audio.OggInputStream;
+import com.badlogic.gdx.backends.lwjgl3.audio.OpenALSound;
+import com.badlogic.gdx.backends.lwjgl3.audio.Wav;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.mygdx.game.utility.audio.AudioSource;
+import com.mygdx.game.utility.audio.MusicQueue;
+import com.mygdx.game.utility.audio.PooledAudioEngine;
+import com.mygdx.game.utility.audio.PooledSoundEffect;
+
+/**
+ * The desktop version of {@link PooledAudioEngine}, on top of the LWJGL3 OpenAL audio.
+ * <p>
+ * This class forwards the per-frame update of the backend, and reads the format of each
+ * sound from its file header so that voices are freed as soon as their sound ends. It
+ * also supports {@link AudioSource} objects and {@link StreamingMusicQueue} music buffers,
+ * which are decoded by a shared {@link MusicDecoder} thread.
+ */
+public class DesktopAudioEngine extends PooledAudioEngine implements Lwjgl3Audio {
+    /** The thread decoding every music buffer */
+    private final MusicDecoder decoder = new MusicDecoder();
+    /** The music buffers created by this engine */
+    private final Array<StreamingMusicQueue> queues = new Array<>();
+
+    /**
+     * Creates a new engine on top of the given backend audio
+     *
+     * @param backend  the LWJGL3 audio created by the application
+     * @param capacity the number of sound effect voices
+     */
+    public DesktopAudioEngine(Lwjgl3Audio backend, int capacity) {
+        super(backend, capacity);
+    }
+
+    /**
+     * Updates the backend (streaming music) and the music buffers.
+     */
+    @Override
+    protected void updateBackend() {
+        ((Lwjgl3Audio) backend).update();
+        for (int ii = 0; ii < queues.size; ii++) {
+            queues.get(ii).update();
+        }
+    }
+
+    /**
+     * Creates a new {@link AudioSource} for the given WAV, OGG or MP3 file.
+     *
+     * @param file the audio file
+     * @return a new {@link AudioSource} for the given file
+     * @throws GdxRuntimeException if the file is not a supported audio file
+     */
+    @Override
+    public AudioSource newSource(FileHandle file) {
+        return new DesktopAudioSource(file);
+    }
+
+    /**
+     * Creates a new, empty {@link StreamingMusicQueue} for sources of the given format.
+     *
+     * @param isMono     whether the sources are mono (as opposed to stereo)
+     * @param sampleRate the sample rate of the sources
+     * @return a new, empty music buffer
+     * @throws GdxRuntimeException if OpenAL is not available
+     */
+    @Override
+    public synchronized MusicQueue newMusicBuffer(boolean isMono, int sampleRate) {
+        StreamingMusicQueue queue = new StreamingMusicQueue(this, decoder, isMono, sampleRate);
+        queues.add(queue);
+        return queue;
+    }
+
+    /**
+     * Forgets a music buffer that has been disposed.
+     *
+     * @param queue the disposed music buffer
+     */
+    synchronized void release(StreamingMusicQueue queue) {
+        queues.removeValue(queue, true);
+    }
+
+    /**
+     * Pauses all sound effects and music, including the music buffers.
+     */
+    @Override
+    public synchronized void pause() {
+        super.pause();
+        for (StreamingMusicQueue queue : queues) {
+            queue.pauseByEngine();
+        }
+    }
+
+    /**
+     * Resumes all sound effects and music paused by {@link #pause()}.
+     */
+    @Override
+    public synchronized void resume() {
+        super.resume();
+        for (StreamingMusicQueue queue : queues) {
+            queue.resumeByEngine();
+        }
+    }
+
+    /**
+     * Stops the decoder thread and disposes the music buffers and the backend audio.
+     */
+    @Override
+    public synchronized void dispose() {
+        decoder.dispose();
+        while (queues.size > 0) {
+            queues.peek().dispose();
+        }
+        super.dispose();
+    }
+
+    /**
+     * Creates the sound effect wrapping a backend sound, using the format in the file header.
+     *
+     * @param file  the sound asset
+     * @param sound the backend sound
+     * @return the sound effect wrapping the backend sound
+     */
+    @Override
+    protected PooledSoundEffect createEffect(FileHandle file, Sound sound) {
+        float duration = sound instanceof OpenALSound ? ((OpenALSound) sound).duration() : -1;
+        int channels = 2;
+        int sampleRate = 44100;
+        String type = file.extension().toLowerCase();
+        try {
+            if (type.equals("ogg")) {
+                OggInputStream input = new OggInputStream(file.read());
+                channels = input.getChannels();
+                sampleRate = input.getSampleRate();
+                input.close();
+            } else if (type.equals("wav")) {
+                Wav.WavInputStream input = new Wav.WavInputStream(file);
+                channels = input.channels;
+                sampleRate = input.sampleRate;
+                StreamUtils.closeQuietly(input);
+            }
+        } catch (GdxRuntimeException e) {
+            // the backend already decoded the file, so keep the defaults
+        }
+        return new PooledSoundEffect(voices, sound, file, channels == 1, sampleRate, duration);
+    }
+}
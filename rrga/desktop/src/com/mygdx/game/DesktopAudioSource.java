@@ -0,0 +1,218 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.backends.lwjgl3.audio.OggInputStream;
+import com.badlogic.gdx.backends.lwjgl3.audio.Wav;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.mygdx.game.utility.audio.AudioSource;
+import com.mygdx.game.utility.audio.AudioStream;
+import javazoom.jl.decoder.Bitstream;
+import javazoom.jl.decoder.BitstreamException;
+import javazoom.jl.decoder.Header;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * The desktop {@link AudioSource}, reading WAV, OGG and MP3 files with the LWJGL3 decoders.
+ * <p>
+ * A source only reads the file header when it is created. The samples are decoded a page
+ * at a time by the {@link DesktopAudioStream} objects it creates, so a source costs the
+ * same amount of memory no matter how long the file is.
+ */
+public class DesktopAudioSource implements AudioSource {
+    /** The size of the tail searched for the last OGG page */
+    private static final int OGG_TAIL = 65536;
+
+    /** The file that generated this source */
+    private final FileHandle file;
+    /** The file format ("wav", "ogg" or "mp3") */
+    private final String format;
+    /** The number of channels */
+    private final int channels;
+    /** The number of frames per second */
+    private final int sampleRate;
+    /** The total number of samples (all channels), or -1 if unknown */
+    private final long samples;
+
+    /**
+     * Creates a new source for the given file, reading its header.
+     *
+     * @param file the audio file
+     * @throws GdxRuntimeException if the file is not a supported audio file
+     */
+    public DesktopAudioSource(FileHandle file) {
+        this.file = file;
+        this.format = file.extension().toLowerCase();
+        switch (format) {
+            case "wav": {
+                Wav.WavInputStream input = new Wav.WavInputStream(file);
+                channels = input.channels;
+                sampleRate = input.sampleRate;
+                samples = input.dataRemaining / 2;
+                StreamUtils.closeQuietly(input);
+                break;
+            }
+            case "ogg": {
+                OggInputStream input = new OggInputStream(file.read());
+                channels = input.getChannels();
+                sampleRate = input.getSampleRate();
+                input.close();
+                long frames = readOggFrames(file);
+                samples = frames < 0 ? -1 : frames * channels;
+                break;
+            }
+            case "mp3": {
+                Bitstream input = new Bitstream(file.read());
+                try {
+                    Header header = input.readFrame();
+                    if (header == null) {
+                        throw new GdxRuntimeException("Empty MP3: " + file);
+                    }
+                    channels = header.mode() == Header.SINGLE_CHANNEL ? 1 : 2;
+                    sampleRate = header.frequency();
+                    long length = file.length();
+                    samples = length > 0 ? (long) (header.total_ms((int) length) / 1000 * sampleRate) * channels : -1;
+                } catch (BitstreamException e) {
+                    throw new GdxRuntimeException("Error reading MP3: " + file, e);
+                } finally {
+                    try {
+                        input.close();
+                    } catch (BitstreamException ignored) {
+                    }
+                }
+                break;
+            }
+            default:
+                throw new GdxRuntimeException("Unsupported audio format: " + file);
+        }
+    }
+
+    /**
+     * Returns the number of frames in an OGG file, from the granule position of its last page.
+     *
+     * @param file the OGG file
+     * @return the number of frames, or -1 if it cannot be found
+     */
+    private static long readOggFrames(FileHandle file) {
+        long length = file.length();
+        if (length <= 0) {
+            return -1;
+        }
+        int size = (int) Math.min(length, OGG_TAIL);
+        byte[] tail = new byte[size];
+        InputStream input = file.read();
+        try {
+            long skip = length - size;
+            while (skip > 0) {
+                long skipped = input.skip(skip);
+                if (skipped <= 0) {
+                    return -1;
+                }
+                skip -= skipped;
+            }
+            int read = 0;
+            while (read < size) {
+                int count = input.read(tail, read, size - read);
+                if (count < 0) {
+                    break;
+                }
+                read += count;
+            }
+            // The granule position of the last page is the total number of frames
+            for (int ii = read - 14; ii >= 0; ii--) {
+                if (tail[ii] == 'O' && tail[ii + 1] == 'g' && tail[ii + 2] == 'g' && tail[ii + 3] == 'S') {
+                    long granule = 0;
+                    for (int jj = 7; jj >= 0; jj--) {
+                        granule = (granule << 8) | (tail[ii + 6 + jj] & 0xff);
+                    }
+                    return granule;
+                }
+            }
+            return -1;
+        } catch (IOException e) {
+            return -1;
+        } finally {
+            StreamUtils.closeQuietly(input);
+        }
+    }
+
+    /**
+     * Returns the file format ("wav", "ogg" or "mp3").
+     *
+     * @return the file format
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the total number of samples (all channels), or -1 if unknown.
+     *
+     * @return the total number of samples
+     */
+    public long getSampleCount() {
+        return samples;
+    }
+
+    @Override
+    public FileHandle getFile() {
+        return file;
+    }
+
+    @Override
+    public int getChannels() {
+        return channels;
+    }
+
+    @Override
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public float getDuration() {
+        return samples < 0 ? -1 : (float) samples / (channels * sampleRate);
+    }
+
+    @Override
+    public AudioStream getStream() {
+        return new DesktopAudioStream(this);
+    }
+
+    /**
+     * Returns the whole file decoded to 16-bit little-endian PCM.
+     *
+     * @return the decoded samples
+     */
+    @Override
+    public ByteBuffer getData() {
+        DesktopAudioStream stream = new DesktopAudioStream(this);
+        byte[] page = new byte[4096 * channels * 2];
+        ByteBuffer data = BufferUtils.newByteBuffer(samples > 0 ? (int) samples * 2 : page.length);
+        int read;
+        while ((read = stream.read(page)) > 0) {
+            if (data.remaining() < read) {
+                ByteBuffer larger = BufferUtils.newByteBuffer(Math.max(data.capacity() * 2, data.position() + read));
+                data.flip();
+                larger.put(data);
+                data = larger;
+            }
+            data.put(page, 0, read);
+        }
+        stream.reset();
+        data.flip();
+        return data.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Has no effect, as the source holds no decoded data.
+     */
+    @Override
+    public void dispose() {
+    }
+}
@@ -0,0 +1,307 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.backends.lwjgl3.audio.OggInputStream;
+import com.badlogic.gdx.backends.lwjgl3.audio.Wav;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.mygdx.game.utility.audio.AudioSource;
+import com.mygdx.game.utility.audio.AudioStream;
+import javazoom.jl.decoder.Bitstream;
+import javazoom.jl.decoder.Header;
+import javazoom.jl.decoder.MP3Decoder;
+import javazoom.jl.decoder.OutputBuffer;
+
+import java.io.IOException;
+
+/**
+ * The desktop {@link AudioStream}, decoding a {@link DesktopAudioSource} a page at a time.
+ * <p>
+ * The decoder is opened on the first read and closed by {@link #reset()}, so an idle
+ * stream holds no file handle. Samples are 16-bit little-endian PCM, with the channels
+ * interleaved.
+ */
+public class DesktopAudioStream implements AudioStream {
+    /** The source that generated this stream */
+    private final DesktopAudioSource source;
+    /** The WAV decoder (null if not open) */
+    private Wav.WavInputStream wav;
+    /** The OGG decoder (null if not open) */
+    private OggInputStream ogg;
+    /** The MP3 bitstream (null if not open) */
+    private Bitstream mp3;
+    /** The MP3 frame decoder */
+    private MP3Decoder decoder;
+    /** The decoded MP3 frame */
+    private OutputBuffer frame;
+    /** The number of bytes of the decoded MP3 frame already read */
+    private int frameOffset;
+    /** The number of bytes in the decoded MP3 frame */
+    private int frameLength;
+    /** The byte page used by the sample reads */
+    private byte[] scratch;
+    /** The current byte position */
+    private long offset;
+
+    /**
+     * Creates a new stream at the start of the given source.
+     *
+     * @param source the source to decode
+     */
+    public DesktopAudioStream(DesktopAudioSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public AudioSource getSource() {
+        return source;
+    }
+
+    @Override
+    public long getByteSize() {
+        long samples = source.getSampleCount();
+        return samples < 0 ? -1 : samples * 2;
+    }
+
+    @Override
+    public long getByteOffset() {
+        return offset;
+    }
+
+    @Override
+    public long getSampleSize() {
+        return source.getSampleCount();
+    }
+
+    @Override
+    public long getSampleOffset() {
+        return offset / 2;
+    }
+
+    @Override
+    public int read(byte[] buffer) {
+        return read(buffer, buffer.length);
+    }
+
+    @Override
+    public int read(short[] buffer) {
+        byte[] bytes = scratch(buffer.length * 2);
+        int read = read(bytes, buffer.length * 2) / 2;
+        for (int ii = 0; ii < read; ii++) {
+            buffer[ii] = (short) ((bytes[2 * ii] & 0xff) | (bytes[2 * ii + 1] << 8));
+        }
+        return read;
+    }
+
+    @Override
+    public int read(float[] buffer) {
+        byte[] bytes = scratch(buffer.length * 2);
+        int read = read(bytes, buffer.length * 2) / 2;
+        for (int ii = 0; ii < read; ii++) {
+            buffer[ii] = (short) ((bytes[2 * ii] & 0xff) | (bytes[2 * ii + 1] << 8)) / 32768.0f;
+        }
+        return read;
+    }
+
+    @Override
+    public int seek(long pos, byte[] buffer) {
+        if (!skipTo(pos)) {
+            return 0;
+        }
+        return read(buffer);
+    }
+
+    @Override
+    public int seek(long pos, short[] buffer) {
+        if (!skipTo(pos * 2)) {
+            return 0;
+        }
+        return read(buffer);
+    }
+
+    @Override
+    public int seek(long pos, float[] buffer) {
+        if (!skipTo(pos * 2)) {
+            return 0;
+        }
+        return read(buffer);
+    }
+
+    /**
+     * Closes the decoder and rewinds to the beginning.
+     */
+    @Override
+    public void reset() {
+        close();
+        scratch = null;
+    }
+
+    /**
+     * Rewinds to the beginning, keeping the read buffers.
+     */
+    @Override
+    public void loop() {
+        close();
+    }
+
+    /**
+     * Reads up to the given number of bytes, opening the decoder if necessary.
+     *
+     * @param buffer the buffer to fill
+     * @param length the maximum number of bytes (even)
+     * @return the number of bytes read (0 at the end of the stream)
+     */
+    private int read(byte[] buffer, int length) {
+        length &= ~1;
+        if (length == 0) {
+            return 0;
+        }
+        try {
+            int read;
+            switch (source.getFormat()) {
+                case "wav":
+                    if (wav == null) {
+                        wav = new Wav.WavInputStream(source.getFile());
+                    }
+                    read = readFully(buffer, length);
+                    break;
+                case "ogg":
+                    if (ogg == null) {
+                        ogg = new OggInputStream(source.getFile().read());
+                    }
+                    read = readFully(buffer, length);
+                    break;
+                default:
+                    read = readMp3(buffer, length);
+                    break;
+            }
+            offset += read;
+            return read;
+        } catch (IOException e) {
+            close();
+            throw new GdxRuntimeException("Error reading audio data: " + source.getFile(), e);
+        }
+    }
+
+    /**
+     * Reads up to the given number of bytes from the open WAV or OGG decoder.
+     *
+     * @param buffer the buffer to fill
+     * @param length the maximum number of bytes
+     * @return the number of bytes read
+     */
+    private int readFully(byte[] buffer, int length) throws IOException {
+        int total = 0;
+        while (total < length) {
+            int read = wav != null ? wav.read(buffer, total, length - total) : ogg.read(buffer, total, length - total);
+            if (read <= 0) {
+                break;
+            }
+            total += read;
+        }
+        if (wav != null) {
+            // the WAV decoder only limits the single-array read to the data chunk
+            total = (int) Math.min(total, Math.max(0, getByteSize() - offset));
+        }
+        return total;
+    }
+
+    /**
+     * Reads up to the given number of bytes of decoded MP3 frames.
+     *
+     * @param buffer the buffer to fill
+     * @param length the maximum number of bytes
+     * @return the number of bytes read
+     */
+    private int readMp3(byte[] buffer, int length) {
+        try {
+            if (mp3 == null) {
+                mp3 = new Bitstream(source.getFile().read());
+                decoder = new MP3Decoder();
+                frame = new OutputBuffer(source.getChannels(), false);
+                decoder.setOutputBuffer(frame);
+                frameOffset = frameLength = 0;
+            }
+            int total = 0;
+            while (total < length) {
+                if (frameOffset == frameLength) {
+                    Header header = mp3.readFrame();
+                    if (header == null) {
+                        break;
+                    }
+                    try {
+                        decoder.decodeFrame(header, mp3);
+                    } catch (Exception ignored) {
+                        // skip corrupt frames, as the backend does
+                    }
+                    mp3.closeFrame();
+                    frameLength = frame.reset();
+                    frameOffset = 0;
+                    continue;
+                }
+                int count = Math.min(length - total, frameLength - frameOffset);
+                System.arraycopy(frame.getBuffer(), frameOffset, buffer, total, count);
+                frameOffset += count;
+                total += count;
+            }
+            return total;
+        } catch (Throwable e) {
+            close();
+            throw new GdxRuntimeException("Error reading audio data: " + source.getFile(), e);
+        }
+    }
+
+    /**
+     * Moves the stream to the given byte position, decoding and discarding the data before it.
+     *
+     * @param pos the byte position
+     * @return true if the position was reached
+     */
+    private boolean skipTo(long pos) {
+        pos &= ~1L;
+        if (pos < offset) {
+            close();
+        }
+        byte[] bytes = scratch(4096);
+        while (offset < pos) {
+            if (read(bytes, (int) Math.min(bytes.length, pos - offset)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a byte page of at least the given size.
+     *
+     * @param size the minimum size in bytes
+     * @return a byte page of at least the given size
+     */
+    private byte[] scratch(int size) {
+        if (scratch == null || scratch.length < size) {
+            scratch = new byte[size];
+        }
+        return scratch;
+    }
+
+    /**
+     * Closes the open decoder and rewinds to the beginning.
+     */
+    private void close() {
+        StreamUtils.closeQuietly(wav);
+        wav = null;
+        if (ogg != null) {
+            ogg.close();
+            ogg = null;
+        }
+        if (mp3 != null) {
+            try {
+                mp3.close();
+            } catch (Exception ignored) {
+            }
+            mp3 = null;
+            decoder = null;
+            frame = null;
+        }
+        offset = 0;
+    }
+}
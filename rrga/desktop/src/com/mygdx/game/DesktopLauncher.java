@@ -2,9 +2,15 @@ package com.mygdx.game;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl3.audio.Lwjgl3Audio;
 
 // Please note that on macOS your application needs to be started with the -XstartOnFirstThread JVM argument
 public class DesktopLauncher {
+	/** The number of OpenAL sources (shared by sound effects and music) */
+	private static final int AUDIO_SOURCES = 16;
+	/** The number of those sources that sound effects may use */
+	private static final int SOUND_VOICES = 12;
+
 	public static void main (String[] arg) {
 		Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
 		config.setForegroundFPS(60);
@@ -12,9 +18,15 @@ public class DesktopLauncher {
 		config.setResizable(true);
 		// Default size for Physics Lab 4
 		config.setWindowedMode(1024, 576);
+		config.setAudioConfig(AUDIO_SOURCES, 512, 9);
 
 		// standard, use this branch for shipping
-		new Lwjgl3Application(new GDXRoot(), config);
+		new Lwjgl3Application(new GDXRoot(), config) {
+			@Override
+			public Lwjgl3Audio createAudio(Lwjgl3ApplicationConfiguration config) {
+				return new DesktopAudioEngine(super.createAudio(config), SOUND_VOICES);
+			}
+		};
 
 	}
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The background thread that decodes audio for every {@link StreamingMusicQueue}.
+ * <p>
+ * Each pass fills the free pages of every registered queue and then sleeps briefly.
+ * The rings hold far more audio than one pass takes, so decoding never stalls the
+ * game thread or the thread that feeds OpenAL.
+ */
+public class MusicDecoder implements Runnable {
+    /** The time between passes in nanoseconds */
+    private static final long PERIOD = 5000000L;
+
+    /** The queues to decode for */
+    private final Array<StreamingMusicQueue> queues = new Array<>(false, 4);
+    /** The snapshot of the queues used by the decoder thread */
+    private StreamingMusicQueue[] snapshot = new StreamingMusicQueue[0];
+    /** The decoder thread (null if not started) */
+    private Thread thread;
+    /** Whether the decoder thread should keep running */
+    private volatile boolean running;
+
+    /**
+     * Adds a queue to decode for, starting the thread if necessary.
+     *
+     * @param queue the queue to add
+     */
+    public synchronized void register(StreamingMusicQueue queue) {
+        queues.add(queue);
+        snapshot = queues.toArray(StreamingMusicQueue.class);
+        if (thread == null) {
+            running = true;
+            thread = new Thread(this, "MusicDecoder");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Removes a queue, so that it is no longer decoded.
+     *
+     * @param queue the queue to remove
+     */
+    public synchronized void unregister(StreamingMusicQueue queue) {
+        queues.removeValue(queue, true);
+        snapshot = queues.toArray(StreamingMusicQueue.class);
+    }
+
+    /**
+     * Wakes the decoder thread, so that it refills the rings immediately.
+     */
+    public void wake() {
+        Thread current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    /**
+     * Stops the decoder thread, waiting for the current pass to finish.
+     */
+    public void dispose() {
+        Thread current;
+        synchronized (this) {
+            current = thread;
+            thread = null;
+            running = false;
+        }
+        if (current != null) {
+            LockSupport.unpark(current);
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            StreamingMusicQueue[] current;
+            synchronized (this) {
+                current = snapshot;
+            }
+            for (StreamingMusicQueue queue : current) {
+                try {
+                    queue.decode();
+                } catch (RuntimeException e) {
+                    Gdx.app.error("MusicDecoder", "Error decoding music", e);
+                }
+            }
+            LockSupport.parkNanos(PERIOD);
+        }
+    }
+}
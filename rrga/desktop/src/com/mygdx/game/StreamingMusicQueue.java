@@ -0,0 +1,1078 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.mygdx.game.utility.audio.AudioSource;
+import com.mygdx.game.utility.audio.AudioStream;
+import com.mygdx.game.utility.audio.EffectFilter;
+import com.mygdx.game.utility.audio.MusicQueue;
+import com.mygdx.game.utility.audio.PCMRing;
+
+import java.nio.ShortBuffer;
+
+import static org.lwjgl.openal.AL10.*;
+
+/**
+ * The desktop {@link MusicQueue}, streaming a queue of {@link AudioSource} objects on one OpenAL source.
+ * <p>
+ * A {@link MusicDecoder} thread decodes the queue into a {@link PCMRing} of fixed pages,
+ * mixing crossfades between sources as it goes. The engine update moves finished pages
+ * from the ring into a few OpenAL buffers queued on the source. Neither step allocates,
+ * so memory use does not depend on the length of the music, and there is no gap between
+ * sources because the next source is decoded into the same stream as the last.
+ * <p>
+ * All methods may be called from the game thread. Listeners are invoked from the engine
+ * update, which runs on the audio thread when there is one.
+ */
+public class StreamingMusicQueue implements MusicQueue {
+    /** The number of OpenAL buffers queued on the source */
+    private static final int BUFFER_COUNT = 3;
+    /** The number of frames per page */
+    private static final int PAGE_FRAMES = 4096;
+    /** The number of pages decoded ahead (about 0.75s at 44.1kHz) */
+    private static final int RING_PAGES = 8;
+
+    /**
+     * A stream being decoded, with the samples read from it but not yet used.
+     */
+    private static class Reader {
+        /** The stream (null if none) */
+        AudioStream stream;
+        /** The samples read from the stream */
+        final short[] stage;
+        /** The first unused sample of the stage */
+        int stageOffset;
+        /** The number of samples in the stage */
+        int stageLength;
+        /** The sample position to seek to before the first read */
+        long seek;
+
+        /**
+         * Creates a reader with a stage of the given size.
+         *
+         * @param size the number of samples in the stage
+         */
+        Reader(int size) {
+            stage = new short[size];
+        }
+
+        /**
+         * Starts reading the given stream, closing the previous one.
+         *
+         * @param stream the stream to read
+         * @param seek   the sample position to start from
+         */
+        void open(AudioStream stream, long seek) {
+            close();
+            this.stream = stream;
+            this.seek = seek;
+        }
+
+        /**
+         * Closes the stream.
+         */
+        void close() {
+            if (stream != null) {
+                stream.reset();
+                stream = null;
+            }
+            stageOffset = stageLength = 0;
+            seek = 0;
+        }
+
+        /**
+         * Rewinds the stream to its beginning.
+         */
+        void rewind() {
+            stream.loop();
+            stageOffset = stageLength = 0;
+            seek = 0;
+        }
+
+        /**
+         * Returns the number of samples left in the stream, or -1 if unknown.
+         *
+         * @return the number of samples left in the stream
+         */
+        long remaining() {
+            long size = stream.getSampleSize();
+            if (size < 0) {
+                return -1;
+            }
+            if (seek > 0) {
+                return Math.max(0, size - seek);
+            }
+            return Math.max(0, size - stream.getSampleOffset()) + stageLength - stageOffset;
+        }
+
+        /**
+         * Copies up to the given number of samples into the given array.
+         *
+         * @param dst    the destination array
+         * @param offset the first position to write
+         * @param length the maximum number of samples
+         * @return the number of samples copied (less than length at the end of the stream)
+         */
+        int pull(short[] dst, int offset, int length) {
+            int total = 0;
+            while (total < length) {
+                if (stageOffset == stageLength) {
+                    stageOffset = 0;
+                    stageLength = seek > 0 ? stream.seek(seek, stage) : stream.read(stage);
+                    seek = 0;
+                    if (stageLength <= 0) {
+                        stageLength = 0;
+                        break;
+                    }
+                }
+                int count = Math.min(length - total, stageLength - stageOffset);
+                System.arraycopy(stage, stageOffset, dst, offset + total, count);
+                stageOffset += count;
+                total += count;
+            }
+            return total;
+        }
+    }
+
+    /** The lock shared with the engine update */
+    private final Object lock;
+    /** The engine that created this queue */
+    private final DesktopAudioEngine engine;
+    /** The decoder thread */
+    private final MusicDecoder decoder;
+    /** The lock held while decoding (taken after {@link #lock}, never before) */
+    private final Object decodeLock = new Object();
+    /** The number of channels of every source */
+    private final int channels;
+    /** The sample rate of every source */
+    private final int sampleRate;
+    /** The OpenAL buffer format */
+    private final int format;
+    /** The queued sources */
+    private final Array<AudioSource> sources = new Array<>();
+    /** The decoded pages waiting for an OpenAL buffer */
+    private final PCMRing ring;
+
+    /** The OpenAL source (-1 once disposed) */
+    private int sourceId;
+    /** The OpenAL buffers */
+    private final int[] bufferIds = new int[BUFFER_COUNT];
+    /** Whether each buffer is queued on the source */
+    private final boolean[] bufferQueued = new boolean[BUFFER_COUNT];
+    /** The source position at the end of the page in each buffer */
+    private final int[] bufferSources = new int[BUFFER_COUNT];
+    /** The event flags of the page in each buffer */
+    private final int[] bufferFlags = new int[BUFFER_COUNT];
+    /** The number of frames in each buffer */
+    private final int[] bufferFrames = new int[BUFFER_COUNT];
+    /** The direct buffer used to upload pages */
+    private final ShortBuffer upload;
+
+    /** The reader of the source being decoded (decoder state) */
+    private Reader current;
+    /** The reader of the source fading out (decoder state) */
+    private Reader fading;
+    /** The position of the source being decoded (decoder state) */
+    private int streamIndex;
+    /** The sample position to start the next opened source from (decoder state) */
+    private long seekSamples;
+    /** The total length of the current crossfade in samples (decoder state) */
+    private long fadeTotal;
+    /** The samples left in the current crossfade (decoder state) */
+    private long fadeLeft;
+    /** The event flags for the next decoded page (decoder state) */
+    private int pendingEvents;
+    /** Whether the decoder reached the end of the queue (decoder state) */
+    private boolean ended;
+    /** Whether this queue has been disposed (decoder state) */
+    private boolean disposed;
+    /** The samples of the incoming source during a crossfade (decoder state) */
+    private final short[] mixPage;
+
+    /** Whether the queue is playing (or paused) */
+    private boolean playing;
+    /** Whether the queue is paused */
+    private boolean paused;
+    /** Whether the queue was paused by the engine */
+    private boolean pausedByEngine;
+    /** Whether the last page of the stream was queued */
+    private boolean endQueued;
+    /** The position of the source being heard */
+    private int playingIndex;
+    /** The frames of the current source in buffers already played */
+    private long playedFrames;
+    /** The volume */
+    private float volume = 1;
+    /** The pitch multiplier */
+    private float pitch = 1;
+    /** The pan */
+    private float pan;
+    /** Whether the queue loops */
+    private volatile boolean looping;
+    /** Whether looping is local to the current source */
+    private volatile boolean localLoop;
+    /** The crossfade time in seconds */
+    private volatile float crossfade;
+    /** The completion listener */
+    private OnCompletionListener completionListener;
+    /** The transition listener */
+    private OnTransitionListener transitionListener;
+
+    /**
+     * Creates a new empty queue for sources of the given format.
+     *
+     * @param engine     the engine that created this queue
+     * @param decoder    the decoder thread
+     * @param isMono     whether the sources are mono (as opposed to stereo)
+     * @param sampleRate the sample rate of the sources
+     * @throws GdxRuntimeException if OpenAL is not available
+     */
+    public StreamingMusicQueue(DesktopAudioEngine engine, MusicDecoder decoder, boolean isMono, int sampleRate) {
+        this.engine = engine;
+        this.lock = engine;
+        this.decoder = decoder;
+        this.channels = isMono ? 1 : 2;
+        this.sampleRate = sampleRate;
+        this.format = isMono ? AL_FORMAT_MONO16 : AL_FORMAT_STEREO16;
+        int pageSamples = PAGE_FRAMES * channels;
+        ring = new PCMRing(RING_PAGES, pageSamples);
+        upload = BufferUtils.newShortBuffer(pageSamples);
+        current = new Reader(pageSamples);
+        fading = new Reader(pageSamples);
+        mixPage = new short[pageSamples];
+        try {
+            sourceId = alGenSources();
+            alGenBuffers(bufferIds);
+        } catch (RuntimeException e) {
+            throw new GdxRuntimeException("OpenAL is not available for streaming music.", e);
+        }
+        if (alGetError() != AL_NO_ERROR) {
+            throw new GdxRuntimeException("Unable to allocate an OpenAL source for streaming music.");
+        }
+        decoder.register(this);
+    }
+
+    /**
+     * Returns the number of bytes of decoded audio held by this queue.
+     *
+     * @return the number of bytes of decoded audio held by this queue
+     */
+    public long getBufferBytes() {
+        return ring.getBytes() + 2L * BUFFER_COUNT * PAGE_FRAMES * channels;
+    }
+
+    // #mark -
+    // #mark Decoding
+
+    /**
+     * Fills the free pages of the ring (decoder thread only).
+     */
+    void decode() {
+        synchronized (decodeLock) {
+            short[] page;
+            while (!disposed && !ended && sources.size > 0 && (page = ring.obtain()) != null) {
+                try {
+                    fill(page);
+                } catch (GdxRuntimeException e) {
+                    // end the stream here rather than failing on every pass
+                    ring.commit(0, streamIndex, PCMRing.END);
+                    ended = true;
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Decodes the next page, mixing any crossfade and moving between sources as needed.
+     *
+     * @param page the page to fill
+     */
+    private void fill(short[] page) {
+        int filled = 0;
+        int events = pendingEvents;
+        pendingEvents = 0;
+        boolean restarted = false;
+        while (filled < page.length) {
+            if (current.stream == null) {
+                if (streamIndex < 0 || streamIndex >= sources.size) {
+                    events |= PCMRing.END;
+                    ended = true;
+                    break;
+                }
+                current.open(sources.get(streamIndex).getStream(), seekSamples);
+                seekSamples = 0;
+            }
+            int want = page.length - filled;
+
+            // Start fading into the next source as the current one nears its end
+            if (fading.stream == null && crossfade > 0 && !localLoop) {
+                int next = following();
+                long remain = current.remaining();
+                if (next >= 0 && next != streamIndex && remain > 0 && remain <= fadeSamples()) {
+                    beginFade(next, remain);
+                    events |= PCMRing.START;
+                }
+            }
+
+            if (fading.stream != null) {
+                int count = (int) Math.min(want, fadeLeft);
+                int out = fading.pull(page, filled, count);
+                int in = current.pull(mixPage, 0, count);
+                for (int ii = out; ii < count; ii++) {
+                    page[filled + ii] = 0;
+                }
+                for (int ii = in; ii < count; ii++) {
+                    mixPage[ii] = 0;
+                }
+                float step = 1.0f / fadeTotal;
+                float gain = (fadeTotal - fadeLeft) * step;
+                for (int ii = 0; ii < count; ii++) {
+                    int mixed = (int) (page[filled + ii] * (1 - gain) + mixPage[ii] * gain);
+                    page[filled + ii] = (short) MathUtils.clamp(mixed, Short.MIN_VALUE, Short.MAX_VALUE);
+                    gain += step;
+                }
+                fadeLeft -= count;
+                filled += count;
+                if (fadeLeft <= 0 || out < count) {
+                    fading.close();
+                }
+                continue;
+            }
+
+            int read = current.pull(page, filled, want);
+            filled += read;
+            if (read > 0) {
+                restarted = false;
+            } else if (restarted) {
+                // an empty source would otherwise loop forever
+                events |= PCMRing.END;
+                ended = true;
+                current.close();
+                break;
+            }
+            if (read < want) {
+                int next = localLoop && looping ? streamIndex : following();
+                if (next < 0) {
+                    events |= PCMRing.END;
+                    ended = true;
+                    current.close();
+                    break;
+                }
+                if (next == streamIndex) {
+                    current.rewind();
+                    events |= PCMRing.LOOP;
+                } else {
+                    current.close();
+                    streamIndex = next;
+                    events |= PCMRing.START;
+                }
+                restarted = true;
+            }
+        }
+        ring.commit(filled, streamIndex, events);
+    }
+
+    /**
+     * Returns the source position that follows the one being decoded, or -1 if none.
+     *
+     * @return the source position that follows the one being decoded
+     */
+    private int following() {
+        if (streamIndex + 1 < sources.size) {
+            return streamIndex + 1;
+        }
+        return looping && sources.size > 0 ? 0 : -1;
+    }
+
+    /**
+     * Returns the crossfade time in samples.
+     *
+     * @return the crossfade time in samples
+     */
+    private long fadeSamples() {
+        return (long) (crossfade * sampleRate) * channels;
+    }
+
+    /**
+     * Starts fading the current source out and the given source in (decoder lock held).
+     *
+     * @param next   the position of the incoming source
+     * @param length the length of the fade in samples
+     */
+    private void beginFade(int next, long length) {
+        fading.close();
+        Reader swap = fading;
+        fading = current;
+        current = swap;
+        current.open(sources.get(next).getStream(), 0);
+        streamIndex = next;
+        fadeTotal = fadeLeft = length - length % channels;
+        if (fadeTotal <= 0) {
+            fading.close();
+        }
+    }
+
+    /**
+     * Discards all decoded audio and restarts decoding at the given position (both locks held).
+     *
+     * @param index the source position
+     * @param frame the frame to start from within that source
+     */
+    private void restart(int index, long frame) {
+        ring.clear();
+        current.close();
+        fading.close();
+        streamIndex = index;
+        seekSamples = frame * channels;
+        pendingEvents = 0;
+        ended = false;
+    }
+
+    // #mark -
+    // #mark Playback
+
+    /**
+     * Moves decoded pages into free OpenAL buffers and fires the events of played buffers.
+     * <p>
+     * This is called by the engine update, with the engine lock held.
+     */
+    void update() {
+        if (!playing || paused || sourceId < 0) {
+            return;
+        }
+        int processed = alGetSourcei(sourceId, AL_BUFFERS_PROCESSED);
+        while (processed-- > 0) {
+            int buffer = alSourceUnqueueBuffers(sourceId);
+            for (int ii = 0; ii < BUFFER_COUNT; ii++) {
+                if (bufferIds[ii] == buffer) {
+                    bufferQueued[ii] = false;
+                    played(ii);
+                    break;
+                }
+            }
+            if (!playing) {
+                return;
+            }
+        }
+        int queued = refill();
+        if (queued == 0) {
+            if (endQueued) {
+                complete();
+            }
+            return;
+        }
+        if (alGetSourcei(sourceId, AL_SOURCE_STATE) != AL_PLAYING) {
+            // restart after an underrun
+            alSourcePlay(sourceId);
+        }
+    }
+
+    /**
+     * Queues decoded pages on every free buffer.
+     *
+     * @return the number of buffers now queued
+     */
+    private int refill() {
+        int queued = 0;
+        for (int ii = 0; ii < BUFFER_COUNT; ii++) {
+            if (!bufferQueued[ii] && !endQueued) {
+                int slot = ring.peek();
+                if (slot >= 0) {
+                    int length = ring.getLength(slot);
+                    bufferSources[ii] = ring.getSource(slot);
+                    bufferFlags[ii] = ring.getFlags(slot);
+                    bufferFrames[ii] = length / channels;
+                    if ((bufferFlags[ii] & PCMRing.END) != 0) {
+                        endQueued = true;
+                    }
+                    if (length > 0) {
+                        upload.clear();
+                        upload.put(ring.getPage(slot), 0, length);
+                        upload.flip();
+                        alBufferData(bufferIds[ii], format, upload, sampleRate);
+                        alSourceQueueBuffers(sourceId, bufferIds[ii]);
+                        bufferQueued[ii] = true;
+                    } else {
+                        played(ii);
+                    }
+                    ring.release();
+                }
+            }
+            if (bufferQueued[ii]) {
+                queued++;
+            }
+        }
+        decoder.wake();
+        return queued;
+    }
+
+    /**
+     * Records that the given buffer finished playing, firing its events.
+     *
+     * @param buffer the buffer index
+     */
+    private void played(int buffer) {
+        int flags = bufferFlags[buffer];
+        int index = bufferSources[buffer];
+        if ((flags & PCMRing.START) != 0 && index != playingIndex) {
+            int previous = playingIndex;
+            playingIndex = index;
+            playedFrames = 0;
+            if (transitionListener != null) {
+                transitionListener.onTransition(this, getSource(previous), getSource(index));
+            }
+        } else if ((flags & PCMRing.LOOP) != 0) {
+            playedFrames = 0;
+            if (transitionListener != null) {
+                transitionListener.onLoopback(this, getSource(index));
+            }
+        }
+        playedFrames += bufferFrames[buffer];
+    }
+
+    /**
+     * Stops the queue at the end of the stream and fires the completion listeners.
+     */
+    private void complete() {
+        AudioSource last = getCurrent();
+        halt();
+        synchronized (decodeLock) {
+            restart(0, 0);
+        }
+        playingIndex = 0;
+        playing = false;
+        if (transitionListener != null) {
+            transitionListener.onCompletion(this, last);
+        }
+        if (completionListener != null) {
+            completionListener.onCompletion(this);
+        }
+    }
+
+    /**
+     * Stops the OpenAL source and detaches all of its buffers.
+     */
+    private void halt() {
+        if (sourceId < 0) {
+            return;
+        }
+        alSourceStop(sourceId);
+        alSourcei(sourceId, AL_BUFFER, 0);
+        for (int ii = 0; ii < BUFFER_COUNT; ii++) {
+            bufferQueued[ii] = false;
+        }
+        endQueued = false;
+        playedFrames = 0;
+    }
+
+    /**
+     * Immediately moves playback to the given source and frame, discarding decoded audio.
+     *
+     * @param index the source position
+     * @param frame the frame within that source
+     */
+    private void jump(int index, long frame) {
+        int previous = playingIndex;
+        halt();
+        synchronized (decodeLock) {
+            restart(index, frame);
+        }
+        playingIndex = index;
+        playedFrames = frame;
+        decoder.wake();
+        if (previous != index && transitionListener != null) {
+            transitionListener.onTransition(this, getSource(previous), getSource(index));
+        }
+    }
+
+    /**
+     * Pauses the queue if it is playing, so that {@link #resumeByEngine} can restart it.
+     */
+    void pauseByEngine() {
+        synchronized (lock) {
+            if (playing && !paused) {
+                pause();
+                pausedByEngine = true;
+            }
+        }
+    }
+
+    /**
+     * Resumes the queue if it was paused by {@link #pauseByEngine}.
+     */
+    void resumeByEngine() {
+        synchronized (lock) {
+            if (pausedByEngine) {
+                play();
+            }
+        }
+    }
+
+    // #mark -
+    // #mark Music Methods
+
+    @Override
+    public void play() {
+        synchronized (lock) {
+            pausedByEngine = false;
+            if (sourceId < 0 || sources.size == 0 || (playing && !paused)) {
+                return;
+            }
+            if (!playing) {
+                alSourcei(sourceId, AL_LOOPING, AL_FALSE);
+                applyPan();
+                alSourcef(sourceId, AL_PITCH, pitch);
+                endQueued = false;
+            }
+            playing = true;
+            paused = false;
+            if (refill() > 0) {
+                alSourcePlay(sourceId);
+            }
+        }
+    }
+
+    @Override
+    public void pause() {
+        synchronized (lock) {
+            pausedByEngine = false;
+            if (playing && !paused) {
+                paused = true;
+                alSourcePause(sourceId);
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        synchronized (lock) {
+            pausedByEngine = false;
+            if (sourceId < 0) {
+                return;
+            }
+            jump(0, 0);
+            playing = false;
+            paused = false;
+        }
+    }
+
+    @Override
+    public boolean isPlaying() {
+        synchronized (lock) {
+            return playing && !paused;
+        }
+    }
+
+    /**
+     * Sets whether the queue loops.
+     * <p>
+     * Whether this loops the current source or the whole queue depends on
+     * {@link #setLoopBehavior}.
+     *
+     * @param isLooping whether the queue loops
+     */
+    @Override
+    public void setLooping(boolean isLooping) {
+        looping = isLooping;
+    }
+
+    @Override
+    public boolean isLooping() {
+        return looping;
+    }
+
+    @Override
+    public void setVolume(float volume) {
+        synchronized (lock) {
+            this.volume = volume;
+            if (sourceId >= 0) {
+                alSourcef(sourceId, AL_GAIN, volume);
+            }
+        }
+    }
+
+    @Override
+    public float getVolume() {
+        return volume;
+    }
+
+    @Override
+    public void setPan(float pan, float volume) {
+        synchronized (lock) {
+            this.pan = pan;
+            this.volume = volume;
+            applyPan();
+        }
+    }
+
+    /**
+     * Applies the pan and volume to the OpenAL source, as the backend music does.
+     */
+    private void applyPan() {
+        if (sourceId >= 0) {
+            alSource3f(sourceId, AL_POSITION, MathUtils.cos((pan - 1) * MathUtils.HALF_PI), 0,
+                    MathUtils.sin((pan + 1) * MathUtils.HALF_PI));
+            alSourcef(sourceId, AL_GAIN, volume);
+        }
+    }
+
+    /**
+     * Sets the position across all sources, as if they were one stream.
+     * <p>
+     * Sources of unknown duration count as empty when finding the position.
+     *
+     * @param position the position in seconds
+     */
+    @Override
+    public void setPosition(float position) {
+        synchronized (lock) {
+            if (sourceId < 0 || sources.size == 0) {
+                return;
+            }
+            int index = 0;
+            float start = 0;
+            while (index < sources.size - 1) {
+                float duration = Math.max(0, sources.get(index).getDuration());
+                if (start + duration > position) {
+                    break;
+                }
+                start += duration;
+                index++;
+            }
+            jump(index, (long) (Math.max(0, position - start) * sampleRate));
+        }
+    }
+
+    @Override
+    public float getPosition() {
+        synchronized (lock) {
+            float start = 0;
+            for (int ii = 0; ii < playingIndex && ii < sources.size; ii++) {
+                start += Math.max(0, sources.get(ii).getDuration());
+            }
+            long frames = playedFrames;
+            if (playing && sourceId >= 0) {
+                frames += alGetSourcei(sourceId, AL_SAMPLE_OFFSET);
+            }
+            return start + (float) frames / sampleRate;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (lock) {
+            if (sourceId < 0) {
+                return;
+            }
+            decoder.unregister(this);
+            halt();
+            synchronized (decodeLock) {
+                disposed = true;
+                current.close();
+                fading.close();
+                ring.clear();
+            }
+            alDeleteSources(sourceId);
+            alDeleteBuffers(bufferIds);
+            sourceId = -1;
+            playing = false;
+            engine.release(this);
+        }
+    }
+
+    @Override
+    public void setOnCompletionListener(OnCompletionListener listener) {
+        synchronized (lock) {
+            completionListener = listener;
+        }
+    }
+
+    // #mark -
+    // #mark MusicQueue Attributes
+
+    @Override
+    public void setOnTransitionListener(OnTransitionListener listener) {
+        synchronized (lock) {
+            transitionListener = listener;
+        }
+    }
+
+    @Override
+    public boolean isMono() {
+        return channels == 1;
+    }
+
+    @Override
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public float getDuration() {
+        synchronized (lock) {
+            float total = 0;
+            for (AudioSource source : sources) {
+                float duration = source.getDuration();
+                if (duration < 0) {
+                    return -1;
+                }
+                total += duration;
+            }
+            return total;
+        }
+    }
+
+    @Override
+    public void setPitch(float pitch) {
+        synchronized (lock) {
+            this.pitch = pitch;
+            if (sourceId >= 0) {
+                alSourcef(sourceId, AL_PITCH, pitch);
+            }
+        }
+    }
+
+    @Override
+    public float getPitch() {
+        return pitch;
+    }
+
+    @Override
+    public void setPan(float pan) {
+        setPan(pan, volume);
+    }
+
+    @Override
+    public float getPan() {
+        return pan;
+    }
+
+    @Override
+    public void setLoopBehavior(boolean local) {
+        localLoop = local;
+    }
+
+    @Override
+    public boolean getLoopBehavior() {
+        return localLoop;
+    }
+
+    @Override
+    public void setCrossfade(float seconds) {
+        crossfade = Math.max(0, seconds);
+    }
+
+    @Override
+    public float getCrossfade() {
+        return crossfade;
+    }
+
+    /**
+     * Has no effect, as OpenAL effects are not supported.
+     *
+     * @param effect the effect to add
+     */
+    @Override
+    public void addEffect(EffectFilter effect) {
+    }
+
+    @Override
+    public void removeEffect(EffectFilter effect) {
+    }
+
+    @Override
+    public void clearAllEffect() {
+    }
+
+    // #mark -
+    // #mark Queue Management
+
+    @Override
+    public int getNumberOfSources() {
+        synchronized (lock) {
+            return sources.size;
+        }
+    }
+
+    @Override
+    public AudioSource getCurrent() {
+        synchronized (lock) {
+            return getSource(playingIndex);
+        }
+    }
+
+    @Override
+    public AudioSource getSource(int pos) {
+        synchronized (lock) {
+            return pos >= 0 && pos < sources.size ? sources.get(pos) : null;
+        }
+    }
+
+    @Override
+    public void setSource(int pos, AudioSource source) {
+        synchronized (lock) {
+            checkFormat(source);
+            boolean restart;
+            synchronized (decodeLock) {
+                sources.set(pos, source);
+                restart = pos == playingIndex || pos == streamIndex;
+            }
+            if (restart) {
+                jump(pos, 0);
+            }
+        }
+    }
+
+    @Override
+    public void addSource(AudioSource source) {
+        synchronized (lock) {
+            checkFormat(source);
+            synchronized (decodeLock) {
+                sources.add(source);
+            }
+            decoder.wake();
+        }
+    }
+
+    @Override
+    public void insertSource(int pos, AudioSource source) {
+        synchronized (lock) {
+            checkFormat(source);
+            synchronized (decodeLock) {
+                sources.insert(pos, source);
+                shift(pos, 1);
+            }
+        }
+    }
+
+    @Override
+    public AudioSource removeSource(int pos) {
+        synchronized (lock) {
+            if (pos < 0 || pos >= sources.size) {
+                return null;
+            }
+            AudioSource result;
+            boolean restart;
+            synchronized (decodeLock) {
+                result = sources.removeIndex(pos);
+                restart = pos == playingIndex || pos == streamIndex;
+                if (!restart) {
+                    shift(pos + 1, -1);
+                }
+            }
+            if (restart) {
+                if (pos < sources.size) {
+                    jump(pos, 0);
+                } else if (looping && sources.size > 0) {
+                    jump(0, 0);
+                } else {
+                    stop();
+                }
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public void clearSources() {
+        synchronized (lock) {
+            stop();
+            synchronized (decodeLock) {
+                sources.clear();
+            }
+        }
+    }
+
+    @Override
+    public void advanceSource() {
+        advanceSource(1);
+    }
+
+    @Override
+    public void advanceSource(int steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException("Cannot advance a negative number of steps.");
+        }
+        synchronized (lock) {
+            jumpToSource(playingIndex + steps);
+        }
+    }
+
+    /**
+     * Jumps to the given source in the queue.
+     * <p>
+     * If the queue is playing and the crossfade time is positive, the current source fades
+     * out while the new source fades in. Otherwise the switch is immediate.
+     *
+     * @param pos the position in the source queue
+     */
+    @Override
+    public void jumpToSource(int pos) {
+        synchronized (lock) {
+            if (pos < 0 || pos >= sources.size) {
+                stop();
+                return;
+            }
+            if (localLoop && pos != playingIndex) {
+                looping = false;
+            }
+            boolean fade = playing && !paused && crossfade > 0 && pos != playingIndex;
+            synchronized (decodeLock) {
+                // the fade needs a stream to fade out
+                fade = fade && !ended && current.stream != null;
+                if (fade) {
+                    beginFade(pos, fadeSamples());
+                    pendingEvents |= PCMRing.START;
+                }
+            }
+            if (fade) {
+                decoder.wake();
+            } else {
+                jump(pos, 0);
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        synchronized (lock) {
+            jump(0, 0);
+        }
+    }
+
+    /**
+     * Shifts the stored source positions after an insertion or removal (both locks held).
+     *
+     * @param start the first position to shift
+     * @param delta the amount to shift
+     */
+    private void shift(int start, int delta) {
+        if (streamIndex >= start) {
+            streamIndex += delta;
+        }
+        if (playingIndex >= start) {
+            playingIndex += delta;
+        }
+        for (int ii = 0; ii < BUFFER_COUNT; ii++) {
+            if (bufferQueued[ii] && bufferSources[ii] >= start) {
+                bufferSources[ii] += delta;
+            }
+        }
+        ring.shiftSources(start, delta);
+    }
+
+    /**
+     * Checks that the given source matches the format of this queue.
+     *
+     * @param source the source to check
+     * @throws GdxRuntimeException if the format does not match
+     */
+    private void checkFormat(AudioSource source) {
+        if (source.getChannels() != channels || source.getSampleRate() != sampleRate) {
+            throw new GdxRuntimeException("Source " + source.getFile() + " does not match the format of the queue.");
+        }
+    }
+}